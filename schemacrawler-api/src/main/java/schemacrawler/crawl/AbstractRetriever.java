@@ -16,20 +16,71 @@ import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleFor
 import static schemacrawler.utility.MetaDataUtility.inclusionRuleString;
 import static us.fatehi.utility.Utility.trimToEmpty;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.Retriever;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.UtilityLogger;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+import us.fatehi.utility.string.StringFormat;
 
 /** Base class for retriever that uses database metadata to get the details about the schema. */
 @Retriever
 abstract class AbstractRetriever {
 
+  /** Handles one row of results, and returns whether the row was included in the catalog. */
+  @FunctionalInterface
+  interface ResultsRowHandler {
+    boolean handle(MetadataResultSet results) throws Exception;
+  }
+
+  /** Handles one row of results for a schema, and returns whether the row was included. */
+  @FunctionalInterface
+  interface SchemaRowHandler {
+    boolean handle(Schema schema, MetadataResultSet results) throws Exception;
+  }
+
+  /** Obtains results for one schema, from a connection that is set to that schema. */
+  @FunctionalInterface
+  interface SchemaResultsSupplier {
+    MetadataResultSet get(Connection connection, Statement statement, Schema schema)
+        throws SQLException;
+  }
+
+  /** Obtains results for one table, from metadata for a connection that is kept for a batch. */
+  @FunctionalInterface
+  interface TableResultsSupplier {
+    MetadataResultSet get(DatabaseMetaData metaData, MutableTable table) throws SQLException;
+  }
+
+  /** Handles one row of results for a table, and returns whether the row was included. */
+  @FunctionalInterface
+  interface TableRowHandler {
+    boolean handle(MutableTable table, MetadataResultSet results) throws Exception;
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(AbstractRetriever.class.getName());
+
   final MutableCatalog catalog;
   private final SchemaCrawlerOptions options;
   private final RetrieverConnection retrieverConnection;
@@ -101,10 +152,250 @@ abstract class AbstractRetriever {
     return limitMap;
   }
 
+  final SchemaCrawlerOptions getOptions() {
+    return options;
+  }
+
   final RetrieverConnection getRetrieverConnection() {
     return retrieverConnection;
   }
 
+  /**
+   * Runs a data dictionary query once for each schema, and hands each row of results to a row
+   * handler.
+   *
+   * @see #retrieveOverSchemas(String, Iterable, SchemaResultsSupplier, SchemaRowHandler)
+   */
+  final void retrieveOverSchemas(
+      final String name,
+      final Iterable<? extends Schema> schemas,
+      final Query query,
+      final ResultsRowHandler rowHandler) {
+    requireNonNull(rowHandler, "No row handler provided");
+    retrieveOverSchemas(name, schemas, query, (schema, results) -> rowHandler.handle(results));
+  }
+
+  /**
+   * Runs a data dictionary query once for each schema, and hands each row of results, along with
+   * the schema, to a row handler.
+   *
+   * @see #retrieveOverSchemas(String, Iterable, SchemaResultsSupplier, SchemaRowHandler)
+   */
+  final void retrieveOverSchemas(
+      final String name,
+      final Iterable<? extends Schema> schemas,
+      final Query query,
+      final SchemaRowHandler rowHandler) {
+    requireNonNull(query, "No query provided");
+    retrieveOverSchemas(
+        name,
+        schemas,
+        (connection, statement, schema) ->
+            new MetadataResultSet(query, statement, getLimitMap(schema)),
+        rowHandler);
+  }
+
+  /**
+   * Obtains results once for each schema, and hands each row of results to a row handler. Schemas
+   * are retrieved in parallel, each on its own connection, with up to the maximum number of threads
+   * from the load options, shared with all other nested retrievals for the crawl. Rows are handled
+   * one at a time, so row handlers do not need to be thread-safe, while results for other schemas
+   * are still being fetched. Failures are logged for each schema, and do not stop retrieval for
+   * other schemas.
+   *
+   * @param name Name of the retrieval, for logging
+   * @param schemas Schemas to retrieve results for
+   * @param resultsSupplier Obtains results for a schema
+   * @param rowHandler Handles each row of results
+   */
+  final void retrieveOverSchemas(
+      final String name,
+      final Iterable<? extends Schema> schemas,
+      final SchemaResultsSupplier resultsSupplier,
+      final SchemaRowHandler rowHandler) {
+    requireNonNull(schemas, "No schemas provided");
+    requireNonNull(resultsSupplier, "No results supplier provided");
+    requireNonNull(rowHandler, "No row handler provided");
+
+    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
+    final Object rowHandlerLock = new Object();
+    try (final TaskRunner taskRunner =
+        TaskRunners.getTaskRunner(name, options.loadOptions().maxThreads())) {
+      for (final Schema schema : schemas) {
+        taskRunner.add(
+            new TaskDefinition(
+                schema.getFullName(),
+                () ->
+                    retrieverConnection.runNestedRetrieval(
+                        () -> {
+                          try (final Connection connection =
+                                  retrieverConnection.getConnection(name);
+                              final SchemaSetter schemaSetter =
+                                  new SchemaSetter(connection, schema);
+                              final Statement statement = connection.createStatement();
+                              final MetadataResultSet results =
+                                  resultsSupplier.get(connection, statement, schema); ) {
+                            while (results.next()) {
+                              synchronized (rowHandlerLock) {
+                                retrievalCounts.count(schema.key());
+                                final boolean added = rowHandler.handle(schema, results);
+                                retrievalCounts.countIfIncluded(schema.key(), added);
+                              }
+                            }
+                          } catch (final Exception e) {
+                            LOGGER.log(
+                                Level.WARNING,
+                                e,
+                                new StringFormat(
+                                    "Could not retrieve %s for schema <%s>", name, schema));
+                          }
+                          synchronized (rowHandlerLock) {
+                            retrievalCounts.log(schema.key());
+                          }
+                        })));
+      }
+      taskRunner.submit();
+      LOGGER.log(Level.FINE, taskRunner.report());
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e.getMessage(), e);
+    }
+    retrievalCounts.log();
+  }
+
+  /**
+   * Obtains results once for each table, and hands each row of results to a row handler. Tables are
+   * split into batches, one for each of up to the maximum number of threads from the load options,
+   * and batches share that limit with all other nested retrievals for the crawl. Each batch keeps a
+   * single connection for all of its tables, so that a connection is not checked out, validated and
+   * released for every table. Rows are handled one at a time, so row handlers do not need to be
+   * thread-safe. Failures are logged for each table, and do not stop retrieval for other tables.
+   *
+   * @param name Name of the retrieval, for logging
+   * @param tables Tables to retrieve results for
+   * @param resultsSupplier Obtains results for a table
+   * @param rowHandler Handles each row of results
+   * @return Keys of tables for which all results were retrieved and handled
+   */
+  final Set<NamedObjectKey> retrieveOverTables(
+      final String name,
+      final Collection<MutableTable> tables,
+      final TableResultsSupplier resultsSupplier,
+      final TableRowHandler rowHandler) {
+    requireNonNull(tables, "No tables provided");
+    requireNonNull(resultsSupplier, "No results supplier provided");
+    requireNonNull(rowHandler, "No row handler provided");
+
+    final Set<NamedObjectKey> retrievedTables = ConcurrentHashMap.newKeySet();
+    if (tables.isEmpty()) {
+      return retrievedTables;
+    }
+
+    final int batchesCount =
+        Math.max(1, Math.min(options.loadOptions().maxThreads(), tables.size()));
+    final List<List<MutableTable>> batches = new ArrayList<>(batchesCount);
+    for (int i = 0; i < batchesCount; i++) {
+      batches.add(new ArrayList<>());
+    }
+    int i = 0;
+    for (final MutableTable table : tables) {
+      batches.get(i % batchesCount).add(table);
+      i++;
+    }
+
+    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
+    final Object rowHandlerLock = new Object();
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner(name, batchesCount)) {
+      int batchNumber = 0;
+      for (final List<MutableTable> batch : batches) {
+        batchNumber++;
+        taskRunner.add(
+            new TaskDefinition(
+                "%s-%d".formatted(name, batchNumber),
+                () ->
+                    retrieverConnection.runNestedRetrieval(
+                        () -> {
+                          try (final Connection connection =
+                              retrieverConnection.getConnection(name)) {
+                            final DatabaseMetaData metaData = connection.getMetaData();
+                            for (final MutableTable table : batch) {
+                              LOGGER.log(
+                                  Level.INFO,
+                                  new StringFormat("Retrieving %s for %s", name, table.key()));
+                              try (final MetadataResultSet results =
+                                  resultsSupplier.get(metaData, table)) {
+                                while (results.next()) {
+                                  synchronized (rowHandlerLock) {
+                                    retrievalCounts.count();
+                                    final boolean added = rowHandler.handle(table, results);
+                                    retrievalCounts.countIfIncluded(added);
+                                  }
+                                }
+                                retrievedTables.add(table.key());
+                              } catch (final SQLException e) {
+                                new UtilityLogger(LOGGER)
+                                    .logPossiblyUnsupportedSQLFeature(
+                                        new StringFormat(
+                                            "Could not retrieve %s for table <%s>", name, table),
+                                        e);
+                              } catch (final Exception e) {
+                                LOGGER.log(
+                                    Level.WARNING,
+                                    e,
+                                    new StringFormat(
+                                        "Could not retrieve %s for table <%s>", name, table));
+                              }
+                            }
+                          } catch (final Exception e) {
+                            LOGGER.log(
+                                Level.WARNING, e, new StringFormat("Could not retrieve %s", name));
+                          }
+                        })));
+      }
+      taskRunner.submit();
+      LOGGER.log(Level.FINE, taskRunner.report());
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception e) {
+      throw new ExecutionRuntimeException(e.getMessage(), e);
+    }
+    retrievalCounts.log();
+    return retrievedTables;
+  }
+
+  /**
+   * Schemas that have routines, since there is no need to query the data dictionary for other
+   * schemas.
+   *
+   * @return Schemas with routines
+   */
+  final Collection<Schema> schemasWithRoutines() {
+    final List<Schema> schemas = new ArrayList<>();
+    for (final Schema schema : getAllSchemas()) {
+      if (!catalog.getRoutines(schema).isEmpty()) {
+        schemas.add(schema);
+      }
+    }
+    return schemas;
+  }
+
+  /**
+   * Schemas that have tables, since there is no need to query the data dictionary for other
+   * schemas.
+   *
+   * @return Schemas with tables
+   */
+  final Collection<Schema> schemasWithTables() {
+    final List<Schema> schemas = new ArrayList<>();
+    for (final Schema schema : getAllSchemas()) {
+      if (!catalog.getTables(schema).isEmpty()) {
+        schemas.add(schema);
+      }
+    }
+    return schemas;
+  }
+
   final MutableColumnDataType lookupColumnDataType(
       final Schema schema, final String databaseSpecificTypeName, final int dataType) {
     return dataTypeLookup.lookupDataType(schema, databaseSpecificTypeName, dataType);
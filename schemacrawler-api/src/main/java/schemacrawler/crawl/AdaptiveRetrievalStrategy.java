@@ -0,0 +1,466 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_COLUMN_ATTRIBUTES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ADDITIONAL_TABLE_ATTRIBUTES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.CHECK_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.CONSTRAINT_COLUMN_USAGE;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTIONS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FUNCTION_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.INDEXES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PRIMARY_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.PROCEDURE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.ROUTINE_REFERENCES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMN_PRIVILEGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_CONSTRAINTS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_PRIVILEGES;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TRIGGERS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TYPE_INFO;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEWS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.VIEW_TABLE_USAGE;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_over_schemas;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_over_schemas;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.RetrievalStrategyDecision;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaReference;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Chooses metadata retrieval strategies for retrievals that are configured to be adaptive, using a
+ * simple cost model. Each metadata call or data dictionary query costs a round trip to the database
+ * server, and calls for different schemas or tables are spread over the retrieval threads. Each row
+ * that is retrieved has a fixed cost. Retrieving metadata for one table at a time only retrieves
+ * the rows that are needed, but costs a round trip for every table. Retrieving from the data
+ * dictionary for all schemas together costs a single round trip, but also retrieves rows for
+ * schemas that are not crawled.
+ *
+ * <p>The round-trip latency, the number of schemas in the database, and the number of tables and
+ * routines in the crawled schemas are measured when the crawl starts, once schemas are retrieved,
+ * so that strategies for tables and routines themselves can be chosen before they are retrieved. If
+ * tables or routines could not be counted, the number in the catalog is used when the strategy for
+ * a retrieval is first needed.
+ */
+final class AdaptiveRetrievalStrategy {
+
+  /** How JDBC metadata calls for a retrieval are made. */
+  private enum MetadataCalls {
+    NONE,
+    DATABASE,
+    SCHEMA,
+    OBJECT
+  }
+
+  /**
+   * Ways that a retrieval can be made.
+   *
+   * @param metadataCalls How JDBC metadata calls are made
+   * @param isMetadataOverSchemas Whether JDBC metadata calls can be made one schema at a time
+   * @param isDataDictionaryOverSchemas Whether the data dictionary query can be run one schema at a
+   *     time
+   * @param dataDictionaryQuery Data dictionary query for the retrieval
+   * @param isForRoutines Whether details are retrieved for routines, rather than tables
+   */
+  private record Retrieval(
+      MetadataCalls metadataCalls,
+      boolean isMetadataOverSchemas,
+      boolean isDataDictionaryOverSchemas,
+      InformationSchemaKey dataDictionaryQuery,
+      boolean isForRoutines) {}
+
+  @FunctionalInterface
+  private interface SchemaMetadataCall {
+    ResultSet get(String catalogName, String schemaName) throws SQLException;
+  }
+
+  private record SchemaNormalizer(boolean supportsCatalogs, boolean supportsSchemas) {
+    SchemaReference normalize(final ResultSet results) throws SQLException {
+      final String catalogName = supportsCatalogs ? results.getString(1) : null;
+      final String schemaName = supportsSchemas ? results.getString(2) : null;
+      return new SchemaReference(catalogName, schemaName);
+    }
+  }
+
+  private static final Logger LOGGER = Logger.getLogger(AdaptiveRetrievalStrategy.class.getName());
+
+  /** Assumed time to retrieve and process one row of metadata. */
+  private static final long ROW_NANOS = 20_000L;
+
+  private static final int PROBE_ROUND_TRIPS = 3;
+  private static final int PROBE_TIMEOUT_SECONDS = 10;
+
+  /** Number of tables or routines that could not be counted. */
+  private static final int UNKNOWN_COUNT = -1;
+
+  /**
+   * Measures the round-trip latency, the number of schemas in the database, and the number of
+   * tables and routines in the crawled schemas, to choose retrieval strategies from. Tables and
+   * routines are counted with metadata calls for each crawled schema, so that other schemas in the
+   * database are not scanned.
+   *
+   * @param connection Database connection to probe
+   * @param catalog Catalog that is being crawled, with schemas already retrieved
+   * @param informationSchemaViews Data dictionary queries
+   * @param supportsCatalogs Whether the database supports catalogs
+   * @param supportsSchemas Whether the database supports schemas
+   * @param maxThreads Number of retrieval threads
+   * @return Adaptive retrieval strategy
+   */
+  static AdaptiveRetrievalStrategy probe(
+      final Connection connection,
+      final MutableCatalog catalog,
+      final InformationSchemaViews informationSchemaViews,
+      final boolean supportsCatalogs,
+      final boolean supportsSchemas,
+      final int maxThreads) {
+    requireNonNull(connection, "No connection provided");
+
+    long roundTripNanos = Long.MAX_VALUE;
+    int databaseSchemaCount = 0;
+    try {
+      for (int i = 0; i < PROBE_ROUND_TRIPS; i++) {
+        final long start = System.nanoTime();
+        connection.isValid(PROBE_TIMEOUT_SECONDS);
+        roundTripNanos = Math.min(roundTripNanos, System.nanoTime() - start);
+      }
+
+      final DatabaseMetaData metaData = connection.getMetaData();
+      try (final ResultSet results = metaData.getSchemas()) {
+        databaseSchemaCount = countRows(results);
+      }
+      if (databaseSchemaCount == 0) {
+        try (final ResultSet results = metaData.getCatalogs()) {
+          databaseSchemaCount = countRows(results);
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING, "Could not probe database server for adaptive metadata retrieval", e);
+    }
+    if (roundTripNanos == Long.MAX_VALUE) {
+      roundTripNanos = 0;
+    }
+
+    final Collection<Schema> schemas = catalog.getSchemas();
+    final SchemaNormalizer normalizer = new SchemaNormalizer(supportsCatalogs, supportsSchemas);
+
+    int tableCount = UNKNOWN_COUNT;
+    try {
+      final DatabaseMetaData metaData = connection.getMetaData();
+      tableCount =
+          countRows(
+              schemas,
+              (catalogName, schemaName) -> metaData.getTables(catalogName, schemaName, "%", null),
+              normalizer);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not count tables for adaptive metadata retrieval", e);
+    }
+
+    int routineCount = UNKNOWN_COUNT;
+    try {
+      final DatabaseMetaData metaData = connection.getMetaData();
+      routineCount =
+          countRows(
+              schemas,
+              (catalogName, schemaName) -> metaData.getProcedures(catalogName, schemaName, "%"),
+              normalizer);
+      routineCount =
+          routineCount
+              + countRows(
+                  schemas,
+                  (catalogName, schemaName) -> metaData.getFunctions(catalogName, schemaName, "%"),
+                  normalizer);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not count routines for adaptive metadata retrieval", e);
+    }
+
+    // No matching rows most likely means that names did not match, rather than an empty schema
+    if (tableCount == 0) {
+      tableCount = UNKNOWN_COUNT;
+    }
+    if (routineCount == 0) {
+      routineCount = UNKNOWN_COUNT;
+    }
+
+    final Duration roundTripLatency = Duration.ofNanos(roundTripNanos);
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Measured round-trip latency of %s, with %d schemas in the database, and %d tables and"
+                + " %d routines in crawled schemas",
+            roundTripLatency, databaseSchemaCount, tableCount, routineCount));
+    return new AdaptiveRetrievalStrategy(
+        catalog,
+        informationSchemaViews,
+        maxThreads,
+        roundTripLatency,
+        databaseSchemaCount,
+        tableCount,
+        routineCount);
+  }
+
+  private static int countRows(final ResultSet results) throws SQLException {
+    int count = 0;
+    while (results.next()) {
+      count = count + 1;
+    }
+    return count;
+  }
+
+  /**
+   * Counts rows of metadata for objects in the given schemas, with one metadata call for each
+   * schema. The catalog and schema names are expected to be in the first two columns, as they are
+   * for tables, procedures and functions, and are normalized in the same way as they are for
+   * retrieval, so that rows for other schemas are not counted.
+   */
+  private static int countRows(
+      final Collection<Schema> schemas,
+      final SchemaMetadataCall metadataCall,
+      final SchemaNormalizer normalizer)
+      throws SQLException {
+    int count = 0;
+    for (final Schema schema : schemas) {
+      try (final ResultSet results = metadataCall.get(schema.getCatalogName(), schema.getName())) {
+        while (results.next()) {
+          final SchemaReference rowSchema = normalizer.normalize(results);
+          if (rowSchema.key().equals(schema.key())) {
+            count = count + 1;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private static Retrieval retrieval(final SchemaInfoMetadataRetrievalStrategy retrievalKey) {
+    return switch (retrievalKey) {
+      case foreignKeysRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, false, true, FOREIGN_KEYS, false);
+      case functionParametersRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, false, true, FUNCTION_COLUMNS, true);
+      case functionsRetrievalStrategy ->
+          new Retrieval(MetadataCalls.SCHEMA, false, true, FUNCTIONS, true);
+      case indexesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, false, true, INDEXES, false);
+      case primaryKeysRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, false, true, PRIMARY_KEYS, false);
+      case routinesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, ROUTINES, true);
+      case routineReferencesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, ROUTINE_REFERENCES, true);
+      case proceduresRetrievalStrategy ->
+          new Retrieval(MetadataCalls.SCHEMA, false, true, PROCEDURES, true);
+      case procedureParametersRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, false, true, PROCEDURE_COLUMNS, true);
+      case tableColumnPrivilegesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.DATABASE, false, false, TABLE_COLUMN_PRIVILEGES, false);
+      case tableColumnsRetrievalStrategy ->
+          new Retrieval(MetadataCalls.OBJECT, true, false, TABLE_COLUMNS, false);
+      case tableAdditionalAttributesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, ADDITIONAL_TABLE_ATTRIBUTES, false);
+      case tableColumnAdditionalAttributesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, ADDITIONAL_COLUMN_ATTRIBUTES, false);
+      case tablePrivilegesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.DATABASE, false, false, TABLE_PRIVILEGES, false);
+      case tablesRetrievalStrategy ->
+          new Retrieval(MetadataCalls.SCHEMA, false, false, TABLES, false);
+      case triggersRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, TRIGGERS, false);
+      case tableConstraintsRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, TABLE_CONSTRAINTS, false);
+      case tableConstraintColumnsRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, CONSTRAINT_COLUMN_USAGE, false);
+      case tableCheckConstraintsRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, CHECK_CONSTRAINTS, false);
+      case typeInfoRetrievalStrategy ->
+          new Retrieval(MetadataCalls.DATABASE, false, false, TYPE_INFO, false);
+      case viewInformationRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, VIEWS, false);
+      case viewTableUsageRetrievalStrategy ->
+          new Retrieval(MetadataCalls.NONE, false, true, VIEW_TABLE_USAGE, false);
+    };
+  }
+
+  private final MutableCatalog catalog;
+  private final InformationSchemaViews informationSchemaViews;
+  private final int maxThreads;
+  private final Duration roundTripLatency;
+  private final int databaseSchemaCount;
+  private final int tableCount;
+  private final int routineCount;
+  private final Map<SchemaInfoMetadataRetrievalStrategy, MetadataRetrievalStrategy> strategies;
+  private final List<RetrievalStrategyDecision> decisions;
+
+  AdaptiveRetrievalStrategy(
+      final MutableCatalog catalog,
+      final InformationSchemaViews informationSchemaViews,
+      final int maxThreads,
+      final Duration roundTripLatency,
+      final int databaseSchemaCount) {
+    this(
+        catalog,
+        informationSchemaViews,
+        maxThreads,
+        roundTripLatency,
+        databaseSchemaCount,
+        UNKNOWN_COUNT,
+        UNKNOWN_COUNT);
+  }
+
+  AdaptiveRetrievalStrategy(
+      final MutableCatalog catalog,
+      final InformationSchemaViews informationSchemaViews,
+      final int maxThreads,
+      final Duration roundTripLatency,
+      final int databaseSchemaCount,
+      final int tableCount,
+      final int routineCount) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.informationSchemaViews =
+        requireNonNull(informationSchemaViews, "No information schema views provided");
+    this.maxThreads = Math.max(maxThreads, 1);
+    this.roundTripLatency = requireNonNull(roundTripLatency, "No round-trip latency provided");
+    this.databaseSchemaCount = databaseSchemaCount;
+    this.tableCount = tableCount;
+    this.routineCount = routineCount;
+    strategies = new ConcurrentHashMap<>();
+    decisions = new ArrayList<>();
+  }
+
+  /**
+   * Gets the retrieval strategy for a retrieval. The strategy is chosen when it is first needed,
+   * which is when the database is probed during a crawl, and the decision is recorded.
+   *
+   * @param retrievalKey Retrieval
+   * @return Chosen metadata retrieval strategy
+   */
+  MetadataRetrievalStrategy get(final SchemaInfoMetadataRetrievalStrategy retrievalKey) {
+    requireNonNull(retrievalKey, "No schema info metadata retrieval strategy provided");
+    return strategies.computeIfAbsent(retrievalKey, this::choose);
+  }
+
+  /**
+   * Gets the retrieval strategy decisions that were made so far, in the order they were made.
+   *
+   * @return Retrieval strategy decisions
+   */
+  List<RetrievalStrategyDecision> getDecisions() {
+    synchronized (decisions) {
+      return List.copyOf(decisions);
+    }
+  }
+
+  private MetadataRetrievalStrategy choose(final SchemaInfoMetadataRetrievalStrategy retrievalKey) {
+    final Retrieval retrieval = retrieval(retrievalKey);
+
+    final int schemaCount = Math.max(catalog.getAllSchemas().size(), 1);
+    final int allSchemaCount = Math.max(databaseSchemaCount, schemaCount);
+    final int objectCount;
+    if (retrieval.isForRoutines()) {
+      objectCount = routineCount != UNKNOWN_COUNT ? routineCount : catalog.getAllRoutines().size();
+    } else {
+      objectCount = tableCount != UNKNOWN_COUNT ? tableCount : catalog.getAllTables().size();
+    }
+    // Assume that schemas that are not crawled are about the same size as crawled schemas
+    final long allObjectCount = (long) objectCount * allSchemaCount / schemaCount;
+
+    final Map<MetadataRetrievalStrategy, Duration> estimatedTimes =
+        new EnumMap<>(MetadataRetrievalStrategy.class);
+    switch (retrieval.metadataCalls()) {
+      case DATABASE -> estimatedTimes.put(metadata, estimate(1, allObjectCount));
+      case SCHEMA -> estimatedTimes.put(metadata, estimate(schemaCount, objectCount));
+      case OBJECT -> estimatedTimes.put(metadata, estimate(objectCount, objectCount));
+      case NONE -> {}
+    }
+    if (retrieval.isMetadataOverSchemas()) {
+      estimatedTimes.put(metadata_over_schemas, estimate(schemaCount, objectCount));
+    }
+    if (informationSchemaViews.hasQuery(retrieval.dataDictionaryQuery())) {
+      if (retrieval.isDataDictionaryOverSchemas()) {
+        estimatedTimes.put(data_dictionary_over_schemas, estimate(schemaCount, objectCount));
+      }
+      estimatedTimes.put(data_dictionary_all, estimate(1, allObjectCount));
+    }
+
+    // Strategies are considered in order, so that on a tie the strategy with fewer calls is
+    // preferred
+    MetadataRetrievalStrategy strategy = metadata;
+    Duration estimatedTime = null;
+    for (final Map.Entry<MetadataRetrievalStrategy, Duration> entry : estimatedTimes.entrySet()) {
+      if (estimatedTime == null || entry.getValue().compareTo(estimatedTime) <= 0) {
+        strategy = entry.getKey();
+        estimatedTime = entry.getValue();
+      }
+    }
+
+    final Map<String, Duration> estimatedTimesByName = new LinkedHashMap<>();
+    for (final Map.Entry<MetadataRetrievalStrategy, Duration> entry : estimatedTimes.entrySet()) {
+      estimatedTimesByName.put(entry.getKey().name(), entry.getValue());
+    }
+    final RetrievalStrategyDecision decision =
+        new RetrievalStrategyDecision(
+            retrievalKey.getKey(),
+            strategy.name(),
+            roundTripLatency,
+            schemaCount,
+            allSchemaCount,
+            objectCount,
+            estimatedTimesByName);
+    synchronized (decisions) {
+      decisions.add(decision);
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Using <%s> retrieval strategy for <%s>, from estimated times %s",
+            strategy, retrievalKey.getKey(), estimatedTimesByName));
+
+    return strategy;
+  }
+
+  /**
+   * Estimates the time for a retrieval.
+   *
+   * @param calls Number of metadata calls or data dictionary queries, which are spread over the
+   *     retrieval threads
+   * @param rows Number of rows retrieved
+   * @return Estimated time
+   */
+  private Duration estimate(final long calls, final long rows) {
+    final long roundTrips = (calls + maxThreads - 1) / maxThreads;
+    return Duration.ofNanos(roundTrips * roundTripLatency.toNanos() + rows * ROW_NANOS);
+  }
+}
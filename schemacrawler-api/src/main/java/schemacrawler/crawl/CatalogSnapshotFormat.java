@@ -0,0 +1,68 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Constants for the catalog snapshot format.
+ *
+ * <p>A snapshot starts with a header of the magic bytes and the format version, followed by the
+ * string table. The string table has the offsets of all strings ahead of the UTF-8 bytes of the
+ * strings, so that a string can be decoded only when it is needed.
+ *
+ * <p>The string table is followed by the index, which has the catalog, schemas, column data types,
+ * a table of contents for tables and routines, sequences, synonyms, and database users. The table
+ * of contents has the name and type of each table and routine, and the offsets of their records, so
+ * that the records of tables and routines can be read selectively. The records are written after
+ * the index, and each table has a record for its columns, keys, indexes, triggers and privileges,
+ * and a separate record for its foreign keys, table constraints and references.
+ *
+ * <p>Integers are written as variable length zig-zag encoded values, and strings and objects are
+ * written as integer ids. String id 0 is always null. Offsets of records are relative to the start
+ * of the records.
+ */
+final class CatalogSnapshotFormat {
+
+  static final byte[] MAGIC = "SCCATSNP".getBytes(US_ASCII);
+  static final int FORMAT_VERSION = 2;
+
+  // Attribute value types
+  static final int VALUE_NULL = 0;
+  static final int VALUE_STRING = 1;
+  static final int VALUE_TRUE = 2;
+  static final int VALUE_FALSE = 3;
+  static final int VALUE_INTEGER = 4;
+  static final int VALUE_LONG = 5;
+  static final int VALUE_SHORT = 6;
+  static final int VALUE_BYTE = 7;
+  static final int VALUE_DOUBLE = 8;
+  static final int VALUE_FLOAT = 9;
+  static final int VALUE_BIG_DECIMAL = 10;
+  static final int VALUE_BIG_INTEGER = 11;
+  static final int VALUE_SERIALIZED = 12;
+
+  // References to database objects
+  static final int REFERENCE_NULL = 0;
+  static final int REFERENCE_TABLE = 1;
+  static final int REFERENCE_ROUTINE = 2;
+  static final int REFERENCE_SEQUENCE = 3;
+  static final int REFERENCE_SYNONYM = 4;
+  static final int REFERENCE_PARTIAL_TABLE = 5;
+  static final int REFERENCE_UNKNOWN = 6;
+
+  // Table constraint types
+  static final int CONSTRAINT_PRIMARY_KEY = 0;
+  static final int CONSTRAINT_FOREIGN_KEY = 1;
+  static final int CONSTRAINT_OTHER = 2;
+
+  private CatalogSnapshotFormat() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,1141 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_FOREIGN_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_OTHER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.FORMAT_VERSION;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAGIC;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_PARTIAL_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_ROUTINE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_SEQUENCE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_SYNONYM;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_UNKNOWN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_DECIMAL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DOUBLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FALSE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FLOAT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LONG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SERIALIZED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SHORT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRING;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_TRUE;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForRoutineInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.sql.DriverPropertyInfo;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.filter.TableTypesFilter;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseServerFingerprint;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.FingerprintConfidence;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ParameterModeType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.RoutineType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+import schemacrawler.utility.SerializedCatalogUtility;
+import us.fatehi.utility.database.DatabaseInformation;
+import us.fatehi.utility.database.JdbcDriverInformation;
+import us.fatehi.utility.property.BaseProductVersion;
+import us.fatehi.utility.property.ProductVersion;
+import us.fatehi.utility.property.VersionNumber;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Reads a catalog from a catalog snapshot. Objects are created in the same order that a crawl
+ * creates them, so that the catalog is built the same way as it is by SchemaCrawler.
+ *
+ * <p>When SchemaCrawler options are provided, only the tables and routines that could be kept by a
+ * catalog reducer with the same options are read from the snapshot. The table of contents is used
+ * to select tables by schema, name and table type, and to add in related tables up to the filter
+ * depth. Grep options are not applied, so the catalog still needs to be reduced. Tables and
+ * routines that are not read are referenced as partial objects, as they are when a crawl is
+ * limited.
+ */
+final class CatalogSnapshotReader {
+
+  private record RoutineIndexEntry(
+      boolean isFunction, Schema schema, String name, String specificName, int recordOffset) {}
+
+  private record TableIndexEntry(
+      boolean isView,
+      Schema schema,
+      String name,
+      String tableType,
+      int recordOffset,
+      int relationshipsOffset,
+      int[] parentTableIds) {}
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSnapshotReader.class.getName());
+
+  private final ByteBuffer buffer;
+  private final SchemaCrawlerOptions options;
+  private final JavaSqlTypes javaSqlTypes;
+  private final List<SchemaReference> schemas;
+  private final List<MutableColumnDataType> columnDataTypes;
+  private final List<MutableSequence> sequences;
+  private final List<MutableSynonym> synonyms;
+  private String[] strings;
+  private int stringOffsetsStart;
+  private int stringsStart;
+  private TableIndexEntry[] tableIndex;
+  private MutableTable[] tables;
+  private RoutineIndexEntry[] routineIndex;
+  private MutableRoutine[] routines;
+  private int recordsStart;
+  private int synonymReferencesOffset;
+  private MutableCatalog catalog;
+
+  /**
+   * Reads all the objects in the catalog snapshot.
+   *
+   * @param buffer Catalog snapshot
+   */
+  CatalogSnapshotReader(final ByteBuffer buffer) {
+    this(buffer, null);
+  }
+
+  /**
+   * Reads only the tables and routines that could be included by the SchemaCrawler options.
+   *
+   * @param buffer Catalog snapshot
+   * @param options SchemaCrawler options, or null to read all the objects in the snapshot
+   */
+  CatalogSnapshotReader(final ByteBuffer buffer, final SchemaCrawlerOptions options) {
+    this.buffer = requireNonNull(buffer, "No catalog snapshot provided");
+    this.options = options;
+    javaSqlTypes = new JavaSqlTypes();
+    schemas = new ArrayList<>();
+    columnDataTypes = new ArrayList<>();
+    sequences = new ArrayList<>();
+    synonyms = new ArrayList<>();
+  }
+
+  /**
+   * Reads the catalog from the catalog snapshot.
+   *
+   * @return Catalog
+   * @throws IOException On an invalid or corrupt catalog snapshot
+   */
+  MutableCatalog read() throws IOException {
+    readHeader();
+    final int tablesCount;
+    final int routinesCount;
+    try {
+      readStringTable();
+      readCatalog();
+      readSchemas();
+      readColumnDataTypes();
+      readTableIndex();
+      readRoutineIndex();
+      readSequences();
+      readSynonyms();
+      readDatabaseUsers();
+      synonymReferencesOffset = readUnsigned();
+      recordsStart = buffer.position();
+
+      tablesCount = selectTables();
+      routinesCount = selectRoutines();
+
+      readTableRecords();
+      readRoutineRecords();
+      readTableRelationshipsRecords();
+      readSynonymReferences();
+    } catch (final BufferUnderflowException
+        | IndexOutOfBoundsException
+        | IllegalArgumentException
+        | ClassCastException
+        | NullPointerException e) {
+      throw new IOException("Corrupt catalog snapshot", e);
+    }
+
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Read %d of %d tables, and %d of %d routines from catalog snapshot",
+            tablesCount, tableIndex.length, routinesCount, routineIndex.length));
+    return catalog;
+  }
+
+  private void addForeignKey(final MutableForeignKey foreignKey) {
+    for (final ColumnReference columnReference : foreignKey) {
+      final Column fkColumn = columnReference.getForeignKeyColumn();
+      final Column pkColumn = columnReference.getPrimaryKeyColumn();
+      if (fkColumn instanceof final MutableColumn column) {
+        column.setReferencedColumn(pkColumn);
+      } else if (fkColumn instanceof final ColumnPartial column) {
+        column.setReferencedColumn(pkColumn);
+      }
+    }
+
+    for (final Table table :
+        List.of(foreignKey.getForeignKeyTable(), foreignKey.getPrimaryKeyTable())) {
+      if (table instanceof final MutableTable mutableTable) {
+        mutableTable.addForeignKey(foreignKey);
+      } else if (table instanceof final TablePartial tablePartial) {
+        tablePartial.addForeignKey(foreignKey);
+      }
+    }
+  }
+
+  /** Inverts the parent table ids in the table of contents, to get child table ids. */
+  private int[][] childTableIds() {
+    final int[] childTablesCount = new int[tableIndex.length];
+    for (final TableIndexEntry entry : tableIndex) {
+      for (final int parentTableId : entry.parentTableIds()) {
+        childTablesCount[parentTableId]++;
+      }
+    }
+    final int[][] childTableIds = new int[tableIndex.length][];
+    for (int tableId = 0; tableId < tableIndex.length; tableId++) {
+      childTableIds[tableId] = new int[childTablesCount[tableId]];
+    }
+    final int[] position = new int[tableIndex.length];
+    for (int tableId = 0; tableId < tableIndex.length; tableId++) {
+      for (final int parentTableId : tableIndex[tableId].parentTableIds()) {
+        childTableIds[parentTableId][position[parentTableId]++] = tableId;
+      }
+    }
+    return childTableIds;
+  }
+
+  /**
+   * Adds in related tables, in the same way as the tables reducer, by following foreign keys from
+   * the selected tables, up to the filter depth.
+   */
+  private BitSet includeRelatedTables(
+      final BitSet selectedTables, final int[][] relatedTableIds, final int depth) {
+    final BitSet includedTables = (BitSet) selectedTables.clone();
+    BitSet frontier = selectedTables;
+    for (int i = 0; i < depth && !frontier.isEmpty(); i++) {
+      final BitSet nextFrontier = new BitSet(tableIndex.length);
+      for (int tableId = frontier.nextSetBit(0);
+          tableId >= 0;
+          tableId = frontier.nextSetBit(tableId + 1)) {
+        for (final int relatedTableId : relatedTableIds[tableId]) {
+          if (!includedTables.get(relatedTableId)) {
+            includedTables.set(relatedTableId);
+            nextFrontier.set(relatedTableId);
+          }
+        }
+      }
+      frontier = nextFrontier;
+    }
+    return includedTables;
+  }
+
+  private boolean isIncluded(final LimitOptions limitOptions, final MutableRoutine routine) {
+    final RoutineType routineType =
+        routine instanceof MutableFunction ? RoutineType.function : RoutineType.procedure;
+    return limitOptions.routineTypes().contains(routineType)
+        && limitOptions.get(ruleForSchemaInclusion).test(routine.getSchema().getFullName())
+        && limitOptions.get(ruleForRoutineInclusion).test(routine.getFullName());
+  }
+
+  private Column lookupOrCreateColumn(final MutableTable table, final String columnName) {
+    final Column column = table.lookupColumn(columnName).orElse(null);
+    if (column != null) {
+      return column;
+    }
+    // Pseudo-columns, such as in function-based indexes, are not part of the table
+    return new ColumnPartial(table, columnName);
+  }
+
+  private MutableRoutine newRoutine(final RoutineIndexEntry entry) {
+    if (entry.isFunction()) {
+      return new MutableFunction(entry.schema(), entry.name(), entry.specificName());
+    }
+    return new MutableProcedure(entry.schema(), entry.name(), entry.specificName());
+  }
+
+  private MutableTable newTable(final TableIndexEntry entry) {
+    final MutableTable table;
+    if (entry.isView()) {
+      table = new MutableView(entry.schema(), entry.name());
+    } else {
+      table = new MutableTable(entry.schema(), entry.name());
+    }
+    table.setTableType(new TableType(entry.tableType()));
+    return table;
+  }
+
+  private DatabaseObject partialRoutine(final int routineId) {
+    final MutableRoutine routine = newRoutine(routineIndex[routineId]);
+    if (routine instanceof final MutableFunction function) {
+      return new FunctionPartial(function);
+    }
+    return new ProcedurePartial((MutableProcedure) routine);
+  }
+
+  private TablePartial partialTable(final int tableId) {
+    final TableIndexEntry entry = tableIndex[tableId];
+    return new TablePartial(entry.schema(), entry.name());
+  }
+
+  private void readAttributes(final AttributedObject attributedObject) throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final String name = readString();
+      final Object value = readValue();
+      attributedObject.setAttribute(name, value);
+    }
+  }
+
+  private boolean readBoolean() {
+    return buffer.get() != 0;
+  }
+
+  private void readCatalog() throws IOException {
+    final String name = readString();
+    final List<Object[]> catalogAttributes = new ArrayList<>();
+    final int attributesCount = readUnsigned();
+    for (int i = 0; i < attributesCount; i++) {
+      catalogAttributes.add(new Object[] {readString(), readValue()});
+    }
+
+    final UUID runId = UUID.fromString(readString());
+    final Instant crawlTimestamp = Instant.ofEpochSecond(readLong(), readInt());
+    final String title = readString();
+    final ProductVersion jvmVersion = readProductVersion();
+    final ProductVersion operatingSystemVersion = readProductVersion();
+    final ProductVersion schemaCrawlerVersion = readProductVersion();
+    final ProductVersion databaseVersion = readProductVersion();
+    final ProductVersion jdbcDriverVersion = readProductVersion();
+    final DatabaseServerFingerprint fingerprint =
+        new DatabaseServerFingerprint(
+            readString(), readEnum(FingerprintConfidence.class, FingerprintConfidence.LOW));
+
+    final String databaseProductName = readString();
+    final String databaseProductVersion = readString();
+    final String userName = readString();
+    final MutableDatabaseInfo databaseInfo =
+        new MutableDatabaseInfo(
+            new DatabaseInformation(databaseProductName, databaseProductVersion, userName));
+    final int serverInfoCount = readUnsigned();
+    for (int i = 0; i < serverInfoCount; i++) {
+      databaseInfo.addServerInfo(
+          new ImmutableServerInfoProperty(readString(), readString(), readString()));
+    }
+    final int databasePropertiesCount = readUnsigned();
+    final List<ImmutableDatabaseProperty> databaseProperties = new ArrayList<>();
+    for (int i = 0; i < databasePropertiesCount; i++) {
+      databaseProperties.add(new ImmutableDatabaseProperty(readString(), readValue()));
+    }
+    databaseInfo.addAll(databaseProperties);
+
+    final String driverName = readString();
+    final String driverVersion = readString();
+    final String driverClassName = readString();
+    final VersionNumber driverVersionNumber = readVersionNumber();
+    final VersionNumber jdbcVersionNumber = readVersionNumber();
+    final boolean jdbcCompliant = readBoolean();
+    final String connectionUrl = readString();
+    final MutableJdbcDriverInfo jdbcDriverInfo =
+        new MutableJdbcDriverInfo(
+            new JdbcDriverInformation(
+                driverName,
+                driverClassName,
+                driverVersion,
+                driverVersionNumber,
+                jdbcVersionNumber,
+                jdbcCompliant,
+                connectionUrl));
+    final int driverPropertiesCount = readUnsigned();
+    for (int i = 0; i < driverPropertiesCount; i++) {
+      final String propertyName = readString();
+      final String description = readString();
+      final DriverPropertyInfo driverPropertyInfo =
+          new DriverPropertyInfo(propertyName, readString());
+      driverPropertyInfo.description = description;
+      driverPropertyInfo.required = readBoolean();
+      final List<String> choices = readStrings();
+      if (!choices.isEmpty()) {
+        driverPropertyInfo.choices = choices.toArray(new String[0]);
+      }
+      jdbcDriverInfo.addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+
+    final ImmutableCrawlInfo crawlInfo =
+        new ImmutableCrawlInfo(
+            runId,
+            crawlTimestamp,
+            title,
+            jvmVersion,
+            operatingSystemVersion,
+            schemaCrawlerVersion,
+            databaseVersion,
+            jdbcDriverVersion,
+            fingerprint);
+    catalog = new MutableCatalog(name, databaseInfo, jdbcDriverInfo, crawlInfo);
+    for (final Object[] attribute : catalogAttributes) {
+      catalog.setAttribute((String) attribute[0], attribute[1]);
+    }
+  }
+
+  private MutableColumn readColumn(final MutableTable table) throws IOException {
+    final MutableColumn column = new MutableColumn(table, readString());
+    readAttributes(column);
+    readColumnAttributes(column);
+    column.setDefaultValue(readString());
+    column.setAutoIncremented(readBoolean());
+    column.setGenerated(readBoolean());
+    column.setHidden(readBoolean());
+    if (readBoolean()) {
+      column.markAsPartOfIndex();
+    }
+    if (readBoolean()) {
+      column.markAsPartOfPrimaryKey();
+    }
+    if (readBoolean()) {
+      column.markAsPartOfUniqueIndex();
+    }
+    if (readBoolean()) {
+      column.markAsPartOfSelfReferencingRelationship();
+    }
+    final ColumnPointer columnPointer = new ColumnPointer(column);
+    final int privilegesCount = readUnsigned();
+    for (int i = 0; i < privilegesCount; i++) {
+      final MutablePrivilege<Column> privilege =
+          new MutablePrivilege<>(columnPointer, readString());
+      readPrivilege(privilege);
+      column.addPrivilege(privilege);
+    }
+    return column;
+  }
+
+  private void readColumnAttributes(final AbstractColumn<?> column) {
+    column.setColumnDataType(readColumnDataTypeReference());
+    column.setDecimalDigits(readInt());
+    column.setNullable(readBoolean());
+    column.setOrdinalPosition(readInt());
+    column.setSize(readInt());
+  }
+
+  private MutableColumnDataType readColumnDataTypeReference() {
+    final int columnDataTypeId = readUnsigned();
+    if (columnDataTypeId == 0) {
+      return null;
+    }
+    return columnDataTypes.get(columnDataTypeId - 1);
+  }
+
+  private void readColumnDataTypes() throws IOException {
+    final int count = readUnsigned();
+    final int catalogColumnDataTypesCount = readUnsigned();
+    final int[] baseTypeIds = new int[count];
+    for (int i = 0; i < count; i++) {
+      final Schema schema = readSchemaReference();
+      final String name = readString();
+      final DataTypeType type = readEnum(DataTypeType.class, DataTypeType.system);
+      final MutableColumnDataType columnDataType = new MutableColumnDataType(schema, name, type);
+      readAttributes(columnDataType);
+      columnDataType.setAutoIncrementable(readBoolean());
+      columnDataType.setCaseSensitive(readBoolean());
+      columnDataType.setCreateParameters(readString());
+      columnDataType.setEnumValues(readStrings());
+      columnDataType.setFixedPrecisionScale(readBoolean());
+      columnDataType.setJavaSqlType(javaSqlTypes.valueOf(readInt()));
+      columnDataType.setTypeMappedClassName(readString());
+      columnDataType.setLiteralPrefix(readString());
+      columnDataType.setLiteralSuffix(readString());
+      columnDataType.setLocalTypeName(readString());
+      columnDataType.setMaximumScale(readInt());
+      columnDataType.setMinimumScale(readInt());
+      columnDataType.setNullable(readBoolean());
+      columnDataType.setNumPrecisionRadix(readInt());
+      columnDataType.setPrecision(readLong());
+      columnDataType.setSearchable(readEnum(SearchableType.class, SearchableType.unknown));
+      columnDataType.setUnsigned(readBoolean());
+      baseTypeIds[i] = readUnsigned();
+
+      // Column data types that are not in the catalog are only referenced by columns
+      if (i < catalogColumnDataTypesCount) {
+        catalog.addColumnDataType(columnDataType);
+      }
+      columnDataTypes.add(columnDataType);
+    }
+
+    // Base types can be forward references
+    for (int i = 0; i < count; i++) {
+      if (baseTypeIds[i] > 0) {
+        final ColumnDataType baseType = columnDataTypes.get(baseTypeIds[i] - 1);
+        columnDataTypes.get(i).setBaseType(baseType);
+      }
+    }
+  }
+
+  private Column readColumnReference() {
+    final int tableId = readUnsigned();
+    if (tableId == 0) {
+      final Schema schema = readSchemaReference();
+      final String tableName = readString();
+      final TablePartial table = new TablePartial(schema, tableName);
+      final ColumnPartial column = new ColumnPartial(table, readString());
+      table.addColumn(column);
+      return column;
+    }
+
+    final String columnName = readString();
+    final MutableTable table = tables[tableId - 1];
+    if (table != null) {
+      return lookupOrCreateColumn(table, columnName);
+    }
+    // Create the table and column for tables that were not read, as a crawl does
+    final TablePartial partialTable = partialTable(tableId - 1);
+    final ColumnPartial partialColumn = new ColumnPartial(partialTable, columnName);
+    partialTable.addColumn(partialColumn);
+    return partialColumn;
+  }
+
+  private void readDatabaseUsers() throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final ImmutableDatabaseUser databaseUser = new ImmutableDatabaseUser(readString());
+      readAttributes(databaseUser);
+      catalog.addDatabaseUser(databaseUser);
+    }
+  }
+
+  private <E extends Enum<E>> E readEnum(final Class<E> enumClass, final E defaultValue) {
+    final String name = readString();
+    if (name == null) {
+      return defaultValue;
+    }
+    try {
+      return Enum.valueOf(enumClass, name);
+    } catch (final IllegalArgumentException e) {
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat("Unknown value <%s> for <%s>", name, enumClass.getSimpleName()));
+      return defaultValue;
+    }
+  }
+
+  private MutableForeignKey readForeignKey() throws IOException {
+    final String name = readString();
+    final int columnReferencesCount = readUnsigned();
+    MutableForeignKey foreignKey = null;
+    for (int i = 0; i < columnReferencesCount; i++) {
+      final int keySequence = readInt();
+      final Column fkColumn = readColumnReference();
+      final Column pkColumn = readColumnReference();
+      final ImmutableColumnReference columnReference =
+          new ImmutableColumnReference(keySequence, fkColumn, pkColumn);
+      if (foreignKey == null) {
+        foreignKey = new MutableForeignKey(name, columnReference);
+      } else {
+        foreignKey.addColumnReference(columnReference);
+      }
+    }
+    if (foreignKey == null) {
+      throw new IOException("No column references for foreign key <%s>".formatted(name));
+    }
+
+    readAttributes(foreignKey);
+    foreignKey.setUpdateRule(readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown));
+    foreignKey.setDeleteRule(readEnum(ForeignKeyUpdateRule.class, ForeignKeyUpdateRule.unknown));
+    foreignKey.setDeferrability(
+        readEnum(ForeignKeyDeferrability.class, ForeignKeyDeferrability.unknown));
+    foreignKey.setDefinition(readString());
+    return foreignKey;
+  }
+
+  private void readHeader() throws IOException {
+    final byte[] magic = new byte[MAGIC.length];
+    if (buffer.remaining() < magic.length) {
+      throw new IOException("Not a catalog snapshot");
+    }
+    buffer.get(magic);
+    if (!Arrays.equals(magic, MAGIC)) {
+      throw new IOException("Not a catalog snapshot");
+    }
+    final int formatVersion = readUnsigned();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IOException(
+          "Unsupported catalog snapshot format version <%d>".formatted(formatVersion));
+    }
+  }
+
+  private void readIndexes(final MutableTable table) throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final MutableIndex index = new MutableIndex(table, readString());
+      readAttributes(index);
+      index.setDefinition(readString());
+      index.setCardinality(readLong());
+      index.setIndexType(readEnum(IndexType.class, IndexType.unknown));
+      index.setUnique(readBoolean());
+      index.setPages(readLong());
+      index.setFilterCondition(readString());
+      final int columnsCount = readUnsigned();
+      for (int j = 0; j < columnsCount; j++) {
+        final MutableIndexColumn indexColumn =
+            new MutableIndexColumn(index, lookupOrCreateColumn(table, readString()));
+        indexColumn.setKeyOrdinalPosition(readInt());
+        indexColumn.setSortSequence(
+            readEnum(IndexColumnSortSequence.class, IndexColumnSortSequence.unknown));
+        index.addColumn(indexColumn);
+      }
+      table.addIndex(index);
+    }
+  }
+
+  private int readInt() {
+    final long value = readUnsignedLong();
+    return (int) (value >>> 1) ^ -(int) (value & 1);
+  }
+
+  private long readLong() {
+    final long value = readUnsignedLong();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  private <D extends DatabaseObject> void readPrivilege(final MutablePrivilege<D> privilege)
+      throws IOException {
+    readAttributes(privilege);
+    final int grantsCount = readUnsigned();
+    for (int i = 0; i < grantsCount; i++) {
+      privilege.addGrant(readString(), readString(), readBoolean());
+    }
+  }
+
+  private ProductVersion readProductVersion() {
+    return new BaseProductVersion(readString(), readString());
+  }
+
+  private DatabaseObject readReference() {
+    final int referenceType = readUnsigned();
+    return switch (referenceType) {
+      case REFERENCE_NULL -> null;
+      case REFERENCE_TABLE -> {
+        final int tableId = readUnsigned();
+        yield tables[tableId] != null ? tables[tableId] : partialTable(tableId);
+      }
+      case REFERENCE_ROUTINE -> {
+        final int routineId = readUnsigned();
+        yield routines[routineId] != null ? routines[routineId] : partialRoutine(routineId);
+      }
+      case REFERENCE_SEQUENCE -> sequences.get(readUnsigned());
+      case REFERENCE_SYNONYM -> synonyms.get(readUnsigned());
+      case REFERENCE_PARTIAL_TABLE -> new TablePartial(readSchemaReference(), readString());
+      case REFERENCE_UNKNOWN ->
+          new SynonymRetriever.UnknownDatabaseObject(readSchemaReference(), readString());
+      default ->
+          throw new IllegalArgumentException(
+              "Unknown database object reference type <%d>".formatted(referenceType));
+    };
+  }
+
+  private Collection<DatabaseObject> readReferences(final int count) {
+    final List<DatabaseObject> references = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      references.add(readReference());
+    }
+    return references;
+  }
+
+  private void readRoutineIndex() {
+    final int count = readUnsigned();
+    routineIndex = new RoutineIndexEntry[count];
+    for (int i = 0; i < count; i++) {
+      routineIndex[i] =
+          new RoutineIndexEntry(
+              readBoolean(), readSchemaReference(), readString(), readString(), readUnsigned());
+    }
+    routines = new MutableRoutine[count];
+  }
+
+  private void readRoutineParameter(final MutableRoutineParameter<?> parameter) throws IOException {
+    readAttributes(parameter);
+    readColumnAttributes(parameter);
+    parameter.setParameterMode(readEnum(ParameterModeType.class, ParameterModeType.unknown));
+  }
+
+  private void readRoutineRecords() throws IOException {
+    for (int routineId = 0; routineId < routines.length; routineId++) {
+      final MutableRoutine routine = routines[routineId];
+      if (routine == null) {
+        continue;
+      }
+      buffer.position(recordsStart + routineIndex[routineId].recordOffset());
+
+      readAttributes(routine);
+      routine.setRoutineBodyType(readEnum(RoutineBodyType.class, RoutineBodyType.unknown));
+      routine.setDefinition(readString());
+
+      if (routine instanceof final MutableFunction function) {
+        function.setReturnType(readEnum(FunctionReturnType.class, FunctionReturnType.unknown));
+        final int parametersCount = readUnsigned();
+        for (int j = 0; j < parametersCount; j++) {
+          final MutableFunctionParameter parameter =
+              new MutableFunctionParameter(function, readString());
+          readRoutineParameter(parameter);
+          function.addParameter(parameter);
+        }
+      } else if (routine instanceof final MutableProcedure procedure) {
+        procedure.setReturnType(readEnum(ProcedureReturnType.class, ProcedureReturnType.unknown));
+        final int parametersCount = readUnsigned();
+        for (int j = 0; j < parametersCount; j++) {
+          final MutableProcedureParameter parameter =
+              new MutableProcedureParameter(procedure, readString());
+          readRoutineParameter(parameter);
+          procedure.addParameter(parameter);
+        }
+      }
+
+      for (final DatabaseObject referencedObject : readReferences(readUnsigned())) {
+        routine.addReferencedObject(referencedObject);
+      }
+
+      catalog.addRoutine(routine);
+    }
+  }
+
+  private Schema readSchemaReference() {
+    final int schemaId = readUnsigned();
+    if (schemaId == 0) {
+      return new SchemaReference(readString(), readString());
+    }
+    return schemas.get(schemaId - 1);
+  }
+
+  private void readSchemas() throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final SchemaReference schema = new SchemaReference(readString(), readString());
+      readAttributes(schema);
+      catalog.addSchema(schema);
+      schemas.add(schema);
+    }
+  }
+
+  private void readSequences() throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final MutableSequence sequence = new MutableSequence(readSchemaReference(), readString());
+      readAttributes(sequence);
+      sequence.setCycle(readBoolean());
+      sequence.setIncrement(readLong());
+      sequence.setStartValue((BigInteger) readValue());
+      sequence.setMaximumValue((BigInteger) readValue());
+      sequence.setMinimumValue((BigInteger) readValue());
+      catalog.addSequence(sequence);
+      sequences.add(sequence);
+    }
+  }
+
+  private String readString() {
+    final int stringId = readUnsigned();
+    if (stringId == 0) {
+      return null;
+    }
+    if (strings[stringId] == null) {
+      // Strings are decoded when they are first used
+      final int start = buffer.getInt(stringOffsetsStart + (stringId - 1) * Integer.BYTES);
+      final int end = buffer.getInt(stringOffsetsStart + stringId * Integer.BYTES);
+      final byte[] bytes = new byte[end - start];
+      buffer.get(stringsStart + start, bytes);
+      strings[stringId] = new String(bytes, UTF_8);
+    }
+    return strings[stringId];
+  }
+
+  private void readStringTable() {
+    final int count = readUnsigned();
+    strings = new String[count + 1];
+    stringOffsetsStart = buffer.position();
+    stringsStart = stringOffsetsStart + (count + 1) * Integer.BYTES;
+    final int stringsLength = buffer.getInt(stringOffsetsStart + count * Integer.BYTES);
+    buffer.position(stringsStart + stringsLength);
+  }
+
+  private List<String> readStrings() {
+    final int count = readUnsigned();
+    final List<String> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      values.add(readString());
+    }
+    return values;
+  }
+
+  private void readSynonymReferences() {
+    buffer.position(recordsStart + synonymReferencesOffset);
+    for (final MutableSynonym synonym : synonyms) {
+      final DatabaseObject referencedObject = readReference();
+      if (referencedObject != null) {
+        synonym.setReferencedObject(referencedObject);
+      }
+    }
+  }
+
+  private void readSynonyms() throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final MutableSynonym synonym = new MutableSynonym(readSchemaReference(), readString());
+      readAttributes(synonym);
+      catalog.addSynonym(synonym);
+      synonyms.add(synonym);
+    }
+  }
+
+  private void readTableConstraintColumns(
+      final MutableTable table, final MutableTableConstraint tableConstraint) {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final MutableTableConstraintColumn column =
+          new MutableTableConstraintColumn(
+              tableConstraint, lookupOrCreateColumn(table, readString()));
+      column.setKeyOrdinalPosition(readInt());
+      tableConstraint.addColumn(column);
+    }
+  }
+
+  private void readTableConstraints(final MutableTable table) throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final int constraintType = readUnsigned();
+      switch (constraintType) {
+        case CONSTRAINT_PRIMARY_KEY -> table.addTableConstraint(table.getPrimaryKey());
+        case CONSTRAINT_FOREIGN_KEY ->
+            table.lookupForeignKey(readString()).ifPresent(table::addTableConstraint);
+        case CONSTRAINT_OTHER -> {
+          final MutableTableConstraint tableConstraint =
+              new MutableTableConstraint(table, readString());
+          readAttributes(tableConstraint);
+          tableConstraint.setTableConstraintType(
+              readEnum(TableConstraintType.class, TableConstraintType.unknown));
+          tableConstraint.setDefinition(readString());
+          tableConstraint.setDeferrable(readBoolean());
+          tableConstraint.setInitiallyDeferred(readBoolean());
+          readTableConstraintColumns(table, tableConstraint);
+          table.addTableConstraint(tableConstraint);
+        }
+        default ->
+            throw new IOException("Unknown table constraint type <%d>".formatted(constraintType));
+      }
+    }
+  }
+
+  private void readTableIndex() {
+    final int count = readUnsigned();
+    tableIndex = new TableIndexEntry[count];
+    for (int i = 0; i < count; i++) {
+      final boolean isView = readBoolean();
+      final Schema schema = readSchemaReference();
+      final String name = readString();
+      final String tableType = readString();
+      final int recordOffset = readUnsigned();
+      final int relationshipsOffset = readUnsigned();
+      final int[] parentTableIds = new int[readUnsigned()];
+      for (int j = 0; j < parentTableIds.length; j++) {
+        parentTableIds[j] = readUnsigned();
+      }
+      tableIndex[i] =
+          new TableIndexEntry(
+              isView, schema, name, tableType, recordOffset, relationshipsOffset, parentTableIds);
+    }
+    tables = new MutableTable[count];
+  }
+
+  private void readTableRecords() throws IOException {
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      final MutableTable table = tables[tableId];
+      if (table == null) {
+        continue;
+      }
+      buffer.position(recordsStart + tableIndex[tableId].recordOffset());
+
+      readAttributes(table);
+      table.setDefinition(readString());
+      if (readBoolean()) {
+        table.markAsSelfReferencing();
+      }
+      // Tables are written in sorted order, so keep that order
+      table.setSortIndex(tableId);
+
+      final int columnsCount = readUnsigned();
+      for (int j = 0; j < columnsCount; j++) {
+        table.addColumn(readColumn(table));
+      }
+      final int hiddenColumnsCount = readUnsigned();
+      for (int j = 0; j < hiddenColumnsCount; j++) {
+        table.addHiddenColumn(readColumn(table));
+      }
+
+      if (readBoolean()) {
+        final MutablePrimaryKey primaryKey = MutablePrimaryKey.newPrimaryKey(table, readString());
+        readAttributes(primaryKey);
+        primaryKey.setDefinition(readString());
+        readTableConstraintColumns(table, primaryKey);
+        table.setPrimaryKey(primaryKey);
+      }
+
+      readIndexes(table);
+      readTriggers(table);
+
+      final TablePointer tablePointer = new TablePointer(table);
+      final int privilegesCount = readUnsigned();
+      for (int j = 0; j < privilegesCount; j++) {
+        final MutablePrivilege<Table> privilege =
+            new MutablePrivilege<>(tablePointer, readString());
+        readPrivilege(privilege);
+        table.addPrivilege(privilege);
+      }
+
+      if (table instanceof final MutableView view) {
+        view.setCheckOption(readEnum(CheckOptionType.class, CheckOptionType.unknown));
+        view.setUpdatable(readBoolean());
+      }
+
+      catalog.addTable(table);
+    }
+  }
+
+  private void readTableRelationshipsRecords() throws IOException {
+    final int[][] childTableIds = childTableIds();
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      final MutableTable table = tables[tableId];
+      if (table == null) {
+        continue;
+      }
+      buffer.position(recordsStart + tableIndex[tableId].relationshipsOffset());
+
+      final int foreignKeysCount = readUnsigned();
+      for (int i = 0; i < foreignKeysCount; i++) {
+        addForeignKey(readForeignKey());
+      }
+
+      readTableConstraints(table);
+
+      if (table instanceof final MutableView view) {
+        final int count = readUnsigned();
+        for (int i = 0; i < count; i++) {
+          final MutableTable usedTable = tables[readUnsigned()];
+          if (usedTable != null) {
+            view.addTableUsage(usedTable);
+          }
+        }
+      }
+
+      table.addReferencingObjects(readReferences(readUnsigned()));
+    }
+
+    // Foreign keys of tables that were not read, which reference tables that were read, are
+    // exported foreign keys of the tables that were read
+    final BitSet childTables = new BitSet(tables.length);
+    for (int tableId = 0; tableId < tables.length; tableId++) {
+      if (tables[tableId] != null) {
+        for (final int childTableId : childTableIds[tableId]) {
+          if (tables[childTableId] == null) {
+            childTables.set(childTableId);
+          }
+        }
+      }
+    }
+    for (int tableId = childTables.nextSetBit(0);
+        tableId >= 0;
+        tableId = childTables.nextSetBit(tableId + 1)) {
+      buffer.position(recordsStart + tableIndex[tableId].relationshipsOffset());
+      final int foreignKeysCount = readUnsigned();
+      for (int i = 0; i < foreignKeysCount; i++) {
+        final MutableForeignKey foreignKey = readForeignKey();
+        if (foreignKey.getPrimaryKeyTable() instanceof MutableTable) {
+          addForeignKey(foreignKey);
+        }
+      }
+    }
+  }
+
+  private void readTriggers(final MutableTable table) throws IOException {
+    final int count = readUnsigned();
+    for (int i = 0; i < count; i++) {
+      final MutableTrigger trigger = new MutableTrigger(table, readString());
+      readAttributes(trigger);
+      trigger.appendActionCondition(readString());
+      trigger.appendActionStatement(readString());
+      trigger.setActionOrder(readInt());
+      trigger.setActionOrientation(
+          readEnum(ActionOrientationType.class, ActionOrientationType.unknown));
+      trigger.setConditionTiming(readEnum(ConditionTimingType.class, ConditionTimingType.unknown));
+      final int eventManipulationTypesCount = readUnsigned();
+      final Set<EventManipulationType> eventManipulationTypes =
+          EnumSet.noneOf(EventManipulationType.class);
+      for (int j = 0; j < eventManipulationTypesCount; j++) {
+        eventManipulationTypes.add(
+            readEnum(EventManipulationType.class, EventManipulationType.unknown));
+      }
+      trigger.setEventManipulationTypes(eventManipulationTypes);
+      table.addTrigger(trigger);
+    }
+  }
+
+  private int readUnsigned() {
+    final long value = readUnsignedLong();
+    if (value > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Value out of range <%d>".formatted(value));
+    }
+    return (int) value;
+  }
+
+  private long readUnsignedLong() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      final byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("Malformed variable length integer");
+  }
+
+  private Object readValue() throws IOException {
+    final int valueType = readUnsigned();
+    return switch (valueType) {
+      case VALUE_NULL -> null;
+      case VALUE_STRING -> readString();
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_INTEGER -> readInt();
+      case VALUE_LONG -> readLong();
+      case VALUE_SHORT -> (short) readInt();
+      case VALUE_BYTE -> (byte) readInt();
+      case VALUE_DOUBLE -> buffer.getDouble();
+      case VALUE_FLOAT -> buffer.getFloat();
+      case VALUE_BIG_DECIMAL -> new BigDecimal(readString());
+      case VALUE_BIG_INTEGER -> new BigInteger(readString());
+      case VALUE_SERIALIZED -> {
+        final byte[] bytes = new byte[readUnsigned()];
+        buffer.get(bytes);
+        yield SerializedCatalogUtility.readCatalogValue(new ByteArrayInputStream(bytes));
+      }
+      default -> throw new IOException("Unknown attribute value type <%d>".formatted(valueType));
+    };
+  }
+
+  private VersionNumber readVersionNumber() {
+    return new VersionNumber(readInt(), readInt());
+  }
+
+  /**
+   * Selects routines by routine type, schema and name, in the same way as the catalog reducer.
+   *
+   * @return Number of routines selected
+   */
+  private int selectRoutines() {
+    final LimitOptions limitOptions = options == null ? null : options.limitOptions();
+    int count = 0;
+    for (int routineId = 0; routineId < routineIndex.length; routineId++) {
+      final MutableRoutine routine = newRoutine(routineIndex[routineId]);
+      if (limitOptions == null || isIncluded(limitOptions, routine)) {
+        routines[routineId] = routine;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Selects tables by table type, schema and name, and adds in related tables, in the same way as
+   * the catalog reducer.
+   *
+   * @return Number of tables selected
+   */
+  private int selectTables() {
+    final BitSet selectedTables = new BitSet(tableIndex.length);
+    if (options == null) {
+      selectedTables.set(0, tableIndex.length);
+    } else {
+      final LimitOptions limitOptions = options.limitOptions();
+      final TableTypesFilter tableTypesFilter = new TableTypesFilter(limitOptions);
+      final InclusionRule schemaInclusionRule = limitOptions.get(ruleForSchemaInclusion);
+      final InclusionRule tableInclusionRule = limitOptions.get(ruleForTableInclusion);
+      for (int tableId = 0; tableId < tableIndex.length; tableId++) {
+        final MutableTable table = newTable(tableIndex[tableId]);
+        if (tableTypesFilter.test(table)
+            && schemaInclusionRule.test(table.getSchema().getFullName())
+            && tableInclusionRule.test(table.getFullName())) {
+          selectedTables.set(tableId);
+        }
+      }
+
+      final FilterOptions filterOptions = options.filterOptions();
+      final int[][] parentTableIds = new int[tableIndex.length][];
+      for (int tableId = 0; tableId < tableIndex.length; tableId++) {
+        parentTableIds[tableId] = tableIndex[tableId].parentTableIds();
+      }
+      final BitSet parentTables =
+          includeRelatedTables(
+              selectedTables, parentTableIds, filterOptions.parentTableFilterDepth());
+      final BitSet childTables =
+          includeRelatedTables(
+              selectedTables, childTableIds(), filterOptions.childTableFilterDepth());
+      selectedTables.or(parentTables);
+      selectedTables.or(childTables);
+    }
+
+    for (int tableId = selectedTables.nextSetBit(0);
+        tableId >= 0;
+        tableId = selectedTables.nextSetBit(tableId + 1)) {
+      tables[tableId] = newTable(tableIndex[tableId]);
+    }
+    return selectedTables.cardinality();
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAGIC;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.UtilityMarker;
+
+/**
+ * Reads and writes catalog snapshots. A catalog snapshot is a compact, versioned binary format for
+ * a catalog, that is faster to write and read than Java serialization. Names are interned in a
+ * string table at the start of the snapshot, and references between schema objects are written as
+ * integer ids.
+ */
+@UtilityMarker
+public final class CatalogSnapshotUtility {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSnapshotUtility.class.getName());
+
+  /**
+   * Checks if a file is a catalog snapshot, by looking for the snapshot header.
+   *
+   * @param path Path to check
+   * @return True if the file is a catalog snapshot
+   */
+  public static boolean isCatalogSnapshot(final Path path) {
+    if (path == null || !Files.isRegularFile(path)) {
+      return false;
+    }
+    try (final InputStream in = newInputStream(path)) {
+      return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+    } catch (final IOException e) {
+      LOGGER.log(Level.WARNING, e, () -> "Could not read <%s>".formatted(path));
+      return false;
+    }
+  }
+
+  public static Catalog readCatalogSnapshot(final InputStream in) {
+    requireNonNull(in, "No input stream provided");
+    try {
+      return new CatalogSnapshotReader(ByteBuffer.wrap(in.readAllBytes())).read();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not read catalog snapshot", e);
+    }
+  }
+
+  public static void saveCatalogSnapshot(final Catalog catalog, final OutputStream out) {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(out, "No output stream provided");
+    try {
+      new CatalogSnapshotWriter(catalog).write(out);
+      out.flush();
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Could not write catalog snapshot", e);
+    }
+  }
+
+  public static Catalog deserializeCatalogSnapshot(final Path catalogSnapshotPath)
+      throws IOException {
+    requireNonNull(catalogSnapshotPath, "No path provided");
+    final Catalog catalog =
+        new CatalogSnapshotReader(mapCatalogSnapshot(catalogSnapshotPath)).read();
+    LOGGER.log(Level.INFO, () -> "Read catalog snapshot from <%s>".formatted(catalogSnapshotPath));
+    return catalog;
+  }
+
+  /**
+   * Loads a catalog from a memory-mapped catalog snapshot, reading only the tables and routines
+   * that could be included by the SchemaCrawler options, and their related tables. Other tables and
+   * routines are not read from the snapshot. The catalog still needs to be reduced with the same
+   * options, since grep options are not applied.
+   *
+   * @param catalogSnapshotPath Path to the catalog snapshot
+   * @param schemaCrawlerOptions Options to select tables and routines
+   * @return Catalog
+   * @throws IOException On an exception reading the snapshot
+   */
+  public static Catalog loadCatalogSnapshot(
+      final Path catalogSnapshotPath, final SchemaCrawlerOptions schemaCrawlerOptions)
+      throws IOException {
+    requireNonNull(catalogSnapshotPath, "No path provided");
+    requireNonNull(schemaCrawlerOptions, "No SchemaCrawler options provided");
+    final Catalog catalog =
+        new CatalogSnapshotReader(mapCatalogSnapshot(catalogSnapshotPath), schemaCrawlerOptions)
+            .read();
+    LOGGER.log(
+        Level.INFO, () -> "Loaded catalog snapshot from <%s>".formatted(catalogSnapshotPath));
+    return catalog;
+  }
+
+  public static void serializeCatalogSnapshot(final Catalog catalog, final Path catalogSnapshotPath)
+      throws IOException {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(catalogSnapshotPath, "No path provided");
+    try (final OutputStream outputFileStream =
+        new BufferedOutputStream(
+            newOutputStream(catalogSnapshotPath, WRITE, CREATE, TRUNCATE_EXISTING))) {
+      new CatalogSnapshotWriter(catalog).write(outputFileStream);
+    }
+    LOGGER.log(Level.INFO, () -> "Wrote catalog snapshot to <%s>".formatted(catalogSnapshotPath));
+  }
+
+  private static ByteBuffer mapCatalogSnapshot(final Path catalogSnapshotPath) throws IOException {
+    try (final FileChannel channel = FileChannel.open(catalogSnapshotPath, READ)) {
+      final long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException(
+            "Catalog snapshot <%s> is too large to map".formatted(catalogSnapshotPath));
+      }
+      // The mapping stays valid after the channel is closed
+      return channel.map(MapMode.READ_ONLY, 0, size);
+    }
+  }
+
+  private CatalogSnapshotUtility() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,906 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_FOREIGN_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_OTHER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.CONSTRAINT_PRIMARY_KEY;
+import static schemacrawler.crawl.CatalogSnapshotFormat.FORMAT_VERSION;
+import static schemacrawler.crawl.CatalogSnapshotFormat.MAGIC;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_PARTIAL_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_ROUTINE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_SEQUENCE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_SYNONYM;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_TABLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.REFERENCE_UNKNOWN;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_DECIMAL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BIG_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_BYTE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_DOUBLE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FALSE;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_FLOAT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_INTEGER;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_LONG;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_NULL;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SERIALIZED;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_SHORT;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_STRING;
+import static schemacrawler.crawl.CatalogSnapshotFormat.VALUE_TRUE;
+import static schemacrawler.utility.MetaDataUtility.isPartial;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.BaseColumn;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseServerFingerprint;
+import schemacrawler.schema.DatabaseUser;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Procedure;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineParameter;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+import schemacrawler.utility.SerializedObjectInputStream;
+import us.fatehi.utility.property.ProductVersion;
+import us.fatehi.utility.property.Property;
+import us.fatehi.utility.property.VersionNumber;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Writes a catalog as a catalog snapshot. The records for tables and routines are buffered first,
+ * so that their offsets are known when the index is written, and the index and records are buffered
+ * while the string table is built. The string table is written ahead of the index, so that a reader
+ * can resolve names without a second pass.
+ */
+final class CatalogSnapshotWriter {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogSnapshotWriter.class.getName());
+
+  private static void writeUnsigned(final DataOutputStream out, final long value)
+      throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      out.writeByte((int) (remaining & 0x7F | 0x80));
+      remaining >>>= 7;
+    }
+    out.writeByte((int) remaining);
+  }
+
+  private final Catalog catalog;
+  private final Map<String, Integer> stringIds;
+  private final List<String> strings;
+  private final Map<Schema, Integer> schemaIds;
+  private final Map<ColumnDataType, Integer> columnDataTypeIds;
+  private final List<ColumnDataType> columnDataTypes;
+  private final int catalogColumnDataTypesCount;
+  private final List<Table> tables;
+  private final Map<Table, Integer> tableIds;
+  private final List<Routine> routines;
+  private final Map<Routine, Integer> routineIds;
+  private final Map<Sequence, Integer> sequenceIds;
+  private final List<Synonym> synonyms;
+  private final Map<Synonym, Integer> synonymIds;
+  private final int[] tableRecordOffsets;
+  private final int[] tableRelationshipsOffsets;
+  private final int[] routineRecordOffsets;
+  private int synonymReferencesOffset;
+  // Section of the snapshot that is currently being written
+  private DataOutputStream out;
+
+  CatalogSnapshotWriter(final Catalog catalog) {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+
+    stringIds = new HashMap<>();
+    strings = new ArrayList<>();
+    strings.add(null);
+
+    schemaIds = indexObjects(catalog.getSchemas());
+    tables = new ArrayList<>(catalog.getTables());
+    tableIds = indexObjects(tables);
+    routines = new ArrayList<>(catalog.getRoutines());
+    routineIds = indexObjects(routines);
+    sequenceIds = indexObjects(catalog.getSequences());
+    synonyms = new ArrayList<>(catalog.getSynonyms());
+    synonymIds = indexObjects(synonyms);
+
+    columnDataTypes = new ArrayList<>(catalog.getColumnDataTypes());
+    columnDataTypeIds = indexObjects(columnDataTypes);
+    catalogColumnDataTypesCount = columnDataTypes.size();
+    collectColumnDataTypes();
+
+    tableRecordOffsets = new int[tables.size()];
+    tableRelationshipsOffsets = new int[tables.size()];
+    routineRecordOffsets = new int[routines.size()];
+  }
+
+  /**
+   * Writes the catalog snapshot to the output stream. The output stream is not closed.
+   *
+   * @param outputStream Output stream to write to
+   * @throws IOException On an exception writing the snapshot
+   */
+  void write(final OutputStream outputStream) throws IOException {
+    requireNonNull(outputStream, "No output stream provided");
+
+    // Records are written first, so that their offsets are known for the table of contents
+    final ByteArrayOutputStream recordsBytes = new ByteArrayOutputStream(64 * 1024);
+    out = new DataOutputStream(recordsBytes);
+    writeTableRecords();
+    writeTableRelationshipsRecords();
+    writeRoutineRecords();
+    synonymReferencesOffset = out.size();
+    writeSynonymReferences();
+    out.flush();
+
+    final ByteArrayOutputStream indexBytes = new ByteArrayOutputStream(64 * 1024);
+    out = new DataOutputStream(indexBytes);
+    writeCatalog();
+    writeSchemas();
+    writeColumnDataTypes();
+    writeTableIndex();
+    writeRoutineIndex();
+    writeSequences();
+    writeSynonyms();
+    writeDatabaseUsers();
+    writeUnsigned(synonymReferencesOffset);
+    out.flush();
+
+    final DataOutputStream header = new DataOutputStream(outputStream);
+    header.write(MAGIC);
+    writeUnsigned(header, FORMAT_VERSION);
+    writeStringTable(header);
+    indexBytes.writeTo(header);
+    recordsBytes.writeTo(header);
+    header.flush();
+
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Wrote catalog snapshot with %d strings, %d tables, and %d routines",
+            strings.size() - 1, tableIds.size(), routineIds.size()));
+  }
+
+  private Integer catalogTableId(final Table table) {
+    if (isPartial(table)) {
+      return null;
+    }
+    return tableIds.get(table);
+  }
+
+  private void collectColumnDataType(final ColumnDataType columnDataType) {
+    if (columnDataType != null && !columnDataTypeIds.containsKey(columnDataType)) {
+      columnDataTypeIds.put(columnDataType, columnDataTypes.size());
+      columnDataTypes.add(columnDataType);
+    }
+  }
+
+  /**
+   * Adds column data types that are used by columns and parameters, but are not in the catalog,
+   * such as base types or types of columns in tables that were filtered out.
+   */
+  private void collectColumnDataTypes() {
+    for (final Table table : tables) {
+      for (final Column column : table.getColumns()) {
+        collectColumnDataType(column.getColumnDataType());
+      }
+      for (final Column column : table.getHiddenColumns()) {
+        collectColumnDataType(column.getColumnDataType());
+      }
+    }
+    for (final Routine routine : routines) {
+      for (final RoutineParameter<?> parameter : routine.getParameters()) {
+        collectColumnDataType(parameter.getColumnDataType());
+      }
+    }
+    // Base types may add more column data types to the list, while it is being iterated
+    for (int i = 0; i < columnDataTypes.size(); i++) {
+      collectColumnDataType(columnDataTypes.get(i).getBaseType());
+    }
+  }
+
+  private <N> Map<N, Integer> indexObjects(final Collection<? extends N> objects) {
+    final Map<N, Integer> ids = new HashMap<>();
+    for (final N object : objects) {
+      ids.putIfAbsent(object, ids.size());
+    }
+    return ids;
+  }
+
+  /**
+   * Foreign keys are shared by the referenced and dependent tables, so each foreign key is written
+   * once, with the dependent table, or with the referenced table if the dependent table is not in
+   * the catalog.
+   */
+  private List<ForeignKey> ownedForeignKeys(final int tableId) {
+    final List<ForeignKey> foreignKeys = new ArrayList<>();
+    for (final ForeignKey foreignKey : tables.get(tableId).getForeignKeys()) {
+      Integer ownerTableId = catalogTableId(foreignKey.getForeignKeyTable());
+      if (ownerTableId == null) {
+        ownerTableId = catalogTableId(foreignKey.getPrimaryKeyTable());
+      }
+      if (ownerTableId != null && ownerTableId == tableId) {
+        foreignKeys.add(foreignKey);
+      }
+    }
+    return foreignKeys;
+  }
+
+  private void writeAttributes(final AttributedObject attributedObject) throws IOException {
+    final Map<String, Object> attributes = new LinkedHashMap<>();
+    for (final Entry<String, Object> attribute : attributedObject.getAttributes().entrySet()) {
+      final Object value = attribute.getValue();
+      if (value == null || value instanceof Serializable) {
+        attributes.put(attribute.getKey(), value);
+      } else {
+        LOGGER.log(
+            Level.FINE,
+            new StringFormat(
+                "Not writing attribute <%s> of <%s>, since it is not serializable",
+                attribute.getKey(), attributedObject));
+      }
+    }
+
+    writeUnsigned(attributes.size());
+    for (final Entry<String, Object> attribute : attributes.entrySet()) {
+      writeString(attribute.getKey());
+      writeValue(attribute.getValue());
+    }
+  }
+
+  private void writeBoolean(final boolean value) throws IOException {
+    out.writeBoolean(value);
+  }
+
+  private void writeCatalog() throws IOException {
+    writeString(catalog.getName());
+    writeAttributes(catalog);
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    writeString(crawlInfo.getRunId());
+    final Instant crawlTimestamp = crawlInfo.getCrawlTimestampInstant();
+    writeLong(crawlTimestamp.getEpochSecond());
+    writeInt(crawlTimestamp.getNano());
+    writeString(crawlInfo.getTitle());
+    writeProductVersion(crawlInfo.getJvmVersion());
+    writeProductVersion(crawlInfo.getOperatingSystemVersion());
+    writeProductVersion(crawlInfo.getSchemaCrawlerVersion());
+    writeProductVersion(crawlInfo.getDatabaseVersion());
+    writeProductVersion(crawlInfo.getJdbcDriverVersion());
+    final DatabaseServerFingerprint fingerprint = crawlInfo.getDatabaseServerFingerprint();
+    writeString(fingerprint.fingerprint());
+    writeEnum(fingerprint.confidence());
+
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    writeProductVersion(databaseInfo);
+    writeString(databaseInfo.getUserName());
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    writeUnsigned(serverInfo.size());
+    for (final Property property : serverInfo) {
+      writeString(property.getName());
+      final Object value = property.getValue();
+      writeString(value == null ? null : String.valueOf(value));
+      writeString(property.getDescription());
+    }
+    final Collection<Property> databaseProperties = databaseInfo.getProperties();
+    writeUnsigned(databaseProperties.size());
+    for (final Property property : databaseProperties) {
+      writeString(property.getName());
+      writeValue(property.getValue());
+    }
+
+    final JdbcDriverInfo jdbcDriverInfo = catalog.getJdbcDriverInfo();
+    writeProductVersion(jdbcDriverInfo);
+    writeString(jdbcDriverInfo.getDriverClassName());
+    writeVersionNumber(jdbcDriverInfo.getDriverVersionNumber());
+    writeVersionNumber(jdbcDriverInfo.getJdbcVersionNumber());
+    writeBoolean(jdbcDriverInfo.isJdbcCompliant());
+    writeString(jdbcDriverInfo.getConnectionUrl());
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo.getDriverProperties();
+    writeUnsigned(driverProperties.size());
+    for (final JdbcDriverProperty property : driverProperties) {
+      writeString(property.getName());
+      writeString(property.getDescription());
+      writeString(property.getValue());
+      writeBoolean(property.isRequired());
+      writeStrings(property.getChoices());
+    }
+  }
+
+  private void writeColumn(final Column column) throws IOException {
+    writeString(column.getName());
+    writeAttributes(column);
+    writeColumnAttributes(column);
+    writeString(column.getDefaultValue());
+    writeBoolean(column.isAutoIncremented());
+    writeBoolean(column.isGenerated());
+    writeBoolean(column.isHidden());
+    writeBoolean(column.isPartOfIndex());
+    writeBoolean(column.isPartOfPrimaryKey());
+    writeBoolean(column.isPartOfUniqueIndex());
+    writeBoolean(column.isPartOfSelfReferencingRelationship());
+    writePrivileges(column.getPrivileges());
+  }
+
+  private void writeColumnAttributes(final BaseColumn<?> column) throws IOException {
+    writeColumnDataTypeReference(column.getColumnDataType());
+    writeInt(column.getDecimalDigits());
+    writeBoolean(column.isNullable());
+    writeInt(column.getOrdinalPosition());
+    writeInt(column.getSize());
+  }
+
+  private void writeColumnDataTypeReference(final ColumnDataType columnDataType)
+      throws IOException {
+    if (columnDataType == null) {
+      writeUnsigned(0);
+    } else {
+      writeUnsigned(columnDataTypeIds.get(columnDataType) + 1);
+    }
+  }
+
+  private void writeColumnDataTypes() throws IOException {
+    writeUnsigned(columnDataTypes.size());
+    writeUnsigned(catalogColumnDataTypesCount);
+    for (final ColumnDataType columnDataType : columnDataTypes) {
+      writeSchemaReference(columnDataType.getSchema());
+      writeString(columnDataType.getName());
+      writeEnum(columnDataType.getType());
+      writeAttributes(columnDataType);
+      writeBoolean(columnDataType.isAutoIncrementable());
+      writeBoolean(columnDataType.isCaseSensitive());
+      writeString(columnDataType.getCreateParameters());
+      writeStrings(columnDataType.getEnumValues());
+      writeBoolean(columnDataType.isFixedPrecisionScale());
+      writeInt(columnDataType.getJavaSqlType().getVendorTypeNumber());
+      writeString(columnDataType.getTypeMappedClassName());
+      writeString(columnDataType.getLiteralPrefix());
+      writeString(columnDataType.getLiteralSuffix());
+      writeString(columnDataType.getLocalTypeName());
+      writeInt(columnDataType.getMaximumScale());
+      writeInt(columnDataType.getMinimumScale());
+      writeBoolean(columnDataType.isNullable());
+      writeInt(columnDataType.getNumPrecisionRadix());
+      writeLong(columnDataType.getPrecision());
+      writeEnum(columnDataType.getSearchable());
+      writeBoolean(columnDataType.isUnsigned());
+      writeColumnDataTypeReference(columnDataType.getBaseType());
+    }
+  }
+
+  /**
+   * Writes a reference to a column. Columns in tables in the catalog are referenced by the table id
+   * and the column name, and other columns are written as partial columns.
+   */
+  private void writeColumnReference(final Column column) throws IOException {
+    final Table table = column.getParent();
+    final Integer tableId = catalogTableId(table);
+    if (tableId == null) {
+      writeUnsigned(0);
+      writeSchemaReference(table.getSchema());
+      writeString(table.getName());
+    } else {
+      writeUnsigned(tableId + 1);
+    }
+    writeString(column.getName());
+  }
+
+  private void writeDatabaseUsers() throws IOException {
+    final Collection<DatabaseUser> databaseUsers = catalog.getDatabaseUsers();
+    writeUnsigned(databaseUsers.size());
+    for (final DatabaseUser databaseUser : databaseUsers) {
+      writeString(databaseUser.getName());
+      writeAttributes(databaseUser);
+    }
+  }
+
+  private void writeEnum(final Enum<?> value) throws IOException {
+    writeString(value == null ? null : value.name());
+  }
+
+  private void writeForeignKey(final ForeignKey foreignKey) throws IOException {
+    writeString(foreignKey.getName());
+    final List<ColumnReference> columnReferences = foreignKey.getColumnReferences();
+    writeUnsigned(columnReferences.size());
+    for (final ColumnReference columnReference : columnReferences) {
+      writeInt(columnReference.getKeySequence());
+      writeColumnReference(columnReference.getForeignKeyColumn());
+      writeColumnReference(columnReference.getPrimaryKeyColumn());
+    }
+    writeAttributes(foreignKey);
+    writeEnum(foreignKey.getUpdateRule());
+    writeEnum(foreignKey.getDeleteRule());
+    writeEnum(foreignKey.getDeferrability());
+    writeString(foreignKey.getDefinition());
+  }
+
+  private void writeIndexes(final Table table) throws IOException {
+    final Collection<Index> indexes = table.getIndexes();
+    writeUnsigned(indexes.size());
+    for (final Index index : indexes) {
+      writeString(index.getName());
+      writeAttributes(index);
+      writeString(index.getDefinition());
+      writeLong(index.getCardinality());
+      writeEnum(index.getIndexType());
+      writeBoolean(index.isUnique());
+      writeLong(index.getPages());
+      writeString(index.getFilterCondition());
+      final List<IndexColumn> columns = index.getColumns();
+      writeUnsigned(columns.size());
+      for (final IndexColumn column : columns) {
+        writeString(column.getName());
+        writeInt(column.getIndexOrdinalPosition());
+        writeEnum(column.getSortSequence());
+      }
+    }
+  }
+
+  private void writeInt(final int value) throws IOException {
+    writeUnsigned(Integer.toUnsignedLong(value << 1 ^ value >> 31));
+  }
+
+  private void writeLong(final long value) throws IOException {
+    writeUnsigned(out, value << 1 ^ value >> 63);
+  }
+
+  private void writePrivileges(final Collection<? extends Privilege<?>> privileges)
+      throws IOException {
+    writeUnsigned(privileges.size());
+    for (final Privilege<?> privilege : privileges) {
+      writeString(privilege.getName());
+      writeAttributes(privilege);
+      final Collection<? extends Grant<?>> grants = privilege.getGrants();
+      writeUnsigned(grants.size());
+      for (final Grant<?> grant : grants) {
+        writeString(grant.getGrantor());
+        writeString(grant.getGrantee());
+        writeBoolean(grant.isGrantable());
+      }
+    }
+  }
+
+  private void writeProductVersion(final ProductVersion productVersion) throws IOException {
+    writeString(productVersion.getProductName());
+    writeString(productVersion.getProductVersion());
+  }
+
+  /**
+   * Writes a reference to a database object. Database objects in the catalog are referenced by
+   * their id, and other database objects are written by name.
+   */
+  private void writeReference(final DatabaseObject databaseObject) throws IOException {
+    if (databaseObject == null) {
+      writeUnsigned(REFERENCE_NULL);
+      return;
+    }
+
+    if (!isPartial(databaseObject)) {
+      if (databaseObject instanceof Table && tableIds.containsKey(databaseObject)) {
+        writeUnsigned(REFERENCE_TABLE);
+        writeUnsigned(tableIds.get(databaseObject));
+        return;
+      }
+      if (databaseObject instanceof Routine && routineIds.containsKey(databaseObject)) {
+        writeUnsigned(REFERENCE_ROUTINE);
+        writeUnsigned(routineIds.get(databaseObject));
+        return;
+      }
+      if (databaseObject instanceof Sequence && sequenceIds.containsKey(databaseObject)) {
+        writeUnsigned(REFERENCE_SEQUENCE);
+        writeUnsigned(sequenceIds.get(databaseObject));
+        return;
+      }
+      if (databaseObject instanceof Synonym && synonymIds.containsKey(databaseObject)) {
+        writeUnsigned(REFERENCE_SYNONYM);
+        writeUnsigned(synonymIds.get(databaseObject));
+        return;
+      }
+    }
+
+    if (databaseObject instanceof Table) {
+      writeUnsigned(REFERENCE_PARTIAL_TABLE);
+    } else {
+      writeUnsigned(REFERENCE_UNKNOWN);
+    }
+    writeSchemaReference(databaseObject.getSchema());
+    writeString(databaseObject.getName());
+  }
+
+  private void writeReferences(final Collection<? extends DatabaseObject> databaseObjects)
+      throws IOException {
+    final List<DatabaseObject> references = new ArrayList<>(databaseObjects);
+    references.removeIf(databaseObject -> databaseObject == null);
+    writeUnsigned(references.size());
+    for (final DatabaseObject databaseObject : references) {
+      writeReference(databaseObject);
+    }
+  }
+
+  private void writeRoutineIndex() throws IOException {
+    writeUnsigned(routines.size());
+    for (int i = 0; i < routines.size(); i++) {
+      final Routine routine = routines.get(i);
+      writeBoolean(routine instanceof Function);
+      writeSchemaReference(routine.getSchema());
+      writeString(routine.getName());
+      writeString(routine.getSpecificName());
+      writeUnsigned(routineRecordOffsets[i]);
+    }
+  }
+
+  private void writeRoutineRecords() throws IOException {
+    for (int i = 0; i < routines.size(); i++) {
+      routineRecordOffsets[i] = out.size();
+
+      final Routine routine = routines.get(i);
+      writeAttributes(routine);
+      writeEnum(routine.getRoutineBodyType());
+      writeString(routine.getDefinition());
+      if (routine instanceof final Function function) {
+        writeEnum(function.getReturnType());
+      } else if (routine instanceof final Procedure procedure) {
+        writeEnum(procedure.getReturnType());
+      } else {
+        writeEnum(null);
+      }
+
+      final List<? extends RoutineParameter<?>> parameters = routine.getParameters();
+      writeUnsigned(parameters.size());
+      for (final RoutineParameter<?> parameter : parameters) {
+        writeString(parameter.getName());
+        writeAttributes(parameter);
+        writeColumnAttributes(parameter);
+        writeEnum(parameter.getParameterMode());
+      }
+
+      writeReferences(routine.getReferencedObjects());
+    }
+  }
+
+  private void writeSchemaReference(final Schema schema) throws IOException {
+    final Integer schemaId = schemaIds.get(schema);
+    if (schemaId == null) {
+      writeUnsigned(0);
+      writeString(schema.getCatalogName());
+      writeString(schema.getName());
+    } else {
+      writeUnsigned(schemaId + 1);
+    }
+  }
+
+  private void writeSchemas() throws IOException {
+    final Collection<Schema> schemas = catalog.getSchemas();
+    writeUnsigned(schemas.size());
+    for (final Schema schema : schemas) {
+      writeString(schema.getCatalogName());
+      writeString(schema.getName());
+      writeAttributes(schema);
+    }
+  }
+
+  private void writeSequences() throws IOException {
+    final Collection<Sequence> sequences = catalog.getSequences();
+    writeUnsigned(sequences.size());
+    for (final Sequence sequence : sequences) {
+      writeSchemaReference(sequence.getSchema());
+      writeString(sequence.getName());
+      writeAttributes(sequence);
+      writeBoolean(sequence.isCycle());
+      writeLong(sequence.getIncrement());
+      writeValue(sequence.getStartValue());
+      writeValue(sequence.getMaximumValue());
+      writeValue(sequence.getMinimumValue());
+    }
+  }
+
+  private void writeString(final String string) throws IOException {
+    if (string == null) {
+      writeUnsigned(0);
+      return;
+    }
+    Integer stringId = stringIds.get(string);
+    if (stringId == null) {
+      stringId = strings.size();
+      strings.add(string);
+      stringIds.put(string, stringId);
+    }
+    writeUnsigned(stringId);
+  }
+
+  /**
+   * Writes the string table, with the offsets of all the strings ahead of the string bytes, so that
+   * strings can be decoded when they are needed.
+   */
+  private void writeStringTable(final DataOutputStream header) throws IOException {
+    final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream(64 * 1024);
+    final int[] stringOffsets = new int[strings.size()];
+    for (int i = 1; i < strings.size(); i++) {
+      stringOffsets[i - 1] = stringBytes.size();
+      stringBytes.write(strings.get(i).getBytes(UTF_8));
+    }
+    stringOffsets[strings.size() - 1] = stringBytes.size();
+
+    writeUnsigned(header, strings.size() - 1);
+    for (final int stringOffset : stringOffsets) {
+      header.writeInt(stringOffset);
+    }
+    stringBytes.writeTo(header);
+  }
+
+  private void writeStrings(final Collection<String> values) throws IOException {
+    writeUnsigned(values.size());
+    for (final String value : values) {
+      writeString(value);
+    }
+  }
+
+  private void writeSynonymReferences() throws IOException {
+    for (final Synonym synonym : synonyms) {
+      writeReference(synonym.getReferencedObject());
+    }
+  }
+
+  private void writeSynonyms() throws IOException {
+    writeUnsigned(synonyms.size());
+    for (final Synonym synonym : synonyms) {
+      writeSchemaReference(synonym.getSchema());
+      writeString(synonym.getName());
+      writeAttributes(synonym);
+    }
+  }
+
+  private void writeTableConstraintColumns(final TableConstraint tableConstraint)
+      throws IOException {
+    final List<TableConstraintColumn> columns = tableConstraint.getConstrainedColumns();
+    writeUnsigned(columns.size());
+    for (final TableConstraintColumn column : columns) {
+      writeString(column.getName());
+      writeInt(column.getTableConstraintOrdinalPosition());
+    }
+  }
+
+  private void writeTableConstraints(final Table table) throws IOException {
+    final Collection<TableConstraint> tableConstraints = table.getTableConstraints();
+    writeUnsigned(tableConstraints.size());
+    for (final TableConstraint tableConstraint : tableConstraints) {
+      if (tableConstraint instanceof ForeignKey) {
+        writeUnsigned(CONSTRAINT_FOREIGN_KEY);
+        writeString(tableConstraint.getName());
+      } else if (tableConstraint instanceof PrimaryKey
+          && tableConstraint == table.getPrimaryKey()) {
+        writeUnsigned(CONSTRAINT_PRIMARY_KEY);
+      } else {
+        writeUnsigned(CONSTRAINT_OTHER);
+        writeString(tableConstraint.getName());
+        writeAttributes(tableConstraint);
+        writeEnum(tableConstraint.getType());
+        writeString(tableConstraint.getDefinition());
+        writeBoolean(tableConstraint.isDeferrable());
+        writeBoolean(tableConstraint.isInitiallyDeferred());
+        writeTableConstraintColumns(tableConstraint);
+      }
+    }
+  }
+
+  /**
+   * Writes the table of contents for tables. Each entry has the ids of the parent tables of the
+   * table, so that a reader can find related tables without reading the records.
+   */
+  private void writeTableIndex() throws IOException {
+    writeUnsigned(tables.size());
+    for (int i = 0; i < tables.size(); i++) {
+      final Table table = tables.get(i);
+      writeBoolean(table instanceof View);
+      writeSchemaReference(table.getSchema());
+      writeString(table.getName());
+      writeString(table.getTableType().getTableType());
+      writeUnsigned(tableRecordOffsets[i]);
+      writeUnsigned(tableRelationshipsOffsets[i]);
+
+      final Set<Integer> parentTableIds = new LinkedHashSet<>();
+      for (final ForeignKey foreignKey : ownedForeignKeys(i)) {
+        final Integer parentTableId = catalogTableId(foreignKey.getPrimaryKeyTable());
+        if (parentTableId != null && catalogTableId(foreignKey.getForeignKeyTable()) != null) {
+          parentTableIds.add(parentTableId);
+        }
+      }
+      writeUnsigned(parentTableIds.size());
+      for (final int parentTableId : parentTableIds) {
+        writeUnsigned(parentTableId);
+      }
+    }
+  }
+
+  private void writeTableRecords() throws IOException {
+    for (int i = 0; i < tables.size(); i++) {
+      tableRecordOffsets[i] = out.size();
+
+      final Table table = tables.get(i);
+      writeAttributes(table);
+      writeString(table.getDefinition());
+      writeBoolean(table.isSelfReferencing());
+
+      final List<Column> columns = table.getColumns();
+      writeUnsigned(columns.size());
+      for (final Column column : columns) {
+        writeColumn(column);
+      }
+      final Collection<Column> hiddenColumns = table.getHiddenColumns();
+      writeUnsigned(hiddenColumns.size());
+      for (final Column column : hiddenColumns) {
+        writeColumn(column);
+      }
+
+      final PrimaryKey primaryKey = table.getPrimaryKey();
+      writeBoolean(primaryKey != null);
+      if (primaryKey != null) {
+        writeString(primaryKey.getName());
+        writeAttributes(primaryKey);
+        writeString(primaryKey.getDefinition());
+        writeTableConstraintColumns(primaryKey);
+      }
+
+      writeIndexes(table);
+      writeTriggers(table);
+      writePrivileges(table.getPrivileges());
+
+      if (table instanceof final View view) {
+        writeEnum(view.getCheckOption());
+        writeBoolean(view.isUpdatable());
+      }
+    }
+  }
+
+  /**
+   * Writes the foreign keys, table constraints and references of tables. Foreign keys are written
+   * first, so that a reader can read only the foreign keys of a table.
+   */
+  private void writeTableRelationshipsRecords() throws IOException {
+    for (int i = 0; i < tables.size(); i++) {
+      tableRelationshipsOffsets[i] = out.size();
+
+      final Table table = tables.get(i);
+      final List<ForeignKey> foreignKeys = ownedForeignKeys(i);
+      writeUnsigned(foreignKeys.size());
+      for (final ForeignKey foreignKey : foreignKeys) {
+        writeForeignKey(foreignKey);
+      }
+
+      writeTableConstraints(table);
+
+      if (table instanceof final View view) {
+        final List<Integer> usedTableIds = new ArrayList<>();
+        for (final Table usedTable : view.getTableUsage()) {
+          final Integer tableId = tableIds.get(usedTable);
+          if (tableId != null) {
+            usedTableIds.add(tableId);
+          }
+        }
+        writeUnsigned(usedTableIds.size());
+        for (final int tableId : usedTableIds) {
+          writeUnsigned(tableId);
+        }
+      }
+
+      writeReferences(table.getUsedByObjects());
+    }
+  }
+
+  private void writeTriggers(final Table table) throws IOException {
+    final Collection<Trigger> triggers = table.getTriggers();
+    writeUnsigned(triggers.size());
+    for (final Trigger trigger : triggers) {
+      writeString(trigger.getName());
+      writeAttributes(trigger);
+      writeString(trigger.getActionCondition());
+      writeString(trigger.getActionStatement());
+      writeInt(trigger.getActionOrder());
+      writeEnum(trigger.getActionOrientation());
+      writeEnum(trigger.getConditionTiming());
+      final Set<EventManipulationType> eventManipulationTypes = trigger.getEventManipulationTypes();
+      writeUnsigned(eventManipulationTypes.size());
+      for (final EventManipulationType eventManipulationType : eventManipulationTypes) {
+        writeEnum(eventManipulationType);
+      }
+    }
+  }
+
+  private void writeUnsigned(final long value) throws IOException {
+    writeUnsigned(out, value);
+  }
+
+  private void writeValue(final Object value) throws IOException {
+    if (value == null) {
+      writeUnsigned(VALUE_NULL);
+    } else if (value instanceof final String string) {
+      writeUnsigned(VALUE_STRING);
+      writeString(string);
+    } else if (value instanceof final Boolean booleanValue) {
+      writeUnsigned(booleanValue ? VALUE_TRUE : VALUE_FALSE);
+    } else if (value instanceof final Integer intValue) {
+      writeUnsigned(VALUE_INTEGER);
+      writeInt(intValue);
+    } else if (value instanceof final Long longValue) {
+      writeUnsigned(VALUE_LONG);
+      writeLong(longValue);
+    } else if (value instanceof final Short shortValue) {
+      writeUnsigned(VALUE_SHORT);
+      writeInt(shortValue);
+    } else if (value instanceof final Byte byteValue) {
+      writeUnsigned(VALUE_BYTE);
+      writeInt(byteValue);
+    } else if (value instanceof final Double doubleValue) {
+      writeUnsigned(VALUE_DOUBLE);
+      out.writeDouble(doubleValue);
+    } else if (value instanceof final Float floatValue) {
+      writeUnsigned(VALUE_FLOAT);
+      out.writeFloat(floatValue);
+    } else if (value instanceof final BigDecimal bigDecimal) {
+      writeUnsigned(VALUE_BIG_DECIMAL);
+      writeString(bigDecimal.toString());
+    } else if (value instanceof final BigInteger bigInteger) {
+      writeUnsigned(VALUE_BIG_INTEGER);
+      writeString(bigInteger.toString());
+    } else {
+      // Values of other types, such as arrays or dates, are written using Java serialization
+      final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+      SerializedObjectInputStream.save((Serializable) value, serialized);
+      writeUnsigned(VALUE_SERIALIZED);
+      writeUnsigned(serialized.size());
+      serialized.writeTo(out);
+    }
+  }
+
+  private void writeVersionNumber(final VersionNumber versionNumber) throws IOException {
+    writeInt(versionNumber.major());
+    writeInt(versionNumber.minor());
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+
+/**
+ * Receives schema objects from a streaming crawl, as they are retrieved. Each schema is visited
+ * before its tables, and each table is visited before its columns, primary key, imported foreign
+ * keys and indexes. All methods are called on the thread that started the crawl, one at a time.
+ * Visited objects should not be held on to after they are processed, so that they can be garbage
+ * collected.
+ */
+public interface CatalogVisitor {
+
+  /** Called once, when all objects have been visited. */
+  default void end() {}
+
+  /**
+   * Called once, before any objects are visited.
+   *
+   * @param crawlInfo Information about the crawl
+   */
+  default void start(final CrawlInfo crawlInfo) {}
+
+  default void visitColumn(final Column column) {}
+
+  default void visitForeignKey(final ForeignKey foreignKey) {}
+
+  default void visitIndex(final Index index) {}
+
+  default void visitPrimaryKey(final PrimaryKey primaryKey) {}
+
+  default void visitSchema(final Schema schema) {}
+
+  default void visitTable(final Table table) {}
+}
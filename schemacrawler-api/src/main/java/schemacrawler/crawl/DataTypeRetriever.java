@@ -119,23 +119,25 @@ final class DataTypeRetriever extends AbstractRetriever {
   }
 
   private void createSystemColumnDataType(final MetadataResultSet results) {
-    final String typeName = results.getString("TYPE_NAME");
+    final NamePool namePool = getRetrieverConnection().getNamePool();
+
+    final String typeName = namePool.intern(results.getString("TYPE_NAME"));
     final int dataType = results.getInt("DATA_TYPE", 0);
     LOGGER.log(
         Level.FINER,
         new StringFormat("Retrieving data type <%s> with type id %d", typeName, dataType));
 
     final long precision = results.getLong("PRECISION", 0L);
-    final String literalPrefix = results.getString("LITERAL_PREFIX");
-    final String literalSuffix = results.getString("LITERAL_SUFFIX");
-    final String createParameters = results.getString("CREATE_PARAMS");
+    final String literalPrefix = namePool.intern(results.getString("LITERAL_PREFIX"));
+    final String literalSuffix = namePool.intern(results.getString("LITERAL_SUFFIX"));
+    final String createParameters = namePool.intern(results.getString("CREATE_PARAMS"));
     final boolean isNullable = results.getInt("NULLABLE", typeNullableUnknown) == typeNullable;
     final boolean isCaseSensitive = results.getBoolean("CASE_SENSITIVE");
     final SearchableType searchable = results.getEnumFromId("SEARCHABLE", SearchableType.unknown);
     final boolean isUnsigned = results.getBoolean("UNSIGNED_ATTRIBUTE");
     final boolean isFixedPrecisionScale = results.getBoolean("FIXED_PREC_SCALE");
     final boolean isAutoIncremented = results.getBoolean("AUTO_INCREMENT");
-    final String localTypeName = results.getString("LOCAL_TYPE_NAME");
+    final String localTypeName = namePool.intern(results.getString("LOCAL_TYPE_NAME"));
     final int minimumScale = results.getInt("MINIMUM_SCALE", 0);
     final int maximumScale = results.getInt("MAXIMUM_SCALE", 0);
     final int numPrecisionRadix = results.getInt("NUM_PREC_RADIX", 0);
@@ -160,7 +162,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     columnDataType.setMaximumScale(maximumScale);
     columnDataType.setNumPrecisionRadix(numPrecisionRadix);
 
-    columnDataType.addAttributes(results.getAttributes());
+    columnDataType.addAttributes(namePool.internValues(results.getAttributes()));
 
     // NOTE: Column data type was already added to the catalog during lookup and create
 
@@ -170,12 +172,14 @@ final class DataTypeRetriever extends AbstractRetriever {
 
   private void createUserDefinedColumnDataType(
       final MetadataResultSet results, final Schema schema) {
+    final NamePool namePool = getRetrieverConnection().getNamePool();
+
     // "TYPE_CAT", "TYPE_SCHEM"
-    final String typeName = results.getString("TYPE_NAME");
+    final String typeName = namePool.intern(results.getString("TYPE_NAME"));
     LOGGER.log(Level.FINE, new StringFormat("Retrieving data type <%s.%s>", schema, typeName));
     final int dataType = results.getInt("DATA_TYPE", 0);
-    final String className = results.getString("CLASS_NAME");
-    final String remarks = results.getString("REMARKS");
+    final String className = namePool.intern(results.getString("CLASS_NAME"));
+    final String remarks = namePool.intern(results.getString("REMARKS"));
     final short baseTypeValue = results.getShort("BASE_TYPE", (short) 0);
 
     final ColumnDataType baseType;
@@ -193,7 +197,7 @@ final class DataTypeRetriever extends AbstractRetriever {
     columnDataType.setBaseType(baseType);
     columnDataType.setRemarks(remarks);
 
-    columnDataType.addAttributes(results.getAttributes());
+    columnDataType.addAttributes(namePool.internValues(results.getAttributes()));
 
     // NOTE: Column data type was already added to the catalog during lookup and create
   }
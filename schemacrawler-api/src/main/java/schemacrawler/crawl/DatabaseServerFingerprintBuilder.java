@@ -19,9 +19,18 @@ import us.fatehi.utility.datasource.JdbcUrl;
 import us.fatehi.utility.datasource.JdbcUrlParser;
 import us.fatehi.utility.property.ProductVersion;
 
-final class DatabaseServerFingerprintBuilder {
+/** Builds a stable identity for a database server, from server metadata and the connection URL. */
+public final class DatabaseServerFingerprintBuilder {
 
-  static DatabaseServerFingerprint build(
+  /**
+   * Builds a fingerprint for a database server. The same server gives the same fingerprint across
+   * runs, so it can be used to identify previously crawled catalogs.
+   *
+   * @param databaseInformation Database product name and version
+   * @param connectionUrl JDBC connection URL
+   * @return Database server fingerprint
+   */
+  public static DatabaseServerFingerprint build(
       final ProductVersion databaseInformation, final String connectionUrl) {
     requireNonNull(databaseInformation, "No database information provided");
     requireNonNull(connectionUrl, "No JDBC connection URL provided");
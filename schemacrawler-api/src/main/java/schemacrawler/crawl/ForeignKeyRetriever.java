@@ -9,19 +9,22 @@
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static schemacrawler.utility.MetaDataUtility.isPartial;
 import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Column;
@@ -29,13 +32,12 @@ import schemacrawler.schema.ColumnReference;
 import schemacrawler.schema.ForeignKeyDeferrability;
 import schemacrawler.schema.ForeignKeyUpdateRule;
 import schemacrawler.schema.NamedObjectKey;
-import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
-import us.fatehi.utility.UtilityLogger;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database forign keys. */
@@ -51,6 +53,19 @@ final class ForeignKeyRetriever extends AbstractRetriever {
   }
 
   void retrieveForeignKeys(final NamedObjectList<MutableTable> allTables) throws SQLException {
+    retrieveForeignKeys(allTables, true);
+  }
+
+  /**
+   * Retrieves foreign keys for tables.
+   *
+   * @param allTables Tables to retrieve foreign keys for
+   * @param isCrawlSet Whether the tables are all the tables in the crawl, rather than some of them,
+   *     such as the tables that changed in an incremental crawl
+   * @throws SQLException On an exception retrieving foreign keys
+   */
+  void retrieveForeignKeys(final NamedObjectList<MutableTable> allTables, final boolean isCrawlSet)
+      throws SQLException {
     requireNonNull(allTables, "No tables provided");
 
     switch (getRetrieverConnection().get(foreignKeysRetrievalStrategy)) {
@@ -68,7 +83,7 @@ final class ForeignKeyRetriever extends AbstractRetriever {
 
       case metadata:
         LOGGER.log(Level.INFO, "Retrieving foreign keys");
-        retrieveForeignKeysFromMetadata(allTables);
+        retrieveForeignKeysFromMetadata(allTables, isCrawlSet);
         break;
 
       default:
@@ -187,6 +202,19 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     return associatePrimaryKeyTable(foreignKey, pkColumn, pkTable, isPkColumnPartial);
   }
 
+  /**
+   * Checks whether the tables are all the tables in all schemas, so that every foreign key is an
+   * imported key of one of the tables.
+   */
+  private boolean isCrawlingAllTables(final boolean isCrawlSet) {
+    final LimitOptions limitOptions = getOptions().limitOptions();
+    return isCrawlSet
+        && limitOptions.isIncludeAll(ruleForSchemaInclusion)
+        && limitOptions.isIncludeAll(ruleForTableInclusion)
+        && limitOptions.tableTypes().isIncludeAll()
+        && limitOptions.tableNamePattern() == null;
+  }
+
   /**
    * Looks up a column in the database. If the column and table are not found, they are created, and
    * added to the schema. This is prevent foreign key relationships from having a null pointer.
@@ -255,62 +283,67 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     retrievalCounts.log();
   }
 
-  private void retrieveForeignKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
-      throws SQLException {
-    try (final Connection connection =
-        getRetrieverConnection().getConnection("foreign keys from metadata"); ) {
-      final DatabaseMetaData metaData = connection.getMetaData();
-      final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new ConcurrentHashMap<>();
-      final RetrievalCounts retrievalCounts = new RetrievalCounts("foreign keys");
-      for (final MutableTable table : allTables) {
-        if (table.getTableType().isView()) {
-          continue;
-        }
-
-        // Get imported foreign keys
-        try (final MetadataResultSet results =
-            new MetadataResultSet(
-                metaData.getImportedKeys(
-                    table.getSchema().getCatalogName(),
-                    table.getSchema().getName(),
-                    table.getName()),
-                "DatabaseMetaData::getImportedKeys")) {
-          while (results.next()) {
-            retrievalCounts.count();
-            final boolean added = createForeignKey(results, foreignKeys);
-            retrievalCounts.countIfIncluded(added);
-          }
-        } catch (final SQLException e) {
-          new UtilityLogger(LOGGER)
-              .logPossiblyUnsupportedSQLFeature(
-                  new StringFormat("Could not retrieve foreign keys for table <%s>", table), e);
-        }
-
-        // We need to get exported keys as well, since if only a single
-        // table is selected, we have not retrieved it's keys that are
-        // imported by other tables.
-        try (final MetadataResultSet results =
+  /**
+   * Retrieves foreign keys from metadata, one table at a time. Tables are split into batches, one
+   * for each thread, and each batch is retrieved on its own connection. Imported keys are retrieved
+   * for all tables first. Exported keys are only needed for foreign keys from tables that are not
+   * retrieved, so they are not retrieved at all if the tables are all the tables in all schemas.
+   * Otherwise, exported keys from tables whose imported keys were already retrieved are skipped.
+   */
+  private void retrieveForeignKeysFromMetadata(
+      final NamedObjectList<MutableTable> allTables, final boolean isCrawlSet) {
+    final List<MutableTable> tables = new ArrayList<>();
+    for (final MutableTable table : allTables) {
+      if (!table.getTableType().isView()) {
+        tables.add(table);
+      }
+    }
+
+    final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
+    final Set<NamedObjectKey> importedKeysTables =
+        retrieveOverTables(
+            "imported foreign keys from metadata",
+            tables,
+            (metaData, table) ->
+                new MetadataResultSet(
+                    metaData.getImportedKeys(
+                        table.getSchema().getCatalogName(),
+                        table.getSchema().getName(),
+                        table.getName()),
+                    "DatabaseMetaData::getImportedKeys"),
+            (table, results) -> createForeignKey(results, foreignKeys));
+
+    // We need to get exported keys as well, since if only a single
+    // table is selected, we have not retrieved it's keys that are
+    // imported by other tables.
+    if (isCrawlingAllTables(isCrawlSet)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not retrieving exported foreign keys, since all tables have imported keys retrieved");
+      return;
+    }
+    retrieveOverTables(
+        "exported foreign keys from metadata",
+        tables,
+        (metaData, table) ->
             new MetadataResultSet(
                 metaData.getExportedKeys(
                     table.getSchema().getCatalogName(),
                     table.getSchema().getName(),
                     table.getName()),
-                "DatabaseMetaData::getExportedKeys")) {
-          while (results.next()) {
-            retrievalCounts.count();
-            final boolean added = createForeignKey(results, foreignKeys);
-            retrievalCounts.countIfIncluded(added);
+                "DatabaseMetaData::getExportedKeys"),
+        (table, results) -> {
+          final NamedObjectKey fkTableKey =
+              new NamedObjectKey(
+                  normalizeCatalogName(results.getString("FKTABLE_CAT")),
+                  normalizeSchemaName(results.getString("FKTABLE_SCHEM")),
+                  results.getString("FKTABLE_NAME"));
+          if (importedKeysTables.contains(fkTableKey)) {
+            // Already retrieved as an imported key of the dependent table
+            return false;
           }
-        } catch (final SQLException e) {
-          new UtilityLogger(LOGGER)
-              .logPossiblyUnsupportedSQLFeature(
-                  new StringFormat(
-                      "Could not retrieve exported foreign keys for table <%s>", table),
-                  e);
-        }
-      }
-      retrievalCounts.log();
-    }
+          return createForeignKey(results, foreignKeys);
+        });
   }
 
   private void retrieveForeignKeysOverSchemas() throws WrappedSQLException {
@@ -324,30 +357,10 @@ final class ForeignKeyRetriever extends AbstractRetriever {
     final Query fkSql = informationSchemaViews.getQuery(FOREIGN_KEYS);
 
     final Map<NamedObjectKey, MutableForeignKey> foreignKeys = new HashMap<>();
-    final String name = "foreign keys";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(fkSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createForeignKey(results, foreignKeys);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final SQLException e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve foreign keys for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "foreign keys",
+        schemasWithTables(),
+        fkSql,
+        results -> createForeignKey(results, foreignKeys));
   }
 }
@@ -19,7 +19,6 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,7 +28,6 @@ import schemacrawler.schema.FunctionParameter;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ParameterModeType;
 import schemacrawler.schema.RoutineType;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -250,8 +248,6 @@ final class FunctionParameterRetriever extends AbstractRetriever {
       final InclusionRuleFilter<FunctionParameter> parameterFilter)
       throws SQLException {
 
-    final Collection<Schema> schemas = catalog.getSchemas();
-
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
     if (!informationSchemaViews.hasQuery(FUNCTION_COLUMNS)) {
@@ -259,30 +255,10 @@ final class FunctionParameterRetriever extends AbstractRetriever {
     }
     final Query functionColumnsSql = informationSchemaViews.getQuery(FUNCTION_COLUMNS);
 
-    final String name = "function parameters from data dictionary over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      if (catalog.getRoutines(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(functionColumnsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createFunctionParameter(results, allRoutines, parameterFilter);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve function parameters for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "function parameters from data dictionary over schemas",
+        schemasWithRoutines(),
+        functionColumnsSql,
+        results -> createFunctionParameter(results, allRoutines, parameterFilter));
   }
 }
@@ -26,10 +26,13 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.DatabaseServerFingerprint;
 import schemacrawler.schema.FingerprintConfidence;
+import schemacrawler.schema.RetrievalStrategyDecision;
 import schemacrawler.schemacrawler.Version;
 import us.fatehi.utility.property.BaseProductVersion;
 import us.fatehi.utility.property.JvmSystemInfo;
@@ -65,6 +68,7 @@ final class ImmutableCrawlInfo implements CrawlInfo {
   private final ProductVersion databaseVersion;
   private final ProductVersion jdbcDriverVersion;
   private final DatabaseServerFingerprint databaseServerFingerprint;
+  private final List<RetrievalStrategyDecision> retrievalStrategyDecisions;
 
   ImmutableCrawlInfo(
       final String title, final ProductVersion databaseInfo, final ProductVersion jdbcDriverInfo) {
@@ -90,6 +94,48 @@ final class ImmutableCrawlInfo implements CrawlInfo {
 
     crawlTimestamp = Instant.now();
     runId = UUID.randomUUID();
+    retrievalStrategyDecisions = List.of();
+  }
+
+  ImmutableCrawlInfo(
+      final UUID runId,
+      final Instant crawlTimestamp,
+      final String title,
+      final ProductVersion jvmVersion,
+      final ProductVersion operatingSystemVersion,
+      final ProductVersion schemaCrawlerVersion,
+      final ProductVersion databaseVersion,
+      final ProductVersion jdbcDriverVersion,
+      final DatabaseServerFingerprint databaseServerFingerprint) {
+    this.runId = requireNonNull(runId, "No run id provided");
+    this.crawlTimestamp = requireNonNull(crawlTimestamp, "No crawl timestamp provided");
+    this.title = trimToEmpty(title);
+    this.jvmVersion = requireNonNull(jvmVersion, "No JVM version provided");
+    this.operatingSystemVersion =
+        requireNonNull(operatingSystemVersion, "No operating system version provided");
+    this.schemaCrawlerVersion =
+        requireNonNull(schemaCrawlerVersion, "No SchemaCrawler version provided");
+    this.databaseVersion = requireNonNull(databaseVersion, "No database version provided");
+    this.jdbcDriverVersion = requireNonNull(jdbcDriverVersion, "No JDBC driver version provided");
+    this.databaseServerFingerprint = databaseServerFingerprint;
+    retrievalStrategyDecisions = List.of();
+  }
+
+  private ImmutableCrawlInfo(
+      final ImmutableCrawlInfo crawlInfo,
+      final Collection<RetrievalStrategyDecision> retrievalStrategyDecisions) {
+    runId = crawlInfo.runId;
+    crawlTimestamp = crawlInfo.crawlTimestamp;
+    title = crawlInfo.title;
+    jvmVersion = crawlInfo.jvmVersion;
+    operatingSystemVersion = crawlInfo.operatingSystemVersion;
+    schemaCrawlerVersion = crawlInfo.schemaCrawlerVersion;
+    databaseVersion = crawlInfo.databaseVersion;
+    jdbcDriverVersion = crawlInfo.jdbcDriverVersion;
+    databaseServerFingerprint = crawlInfo.databaseServerFingerprint;
+    this.retrievalStrategyDecisions =
+        List.copyOf(
+            requireNonNull(retrievalStrategyDecisions, "No retrieval strategy decisions provided"));
   }
 
   @Override
@@ -135,6 +181,12 @@ final class ImmutableCrawlInfo implements CrawlInfo {
     return operatingSystemVersion;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Collection<RetrievalStrategyDecision> getRetrievalStrategyDecisions() {
+    return retrievalStrategyDecisions;
+  }
+
   /** {@inheritDoc} */
   @Override
   public String getRunId() {
@@ -168,6 +220,18 @@ final class ImmutableCrawlInfo implements CrawlInfo {
     return info.toString();
   }
 
+  /**
+   * Copies the crawl information, with the same run id, with the retrieval strategies that were
+   * chosen for adaptive retrievals.
+   *
+   * @param retrievalStrategyDecisions Retrieval strategy decisions
+   * @return Crawl information with retrieval strategy decisions
+   */
+  ImmutableCrawlInfo withRetrievalStrategyDecisions(
+      final Collection<RetrievalStrategyDecision> retrievalStrategyDecisions) {
+    return new ImmutableCrawlInfo(this, retrievalStrategyDecisions);
+  }
+
   private ZonedDateTime getCrawlTimestampUTC() {
     return ZonedDateTime.ofInstant(crawlTimestamp, UTC);
   }
@@ -0,0 +1,222 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static schemacrawler.schemacrawler.InformationSchemaKey.CHANGED_TABLES;
+import static schemacrawler.utility.MetaDataUtility.isPartial;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseServerFingerprint;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.NamedObjectKey;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.FilterOptions;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Supports incremental crawls. Finds the tables that changed since a previous crawl, so that only
+ * those tables are retrieved again, and reuses the remaining tables from the previous catalog.
+ */
+final class IncrementalTableRetriever extends AbstractRetriever {
+
+  private static final Logger LOGGER = Logger.getLogger(IncrementalTableRetriever.class.getName());
+
+  private final Set<NamedObjectKey> changedTables;
+  private final NamedObjectList<MutableTable> unchangedTables;
+  private final NamedObjectList<MutableTable> retrievedTables;
+  private final boolean isTableFilterRequested;
+  private MutableCatalog previousCatalog;
+
+  IncrementalTableRetriever(
+      final RetrieverConnection retrieverConnection,
+      final MutableCatalog catalog,
+      final SchemaCrawlerOptions options)
+      throws SQLException {
+    super(retrieverConnection, catalog, options);
+    changedTables = new HashSet<>();
+    unchangedTables = new NamedObjectList<>();
+    retrievedTables = new NamedObjectList<>();
+
+    // Grep and parent-child filters select tables based on other tables, so
+    // they can only be applied to a full crawl
+    final GrepOptions grepOptions = options.grepOptions();
+    final FilterOptions filterOptions = options.filterOptions();
+    isTableFilterRequested =
+        grepOptions.isGrepTables()
+            || grepOptions.isGrepColumns()
+            || grepOptions.isGrepDefinitions()
+            || filterOptions.childTableFilterDepth() > 0
+            || filterOptions.parentTableFilterDepth() > 0;
+  }
+
+  /**
+   * Adds the unchanged tables from the previous catalog, after removing their references to tables
+   * that were retrieved again, or that no longer exist. Foreign keys and view table usage between
+   * unchanged tables and retrieved tables need to be retrieved again after this.
+   */
+  void addUnchangedTables() {
+    for (final MutableTable table : unchangedTables) {
+      // Referencing objects are collected again at the end of the crawl
+      table.clearReferencingObjects();
+
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        if (isUnchanged(foreignKey.getPrimaryKeyTable())
+            && isUnchanged(foreignKey.getForeignKeyTable())) {
+          continue;
+        }
+        table.removeForeignKey((MutableForeignKey) foreignKey);
+        table.removeTableConstraint(foreignKey);
+        if (table.equals(foreignKey.getForeignKeyTable())) {
+          for (final ColumnReference columnReference : foreignKey.getColumnReferences()) {
+            final Column fkColumn = columnReference.getForeignKeyColumn();
+            if (fkColumn instanceof final MutableColumn mutableFkColumn) {
+              mutableFkColumn.setReferencedColumn(null);
+            }
+          }
+        }
+      }
+
+      if (table instanceof final MutableView view) {
+        for (final Table usedTable : view.getTableUsage()) {
+          if (!isUnchanged(usedTable)) {
+            view.removeTableUsage((MutableTable) usedTable);
+          }
+        }
+      }
+
+      catalog.addTable(table);
+    }
+  }
+
+  /**
+   * Tables that were retrieved in this crawl, because they changed or were added since the previous
+   * crawl.
+   *
+   * @return Retrieved tables
+   */
+  NamedObjectList<MutableTable> getRetrievedTables() {
+    return retrievedTables;
+  }
+
+  /**
+   * Checks whether tables from the previous catalog can be reused, and if so, retrieves the keys of
+   * tables that changed since the previous crawl.
+   *
+   * @param previousCatalog Catalog from a previous crawl, or null
+   * @return True if the crawl can be incremental
+   */
+  boolean retrieveChangedTables(final Catalog previousCatalog) {
+    if (!(previousCatalog instanceof MutableCatalog)) {
+      LOGGER.log(Level.FINE, "Retrieving all tables, since there is no previous catalog");
+      return false;
+    }
+
+    final InformationSchemaViews informationSchemaViews =
+        getRetrieverConnection().getInformationSchemaViews();
+    if (!informationSchemaViews.hasQuery(CHANGED_TABLES)) {
+      LOGGER.log(
+          Level.INFO, "Retrieving all tables, since no query was provided to find changed tables");
+      return false;
+    }
+
+    final DatabaseServerFingerprint fingerprint =
+        catalog.getCrawlInfo().getDatabaseServerFingerprint();
+    if (isBlank(fingerprint.fingerprint())
+        || !fingerprint.equals(previousCatalog.getCrawlInfo().getDatabaseServerFingerprint())) {
+      LOGGER.log(
+          Level.INFO,
+          "Retrieving all tables, since the previous catalog is not from the same database server");
+      return false;
+    }
+
+    if (isTableFilterRequested) {
+      LOGGER.log(Level.INFO, "Retrieving all tables, since tables are filtered");
+      return false;
+    }
+
+    final String previousCrawlTimestamp = previousCatalog.getCrawlInfo().getCrawlTimestamp();
+    final Map<String, String> limitMap = getLimitMap();
+    limitMap.put("crawl-timestamp", previousCrawlTimestamp);
+
+    final String name = "changed tables";
+    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
+    try (final Connection connection = getRetrieverConnection().getConnection(name);
+        final Statement statement = connection.createStatement();
+        final MetadataResultSet results =
+            new MetadataResultSet(
+                informationSchemaViews.getQuery(CHANGED_TABLES), statement, limitMap); ) {
+      while (results.next()) {
+        final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+        final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
+        final String tableName = results.getString("TABLE_NAME");
+        final NamedObjectKey tableKey = new NamedObjectKey(catalogName, schemaName, tableName);
+        retrievalCounts.count(tableKey);
+        changedTables.add(tableKey);
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(
+          Level.WARNING, "Retrieving all tables, since changed tables could not be retrieved", e);
+      changedTables.clear();
+      return false;
+    }
+    retrievalCounts.log();
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieved %d tables changed since the previous crawl at %s",
+            changedTables.size(), previousCrawlTimestamp));
+    this.previousCatalog = (MutableCatalog) previousCatalog;
+    return true;
+  }
+
+  /**
+   * Removes tables that have not changed since the previous crawl from the catalog, so that only
+   * changed and added tables are retrieved. Tables that were dropped since the previous crawl are
+   * not in the catalog, and are not reused.
+   */
+  void setAsideUnchangedTables() {
+    for (final MutableTable table : catalog.getAllTables().values()) {
+      final MutableTable previousTable = previousCatalog.lookupTable(table.key()).orElse(null);
+      // Also retrieve tables that changed between being a table and a view
+      if (previousTable == null
+          || changedTables.contains(table.key())
+          || previousTable.getClass() != table.getClass()) {
+        retrievedTables.add(table);
+        continue;
+      }
+      unchangedTables.add(previousTable);
+      catalog.removeTable(table);
+    }
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Retrieving %d changed or added tables, and reusing %d unchanged tables",
+            retrievedTables.size(), unchangedTables.size()));
+  }
+
+  private boolean isUnchanged(final Table table) {
+    // Partial tables are outside of the crawl, so they are not retrieved again
+    return isPartial(table) || unchangedTables.contains(table);
+  }
+}
@@ -17,7 +17,6 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -29,7 +28,6 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
-import us.fatehi.utility.UtilityLogger;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database tables. */
@@ -252,38 +250,22 @@ final class IndexRetriever extends AbstractRetriever {
     }
   }
 
-  private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables)
-      throws SQLException {
-    final String name = "indexes from metadata";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final MutableTable table : allTables) {
-      LOGGER.log(Level.INFO, new StringFormat("Retrieving %s for %s", name, table.key()));
-
-      final Schema tableSchema = table.getSchema();
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final MetadataResultSet results =
-              new MetadataResultSet(
-                  connection
-                      .getMetaData()
-                      .getIndexInfo(
-                          tableSchema.getCatalogName(),
-                          tableSchema.getName(),
-                          table.getName(),
-                          false /* return indices regardless of whether unique or not */,
-                          true /* approximate - reflect approximate or out of data values */),
-                  "DatabaseMetaData::getIndexInfo"); ) {
-        while (results.next()) {
-          retrievalCounts.count();
-          final boolean added = createIndexForTable(table, results);
-          retrievalCounts.countIfIncluded(added);
-        }
-      } catch (final SQLException e) {
-        new UtilityLogger(LOGGER)
-            .logPossiblyUnsupportedSQLFeature(
-                new StringFormat("Could not retrieve indexes for table <%s>", table), e);
-      }
-    }
-    retrievalCounts.log();
+  private void retrieveIndexesFromMetadata(final NamedObjectList<MutableTable> allTables) {
+    retrieveOverTables(
+        "indexes from metadata",
+        allTables.values(),
+        (metaData, table) -> {
+          final Schema tableSchema = table.getSchema();
+          return new MetadataResultSet(
+              metaData.getIndexInfo(
+                  tableSchema.getCatalogName(),
+                  tableSchema.getName(),
+                  table.getName(),
+                  false /* return indices regardless of whether unique or not */,
+                  true /* approximate - reflect approximate or out of data values */),
+              "DatabaseMetaData::getIndexInfo");
+        },
+        (table, results) -> createIndexForTable(table, results));
   }
 
   private void retrieveIndexesOverSchemas() throws WrappedSQLException {
@@ -296,42 +278,23 @@ final class IndexRetriever extends AbstractRetriever {
     }
     final Query indexesSql = informationSchemaViews.getQuery(INDEXES);
 
-    final Collection<Schema> schemas = catalog.getSchemas();
-    final String name = "indexes from data dictionary";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(indexesSql, statement, getLimitMap(schema)); ) {
-        final String catalogName = schema.getCatalogName();
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
+    retrieveOverSchemas(
+        "indexes from data dictionary",
+        schemasWithTables(),
+        indexesSql,
+        (schema, results) -> {
           // final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+          final String catalogName = schema.getCatalogName();
           final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
           final String tableName = results.getString("TABLE_NAME");
 
           final Optional<MutableTable> optionalTable =
               lookupTable(catalogName, schemaName, tableName);
           if (optionalTable.isEmpty()) {
-            continue;
+            return false;
           }
           final MutableTable table = optionalTable.get();
-          final boolean added = createIndexForTable(table, results);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final SQLException e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve indexes for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+          return createIndexForTable(table, results);
+        });
   }
 }
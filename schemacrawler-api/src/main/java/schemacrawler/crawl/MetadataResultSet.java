@@ -20,12 +20,11 @@ import java.math.BigInteger;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.ResultsColumn;
@@ -45,9 +44,11 @@ final class MetadataResultSet extends AbstractDataResultSet {
   private static final Logger LOGGER = Logger.getLogger(MetadataResultSet.class.getName());
 
   private final ResultSet results;
-  private final ResultsColumns resultsColumns;
   private final String description;
-  private Set<ResultsColumn> readColumns;
+  private final String[] attributeNames;
+  private final Map<String, Integer> columnOrdinals;
+  private final Map<String, Integer> resolvedColumnOrdinals;
+  private final BitSet readColumns;
 
   MetadataResultSet(
       final Query query, final Statement statement, final Map<String, String> limitMap)
@@ -62,8 +63,21 @@ final class MetadataResultSet extends AbstractDataResultSet {
     results = getResults();
     this.description = requireNotBlank(description, "No result-set description provided");
 
-    resultsColumns = new ResultsCrawler(results).crawl();
-    readColumns = new HashSet<>();
+    // Resolve column names, full names and labels to ordinals once for the result set, so that
+    // values can be read by position
+    final ResultsColumns resultsColumns = new ResultsCrawler(results).crawl();
+    final int columnCount = results.getMetaData().getColumnCount();
+    attributeNames = new String[columnCount + 1];
+    columnOrdinals = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (final ResultsColumn resultsColumn : resultsColumns) {
+      final int ordinalPosition = resultsColumn.getOrdinalPosition();
+      attributeNames[ordinalPosition] = resultsColumn.getLabel().toUpperCase();
+      columnOrdinals.putIfAbsent(resultsColumn.getLabel(), ordinalPosition);
+      columnOrdinals.putIfAbsent(resultsColumn.getFullName(), ordinalPosition);
+      columnOrdinals.putIfAbsent(resultsColumn.getName(), ordinalPosition);
+    }
+    resolvedColumnOrdinals = new HashMap<>();
+    readColumns = new BitSet(columnCount + 1);
   }
 
   /**
@@ -73,24 +87,28 @@ final class MetadataResultSet extends AbstractDataResultSet {
    * @return Map of additional attributes to the database object
    */
   public Map<String, Object> getAttributes() {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final ResultsColumn resultsColumn : resultsColumns) {
-      if (!readColumns.contains(resultsColumn)) {
-        try {
-          final String key = resultsColumn.getLabel().toUpperCase();
-          final Object value = getColumnData(resultsColumn);
-          attributes.put(key, value);
-        } catch (final SQLException | ArrayIndexOutOfBoundsException e) {
-          /*
-           * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
-           * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
-           * exception, we can still get some useful data out of the database.
-           */
-          LOGGER.log(
-              Level.WARNING,
-              e,
-              new StringFormat("Could not read value for column <%s>", resultsColumn));
-        }
+    final int unreadCount = attributeNames.length - 1 - readColumns.cardinality();
+    if (unreadCount <= 0) {
+      return Map.of();
+    }
+    final Map<String, Object> attributes = new HashMap<>(unreadCount * 2);
+    for (int ordinalPosition = readColumns.nextClearBit(1);
+        ordinalPosition < attributeNames.length;
+        ordinalPosition = readColumns.nextClearBit(ordinalPosition + 1)) {
+      final String key = attributeNames[ordinalPosition];
+      if (key == null) {
+        continue;
+      }
+      try {
+        final Object value = readColumnData(ordinalPosition);
+        attributes.put(key, value);
+      } catch (final ArrayIndexOutOfBoundsException e) {
+        /*
+         * MySQL connector is broken and can cause ArrayIndexOutOfBoundsExceptions for no good
+         * reason (tested with connector 5.1.26 and server version 5.0.95). Ignoring the
+         * exception, we can still get some useful data out of the database.
+         */
+        LOGGER.log(Level.WARNING, e, new StringFormat("Could not read value for column <%s>", key));
       }
     }
     return attributes;
@@ -119,9 +137,10 @@ final class MetadataResultSet extends AbstractDataResultSet {
    * @return Whether the string evaluates to true
    */
   public boolean getBoolean(final String columnName) {
-    if (useColumn(columnName)) {
+    final int ordinalPosition = useColumn(columnName);
+    if (ordinalPosition > 0) {
       try {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(ordinalPosition);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null) {
           LOGGER.log(
@@ -201,9 +220,10 @@ final class MetadataResultSet extends AbstractDataResultSet {
    */
   public int getInt(final String columnName, final int defaultValue) {
     int value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinalPosition = useColumn(columnName);
+    if (ordinalPosition > 0) {
       try {
-        value = results.getInt(columnName);
+        value = results.getInt(ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -231,9 +251,10 @@ final class MetadataResultSet extends AbstractDataResultSet {
    */
   public long getLong(final String columnName, final long defaultValue) {
     long value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinalPosition = useColumn(columnName);
+    if (ordinalPosition > 0) {
       try {
-        value = results.getLong(columnName);
+        value = results.getLong(ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -262,9 +283,10 @@ final class MetadataResultSet extends AbstractDataResultSet {
    */
   public short getShort(final String columnName, final short defaultValue) {
     short value = defaultValue;
-    if (useColumn(columnName)) {
+    final int ordinalPosition = useColumn(columnName);
+    if (ordinalPosition > 0) {
       try {
-        value = results.getShort(columnName);
+        value = results.getShort(ordinalPosition);
         if (results.wasNull()) {
           LOGGER.log(
               Level.FINER,
@@ -291,9 +313,10 @@ final class MetadataResultSet extends AbstractDataResultSet {
    */
   public String getString(final String columnName) {
     String value = null;
-    if (useColumn(columnName)) {
+    final int ordinalPosition = useColumn(columnName);
+    if (ordinalPosition > 0) {
       try {
-        value = results.getString(columnName);
+        value = results.getString(ordinalPosition);
         if (results.wasNull()) {
           value = null;
         }
@@ -321,7 +344,7 @@ final class MetadataResultSet extends AbstractDataResultSet {
    * @throws SQLException On a database access error
    */
   public boolean next() throws SQLException {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     return advanceNext();
   }
@@ -331,15 +354,24 @@ final class MetadataResultSet extends AbstractDataResultSet {
     return description;
   }
 
-  private Object getColumnData(final ResultsColumn resultsColumn) throws SQLException {
-    final int ordinalPosition = resultsColumn.getOrdinalPosition();
-
-    return readColumnData(ordinalPosition);
-  }
-
-  private boolean useColumn(final String columnName) {
-    final Optional<ResultsColumn> optionalResultsColumn = resultsColumns.lookupColumn(columnName);
-    optionalResultsColumn.ifPresent(readColumns::add);
-    return optionalResultsColumn.isPresent();
+  /**
+   * Resolves a column name to its ordinal position, and marks the column as read.
+   *
+   * @param columnName Column name, full name or label
+   * @return Ordinal position of the column, or 0 if the column is not in the result set
+   */
+  private int useColumn(final String columnName) {
+    if (columnName == null) {
+      return 0;
+    }
+    Integer ordinalPosition = resolvedColumnOrdinals.get(columnName);
+    if (ordinalPosition == null) {
+      ordinalPosition = columnOrdinals.getOrDefault(columnName, 0);
+      resolvedColumnOrdinals.put(columnName, ordinalPosition);
+    }
+    if (ordinalPosition > 0) {
+      readColumns.set(ordinalPosition);
+    }
+    return ordinalPosition;
   }
 }
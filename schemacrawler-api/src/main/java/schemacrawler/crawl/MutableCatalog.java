@@ -16,12 +16,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Predicate;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
-import schemacrawler.schema.CrawlInfo;
-import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.DatabaseUser;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
@@ -39,20 +36,6 @@ import schemacrawler.schemacrawler.SchemaReference;
  */
 final class MutableCatalog extends AbstractNamedObjectWithAttributes implements Catalog {
 
-  private static final class FilterBySchema implements Predicate<DatabaseObject> {
-
-    private final Schema schema;
-
-    public FilterBySchema(final Schema schema) {
-      this.schema = requireNonNull(schema, "No schema provided");
-    }
-
-    @Override
-    public boolean test(final DatabaseObject databaseObject) {
-      return databaseObject != null && databaseObject.getSchema().equals(schema);
-    }
-  }
-
   @Serial private static final long serialVersionUID = 4051323422934251828L;
 
   private final NamedObjectList<MutableColumnDataType> columnDataTypes = new NamedObjectList<>();
@@ -64,24 +47,35 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
   private final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
   private final NamedObjectList<ImmutableDatabaseUser> databaseUsers = new NamedObjectList<>();
-  private final ImmutableCrawlInfo crawlInfo;
+  private ImmutableCrawlInfo crawlInfo;
 
   MutableCatalog(
       final String title,
       final String name,
       final MutableDatabaseInfo databaseInfo,
       final MutableJdbcDriverInfo jdbcDriverInfo) {
+    this(
+        name,
+        databaseInfo,
+        jdbcDriverInfo,
+        new ImmutableCrawlInfo(
+            title,
+            requireNonNull(databaseInfo, "No database information provided"),
+            requireNonNull(jdbcDriverInfo, "No JDBC driver information provided"),
+            DatabaseServerFingerprintBuilder.build(
+                databaseInfo, jdbcDriverInfo.getConnectionUrl())));
+  }
+
+  MutableCatalog(
+      final String name,
+      final MutableDatabaseInfo databaseInfo,
+      final MutableJdbcDriverInfo jdbcDriverInfo,
+      final ImmutableCrawlInfo crawlInfo) {
     super(name);
 
     this.databaseInfo = requireNonNull(databaseInfo, "No database information provided");
     this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo, "No JDBC driver information provided");
-    crawlInfo =
-        new ImmutableCrawlInfo(
-            title,
-            databaseInfo,
-            jdbcDriverInfo,
-            DatabaseServerFingerprintBuilder.build(
-                databaseInfo, jdbcDriverInfo.getConnectionUrl()));
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
   }
 
   /** {@inheritDoc} */
@@ -93,18 +87,11 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<ColumnDataType> getColumnDataTypes(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<ColumnDataType> columnDataTypes = new ArrayList<>();
-    for (final ColumnDataType columnDataType : this.columnDataTypes) {
-      if (filter.test(columnDataType)) {
-        columnDataTypes.add(columnDataType);
-      }
-    }
-    return columnDataTypes;
+    return List.copyOf(columnDataTypes.values(schema));
   }
 
   @Override
-  public CrawlInfo getCrawlInfo() {
+  public ImmutableCrawlInfo getCrawlInfo() {
     return crawlInfo;
   }
 
@@ -140,13 +127,13 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Routine> getRoutines(final Schema schema, final String routineName) {
-    Predicate<DatabaseObject> filter = new FilterBySchema(schema);
-    if (!isBlank(routineName)) {
-      filter = filter.and(routine -> routine.getName().equals(routineName));
+    final List<MutableRoutine> schemaRoutines = this.routines.values(schema);
+    if (isBlank(routineName)) {
+      return List.copyOf(schemaRoutines);
     }
     final Collection<Routine> routines = new ArrayList<>();
-    for (final Routine routine : this.routines) {
-      if (filter.test(routine)) {
+    for (final Routine routine : schemaRoutines) {
+      if (routine.getName().equals(routineName)) {
         routines.add(routine);
       }
     }
@@ -168,14 +155,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Sequence> getSequences(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Sequence> sequences = new ArrayList<>();
-    for (final Sequence sequence : this.sequences) {
-      if (filter.test(sequence)) {
-        sequences.add(sequence);
-      }
-    }
-    return sequences;
+    return List.copyOf(sequences.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -187,14 +167,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Synonym> getSynonyms(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Synonym> synonyms = new ArrayList<>();
-    for (final Synonym synonym : this.synonyms) {
-      if (filter.test(synonym)) {
-        synonyms.add(synonym);
-      }
-    }
-    return synonyms;
+    return List.copyOf(synonyms.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -212,14 +185,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   /** {@inheritDoc} */
   @Override
   public Collection<Table> getTables(final Schema schema) {
-    final FilterBySchema filter = new FilterBySchema(schema);
-    final Collection<Table> tables = new ArrayList<>();
-    for (final Table table : this.tables) {
-      if (filter.test(table)) {
-        tables.add(table);
-      }
-    }
-    return tables;
+    return List.copyOf(tables.values(schema));
   }
 
   /** {@inheritDoc} */
@@ -253,15 +219,7 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   public Optional<SchemaReference> lookupSchema(final String name) {
     // Schemas need to be looked up by full name, since either the
     // catalog or schema may be null, depending on the database
-    if (name == null) {
-      return Optional.empty();
-    }
-    for (final SchemaReference schema : schemas) {
-      if (name.equals(schema.getFullName())) {
-        return Optional.of(schema);
-      }
-    }
-    return Optional.empty();
+    return schemas.lookupByFullName(name);
   }
 
   /** {@inheritDoc} */
@@ -390,4 +348,12 @@ final class MutableCatalog extends AbstractNamedObjectWithAttributes implements
   Optional<MutableTable> lookupTable(final NamedObjectKey tableLookupKey) {
     return tables.lookup(tableLookupKey);
   }
+
+  void removeTable(final MutableTable table) {
+    tables.remove(table);
+  }
+
+  void setCrawlInfo(final ImmutableCrawlInfo crawlInfo) {
+    this.crawlInfo = requireNonNull(crawlInfo, "No crawl information provided");
+  }
 }
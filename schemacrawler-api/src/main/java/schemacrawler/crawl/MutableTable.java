@@ -156,8 +156,8 @@ sealed class MutableTable extends AbstractDatabaseObject implements Table permit
   public Collection<Table> getRelatedTables(final TableRelationshipType tableRelationshipType) {
     final Set<Table> relatedTables = new HashSet<>();
     if (tableRelationshipType != null && tableRelationshipType != TableRelationshipType.none) {
-      final List<MutableForeignKey> foreignKeysList = new ArrayList<>(foreignKeys.values());
-      for (final ForeignKey foreignKey : foreignKeysList) {
+      // The list of foreign keys is an immutable snapshot, so it does not need to be copied
+      for (final ForeignKey foreignKey : foreignKeys.values()) {
         for (final ColumnReference columnReference : foreignKey) {
           final Table parentTable = columnReference.getPrimaryKeyColumn().getParent();
           final Table childTable = columnReference.getForeignKeyColumn().getParent();
@@ -341,6 +341,10 @@ sealed class MutableTable extends AbstractDatabaseObject implements Table permit
     triggers.add(trigger);
   }
 
+  final void clearReferencingObjects() {
+    usedByObjects.clear();
+  }
+
   final NamedObjectList<MutableColumn> getAllColumns() {
     return columns;
   }
@@ -349,6 +353,10 @@ sealed class MutableTable extends AbstractDatabaseObject implements Table permit
     isSelfReferencing = true;
   }
 
+  final void removeForeignKey(final MutableForeignKey foreignKey) {
+    foreignKeys.remove(foreignKey);
+  }
+
   final void removeTableConstraint(final TableConstraint tableConstraint) {
     constraints.remove(tableConstraint);
   }
@@ -65,6 +65,10 @@ final class MutableView extends MutableTable implements View {
     }
   }
 
+  void removeTableUsage(final MutableTable table) {
+    tableUsage.remove(table);
+  }
+
   void setCheckOption(final CheckOptionType checkOption) {
     this.checkOption = checkOption;
   }
@@ -0,0 +1,81 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pool of names and short string values read during a crawl, so that each distinct value is held in
+ * the catalog only once. Drivers return a new string for every row, so without pooling, names such
+ * as common column names and attribute values are duplicated for every object. The pool is only
+ * held on to for the duration of a crawl.
+ *
+ * <p>Catalog, schema, table, column and data type names are pooled as they are retrieved. Named
+ * object keys are not pooled separately, since the key of each object is built from the key of its
+ * parent and its own name, so it already holds the pooled names.
+ */
+final class NamePool {
+
+  /** Longer values, such as remarks or definitions, are unlikely to be repeated. */
+  private static final int MAX_POOLED_LENGTH = 128;
+
+  private final Map<String, String> names;
+
+  NamePool() {
+    names = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the pooled instance of a name.
+   *
+   * @param name Name, which may be null
+   * @return Pooled instance of the name, or null if the name is null
+   */
+  String intern(final String name) {
+    if (name == null || name.length() > MAX_POOLED_LENGTH) {
+      return name;
+    }
+    final String pooledName = names.putIfAbsent(name, name);
+    if (pooledName == null) {
+      return name;
+    }
+    return pooledName;
+  }
+
+  /**
+   * Gets the pooled instance of a value, if it is a string.
+   *
+   * @param value Value, which may be null
+   * @return Pooled instance of a string value, or the value itself
+   */
+  Object intern(final Object value) {
+    if (value instanceof final String name) {
+      return intern(name);
+    }
+    return value;
+  }
+
+  /**
+   * Pools the string values in a map of attributes, in place.
+   *
+   * @param attributes Attributes to pool values for
+   * @return Same attributes
+   */
+  Map<String, Object> internValues(final Map<String, Object> attributes) {
+    if (attributes != null && !attributes.isEmpty()) {
+      attributes.replaceAll((key, value) -> intern(value));
+    }
+    return attributes;
+  }
+
+  int size() {
+    return names.size();
+  }
+}
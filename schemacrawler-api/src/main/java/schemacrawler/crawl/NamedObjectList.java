@@ -14,6 +14,7 @@ import static java.util.Objects.requireNonNull;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -24,15 +25,24 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.Schema;
 
 /**
  * Ordered list of named objects, that can be searched associatively. NamedObjectList has the
  * ability to look up by dependant object which is not created yet. That is, by NamedObject +
  * String. Returns values sorted in natural sort order, and is iterable. The iterator does not allow
  * modifications to the underlying data structure.
+ *
+ * <p>The sorted values are kept as an immutable snapshot, which is rebuilt only after the list is
+ * modified. The natural sort order of some objects can change after they are added to the list,
+ * while they are being built by SchemaCrawler, such as when tables are sorted by their
+ * dependencies. So the list needs to be re-sorted explicitly once that is done. Database objects in
+ * the snapshot are also grouped by schema, and indexed by full name, when they are first looked up
+ * that way.
  */
 final class NamedObjectList<N extends NamedObject> implements Serializable, ReducibleCollection<N> {
 
@@ -40,6 +50,54 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
 
   private static final String SCHEMACRAWLER_FILTERED_OUT = "schemacrawler.filtered_out";
 
+  /** Sorted values, and the version of the list that they were built from. */
+  private static final class Snapshot<N extends NamedObject> {
+
+    private final long version;
+    private final List<N> values;
+    private volatile Map<Schema, List<N>> valuesBySchema;
+    private volatile Map<String, N> valuesByFullName;
+
+    Snapshot(final long version, final List<N> values) {
+      this.version = version;
+      this.values = values;
+    }
+
+    Map<String, N> valuesByFullName() {
+      Map<String, N> valuesByFullName = this.valuesByFullName;
+      if (valuesByFullName == null) {
+        valuesByFullName = new HashMap<>();
+        for (final N value : values) {
+          // Keep the first object in sort order, if full names are not unique
+          valuesByFullName.putIfAbsent(value.getFullName(), value);
+        }
+        this.valuesByFullName = valuesByFullName;
+      }
+      return valuesByFullName;
+    }
+
+    Map<Schema, List<N>> valuesBySchema() {
+      Map<Schema, List<N>> valuesBySchema = this.valuesBySchema;
+      if (valuesBySchema == null) {
+        // Values are sorted, so objects in each schema are also sorted
+        final Map<Schema, List<N>> groups = new HashMap<>();
+        for (final N value : values) {
+          if (value instanceof final DatabaseObject databaseObject) {
+            groups
+                .computeIfAbsent(databaseObject.getSchema(), schema -> new ArrayList<>())
+                .add(value);
+          }
+        }
+        valuesBySchema = new HashMap<>();
+        for (final Entry<Schema, List<N>> group : groups.entrySet()) {
+          valuesBySchema.put(group.getKey(), List.copyOf(group.getValue()));
+        }
+        this.valuesBySchema = valuesBySchema;
+      }
+      return valuesBySchema;
+    }
+  }
+
   private static NamedObjectKey makeLookupKey(final NamedObject namedObject) {
     final NamedObjectKey key;
     if (namedObject == null) {
@@ -60,6 +118,8 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
 
   private final Map<NamedObjectKey, N> objects = new ConcurrentHashMap<>();
   private final Map<NamedObjectKey, N> filteredObjects = new ConcurrentHashMap<>();
+  private transient volatile long version;
+  private transient volatile Snapshot<N> snapshot;
 
   /** {@inheritDoc} */
   @Override
@@ -83,6 +143,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         }
       }
     }
+    modified();
   }
 
   /** {@inheritDoc} */
@@ -130,6 +191,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
         attributedObject.removeAttribute(SCHEMACRAWLER_FILTERED_OUT);
       }
     }
+    modified();
   }
 
   /** {@inheritDoc} */
@@ -147,6 +209,7 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     requireNonNull(namedObject, "Cannot add a null object to the list");
     final NamedObjectKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    modified();
     return true;
   }
 
@@ -173,8 +236,32 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
     return internalGet(lookupKey);
   }
 
+  /**
+   * Looks up a named object by full name. If more than one object has the same full name, the first
+   * one in sort order is returned.
+   *
+   * @param fullName Full name of the object
+   * @return Named object
+   */
+  Optional<N> lookupByFullName(final String fullName) {
+    if (fullName == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(currentSnapshot().valuesByFullName().get(fullName));
+  }
+
+  /**
+   * Re-sorts the list, after the natural sort order of objects that are already in the list has
+   * changed.
+   */
+  void resort() {
+    modified();
+  }
+
   N remove(final N namedObject) {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    modified();
+    return removed;
   }
 
   /**
@@ -187,17 +274,55 @@ final class NamedObjectList<N extends NamedObject> implements Serializable, Redu
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The same immutable list is returned until
+   * the list is modified.
    *
    * @return All named objects
    */
   List<N> values() {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    return currentSnapshot().values;
+  }
+
+  /**
+   * Gets all database objects in the list that belong to a schema, in sorted order. Only objects in
+   * the schema are visited.
+   *
+   * @param schema Schema to get objects for
+   * @return Database objects in the schema
+   */
+  List<N> values(final Schema schema) {
+    requireNonNull(schema, "No schema provided");
+    return currentSnapshot().valuesBySchema().getOrDefault(schema, List.of());
+  }
+
+  /**
+   * Gets the snapshot of sorted values, if the list has not been modified since it was built, or
+   * builds a new one.
+   */
+  private Snapshot<N> currentSnapshot() {
+    final Snapshot<N> currentSnapshot = snapshot;
+    // Read the version before the objects, so that a concurrent modification is never missed
+    final long currentVersion = version;
+    if (currentSnapshot != null && currentSnapshot.version == currentVersion) {
+      return currentSnapshot;
+    }
+    return newSnapshot(currentVersion);
   }
 
   private Optional<N> internalGet(final NamedObjectKey key) {
     return Optional.ofNullable(objects.get(key));
   }
+
+  /** Marks the list as modified, so that the sorted values are rebuilt when they are next read. */
+  private synchronized void modified() {
+    version++;
+  }
+
+  private Snapshot<N> newSnapshot(final long snapshotVersion) {
+    final List<N> all = new ArrayList<>(objects.values());
+    all.sort(naturalOrder());
+    final Snapshot<N> newSnapshot = new Snapshot<>(snapshotVersion, List.copyOf(all));
+    snapshot = newSnapshot;
+    return newSnapshot;
+  }
 }
@@ -15,7 +15,8 @@ import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.pr
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -24,7 +25,6 @@ import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.exceptions.WrappedSQLException;
-import us.fatehi.utility.UtilityLogger;
 import us.fatehi.utility.string.StringFormat;
 
 /** A retriever uses database metadata to get the details about the database tables. */
@@ -137,37 +137,28 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     }
   }
 
-  private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables)
-      throws SQLException {
-    final String name = "primary keys from metadata";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
+  private void retrievePrimaryKeysFromMetadata(final NamedObjectList<MutableTable> allTables) {
+    final List<MutableTable> tables = new ArrayList<>();
     for (final MutableTable table : allTables) {
-      if (table.getTableType().isView()) {
-        continue;
-      }
-      LOGGER.log(Level.INFO, new StringFormat("Retrieving %s for %s", name, table.key()));
-
-      final Schema tableSchema = table.getSchema();
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final MetadataResultSet results =
-              new MetadataResultSet(
-                  connection
-                      .getMetaData()
-                      .getPrimaryKeys(
-                          tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
-                  "DatabaseMetaData::getPrimaryKeys"); ) {
-        while (results.next()) {
-          retrievalCounts.count();
-          createPrimaryKeyForTable(table, results);
-          retrievalCounts.countIncluded();
-        }
-      } catch (final SQLException e) {
-        new UtilityLogger(LOGGER)
-            .logPossiblyUnsupportedSQLFeature(
-                new StringFormat("Could not retrieve primary keys for table <%s>", table), e);
+      if (!table.getTableType().isView()) {
+        tables.add(table);
       }
     }
-    retrievalCounts.log();
+
+    retrieveOverTables(
+        "primary keys from metadata",
+        tables,
+        (metaData, table) -> {
+          final Schema tableSchema = table.getSchema();
+          return new MetadataResultSet(
+              metaData.getPrimaryKeys(
+                  tableSchema.getCatalogName(), tableSchema.getName(), table.getName()),
+              "DatabaseMetaData::getPrimaryKeys");
+        },
+        (table, results) -> {
+          createPrimaryKeyForTable(table, results);
+          return true;
+        });
   }
 
   private void retrievePrimaryKeysOverSchemas() throws WrappedSQLException {
@@ -180,42 +171,24 @@ final class PrimaryKeyRetriever extends AbstractRetriever {
     }
     final Query pkSql = informationSchemaViews.getQuery(PRIMARY_KEYS);
 
-    final Collection<Schema> schemas = catalog.getSchemas();
-    final String name = "primary keys from data dictionary";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(pkSql, statement, getLimitMap(schema)); ) {
-        final String catalogName = schema.getCatalogName();
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
+    retrieveOverSchemas(
+        "primary keys from data dictionary",
+        schemasWithTables(),
+        pkSql,
+        (schema, results) -> {
           // final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
+          final String catalogName = schema.getCatalogName();
           final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
           final String tableName = results.getString("TABLE_NAME");
 
           final Optional<MutableTable> optionalTable =
               lookupTable(catalogName, schemaName, tableName);
           if (optionalTable.isEmpty()) {
-            continue;
+            return false;
           }
           final MutableTable table = optionalTable.get();
           createPrimaryKeyForTable(table, results);
-          retrievalCounts.countIncluded(schema.key());
-        }
-      } catch (final SQLException e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve primary keys for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+          return true;
+        });
   }
 }
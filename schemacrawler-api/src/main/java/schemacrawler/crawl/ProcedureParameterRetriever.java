@@ -18,7 +18,6 @@ import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -28,7 +27,6 @@ import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.ParameterModeType;
 import schemacrawler.schema.ProcedureParameter;
 import schemacrawler.schema.RoutineType;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -247,8 +245,6 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
       final InclusionRuleFilter<ProcedureParameter> parameterFilter)
       throws SQLException {
 
-    final Collection<Schema> schemas = catalog.getSchemas();
-
     final InformationSchemaViews informationSchemaViews =
         getRetrieverConnection().getInformationSchemaViews();
     if (!informationSchemaViews.hasQuery(PROCEDURE_COLUMNS)) {
@@ -256,30 +252,10 @@ final class ProcedureParameterRetriever extends AbstractRetriever {
     }
     final Query procedureColumnsSql = informationSchemaViews.getQuery(PROCEDURE_COLUMNS);
 
-    final String name = "procedure parameters from data dictionary over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      if (catalog.getRoutines(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(procedureColumnsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createProcedureParameter(results, allRoutines, parameterFilter);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve procedure parameters for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "procedure parameters from data dictionary over schemas",
+        schemasWithRoutines(),
+        procedureColumnsSql,
+        results -> createProcedureParameter(results, allRoutines, parameterFilter));
   }
 }
@@ -11,6 +11,10 @@ package schemacrawler.crawl;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schemacrawler.SchemaInfoLevel;
@@ -20,15 +24,23 @@ import us.fatehi.utility.scheduler.TaskRunner;
 import us.fatehi.utility.scheduler.TaskRunners;
 
 /**
- * Builds a list of task definitions that can be run in parallel. These are then submitted to be run
- * (in parallel) in a blocked way until all are complete.
+ * Builds a list of task definitions that can be run in parallel. Each task can declare the
+ * retrievals it depends on, and is started as soon as those are complete. These are then submitted
+ * to be run (in parallel) in a blocked way until all are complete.
  */
 final class RetrievalTaskRunner {
 
+  private record RetrievalTask(
+      String retrievalName,
+      boolean shouldRun,
+      TaskDefinition.TaskRunnable function,
+      Collection<String> prerequisites) {}
+
   private static final Logger LOGGER = Logger.getLogger(RetrievalTaskRunner.class.getName());
 
   private final TaskRunner taskRunner;
   private final SchemaInfoLevel infoLevel;
+  private final List<RetrievalTask> retrievalTasks;
 
   RetrievalTaskRunner(final String runId, final SchemaInfoLevel infoLevel, final int maxThreads) {
 
@@ -36,6 +48,7 @@ final class RetrievalTaskRunner {
     this.infoLevel = requireNonNull(infoLevel, "No info-level provided");
 
     taskRunner = TaskRunners.getTaskRunner(runId, maxThreads);
+    retrievalTasks = new ArrayList<>();
   }
 
   public RetrievalTaskRunner add(
@@ -58,6 +71,41 @@ final class RetrievalTaskRunner {
     return this;
   }
 
+  /**
+   * Declares that the most recently added retrieval can only start after the given retrievals in
+   * the same submission are complete.
+   *
+   * @param prerequisites Retrievals that need to complete first
+   * @return This task runner, for chaining
+   */
+  public RetrievalTaskRunner dependsOn(final SchemaInfoRetrieval... prerequisites) {
+    requireNonNull(prerequisites, "No prerequisites provided");
+    final String[] prerequisiteNames = new String[prerequisites.length];
+    for (int i = 0; i < prerequisites.length; i++) {
+      prerequisiteNames[i] = prerequisites[i].name();
+    }
+    return dependsOn(prerequisiteNames);
+  }
+
+  /**
+   * Declares that the most recently added retrieval can only start after the given named retrievals
+   * in the same submission are complete.
+   *
+   * @param prerequisites Names of retrievals that need to complete first
+   * @return This task runner, for chaining
+   */
+  public RetrievalTaskRunner dependsOn(final String... prerequisites) {
+    requireNonNull(prerequisites, "No prerequisites provided");
+    if (retrievalTasks.isEmpty()) {
+      throw new IllegalStateException("No retrieval added to depend on prerequisites");
+    }
+    final RetrievalTask retrievalTask = retrievalTasks.get(retrievalTasks.size() - 1);
+    for (final String prerequisite : prerequisites) {
+      retrievalTask.prerequisites().add(requireNotBlank(prerequisite, "No prerequisite provided"));
+    }
+    return this;
+  }
+
   /** Allows for a deferred conversion to a string. Useful in logging. */
   public void stopAndLogTime() {
     try {
@@ -68,6 +116,20 @@ final class RetrievalTaskRunner {
   }
 
   public void submit() throws Exception {
+    try {
+      for (final RetrievalTask retrievalTask : retrievalTasks) {
+        final String retrievalName = retrievalTask.retrievalName();
+        final Collection<String> prerequisites = retrievalTask.prerequisites();
+        if (retrievalTask.shouldRun()) {
+          taskRunner.add(
+              new TaskDefinition(retrievalName, retrievalTask.function(), prerequisites));
+        } else {
+          taskRunner.add(new TaskDefinition(retrievalName, prerequisites));
+        }
+      }
+    } finally {
+      retrievalTasks.clear();
+    }
     taskRunner.submit();
   }
 
@@ -76,11 +138,12 @@ final class RetrievalTaskRunner {
       final boolean shouldRun,
       final TaskDefinition.TaskRunnable function)
       throws Exception {
-    if (shouldRun) {
-      taskRunner.add(new TaskDefinition(retrievalName, function));
-    } else {
-      taskRunner.add(new TaskDefinition(retrievalName));
+    requireNotBlank(retrievalName, "No retrieval name provided");
+    if (taskRunner.isStopped()) {
+      throw new IllegalStateException("Task runner is stopped");
     }
+    retrievalTasks.add(
+        new RetrievalTask(retrievalName, shouldRun, function, new LinkedHashSet<>()));
   }
 
   private boolean shouldRun(final SchemaInfoRetrieval... additionalRetrievals) {
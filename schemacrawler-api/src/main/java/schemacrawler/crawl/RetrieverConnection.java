@@ -9,14 +9,22 @@
 package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.adaptive;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.scheduler.TaskRunner.MAX_THREADS;
+import static us.fatehi.utility.scheduler.TaskRunner.MIN_THREADS;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.schema.Identifiers;
+import schemacrawler.schema.RetrievalStrategyDecision;
 import schemacrawler.schema.TableTypes;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.MetadataRetrievalStrategy;
@@ -26,6 +34,7 @@ import schemacrawler.utility.JavaSqlTypes;
 import schemacrawler.utility.TypeMap;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
 import us.fatehi.utility.datasource.DatabaseServerType;
+import us.fatehi.utility.scheduler.TaskDefinition.TaskRunnable;
 
 /** A connection for the retriever. Wraps a live database connection. */
 final class RetrieverConnection {
@@ -35,11 +44,30 @@ final class RetrieverConnection {
   private final DatabaseConnectionSource connectionSource;
   private final JavaSqlTypes javaSqlTypes;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final NamePool namePool;
+  private final Semaphore nestedRetrievalPermits;
+  private volatile AdaptiveRetrievalStrategy adaptiveRetrievalStrategy;
 
   RetrieverConnection(
       final DatabaseConnectionSource connectionSource,
       final SchemaRetrievalOptions schemaRetrievalOptions)
       throws SQLException {
+    this(connectionSource, schemaRetrievalOptions, MAX_THREADS);
+  }
+
+  /**
+   * A connection for the retrievers of a crawl.
+   *
+   * @param connectionSource Database connection source
+   * @param schemaRetrievalOptions Database specific overrides
+   * @param maxThreads Maximum number of threads for the crawl, which also limits the number of
+   *     nested retrievals that run at the same time
+   */
+  RetrieverConnection(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final int maxThreads)
+      throws SQLException {
 
     this.connectionSource =
         requireNonNull(connectionSource, "Database connection source not provided");
@@ -48,11 +76,22 @@ final class RetrieverConnection {
         requireNonNull(schemaRetrievalOptions, "No database specific overrides provided");
 
     javaSqlTypes = new JavaSqlTypes();
+    namePool = new NamePool();
+    nestedRetrievalPermits = new Semaphore(Math.max(maxThreads, MIN_THREADS), true);
   }
 
   public MetadataRetrievalStrategy get(
       final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy) {
-    return schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    final MetadataRetrievalStrategy metadataRetrievalStrategy =
+        schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy);
+    if (metadataRetrievalStrategy != adaptive) {
+      return metadataRetrievalStrategy;
+    }
+    // Use metadata calls if the database was not probed, such as outside a crawl
+    if (adaptiveRetrievalStrategy == null) {
+      return metadata;
+    }
+    return adaptiveRetrievalStrategy.get(schemaInfoMetadataRetrievalStrategy);
   }
 
   Connection getConnection(final String reason) {
@@ -75,6 +114,18 @@ final class RetrieverConnection {
     return schemaRetrievalOptions.getDatabaseServerType();
   }
 
+  /**
+   * Gets the retrieval strategies that were chosen for adaptive retrievals.
+   *
+   * @return Retrieval strategy decisions, which are empty if the database was not probed
+   */
+  List<RetrievalStrategyDecision> getRetrievalStrategyDecisions() {
+    if (adaptiveRetrievalStrategy == null) {
+      return List.of();
+    }
+    return adaptiveRetrievalStrategy.getDecisions();
+  }
+
   Identifiers getIdentifiers() {
     return schemaRetrievalOptions.getIdentifiers();
   }
@@ -92,6 +143,11 @@ final class RetrieverConnection {
     return javaSqlTypes;
   }
 
+  /** Names are pooled for the crawl that this connection is used for. */
+  NamePool getNamePool() {
+    return namePool;
+  }
+
   TableTypes getTableTypes() {
     return schemaRetrievalOptions.getTableTypes();
   }
@@ -107,4 +163,61 @@ final class RetrieverConnection {
   boolean isSupportsSchemas() {
     return schemaRetrievalOptions.isSupportsSchemas();
   }
+
+  /**
+   * Runs a nested retrieval, such as the retrieval for one schema, or for one batch of tables, once
+   * fewer than the maximum number of threads for the crawl are running nested retrievals. Nested
+   * retrievals from all retrievals that run in parallel share this limit, so the number of
+   * connections that they use at the same time is bounded by the maximum number of threads, rather
+   * than by its square.
+   *
+   * @param nestedRetrieval Nested retrieval, which should not start other nested retrievals
+   * @throws Exception On an exception from the retrieval
+   */
+  void runNestedRetrieval(final TaskRunnable nestedRetrieval) throws Exception {
+    requireNonNull(nestedRetrieval, "No nested retrieval provided");
+    nestedRetrievalPermits.acquire();
+    try {
+      nestedRetrieval.run();
+    } finally {
+      nestedRetrievalPermits.release();
+    }
+  }
+
+  /**
+   * Probes the database server, and chooses strategies for all adaptive retrievals before any
+   * tables or routines are retrieved. The database is only probed if any retrieval strategy is
+   * adaptive.
+   *
+   * @param catalog Catalog that is being crawled, with schemas already retrieved
+   * @param maxThreads Number of retrieval threads
+   */
+  void probeForAdaptiveRetrieval(final MutableCatalog catalog, final int maxThreads)
+      throws SQLException {
+    final List<SchemaInfoMetadataRetrievalStrategy> adaptiveRetrievals = new ArrayList<>();
+    for (final SchemaInfoMetadataRetrievalStrategy schemaInfoMetadataRetrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      if (schemaRetrievalOptions.get(schemaInfoMetadataRetrievalStrategy) == adaptive) {
+        adaptiveRetrievals.add(schemaInfoMetadataRetrievalStrategy);
+      }
+    }
+    if (adaptiveRetrievals.isEmpty()) {
+      return;
+    }
+
+    try (final Connection connection = getConnection("probe for adaptive retrieval")) {
+      final AdaptiveRetrievalStrategy probedRetrievalStrategy =
+          AdaptiveRetrievalStrategy.probe(
+              connection,
+              catalog,
+              getInformationSchemaViews(),
+              isSupportsCatalogs(),
+              isSupportsSchemas(),
+              maxThreads);
+      for (final SchemaInfoMetadataRetrievalStrategy adaptiveRetrieval : adaptiveRetrievals) {
+        probedRetrievalStrategy.get(adaptiveRetrieval);
+      }
+      adaptiveRetrievalStrategy = probedRetrievalStrategy;
+    }
+  }
 }
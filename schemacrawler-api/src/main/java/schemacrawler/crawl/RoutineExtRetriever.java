@@ -21,7 +21,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.DatabaseObject;
 import schemacrawler.schema.RoutineBodyType;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -207,31 +206,11 @@ final class RoutineExtRetriever extends AbstractRetriever {
 
   private void retrieveRoutineInformationOverSchemas(final Query routineDefinitionsSql)
       throws SQLException {
-    final String name = "routine definitions";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getRoutines(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(routineDefinitionsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean addedRoutineInformation = addRoutineInformation(results);
-          retrievalCounts.countIfIncluded(schema.key(), addedRoutineInformation);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            "Could not retrieve routine definitions for schema <%s>".formatted(schema),
-            e);
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "routine definitions",
+        schemasWithRoutines(),
+        routineDefinitionsSql,
+        this::addRoutineInformation);
   }
 
   private void retrieveRoutineReferencesFromDataDictionary(final Query routineReferencesSql)
@@ -255,30 +234,10 @@ final class RoutineExtRetriever extends AbstractRetriever {
 
   private void retrieveRoutineReferencesOverSchemas(final Query routineReferencesSql)
       throws SQLException {
-    final String name = "routine references";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getRoutines(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(routineReferencesSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean addedRoutineReferences = addRoutineReferences(results);
-          retrievalCounts.countIfIncluded(schema.key(), addedRoutineReferences);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve routine references for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "routine references",
+        schemasWithRoutines(),
+        routineReferencesSql,
+        this::addRoutineReferences);
   }
 }
@@ -257,28 +257,11 @@ final class RoutineRetriever extends AbstractRetriever {
     }
     final Query functionsSql = informationSchemaViews.getQuery(FUNCTIONS);
 
-    final String name = "functions from data dictionary over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(functionsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createFunction(results, schemas, functionFilter);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve functions for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "functions from data dictionary over schemas",
+        schemas,
+        functionsSql,
+        results -> createFunction(results, schemas, functionFilter));
   }
 
   private void retrieveProcedures(final InclusionRule routineInclusionRule) throws SQLException {
@@ -387,27 +370,10 @@ final class RoutineRetriever extends AbstractRetriever {
     }
     final Query proceduresSql = informationSchemaViews.getQuery(PROCEDURES);
 
-    final String name = "procedures from data dictionary over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(proceduresSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createProcedure(results, schemas, procedureFilter);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve procedures for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "procedures from data dictionary over schemas",
+        schemas,
+        proceduresSql,
+        results -> createProcedure(results, schemas, procedureFilter));
   }
 }
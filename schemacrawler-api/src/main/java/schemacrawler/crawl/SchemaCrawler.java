@@ -57,6 +57,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.RoutineType;
+import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.LoadOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -82,6 +83,7 @@ public final class SchemaCrawler {
   private final int maxThreads;
   private RetrievalTaskRunner taskRunner;
   private MutableCatalog catalog;
+  private Catalog previousCatalog;
 
   /**
    * Constructs a SchemaCrawler object, from a database connection source.
@@ -95,13 +97,15 @@ public final class SchemaCrawler {
       final SchemaRetrievalOptions schemaRetrievalOptions,
       final SchemaCrawlerOptions options) {
     try {
-      retrieverConnection = new RetrieverConnection(connectionSource, schemaRetrievalOptions);
       this.options = requireNonNull(options, "No SchemaCrawler options provided");
 
       final LoadOptions loadOptions = options.loadOptions();
       infoLevel = loadOptions.schemaInfoLevel();
       maxThreads = loadOptions.maxThreads();
 
+      retrieverConnection =
+          new RetrieverConnection(connectionSource, schemaRetrievalOptions, maxThreads);
+
     } catch (final SQLException e) {
       throw new DatabaseAccessException(e);
     }
@@ -113,6 +117,26 @@ public final class SchemaCrawler {
    * @return Database metadata
    */
   public Catalog crawl() {
+    return crawl(null);
+  }
+
+  /**
+   * Crawls the database incrementally, to obtain database metadata. Only tables that changed since
+   * the previous crawl are retrieved again, and unchanged tables are reused from the previous
+   * catalog. Changed tables are found with the {@link InformationSchemaKey#CHANGED_TABLES} query,
+   * and added or dropped tables from the list of tables. Routines, synonyms and sequences are
+   * always retrieved. If tables cannot be reused, for example if there is no query for changed
+   * tables, all tables are retrieved.
+   *
+   * <p>The previous catalog should have been crawled with the same options, and should not have
+   * been modified by catalog loaders. Unchanged tables are moved from the previous catalog into the
+   * new catalog, so the previous catalog should not be used afterwards.
+   *
+   * @param previousCatalog Catalog from a previous crawl, or null for a full crawl
+   * @return Database metadata
+   */
+  public Catalog crawl(final Catalog previousCatalog) {
+    this.previousCatalog = previousCatalog;
     try {
       try (final Connection connection =
           retrieverConnection.getConnection("crawl connection information"); ) {
@@ -140,6 +164,11 @@ public final class SchemaCrawler {
       LOGGER.log(Level.INFO, "%n%s".formatted(catalog.getCrawlInfo()));
 
       crawlSchemas();
+      retrieverConnection.probeForAdaptiveRetrieval(catalog, maxThreads);
+      catalog.setCrawlInfo(
+          catalog
+              .getCrawlInfo()
+              .withRetrievalStrategyDecisions(retrieverConnection.getRetrievalStrategyDecisions()));
       crawlColumnDataTypes();
       crawlTables();
       crawlRoutines();
@@ -166,10 +195,10 @@ public final class SchemaCrawler {
     final DataTypeRetriever retriever =
         new DataTypeRetriever(retrieverConnection, catalog, options);
 
-    taskRunner.add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes).submit();
-
     taskRunner
+        .add(retrieveColumnDataTypes, retriever::retrieveSystemColumnDataTypes)
         .add(retrieveUserDefinedColumnDataTypes, retriever::retrieveUserDefinedColumnDataTypes)
+        .dependsOn(retrieveColumnDataTypes)
         .submit();
   }
 
@@ -239,19 +268,20 @@ public final class SchemaCrawler {
                 }
               }
             })
-        .submit();
-
-    taskRunner
         .add(
             "filterAndSortRoutines",
             () -> {
               // Filter the list of routines based on grep criteria
               getCatalogReducer(options).reduce(catalog);
+              // Overloaded routines are sorted by their parameters, which were added later
+              allRoutines.resort();
             })
+        .dependsOn(retrieveRoutineParameters)
+        .add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation)
+        .dependsOn("filterAndSortRoutines")
+        .add(retrieveRoutineReferences, retrieverExtra::retrieveRoutineReferences)
+        .dependsOn(retrieveRoutineInformation)
         .submit();
-
-    taskRunner.add(retrieveRoutineInformation, retrieverExtra::retrieveRoutineInformation).submit();
-    taskRunner.add(retrieveRoutineReferences, retrieverExtra::retrieveRoutineReferences).submit();
   }
 
   private void crawlSchemas() throws Exception {
@@ -262,10 +292,8 @@ public final class SchemaCrawler {
         .add(
             "retrieveSchemas",
             () -> retriever.retrieveSchemas(options.limitOptions().get(ruleForSchemaInclusion)))
-        .submit();
-
-    taskRunner
         .add("filterAndSortSchemas", () -> getCatalogReducer(options).reduce(catalog))
+        .dependsOn("retrieveSchemas")
         .submit();
 
     final NamedObjectList<SchemaReference> schemas = retriever.getAllSchemas();
@@ -293,10 +321,8 @@ public final class SchemaCrawler {
             () ->
                 retrieverExtra.retrieveSequenceInformation(
                     limitOptions.get(ruleForSequenceInclusion)))
-        .submit();
-
-    taskRunner
         .add("filterAndSortSequences", () -> getCatalogReducer(options).reduce(catalog))
+        .dependsOn(retrieveSequenceInformation)
         .submit();
   }
 
@@ -318,22 +344,15 @@ public final class SchemaCrawler {
             () ->
                 retrieverExtra.retrieveSynonymInformation(
                     limitOptions.get(ruleForSynonymInclusion)))
-        .submit();
-
-    taskRunner
         .add("filterAndSortSynonms", () -> getCatalogReducer(options).reduce(catalog))
+        .dependsOn(retrieveSynonymInformation)
         .submit();
   }
 
-  private void crawlTables() throws Exception {
+  private void crawlTableDetails(final NamedObjectList<MutableTable> allTables) throws Exception {
 
     final LimitOptions limitOptions = options.limitOptions();
-    if (!infoLevel.is(retrieveTables) || limitOptions.isExcludeAll(ruleForTableInclusion)) {
-      LOGGER.log(Level.INFO, "Not retrieving tables, since this was not requested");
-      return;
-    }
 
-    final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
     final TableColumnRetriever columnRetriever =
         new TableColumnRetriever(retrieverConnection, catalog, options);
     final PrimaryKeyRetriever pkRetriever =
@@ -354,24 +373,7 @@ public final class SchemaCrawler {
         new TablePrivilegeRetriever(retrieverConnection, catalog, options);
     final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
 
-    taskRunner
-        .add(
-            retrieveTables,
-            () -> {
-              LOGGER.log(Level.INFO, "Retrieving table names");
-              retriever.retrieveTables(
-                  limitOptions.tableNamePattern(),
-                  limitOptions.tableTypes(),
-                  limitOptions.get(ruleForTableInclusion));
-            })
-        .submit();
-
-    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
-    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
-    if (allTables.isEmpty()) {
-      return;
-    }
-
+    // Each retrieval starts as soon as the retrievals it needs are complete
     taskRunner
         .add(
             retrieveTableColumns,
@@ -381,34 +383,30 @@ public final class SchemaCrawler {
                     allTables, limitOptions.get(ruleForColumnInclusion));
               }
             })
-        .submit();
-
-    taskRunner
         .add(
             retrievePrimaryKeys,
             () -> pkRetriever.retrievePrimaryKeys(allTables),
             retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(
             retrieveForeignKeys,
             () -> fkRetriever.retrieveForeignKeys(allTables),
             retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(retrieveIndexes, () -> indexRetriever.retrieveIndexes(allTables), retrieveTableColumns)
+        .dependsOn(retrieveTableColumns)
         .add(
             retrieveTableConstraints,
             constraintRetriever::retrieveTableConstraints,
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .dependsOn(retrieveTableColumns)
         .add(
             retrieveTableConstraintColumns,
             constraintRetriever::retrieveTableConstraintColumns,
             retrieveTableConstraints)
+        .dependsOn(retrieveTableConstraints)
         .add(retrieveTriggerInformation, triggerRetriever::retrieveTriggerInformation)
-        .submit();
-
-    // Should be run independently, since filter and sort modifies the tables collection
-    taskRunner
+        // Should be run independently, since filter and sort modifies the tables collection
         .add(
             "filterAndSortTables",
             () -> {
@@ -420,59 +418,114 @@ public final class SchemaCrawler {
               final TablesGraph tablesGraph = new TablesGraph(allTables);
               tablesGraph.setTablesSortIndexes();
             })
-        .submit();
-
-    // Should be run independently, since table constraints are modified
-    taskRunner
+        .dependsOn(
+            retrieveTableColumns,
+            retrievePrimaryKeys,
+            retrieveForeignKeys,
+            retrieveIndexes,
+            retrieveTableConstraints,
+            retrieveTableConstraintColumns,
+            retrieveTriggerInformation)
+        // Should be run independently, since table constraints are modified
         .add(
             "matchTableConstraints",
             () -> constraintMatcher.matchTableConstraints(allTables),
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableConstraintDefinitions,
             constraintRetriever::retrieveCheckConstraints,
             retrieveTableConstraints)
+        .dependsOn("matchTableConstraints")
         .add(
             retrieveTableConstraintInformation,
             constraintRetriever::retrieveTableConstraintInformation,
             retrieveTableConstraints)
+        .dependsOn("matchTableConstraints")
         .add(retrieveViewInformation, viewExtRetriever::retrieveViewInformation, retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(retrieveViewTableUsage, viewExtRetriever::retrieveViewTableUsage, retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableDefinitionsInformation,
             retrieverExtra::retrieveTableDefinitions,
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveIndexInformation,
             () -> indexRetriever.retrieveIndexInformation(),
             retrieveIndexes)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveAdditionalTableAttributes,
             () -> retrieverExtra.retrieveAdditionalTableAttributes(),
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTablePrivileges,
             () -> retrieverPrivilege.retrieveTablePrivileges(),
             retrieveTables)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveTableColumnPrivileges,
             retrieverPrivilege::retrieveTableColumnPrivileges,
             retrieveTableColumns)
+        .dependsOn("filterAndSortTables")
         .add(
             retrieveAdditionalColumnAttributes,
             retrieverExtra::retrieveAdditionalColumnAttributes,
             retrieveTableColumns)
-        .submit();
-
-    taskRunner
+        .dependsOn("filterAndSortTables")
+        // Should be run after other column attributes are set
         .add(
             retrieveAdditionalColumnMetadata,
             retrieverExtra::retrieveAdditionalColumnMetadata,
             retrieveTableColumns)
+        .dependsOn(retrieveAdditionalColumnAttributes)
+        .submit();
+  }
+
+  private void crawlTables() throws Exception {
+
+    final LimitOptions limitOptions = options.limitOptions();
+    if (!infoLevel.is(retrieveTables) || limitOptions.isExcludeAll(ruleForTableInclusion)) {
+      LOGGER.log(Level.INFO, "Not retrieving tables, since this was not requested");
+      return;
+    }
+
+    final TableRetriever retriever = new TableRetriever(retrieverConnection, catalog, options);
+    final IncrementalTableRetriever incrementalRetriever =
+        new IncrementalTableRetriever(retrieverConnection, catalog, options);
+
+    taskRunner
+        .add(
+            retrieveTables,
+            () -> {
+              LOGGER.log(Level.INFO, "Retrieving table names");
+              retriever.retrieveTables(
+                  limitOptions.tableNamePattern(),
+                  limitOptions.tableTypes(),
+                  limitOptions.get(ruleForTableInclusion));
+            })
         .submit();
+
+    // For an incremental crawl, only retrieve tables that changed since the previous crawl
+    final boolean isIncrementalCrawl = incrementalRetriever.retrieveChangedTables(previousCatalog);
+    if (isIncrementalCrawl) {
+      taskRunner
+          .add("setAsideUnchangedTables", incrementalRetriever::setAsideUnchangedTables)
+          .submit();
+    }
+
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d tables", allTables.size()));
+    if (!allTables.isEmpty()) {
+      crawlTableDetails(allTables);
+    }
+
+    if (isIncrementalCrawl) {
+      reuseUnchangedTables(incrementalRetriever);
+    }
   }
 
   private void postCrawl() throws Exception {
@@ -485,4 +538,46 @@ public final class SchemaCrawler {
             retrieveTables)
         .submit();
   }
+
+  /**
+   * Adds unchanged tables from the previous crawl, and then links them to the tables retrieved in
+   * this crawl, by retrieving foreign keys and view table usage for the retrieved tables again.
+   */
+  private void reuseUnchangedTables(final IncrementalTableRetriever incrementalRetriever)
+      throws Exception {
+
+    final ForeignKeyRetriever fkRetriever =
+        new ForeignKeyRetriever(retrieverConnection, catalog, options);
+    final TableConstraintMatcher constraintMatcher =
+        new TableConstraintMatcher(retrieverConnection, catalog, options);
+    final ViewExtRetriever viewExtRetriever =
+        new ViewExtRetriever(retrieverConnection, catalog, options);
+
+    final NamedObjectList<MutableTable> retrievedTables = incrementalRetriever.getRetrievedTables();
+    final NamedObjectList<MutableTable> allTables = catalog.getAllTables();
+
+    taskRunner.add("addUnchangedTables", incrementalRetriever::addUnchangedTables).submit();
+    if (!retrievedTables.isEmpty()) {
+      taskRunner
+          .add(
+              retrieveForeignKeys,
+              () -> fkRetriever.retrieveForeignKeys(retrievedTables, false),
+              retrieveTableColumns)
+          .add(
+              "matchTableConstraints",
+              () -> constraintMatcher.matchTableConstraints(allTables),
+              retrieveTableColumns)
+          .dependsOn(retrieveForeignKeys)
+          .add(retrieveViewTableUsage, viewExtRetriever::retrieveViewTableUsage, retrieveTables)
+          .submit();
+    }
+    taskRunner
+        .add(
+            "sortTables",
+            () -> {
+              final TablesGraph tablesGraph = new TablesGraph(allTables);
+              tablesGraph.setTablesSortIndexes();
+            })
+        .submit();
+  }
 }
@@ -112,10 +112,11 @@ final class SchemaRetriever extends AbstractRetriever {
       final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
       try (final Connection connection = getRetrieverConnection().getConnection(name);
           final ResultSet catalogsResults = connection.getMetaData().getCatalogs(); ) {
+        final NamePool namePool = getRetrieverConnection().getNamePool();
         final List<String> metaDataCatalogNames = readResultsVector(catalogsResults);
         for (final String catalogName : metaDataCatalogNames) {
           retrievalCounts.count();
-          catalogNames.add(catalogName);
+          catalogNames.add(namePool.intern(catalogName));
           retrievalCounts.countIncluded();
         }
       } catch (final SQLException e) {
@@ -140,10 +141,12 @@ final class SchemaRetriever extends AbstractRetriever {
           final MetadataResultSet results =
               new MetadataResultSet(
                   connection.getMetaData().getSchemas(), "DatabaseMetaData::getSchemas"); ) {
+        final NamePool namePool = getRetrieverConnection().getNamePool();
         while (results.next()) {
           retrievalCounts.count();
-          final String catalogName = normalizeCatalogName(results.getString("TABLE_CATALOG"));
-          final String schemaName = results.getString("TABLE_SCHEM");
+          final String catalogName =
+              namePool.intern(normalizeCatalogName(results.getString("TABLE_CATALOG")));
+          final String schemaName = namePool.intern(results.getString("TABLE_SCHEM"));
           LOGGER.log(
               Level.FINER,
               new StringFormat("Retrieving schema: %s --> %s", catalogName, schemaName));
@@ -188,10 +191,11 @@ final class SchemaRetriever extends AbstractRetriever {
         final Statement statement = connection.createStatement();
         final MetadataResultSet results =
             new MetadataResultSet(schemataSql, statement, getLimitMap()); ) {
+      final NamePool namePool = getRetrieverConnection().getNamePool();
       while (results.next()) {
         retrievalCounts.count();
-        final String catalogName = results.getString("CATALOG_NAME");
-        final String schemaName = results.getString("SCHEMA_NAME");
+        final String catalogName = namePool.intern(results.getString("CATALOG_NAME"));
+        final String schemaName = namePool.intern(results.getString("SCHEMA_NAME"));
         LOGGER.log(
             Level.FINER, new StringFormat("Retrieving schema: %s --> %s", catalogName, schemaName));
         schemaRefs.add(new SchemaReference(catalogName, schemaName));
@@ -0,0 +1,302 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForColumnInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveColumnDataTypes;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveForeignKeys;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveIndexes;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrievePrimaryKeys;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTableColumns;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveTables;
+import static schemacrawler.schemacrawler.SchemaInfoRetrieval.retrieveUserDefinedColumnDataTypes;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.LoadOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.exceptions.DatabaseAccessException;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import us.fatehi.utility.database.ConnectionInfoBuilder;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Crawls the database one schema at a time, and pushes schemas, tables, columns, keys and indexes
+ * to a catalog visitor as they are retrieved, without building a catalog for the whole database.
+ * The crawl runs on a separate thread, and retrieved tables are buffered until the visitor takes
+ * them. When the buffer is full, the crawl waits for the visitor, so that at most one schema and a
+ * buffer of tables are held in memory.
+ *
+ * <p>Only tables, columns, primary keys, foreign keys and indexes are retrieved. Foreign keys to
+ * tables in other schemas reference partial tables. Grep options and parent-child table filters
+ * need the whole catalog, so they are not applied. With data dictionary retrieval, queries are run
+ * once for each schema.
+ */
+public final class StreamingSchemaCrawler {
+
+  private static final Logger LOGGER = Logger.getLogger(StreamingSchemaCrawler.class.getName());
+
+  private static final int DEFAULT_BUFFER_SIZE = 100;
+
+  private final SchemaCrawlerOptions options;
+  private final RetrieverConnection retrieverConnection;
+  private final SchemaInfoLevel infoLevel;
+  private final int maxThreads;
+  private final int bufferSize;
+
+  /**
+   * Constructs a streaming SchemaCrawler, from a database connection source, with the default
+   * buffer size.
+   *
+   * @param connectionSource A database connection source.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   */
+  public StreamingSchemaCrawler(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options) {
+    this(connectionSource, schemaRetrievalOptions, options, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructs a streaming SchemaCrawler, from a database connection source.
+   *
+   * @param connectionSource A database connection source.
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param options SchemaCrawler options
+   * @param bufferSize Number of retrieved tables that can wait for the visitor
+   */
+  public StreamingSchemaCrawler(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions options,
+      final int bufferSize) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Buffer size needs to be positive");
+    }
+    try {
+      this.options = requireNonNull(options, "No SchemaCrawler options provided");
+      this.bufferSize = bufferSize;
+
+      final LoadOptions loadOptions = options.loadOptions();
+      infoLevel = loadOptions.schemaInfoLevel();
+      maxThreads = loadOptions.maxThreads();
+
+      retrieverConnection =
+          new RetrieverConnection(connectionSource, schemaRetrievalOptions, maxThreads);
+
+    } catch (final SQLException e) {
+      throw new DatabaseAccessException(e);
+    }
+  }
+
+  /**
+   * Crawls the database, and pushes database metadata to the visitor as it is retrieved. Returns
+   * when all objects have been visited. Exceptions from the visitor stop the crawl.
+   *
+   * @param visitor Catalog visitor
+   */
+  public void crawl(final CatalogVisitor visitor) {
+    requireNonNull(visitor, "No catalog visitor provided");
+
+    final BlockingQueue<Consumer<CatalogVisitor>> buffer = new ArrayBlockingQueue<>(bufferSize);
+    final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Void> crawl =
+          executorService.submit(
+              () -> {
+                crawlSchemas(buffer);
+                return null;
+              });
+
+      // Visit objects as they are retrieved, until the crawl is done and the buffer is drained
+      while (true) {
+        final Consumer<CatalogVisitor> visit = buffer.poll(100, MILLISECONDS);
+        if (visit != null) {
+          visit.accept(visitor);
+        } else if (crawl.isDone() && buffer.isEmpty()) {
+          break;
+        }
+      }
+      crawl.get();
+
+      visitor.end();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutionRuntimeException(e);
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof final RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof final SQLException sqlException) {
+        throw new DatabaseAccessException(sqlException);
+      }
+      throw new ExecutionRuntimeException(cause);
+    } finally {
+      // Stops a crawl that is waiting for the visitor
+      executorService.shutdownNow();
+    }
+  }
+
+  private void crawlSchema(
+      final MutableCatalog schemaCatalog, final BlockingQueue<Consumer<CatalogVisitor>> buffer)
+      throws Exception {
+
+    final LimitOptions limitOptions = options.limitOptions();
+    final String runId = schemaCatalog.getCrawlInfo().getRunId();
+    final RetrievalTaskRunner taskRunner = new RetrievalTaskRunner(runId, infoLevel, maxThreads);
+    try {
+      final DataTypeRetriever dataTypeRetriever =
+          new DataTypeRetriever(retrieverConnection, schemaCatalog, options);
+      final TableRetriever tableRetriever =
+          new TableRetriever(retrieverConnection, schemaCatalog, options);
+      final TableColumnRetriever columnRetriever =
+          new TableColumnRetriever(retrieverConnection, schemaCatalog, options);
+      final PrimaryKeyRetriever pkRetriever =
+          new PrimaryKeyRetriever(retrieverConnection, schemaCatalog, options);
+      final ForeignKeyRetriever fkRetriever =
+          new ForeignKeyRetriever(retrieverConnection, schemaCatalog, options);
+      final IndexRetriever indexRetriever =
+          new IndexRetriever(retrieverConnection, schemaCatalog, options);
+
+      taskRunner
+          .add(
+              retrieveUserDefinedColumnDataTypes,
+              dataTypeRetriever::retrieveUserDefinedColumnDataTypes)
+          .add(
+              retrieveTables,
+              () ->
+                  tableRetriever.retrieveTables(
+                      limitOptions.tableNamePattern(),
+                      limitOptions.tableTypes(),
+                      limitOptions.get(ruleForTableInclusion)))
+          .submit();
+
+      final NamedObjectList<MutableTable> tables = schemaCatalog.getAllTables();
+      if (!tables.isEmpty()) {
+        taskRunner
+            .add(
+                retrieveTableColumns,
+                () -> {
+                  if (!limitOptions.isExcludeAll(ruleForColumnInclusion)) {
+                    columnRetriever.retrieveTableColumns(
+                        tables, limitOptions.get(ruleForColumnInclusion));
+                  }
+                })
+            .add(
+                retrievePrimaryKeys,
+                () -> pkRetriever.retrievePrimaryKeys(tables),
+                retrieveTableColumns)
+            .dependsOn(retrieveTableColumns)
+            .add(
+                retrieveForeignKeys,
+                () -> fkRetriever.retrieveForeignKeys(tables, false),
+                retrieveTableColumns)
+            .dependsOn(retrieveTableColumns)
+            .add(
+                retrieveIndexes, () -> indexRetriever.retrieveIndexes(tables), retrieveTableColumns)
+            .dependsOn(retrieveTableColumns)
+            .submit();
+      }
+    } finally {
+      taskRunner.stopAndLogTime();
+    }
+
+    for (final Table table : schemaCatalog.getTables()) {
+      buffer.put(visitor -> visitTable(visitor, table));
+    }
+  }
+
+  private void crawlSchemas(final BlockingQueue<Consumer<CatalogVisitor>> buffer) throws Exception {
+
+    final MutableDatabaseInfo databaseInfo;
+    final MutableJdbcDriverInfo jdbcDriverInfo;
+    try (final Connection connection =
+        retrieverConnection.getConnection("crawl connection information"); ) {
+      final ConnectionInfoBuilder connectionInfoBuilder = ConnectionInfoBuilder.builder(connection);
+      databaseInfo = new MutableDatabaseInfo(connectionInfoBuilder.buildDatabaseInformation());
+      jdbcDriverInfo =
+          new MutableJdbcDriverInfo(connectionInfoBuilder.buildJdbcDriverInformation());
+    }
+    final MutableCatalog catalog =
+        new MutableCatalog(options.title(), "catalog", databaseInfo, jdbcDriverInfo);
+
+    final SchemaRetriever schemaRetriever =
+        new SchemaRetriever(retrieverConnection, catalog, options);
+    schemaRetriever.retrieveSchemas(options.limitOptions().get(ruleForSchemaInclusion));
+    // Strategies are chosen once for all the schemas that are crawled
+    retrieverConnection.probeForAdaptiveRetrieval(catalog, maxThreads);
+    if (infoLevel.is(retrieveColumnDataTypes)) {
+      new DataTypeRetriever(retrieverConnection, catalog, options).retrieveSystemColumnDataTypes();
+    }
+
+    // All schema catalogs share the same crawl information, and run id
+    final ImmutableCrawlInfo crawlInfo =
+        catalog
+            .getCrawlInfo()
+            .withRetrievalStrategyDecisions(retrieverConnection.getRetrievalStrategyDecisions());
+    buffer.put(visitor -> visitor.start(crawlInfo));
+
+    final NamedObjectList<SchemaReference> schemas = catalog.getAllSchemas();
+    if (schemas.isEmpty()) {
+      throw new ExecutionRuntimeException("No matching schemas found");
+    }
+    LOGGER.log(Level.INFO, new StringFormat("Retrieved %d schemas", schemas.size()));
+
+    final boolean isRetrieveTables =
+        infoLevel.is(retrieveTables) && !options.limitOptions().isExcludeAll(ruleForTableInclusion);
+    for (final SchemaReference schema : schemas) {
+      // Each schema is crawled into its own catalog, which is discarded once it is visited
+      final MutableCatalog schemaCatalog =
+          new MutableCatalog(catalog.getName(), databaseInfo, jdbcDriverInfo, crawlInfo);
+      schemaCatalog.addSchema(schema);
+      for (final ColumnDataType columnDataType : catalog.getColumnDataTypes()) {
+        schemaCatalog.addColumnDataType((MutableColumnDataType) columnDataType);
+      }
+
+      buffer.put(visitor -> visitor.visitSchema(schema));
+      if (isRetrieveTables) {
+        LOGGER.log(Level.INFO, new StringFormat("Crawling schema <%s>", schema));
+        crawlSchema(schemaCatalog, buffer);
+      }
+    }
+  }
+
+  private void visitTable(final CatalogVisitor visitor, final Table table) {
+    visitor.visitTable(table);
+    table.getColumns().forEach(visitor::visitColumn);
+    if (table.hasPrimaryKey()) {
+      visitor.visitPrimaryKey(table.getPrimaryKey());
+    }
+    table.getImportedForeignKeys().forEach(visitor::visitForeignKey);
+    table.getIndexes().forEach(visitor::visitIndex);
+  }
+}
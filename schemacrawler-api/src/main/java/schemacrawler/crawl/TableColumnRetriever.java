@@ -19,7 +19,7 @@ import static us.fatehi.utility.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Collection;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,7 +29,6 @@ import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.NamedObjectKey;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -44,6 +43,38 @@ import us.fatehi.utility.string.StringFormat;
 /** A retriever uses database metadata to get the details about the database table columns. */
 final class TableColumnRetriever extends AbstractRetriever {
 
+  /**
+   * Looks up the table for each row of column results. Columns are returned ordered by table, so
+   * the table for the previous row is reused when the names match, without creating a lookup key.
+   * Not thread-safe, so each result set needs its own lookup.
+   */
+  private static final class TableLookup {
+
+    private final NamedObjectList<MutableTable> allTables;
+    private String catalogName;
+    private String schemaName;
+    private String tableName;
+    private Optional<MutableTable> table;
+
+    TableLookup(final NamedObjectList<MutableTable> allTables) {
+      this.allTables = requireNonNull(allTables, "No tables provided");
+    }
+
+    Optional<MutableTable> lookup(
+        final String catalogName, final String schemaName, final String tableName) {
+      if (table == null
+          || !Objects.equals(this.tableName, tableName)
+          || !Objects.equals(this.schemaName, schemaName)
+          || !Objects.equals(this.catalogName, catalogName)) {
+        table = allTables.lookup(new NamedObjectKey(catalogName, schemaName, tableName));
+        this.catalogName = catalogName;
+        this.schemaName = schemaName;
+        this.tableName = tableName;
+      }
+      return table;
+    }
+  }
+
   private static final Logger LOGGER = Logger.getLogger(TableColumnRetriever.class.getName());
 
   TableColumnRetriever(
@@ -94,7 +125,7 @@ final class TableColumnRetriever extends AbstractRetriever {
 
   private boolean createTableColumn(
       final MetadataResultSet results,
-      final NamedObjectList<MutableTable> allTables,
+      final TableLookup tableLookup,
       final InclusionRuleFilter<Column> columnFilter,
       final Set<NamedObjectKey> hiddenTableColumnsLookupKeys) {
 
@@ -103,10 +134,12 @@ final class TableColumnRetriever extends AbstractRetriever {
     // https://github.com/schemacrawler/SchemaCrawler/issues/835
     final String defaultValue = results.getString("COLUMN_DEF");
 
+    final NamePool namePool = getRetrieverConnection().getNamePool();
+
     final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
     final String tableName = results.getString("TABLE_NAME");
-    final String columnName = results.getString("COLUMN_NAME");
+    final String columnName = namePool.intern(results.getString("COLUMN_NAME"));
     LOGGER.log(
         Level.FINE,
         new StringFormat(
@@ -117,7 +150,7 @@ final class TableColumnRetriever extends AbstractRetriever {
     }
 
     final Optional<MutableTable> optionalTable =
-        allTables.lookup(new NamedObjectKey(catalogName, schemaName, tableName));
+        tableLookup.lookup(catalogName, schemaName, tableName);
     if (optionalTable.isEmpty()) {
       return false;
     }
@@ -136,7 +169,7 @@ final class TableColumnRetriever extends AbstractRetriever {
           results.getInt("NULLABLE", columnNullableUnknown) == columnNullable;
       final boolean isAutoIncremented = results.getBoolean("IS_AUTOINCREMENT");
       final boolean isGenerated = results.getBoolean("IS_GENERATEDCOLUMN");
-      final String remarks = results.getString("REMARKS");
+      final String remarks = namePool.intern(results.getString("REMARKS"));
 
       final boolean isHidden = hiddenTableColumnsLookupKeys.contains(column.key());
 
@@ -149,10 +182,10 @@ final class TableColumnRetriever extends AbstractRetriever {
       column.setGenerated(isGenerated);
       column.setRemarks(remarks);
       if (defaultValue != null) {
-        column.setDefaultValue(defaultValue);
+        column.setDefaultValue(namePool.intern(defaultValue));
       }
 
-      column.addAttributes(results.getAttributes());
+      column.addAttributes(namePool.internValues(results.getAttributes()));
 
       LOGGER.log(
           Level.FINER,
@@ -237,9 +270,10 @@ final class TableColumnRetriever extends AbstractRetriever {
         final MetadataResultSet results =
             new MetadataResultSet(tableColumnsSql, statement, getLimitMap()); ) {
       retrievalCounts.count();
+      final TableLookup tableLookup = new TableLookup(allTables);
       while (results.next()) {
         final boolean added =
-            createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+            createTableColumn(results, tableLookup, columnFilter, hiddenTableColumnsLookupKeys);
         retrievalCounts.countIfIncluded(added);
       }
     }
@@ -273,11 +307,12 @@ final class TableColumnRetriever extends AbstractRetriever {
                                       table.getName(),
                                       null),
                               "DatabaseMetaData::getColumns"); ) {
+                    final TableLookup tableLookup = new TableLookup(allTables);
                     while (results.next()) {
                       retrievalCounts.count();
                       final boolean added =
                           createTableColumn(
-                              results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
+                              results, tableLookup, columnFilter, hiddenTableColumnsLookupKeys);
                       retrievalCounts.countIfIncluded(added);
                     }
                   } catch (final SQLException e) {
@@ -302,35 +337,18 @@ final class TableColumnRetriever extends AbstractRetriever {
       final Set<NamedObjectKey> hiddenTableColumnsLookupKeys)
       throws SQLException {
 
-    final Collection<Schema> schemas = catalog.getSchemas();
-    final String name = "table columns from metadata over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : schemas) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final MetadataResultSet results =
-              new MetadataResultSet(
-                  connection
-                      .getMetaData()
-                      .getColumns(schema.getCatalogName(), schema.getName(), null, null),
-                  "DatabaseMetaData::getColumns"); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added =
-              createTableColumn(results, allTables, columnFilter, hiddenTableColumnsLookupKeys);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final SQLException e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve table columns for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    // Rows are handled one at a time, so the table lookup can be shared
+    final TableLookup tableLookup = new TableLookup(allTables);
+    retrieveOverSchemas(
+        "table columns from metadata over schemas",
+        schemasWithTables(),
+        (connection, statement, schema) ->
+            new MetadataResultSet(
+                connection
+                    .getMetaData()
+                    .getColumns(schema.getCatalogName(), schema.getName(), null, null),
+                "DatabaseMetaData::getColumns"),
+        (schema, results) ->
+            createTableColumn(results, tableLookup, columnFilter, hiddenTableColumnsLookupKeys));
   }
 }
@@ -29,7 +29,6 @@ import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.NamedObjectKey;
-import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.schema.TableConstraint;
 import schemacrawler.schema.TableConstraintType;
@@ -422,32 +421,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
   private void retrieveCheckConstraintsOverSchemas(final Query checkConstraintSql)
       throws SQLException {
-    final String name = "check constraint definitions";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(checkConstraintSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count();
-          final boolean added = addCheckConstraint(results);
-          retrievalCounts.countIfIncluded(added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat(
-                "Could not retrieve check constraint definitions for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "check constraint definitions",
+        schemasWithTables(),
+        checkConstraintSql,
+        this::addCheckConstraint);
   }
 
   private void retrieveTableConstraintColumnsFromDataDictionary(
@@ -471,32 +449,11 @@ final class TableConstraintRetriever extends AbstractRetriever {
 
   private void retrieveTableConstraintColumnsOverSchemas(final Query tableConstraintsColumnsSql)
       throws SQLException {
-    final String name = "table constraints columns";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(tableConstraintsColumnsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createTableConstraintColumn(results);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat(
-                "Could not retrieve table constraint columns for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "table constraints columns",
+        schemasWithTables(),
+        tableConstraintsColumnsSql,
+        this::createTableConstraintColumn);
   }
 
   /**
@@ -530,30 +487,7 @@ final class TableConstraintRetriever extends AbstractRetriever {
    */
   private void retrieveTableConstraintsOverSchemas(final Query tableConstraintsSql)
       throws SQLException {
-    final String name = "table constraints";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(tableConstraintsSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = createTableConstraint(results);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve table constraints for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "table constraints", schemasWithTables(), tableConstraintsSql, this::createTableConstraint);
   }
 }
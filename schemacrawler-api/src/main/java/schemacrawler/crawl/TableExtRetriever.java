@@ -22,7 +22,6 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.plugin.EnumDataTypeHelper;
 import schemacrawler.plugin.EnumDataTypeInfo;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -286,32 +285,11 @@ final class TableExtRetriever extends AbstractRetriever {
 
   private void retrieveAdditionalColumnAttributesOverSchemas(final Query columnAttributesSql)
       throws SQLException {
-    final String name = "columns with attibutes over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(columnAttributesSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = addAdditionalColumnAttributes(results);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat(
-                "Could not retrieve additional column attributes for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "columns with attibutes over schemas",
+        schemasWithTables(),
+        columnAttributesSql,
+        this::addAdditionalColumnAttributes);
   }
 
   private void retrieveAdditionalTableAttributesFromDataDictionary(final Query tableAttributesSql)
@@ -336,31 +314,10 @@ final class TableExtRetriever extends AbstractRetriever {
 
   private void retrieveAdditionalTableAttributesOverSchemas(final Query tableAttributesSql)
       throws SQLException {
-    final String name = "tables with attributes over schemas";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(tableAttributesSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          final boolean added = addAdditionalTableAttributes(results);
-          retrievalCounts.countIfIncluded(schema.key(), added);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat(
-                "Could not retrieve additional table attributes for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "tables with attributes over schemas",
+        schemasWithTables(),
+        tableAttributesSql,
+        this::addAdditionalTableAttributes);
   }
 }
@@ -83,14 +83,16 @@ final class TableRetriever extends AbstractRetriever {
       final NamedObjectList<SchemaReference> schemas,
       final InclusionRuleFilter<Table> tableFilter,
       final TableTypes filteredTableTypes) {
+    final NamePool namePool = getRetrieverConnection().getNamePool();
+
     final String catalogName = normalizeCatalogName(results.getString("TABLE_CAT"));
     final String schemaName = normalizeSchemaName(results.getString("TABLE_SCHEM"));
-    final String tableName = results.getString("TABLE_NAME");
+    final String tableName = namePool.intern(results.getString("TABLE_NAME"));
     LOGGER.log(
         Level.FINE,
         new StringFormat("Retrieving table <%s.%s.%s>", catalogName, schemaName, tableName));
     final String tableTypeString = results.getString("TABLE_TYPE");
-    final String remarks = results.getString("REMARKS");
+    final String remarks = namePool.intern(results.getString("REMARKS"));
 
     final Optional<SchemaReference> optionalSchema =
         schemas.lookup(new NamedObjectKey(catalogName, schemaName));
@@ -121,7 +123,7 @@ final class TableRetriever extends AbstractRetriever {
     if (tableFilter.test(table)) {
       table.setTableType(tableType);
       table.setRemarks(remarks);
-      table.addAttributes(results.getAttributes());
+      table.addAttributes(namePool.internValues(results.getAttributes()));
 
       catalog.addTable(table);
       return true;
@@ -24,8 +24,11 @@ final class TablesGraph extends DirectedGraph<Table> {
 
   private static final Logger LOGGER = Logger.getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables) {
     super("catalog");
+    this.tables = tables;
 
     if (tables == null) {
       return;
@@ -66,6 +69,9 @@ final class TablesGraph extends DirectedGraph<Table> {
     } catch (final GraphException e) {
       LOGGER.log(Level.CONFIG, e.getMessage());
     }
+    if (tables != null) {
+      tables.resort();
+    }
   }
 
   private List<Table> topologicalSort() throws GraphException {
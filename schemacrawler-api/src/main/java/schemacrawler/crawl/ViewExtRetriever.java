@@ -20,7 +20,6 @@ import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.CheckOptionType;
-import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -222,32 +221,11 @@ final class ViewExtRetriever extends AbstractRetriever {
    */
   private void retrieveViewInformationOverSchemas(final Query viewInformationSql)
       throws SQLException {
-    final String name = "additional view information";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(viewInformationSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          boolean addedViewInformation = addViewInformation(results);
-          retrievalCounts.countIfIncluded(schema.key(), addedViewInformation);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat(
-                "Could not retrieve additional view information for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "additional view information",
+        schemasWithTables(),
+        viewInformationSql,
+        this::addViewInformation);
   }
 
   /**
@@ -281,30 +259,7 @@ final class ViewExtRetriever extends AbstractRetriever {
    */
   private void retrieveViewTableUsageOverSchemas(final Query viewTableUsageSql)
       throws SQLException {
-    final String name = "views for table usage";
-    final RetrievalCounts retrievalCounts = new RetrievalCounts(name);
-    for (final Schema schema : getAllSchemas()) {
-      if (catalog.getTables(schema).isEmpty()) {
-        continue;
-      }
-      try (final Connection connection = getRetrieverConnection().getConnection(name);
-          final SchemaSetter schemaSetter = new SchemaSetter(connection, schema);
-          final Statement statement = connection.createStatement();
-          final MetadataResultSet results =
-              new MetadataResultSet(viewTableUsageSql, statement, getLimitMap(schema)); ) {
-        while (results.next()) {
-          retrievalCounts.count(schema.key());
-          boolean addedTableUsage = addViewTableUsage(results);
-          retrievalCounts.countIfIncluded(schema.key(), addedTableUsage);
-        }
-      } catch (final Exception e) {
-        LOGGER.log(
-            Level.WARNING,
-            e,
-            new StringFormat("Could not retrieve table usage for views for schema <%s>", schema));
-      }
-      retrievalCounts.log(schema.key());
-    }
-    retrievalCounts.log();
+    retrieveOverSchemas(
+        "views for table usage", schemasWithTables(), viewTableUsageSql, this::addViewTableUsage);
   }
 }
@@ -8,6 +8,7 @@
 
 package schemacrawler.filter;
 
+import static schemacrawler.inclusionrule.CompiledInclusionRule.compile;
 import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
 
 import java.util.function.Predicate;
@@ -26,13 +27,13 @@ final class DatabaseObjectFilter<D extends DatabaseObject> implements Predicate<
       final LimitOptions options,
       final DatabaseObjectRuleForInclusion databaseObjectRuleForInclusion) {
     if (options != null) {
-      schemaInclusionRule = options.get(ruleForSchemaInclusion);
+      schemaInclusionRule = compile(options.get(ruleForSchemaInclusion));
     } else {
       schemaInclusionRule = new IncludeAll();
     }
 
     if (databaseObjectRuleForInclusion != null) {
-      this.databaseObjectInclusionRule = options.get(databaseObjectRuleForInclusion);
+      this.databaseObjectInclusionRule = compile(options.get(databaseObjectRuleForInclusion));
     } else {
       this.databaseObjectInclusionRule = new IncludeAll();
     }
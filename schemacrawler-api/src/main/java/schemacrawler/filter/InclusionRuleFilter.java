@@ -8,6 +8,8 @@
 
 package schemacrawler.filter;
 
+import static schemacrawler.inclusionrule.CompiledInclusionRule.compile;
+
 import java.util.function.Predicate;
 import schemacrawler.inclusionrule.ExcludeAll;
 import schemacrawler.inclusionrule.IncludeAll;
@@ -20,7 +22,7 @@ public class InclusionRuleFilter<N extends NamedObject> implements Predicate<N>
 
   public InclusionRuleFilter(final InclusionRule inclusionRule, final boolean inclusive) {
     if (inclusionRule != null) {
-      this.inclusionRule = inclusionRule;
+      this.inclusionRule = compile(inclusionRule);
     } else {
       if (inclusive) {
         this.inclusionRule = new IncludeAll();
@@ -11,8 +11,10 @@ package schemacrawler.filter;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.utility.MetaDataUtility.isPartial;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import schemacrawler.schema.Reducer;
@@ -74,21 +76,33 @@ final class TablesReducer implements Reducer<Table> {
     allTables.filter(keepTables::contains);
   }
 
+  /**
+   * Includes related tables up to a depth, with a breadth-first search. Only tables that were newly
+   * added at one depth are expanded at the next depth, so the related tables for each table are
+   * looked up at most once.
+   *
+   * @param tableRelationshipType Parent or child tables
+   * @param depth Depth of the search
+   * @param greppedTables Tables to start from
+   * @return Starting tables, and related tables up to the depth
+   */
   private Collection<Table> includeRelatedTables(
       final TableRelationshipType tableRelationshipType,
       final int depth,
       final Set<Table> greppedTables) {
-    final Set<Table> includedTables = new HashSet<>();
-    includedTables.addAll(greppedTables);
+    final Set<Table> includedTables = new HashSet<>(greppedTables);
 
-    for (int i = 0; i < depth; i++) {
-      for (final Table table : new HashSet<>(includedTables)) {
+    Collection<Table> frontier = greppedTables;
+    for (int i = 0; i < depth && !frontier.isEmpty(); i++) {
+      final List<Table> nextFrontier = new ArrayList<>();
+      for (final Table table : frontier) {
         for (final Table relatedTable : table.getRelatedTables(tableRelationshipType)) {
-          if (!isPartial(relatedTable)) {
-            includedTables.add(relatedTable);
+          if (!isPartial(relatedTable) && includedTables.add(relatedTable)) {
+            nextFrontier.add(relatedTable);
           }
         }
       }
+      frontier = nextFrontier;
     }
 
     return includedTables;
@@ -0,0 +1,358 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.inclusionrule;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.isBlank;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Inclusion rule that gives the same decisions as another inclusion rule, but is faster to evaluate
+ * when the same rule is applied to a large number of names. Regular expressions that are
+ * alternations of literal names are evaluated as set lookups, and alternations of literal prefixes
+ * followed by ".*" are evaluated with a prefix trie. Decisions for other rules are remembered for
+ * each distinct name. Compiled rules are serialized as the original rule.
+ */
+public final class CompiledInclusionRule implements InclusionRule {
+
+  @FunctionalInterface
+  private interface TextMatcher {
+    boolean matches(String text);
+  }
+
+  /** Trie of literal prefixes, which matches text that starts with any of the prefixes. */
+  private static final class PrefixTrie {
+
+    private final Map<Character, PrefixTrie> children = new HashMap<>();
+    private boolean isPrefixEnd;
+
+    void add(final String prefix) {
+      PrefixTrie node = this;
+      for (int i = 0; i < prefix.length(); i++) {
+        node = node.children.computeIfAbsent(prefix.charAt(i), c -> new PrefixTrie());
+      }
+      node.isPrefixEnd = true;
+    }
+
+    /**
+     * Finds the end of the shortest prefix of the text that is in the trie.
+     *
+     * @param text Text to match
+     * @return Index after the matched prefix, or -1 if no prefix matches
+     */
+    int matchedPrefixEnd(final String text) {
+      PrefixTrie node = this;
+      for (int i = 0; ; i++) {
+        if (node.isPrefixEnd) {
+          return i;
+        }
+        if (i == text.length()) {
+          return -1;
+        }
+        node = node.children.get(text.charAt(i));
+        if (node == null) {
+          return -1;
+        }
+      }
+    }
+  }
+
+  @Serial private static final long serialVersionUID = -3725178906219467212L;
+
+  private static final Logger LOGGER = Logger.getLogger(CompiledInclusionRule.class.getName());
+
+  private static final int MAX_REMEMBERED_DECISIONS = 100_000;
+  private static final int MAX_REMEMBERED_TEXT_LENGTH = 256;
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+  private static final int UNSUPPORTED_FLAGS =
+      Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ | Pattern.MULTILINE;
+
+  /**
+   * Compiles an inclusion rule. Rules that are already fast to evaluate are returned as they are.
+   *
+   * @param inclusionRule Inclusion rule to compile
+   * @return Compiled inclusion rule, which gives the same decisions
+   */
+  public static InclusionRule compile(final InclusionRule inclusionRule) {
+    if (inclusionRule == null
+        || inclusionRule instanceof IncludeAll
+        || inclusionRule instanceof ExcludeAll
+        || inclusionRule instanceof CompiledInclusionRule) {
+      return inclusionRule;
+    }
+    if (inclusionRule instanceof final RegularExpressionInclusionRule wrappingRule) {
+      return compile(wrappingRule.getInclusionRule(), inclusionRule);
+    }
+    if (inclusionRule instanceof final RegularExpressionExclusionRule wrappingRule) {
+      return compile(wrappingRule.getInclusionRule(), inclusionRule);
+    }
+    return new CompiledInclusionRule(inclusionRule, inclusionRule);
+  }
+
+  private static InclusionRule compile(
+      final InclusionRule wrappedRule, final InclusionRule inclusionRule) {
+    if (wrappedRule instanceof IncludeAll || wrappedRule instanceof ExcludeAll) {
+      return wrappedRule;
+    }
+    return new CompiledInclusionRule(wrappedRule, inclusionRule);
+  }
+
+  private static boolean hasLineTerminator(
+      final String text, final int beginIndex, final boolean isUnixLines) {
+    for (int i = beginIndex; i < text.length(); i++) {
+      final char ch = text.charAt(i);
+      if (ch == '\n'
+          || !isUnixLines && (ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029')) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean matches(
+      final TextMatcher textMatcher, final Pattern pattern, final String text) {
+    if (textMatcher == null) {
+      return pattern.matcher(text).matches();
+    }
+    return textMatcher.matches(text);
+  }
+
+  /**
+   * Creates a fast matcher for a pattern, if the pattern is made up only of literal alternatives,
+   * or literal prefixes followed by ".*", optionally in a group.
+   *
+   * @param pattern Pattern to match, in full
+   * @return Matcher that gives the same results as the pattern, or null if the pattern needs to be
+   *     matched as a regular expression
+   */
+  private static TextMatcher newTextMatcher(final Pattern pattern) {
+    final int flags = pattern.flags();
+    if ((flags & UNSUPPORTED_FLAGS) != 0) {
+      return null;
+    }
+    if ((flags & Pattern.LITERAL) != 0) {
+      final String literal = pattern.pattern();
+      return literal::equals;
+    }
+
+    final List<String> alternatives = splitAlternatives(stripGroup(pattern.pattern()));
+    if (alternatives == null) {
+      return null;
+    }
+
+    final Set<String> literals = new HashSet<>();
+    final PrefixTrie prefixes = new PrefixTrie();
+    boolean hasPrefixes = false;
+    for (final String alternative : alternatives) {
+      final boolean isPrefix =
+          alternative.endsWith(".*")
+              && !alternative.endsWith("\\.*")
+              && alternative.lastIndexOf("\\E") >= alternative.lastIndexOf("\\Q");
+      final String literal =
+          unescapeLiteral(
+              isPrefix ? alternative.substring(0, alternative.length() - 2) : alternative);
+      if (literal == null) {
+        return null;
+      }
+      if (isPrefix) {
+        prefixes.add(literal);
+        hasPrefixes = true;
+      } else {
+        literals.add(literal);
+      }
+    }
+
+    if (!hasPrefixes) {
+      return literals::contains;
+    }
+    // Without DOTALL, ".*" does not match line terminators
+    final boolean isDotAll = (flags & Pattern.DOTALL) != 0;
+    final boolean isUnixLines = (flags & Pattern.UNIX_LINES) != 0;
+    return text -> {
+      if (literals.contains(text)) {
+        return true;
+      }
+      final int prefixEnd = prefixes.matchedPrefixEnd(text);
+      if (prefixEnd < 0) {
+        return false;
+      }
+      return isDotAll || !hasLineTerminator(text, prefixEnd, isUnixLines);
+    };
+  }
+
+  /**
+   * Splits a pattern into alternatives, if there are no groups or character classes in it.
+   *
+   * @param pattern Pattern to split
+   * @return Alternatives, or null if the pattern has groups or character classes
+   */
+  private static List<String> splitAlternatives(final String pattern) {
+    final List<String> alternatives = new ArrayList<>();
+    int start = 0;
+    boolean isQuoted = false;
+    for (int i = 0; i < pattern.length(); i++) {
+      final char ch = pattern.charAt(i);
+      if (isQuoted) {
+        if (pattern.startsWith("\\E", i)) {
+          isQuoted = false;
+          i++;
+        }
+      } else if (ch == '\\') {
+        isQuoted = pattern.startsWith("\\Q", i);
+        i++;
+      } else if (ch == '|') {
+        alternatives.add(pattern.substring(start, i));
+        start = i + 1;
+      } else if (ch == '(' || ch == ')' || ch == '[' || ch == ']') {
+        return null;
+      }
+    }
+    alternatives.add(pattern.substring(start));
+    return alternatives;
+  }
+
+  /**
+   * Removes an enclosing group around the whole pattern, such as "(A|B)" or "(?:A|B)".
+   *
+   * @param pattern Pattern
+   * @return Pattern without the enclosing group
+   */
+  private static String stripGroup(final String pattern) {
+    final String prefix;
+    if (pattern.startsWith("(?:")) {
+      prefix = "(?:";
+    } else if (pattern.startsWith("(") && !pattern.startsWith("(?")) {
+      prefix = "(";
+    } else {
+      return pattern;
+    }
+    if (!pattern.endsWith(")") || pattern.endsWith("\\)")) {
+      return pattern;
+    }
+    final String group = pattern.substring(prefix.length(), pattern.length() - 1);
+    // The group is only enclosing if there are no other groups in it
+    if (splitAlternatives(group) == null) {
+      return pattern;
+    }
+    return group;
+  }
+
+  /**
+   * Converts a pattern with only literal characters, escaped metacharacters and quoted sections
+   * into the literal string that it matches.
+   *
+   * @param pattern Pattern
+   * @return Literal string, or null if the pattern is not a literal
+   */
+  private static String unescapeLiteral(final String pattern) {
+    final StringBuilder literal = new StringBuilder(pattern.length());
+    for (int i = 0; i < pattern.length(); i++) {
+      final char ch = pattern.charAt(i);
+      if (ch == '\\') {
+        if (i + 1 == pattern.length()) {
+          return null;
+        }
+        final char escaped = pattern.charAt(i + 1);
+        if (escaped == 'Q') {
+          final int quoteEnd = pattern.indexOf("\\E", i + 2);
+          if (quoteEnd < 0) {
+            literal.append(pattern, i + 2, pattern.length());
+            i = pattern.length();
+          } else {
+            literal.append(pattern, i + 2, quoteEnd);
+            i = quoteEnd + 1;
+          }
+        } else if (METACHARACTERS.indexOf(escaped) >= 0) {
+          literal.append(escaped);
+          i++;
+        } else {
+          // Character classes such as \d or \w, and other escapes
+          return null;
+        }
+      } else if (METACHARACTERS.indexOf(ch) >= 0) {
+        return null;
+      } else {
+        literal.append(ch);
+      }
+    }
+    return literal.toString();
+  }
+
+  private final InclusionRule inclusionRule;
+  private final transient InclusionRule compiledRule;
+  private final transient Map<String, Boolean> decisions;
+  private final transient boolean isRemembering;
+
+  private CompiledInclusionRule(
+      final InclusionRule wrappedRule, final InclusionRule inclusionRule) {
+    this.inclusionRule = requireNonNull(inclusionRule, "No inclusion rule provided");
+    requireNonNull(wrappedRule, "No inclusion rule provided");
+
+    if (wrappedRule instanceof final RegularExpressionRule regularExpressionRule) {
+      final Pattern inclusionPattern = regularExpressionRule.getInclusionPattern();
+      final Pattern exclusionPattern = regularExpressionRule.getExclusionPattern();
+      final TextMatcher includes = newTextMatcher(inclusionPattern);
+      final TextMatcher excludes = newTextMatcher(exclusionPattern);
+      isRemembering = includes == null || excludes == null;
+      compiledRule =
+          text ->
+              !isBlank(text)
+                  && matches(includes, inclusionPattern, text)
+                  && !matches(excludes, exclusionPattern, text);
+    } else {
+      // Decisions from rules that cannot be compiled are remembered instead
+      isRemembering = true;
+      compiledRule = wrappedRule;
+    }
+    decisions = isRemembering ? new ConcurrentHashMap<>() : null;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean test(final String text) {
+    final boolean isRemembered =
+        isRemembering && text != null && text.length() <= MAX_REMEMBERED_TEXT_LENGTH;
+    Boolean include = isRemembered ? decisions.get(text) : null;
+    if (include == null) {
+      include = compiledRule.test(text);
+      if (isRemembered && decisions.size() < MAX_REMEMBERED_DECISIONS) {
+        decisions.put(text, include);
+      }
+    }
+
+    if (LOGGER.isLoggable(Level.FINE)) {
+      LOGGER.log(
+          Level.FINE,
+          "%s <%s> by %s".formatted(include ? "Including" : "Excluding", text, inclusionRule));
+    }
+    return include;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String toString() {
+    return inclusionRule.toString();
+  }
+
+  @Serial
+  private Object writeReplace() {
+    return inclusionRule;
+  }
+}
@@ -91,4 +91,8 @@ public final class RegularExpressionExclusionRule implements InclusionRuleWithRe
   public String toString() {
     return inclusionRule.toString();
   }
+
+  InclusionRule getInclusionRule() {
+    return inclusionRule;
+  }
 }
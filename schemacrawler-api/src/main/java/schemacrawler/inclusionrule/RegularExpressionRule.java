@@ -13,11 +13,9 @@ import static us.fatehi.utility.Utility.isBlank;
 
 import java.io.Serial;
 import java.util.Objects;
-import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
-import us.fatehi.utility.string.StringFormat;
 
 /**
  * Specifies inclusion and exclusion patterns that can be applied to the names, definitions, and
@@ -96,30 +94,27 @@ public final class RegularExpressionRule implements InclusionRuleWithRegularExpr
   @Override
   public boolean test(final String text) {
 
-    final Supplier<String> actionMessage;
-    boolean include = false;
-    if (!isBlank(text)) {
-      if (!patternInclude.matcher(text).matches()) {
+    final boolean isBlank = isBlank(text);
+    final boolean matchesInclude = !isBlank && patternInclude.matcher(text).matches();
+    final boolean matchesExclude = matchesInclude && patternExclude.matcher(text).matches();
+    final boolean include = matchesInclude && !matchesExclude;
+
+    // Log caller, building the message only if it will be logged
+    if (LOGGER.isLoggable(Level.FINE)) {
+      final String actionMessage;
+      if (isBlank) {
+        actionMessage = "Excluding, since text is blank";
+      } else if (!matchesInclude) {
         actionMessage =
-            new StringFormat(
-                "Excluding <%s> since it does not match /%s/", text, patternInclude.pattern());
-      } else if (patternExclude.matcher(text).matches()) {
+            "Excluding <%s> since it does not match /%s/".formatted(text, patternInclude.pattern());
+      } else if (matchesExclude) {
         actionMessage =
-            new StringFormat(
-                "Excluding <%s> since it matches /%s/", text, patternExclude.pattern());
+            "Excluding <%s> since it matches /%s/".formatted(text, patternExclude.pattern());
       } else {
         actionMessage =
-            new StringFormat(
-                "Including <%s> since it matches /%s/", text, patternInclude.pattern());
-        include = true;
+            "Including <%s> since it matches /%s/".formatted(text, patternInclude.pattern());
       }
-    } else {
-      actionMessage = new StringFormat("Excluding, since text is blank");
-    }
-
-    // Log caller
-    if (LOGGER.isLoggable(Level.FINE)) {
-      LOGGER.log(Level.FINE, actionMessage.get());
+      LOGGER.log(Level.FINE, actionMessage);
     }
 
     return include;
@@ -10,6 +10,8 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import us.fatehi.utility.property.ProductVersion;
 
 public interface CrawlInfo extends Serializable {
@@ -63,6 +65,16 @@ public interface CrawlInfo extends Serializable {
    */
   ProductVersion getOperatingSystemVersion();
 
+  /**
+   * Gets the metadata retrieval strategies that were chosen for retrievals that were configured to
+   * be adaptive, in the order that they were chosen.
+   *
+   * @return Retrieval strategy decisions
+   */
+  default Collection<RetrievalStrategyDecision> getRetrievalStrategyDecisions() {
+    return List.of();
+  }
+
   /**
    * Unique identifier for each SchemaCrawler run.
    *
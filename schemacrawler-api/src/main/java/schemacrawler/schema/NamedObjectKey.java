@@ -18,14 +18,30 @@ public final class NamedObjectKey implements Serializable, Comparable<NamedObjec
 
   @Serial private static final long serialVersionUID = -5008609072012459037L;
 
+  private static final String[] EMPTY_KEY = new String[0];
+
   private final String[] key;
+  // Cached hash code, which is recomputed after deserialization
+  private transient int hash;
 
   public NamedObjectKey(final String... key) {
     if (key == null || key.length == 0) {
-      this.key = new String[0];
+      this.key = EMPTY_KEY;
     } else {
       this.key = Arrays.copyOf(key, key.length);
     }
+    hash = computeHashCode();
+  }
+
+  /**
+   * Creates a key that takes ownership of the array of key parts, without copying it.
+   *
+   * @param key Key parts, which are not modified after this
+   * @param hash Precomputed hash code
+   */
+  private NamedObjectKey(final String[] key, final int hash) {
+    this.key = key;
+    this.hash = hash;
   }
 
   @Override
@@ -49,7 +65,12 @@ public final class NamedObjectKey implements Serializable, Comparable<NamedObjec
 
   @Override
   public int hashCode() {
-    return Arrays.hashCode(key);
+    int hashCode = hash;
+    if (hashCode == 0) {
+      hashCode = computeHashCode();
+      hash = hashCode;
+    }
+    return hashCode;
   }
 
   public String slug() {
@@ -69,6 +90,12 @@ public final class NamedObjectKey implements Serializable, Comparable<NamedObjec
     final int currentLength = key.length;
     final String[] newKey = Arrays.copyOf(key, currentLength + 1);
     newKey[currentLength] = name;
-    return new NamedObjectKey(newKey);
+    // Extend the hash code of this key in the same way as Arrays.hashCode
+    final int newHash = 31 * hashCode() + (name == null ? 0 : name.hashCode());
+    return new NamedObjectKey(newKey, newHash);
+  }
+
+  private int computeHashCode() {
+    return Arrays.hashCode(key);
   }
 }
@@ -0,0 +1,50 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.schema;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.Utility.requireNotBlank;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Metadata retrieval strategy that was chosen during a crawl for a retrieval that was configured to
+ * be adaptive, with the measurements that it was chosen from.
+ *
+ * @param retrieval Key of the retrieval, such as "foreign-keys"
+ * @param strategy Name of the chosen metadata retrieval strategy
+ * @param roundTripLatency Observed round-trip latency to the database server
+ * @param schemaCount Number of schemas that are crawled
+ * @param databaseSchemaCount Number of schemas in the database
+ * @param objectCount Number of tables or routines that details are retrieved for
+ * @param estimatedTimes Estimated retrieval times for each strategy that could be used, in the
+ *     order they were considered
+ */
+public record RetrievalStrategyDecision(
+    String retrieval,
+    String strategy,
+    Duration roundTripLatency,
+    int schemaCount,
+    int databaseSchemaCount,
+    int objectCount,
+    Map<String, Duration> estimatedTimes)
+    implements Serializable {
+
+  public RetrievalStrategyDecision {
+    requireNotBlank(retrieval, "No retrieval provided");
+    requireNotBlank(strategy, "No retrieval strategy provided");
+    requireNonNull(roundTripLatency, "No round-trip latency provided");
+    requireNonNull(estimatedTimes, "No estimated times provided");
+    estimatedTimes = Collections.unmodifiableMap(new LinkedHashMap<>(estimatedTimes));
+  }
+}
@@ -17,6 +17,7 @@ import static schemacrawler.schemacrawler.InformationSchemaKeyType.OPERATION;
 public enum InformationSchemaKey {
   ADDITIONAL_COLUMN_ATTRIBUTES(ADDITIONAL_INFO),
   ADDITIONAL_TABLE_ATTRIBUTES(ADDITIONAL_INFO),
+  CHANGED_TABLES(ADDITIONAL_INFO), // Tables with DDL changes since ${crawl-timestamp}, in UTC
   CHECK_CONSTRAINTS(INFORMATION_SCHEMA),
   CONSTRAINT_COLUMN_USAGE(INFORMATION_SCHEMA),
   DATABASE_USERS(ADDITIONAL_INFO),
@@ -35,6 +36,7 @@ public enum InformationSchemaKey {
   ROUTINES(INFORMATION_SCHEMA),
   ROUTINE_REFERENCES(METADATA_EXTENSION),
   SCHEMATA(INFORMATION_SCHEMA),
+  SCHEMA_CHANGE_MARKER(ADDITIONAL_INFO), // Changes with any DDL, such as the latest DDL timestamp
   SEQUENCES(INFORMATION_SCHEMA),
   SERVER_INFORMATION(ADDITIONAL_INFO),
   TABLES(DATABASE_METADATA),
@@ -43,6 +45,7 @@ public enum InformationSchemaKey {
   TABLE_COLUMN_PRIVILEGES(DATABASE_METADATA),
   TABLE_CONSTRAINTS(INFORMATION_SCHEMA),
   TABLE_PRIVILEGES(DATABASE_METADATA),
+  TABLE_ROW_COUNTS(ADDITIONAL_INFO), // Estimated row counts from optimizer statistics
   TRIGGERS(INFORMATION_SCHEMA),
   TYPE_INFO(DATABASE_METADATA),
   VIEWS(INFORMATION_SCHEMA),
@@ -23,5 +23,8 @@ public enum MetadataRetrievalStrategy {
   data_dictionary_over_schemas,
   // use the INFORMATION_SCHEMA or database-specific data dictionary queries to
   // retrieve information for all database objects together
-  data_dictionary_all
+  data_dictionary_all,
+  // choose one of the strategies above during the crawl, based on the number of
+  // database objects and the measured round-trip latency to the database server
+  adaptive
 }
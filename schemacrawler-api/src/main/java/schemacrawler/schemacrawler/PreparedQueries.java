@@ -0,0 +1,199 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.schemacrawler;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.TemplatingUtility.expandTemplate;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.schema.Identifiers;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Statements for running queries against tables on a single database connection. Queries with bind
+ * parameters, in the form of ?{variable}, are expanded and prepared only once, and then run for
+ * each table with the values of the bind parameters, so that the database server can reuse the
+ * execution plan. Bind parameters can be any of the table variables that are not column lists, such
+ * as "catalogname", "schemaname", "tablename" and "tabletype", or the quoted "schema" and "table"
+ * names. Since queries with bind parameters are expanded only once, they should not use other table
+ * variables. Other queries are expanded for each table, and run on a single statement.
+ *
+ * <p>Statements are closed when this object is closed, but the connection is not. Like the
+ * connection, this object should be used from one thread at a time.
+ */
+public final class PreparedQueries implements AutoCloseable {
+
+  private record PreparedQuery(PreparedStatement statement, List<String> parameters) {}
+
+  private static final Logger LOGGER = Logger.getLogger(PreparedQueries.class.getName());
+
+  private static final String BIND_DELIMITER_START = "?{";
+  private static final String BIND_DELIMITER_END = "}";
+
+  /**
+   * Checks whether a query has bind parameters, in the form of ?{variable}.
+   *
+   * @param query Query to check
+   * @return True if the query has bind parameters
+   */
+  public static boolean hasBindParameters(final Query query) {
+    requireNonNull(query, "No query provided");
+    final String sql = query.query();
+    final int start = sql.indexOf(BIND_DELIMITER_START);
+    return start >= 0 && sql.indexOf(BIND_DELIMITER_END, start) > 0;
+  }
+
+  private static String bindValue(
+      final String parameter, final Table table, final Identifiers identifiers)
+      throws SQLException {
+    final Schema schema = table.getSchema();
+    return switch (parameter) {
+      case "catalogname" -> schema == null ? null : schema.getCatalogName();
+      case "schemaname" -> schema == null ? null : schema.getName();
+      case "schema" -> schema == null ? null : identifiers.quoteFullName(schema);
+      case "tablename" -> table.getName();
+      case "table" -> identifiers.quoteFullName(table);
+      case "tabletype" -> table.getTableType().toString();
+      default -> throw new SQLException("Unknown bind parameter <%s>".formatted(parameter));
+    };
+  }
+
+  private final Connection connection;
+  private final int queryTimeoutSeconds;
+  private final Map<Query, PreparedQuery> preparedQueries;
+  private Statement statement;
+
+  public PreparedQueries(final Connection connection) {
+    this(connection, 0);
+  }
+
+  /**
+   * Statements for running queries on a connection, with a timeout for each query.
+   *
+   * @param connection Database connection
+   * @param queryTimeoutSeconds Timeout for each query, or 0 for no timeout
+   */
+  public PreparedQueries(final Connection connection, final int queryTimeoutSeconds) {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.queryTimeoutSeconds = Math.max(queryTimeoutSeconds, 0);
+    preparedQueries = new HashMap<>();
+  }
+
+  /** Closes all statements, but not the connection. */
+  @Override
+  public void close() {
+    final List<Statement> statements = new ArrayList<>();
+    for (final PreparedQuery preparedQuery : preparedQueries.values()) {
+      statements.add(preparedQuery.statement());
+    }
+    preparedQueries.clear();
+    if (statement != null) {
+      statements.add(statement);
+      statement = null;
+    }
+
+    for (final Statement openStatement : statements) {
+      try {
+        openStatement.close();
+      } catch (final SQLException e) {
+        LOGGER.log(Level.WARNING, "Could not close statement", e);
+      }
+    }
+  }
+
+  /**
+   * Gets a statement for queries that do not have bind parameters. The same statement is returned
+   * every time, so results from a previous query are closed when another query is run.
+   *
+   * @return Statement
+   * @throws SQLException On an exception creating the statement
+   */
+  public Statement getStatement() throws SQLException {
+    if (statement == null) {
+      statement = connection.createStatement();
+      setQueryTimeout(statement);
+    }
+    return statement;
+  }
+
+  /**
+   * Gets the prepared statement for a query with bind parameters, with parameter values bound for a
+   * table. The query is expanded and prepared the first time it is used.
+   *
+   * @param query Query with bind parameters
+   * @param table Table to bind parameter values for
+   * @param identifiers Identifiers for quoting names
+   * @return Prepared statement, ready to be run
+   * @throws SQLException On an exception preparing the statement, or binding parameters
+   */
+  public PreparedStatement prepare(
+      final Query query, final Table table, final Identifiers identifiers) throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(table, "No table provided");
+    requireNonNull(identifiers, "No identifiers provided");
+
+    PreparedQuery preparedQuery = preparedQueries.get(query);
+    if (preparedQuery == null) {
+      preparedQuery = prepare(query);
+      preparedQueries.put(query, preparedQuery);
+    }
+
+    final PreparedStatement preparedStatement = preparedQuery.statement();
+    final List<String> parameters = preparedQuery.parameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      preparedStatement.setString(i + 1, bindValue(parameters.get(i), table, identifiers));
+    }
+    return preparedStatement;
+  }
+
+  private PreparedQuery prepare(final Query query) throws SQLException {
+    final String template = query.query();
+    final List<String> parameters = new ArrayList<>();
+    final StringBuilder sql = new StringBuilder(template.length());
+    int currentPosition = 0;
+    while (true) {
+      final int start = template.indexOf(BIND_DELIMITER_START, currentPosition);
+      final int end = start < 0 ? -1 : template.indexOf(BIND_DELIMITER_END, start);
+      if (end < 0) {
+        sql.append(template, currentPosition, template.length());
+        break;
+      }
+      sql.append(template, currentPosition, start).append('?');
+      parameters.add(trimToEmpty(template.substring(start + BIND_DELIMITER_START.length(), end)));
+      currentPosition = end + BIND_DELIMITER_END.length();
+    }
+
+    final String expandedSql = expandTemplate(sql.toString());
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Preparing %s with bind parameters %s: %n%s", query.name(), parameters, expandedSql));
+    final PreparedStatement preparedStatement = connection.prepareStatement(expandedSql);
+    setQueryTimeout(preparedStatement);
+    return new PreparedQuery(preparedStatement, parameters);
+  }
+
+  private void setQueryTimeout(final Statement statement) throws SQLException {
+    if (queryTimeoutSeconds > 0) {
+      statement.setQueryTimeout(queryTimeoutSeconds);
+    }
+  }
+}
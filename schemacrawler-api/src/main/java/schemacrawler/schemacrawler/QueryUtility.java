@@ -9,12 +9,16 @@
 package schemacrawler.schemacrawler;
 
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.schemacrawler.PreparedQueries.hasBindParameters;
+import static us.fatehi.utility.PropertiesUtility.systemProperties;
 import static us.fatehi.utility.TemplatingUtility.expandTemplate;
 import static us.fatehi.utility.database.DatabaseUtility.executeSql;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForLong;
 import static us.fatehi.utility.database.DatabaseUtility.executeSqlForScalar;
+import static us.fatehi.utility.database.DatabaseUtility.readResultsForLong;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -22,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Column;
@@ -31,6 +36,7 @@ import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.NamedObjectSort;
+import us.fatehi.utility.CompiledTemplate;
 import us.fatehi.utility.IOUtility;
 import us.fatehi.utility.UtilityMarker;
 import us.fatehi.utility.string.StringFormat;
@@ -40,6 +46,10 @@ public final class QueryUtility {
 
   private static final Logger LOGGER = Logger.getLogger(QueryUtility.class.getName());
 
+  private static final int MAX_COMPILED_QUERIES = 1_000;
+
+  private static final Map<Query, CompiledTemplate> compiledQueries = new ConcurrentHashMap<>();
+
   public static ResultSet executeAgainstColumnDataType(
       final Query query, final Statement statement, final ColumnDataType columnDataType)
       throws SQLException {
@@ -74,6 +84,32 @@ public final class QueryUtility {
     return executeSql(statement, sql);
   }
 
+  /**
+   * Runs a query against a table. Queries with bind parameters are prepared once for the
+   * connection, and only the parameter values are bound for each table. Other queries are expanded
+   * for each table.
+   */
+  public static ResultSet executeAgainstTable(
+      final Query query,
+      final PreparedQueries preparedQueries,
+      final Table table,
+      final boolean isAlphabeticalSortForTableColumns,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(preparedQueries, "No prepared queries provided");
+    if (hasBindParameters(query)) {
+      LOGGER.log(Level.FINE, new StringFormat("Executing %s for %s", query.name(), table));
+      return preparedQueries.prepare(query, table, identifiers).executeQuery();
+    }
+    return executeAgainstTable(
+        query,
+        preparedQueries.getStatement(),
+        table,
+        isAlphabeticalSortForTableColumns,
+        identifiers);
+  }
+
   public static long executeForLong(
       final Query query,
       final Connection connection,
@@ -87,6 +123,43 @@ public final class QueryUtility {
     return executeSqlForLong(connection, sql);
   }
 
+  public static long executeForLong(
+      final Query query,
+      final Statement statement,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    final Map<String, String> variablesMap = makeVariablesMap(table, true, identifiers);
+    final String sql = expandQuery(query, variablesMap);
+    LOGGER.log(Level.FINE, new StringFormat("Executing %s: %n%s", query.name(), sql));
+    try (final ResultSet resultSet = executeSql(statement, sql)) {
+      return readResultsForLong(sql, resultSet);
+    }
+  }
+
+  /**
+   * Runs a query against a table, to get a single number. Queries with bind parameters are prepared
+   * once for the connection, and only the parameter values are bound for each table.
+   */
+  public static long executeForLong(
+      final Query query,
+      final PreparedQueries preparedQueries,
+      final Table table,
+      final Identifiers identifiers)
+      throws SQLException {
+    requireNonNull(query, "No query provided");
+    requireNonNull(preparedQueries, "No prepared queries provided");
+    if (hasBindParameters(query)) {
+      LOGGER.log(Level.FINE, new StringFormat("Executing %s for %s", query.name(), table));
+      final PreparedStatement statement = preparedQueries.prepare(query, table, identifiers);
+      try (final ResultSet resultSet = statement.executeQuery()) {
+        return readResultsForLong(query.query(), resultSet);
+      }
+    }
+    return executeForLong(query, preparedQueries.getStatement(), table, identifiers);
+  }
+
   public static Object executeForScalar(final Query query, final Connection connection)
       throws SQLException {
     requireNonNull(query, "No query provided");
@@ -117,10 +190,30 @@ public final class QueryUtility {
     return expandQuery(query, null);
   }
 
+  private static CompiledTemplate compileQuery(final Query query) {
+    CompiledTemplate compiledQuery = compiledQueries.get(query);
+    if (compiledQuery == null) {
+      compiledQuery = new CompiledTemplate(query.query());
+      if (compiledQueries.size() < MAX_COMPILED_QUERIES) {
+        compiledQueries.put(query, compiledQuery);
+      }
+    }
+    return compiledQuery;
+  }
+
   private static String expandQuery(final Query query, final Map<String, String> variablesMap) {
-    String sql = query.query();
-    if (variablesMap != null && !variablesMap.isEmpty()) {
-      sql = expandTemplate(sql, variablesMap);
+    final CompiledTemplate compiledQuery = compileQuery(query);
+    if (!compiledQuery.hasVariables()) {
+      return query.query();
+    }
+    if (variablesMap == null || variablesMap.isEmpty()) {
+      return compiledQuery.expand(systemProperties());
+    }
+
+    final String sql = compiledQuery.expand(variablesMap);
+    // Only variables that are left need to be expanded with system properties
+    if (compiledQuery.isExpandedCompletely(variablesMap)) {
+      return sql;
     }
     return expandTemplate(sql);
   }
@@ -150,6 +243,8 @@ public final class QueryUtility {
       if (schema != null) {
         final String schemaName = identifiers.quoteFullName(schema);
         tableProperties.put("schema", schemaName);
+        tableProperties.put("catalogname", schema.getCatalogName());
+        tableProperties.put("schemaname", schema.getName());
       }
       tableProperties.put("table", identifiers.quoteFullName(table));
       tableProperties.put("tablename", table.getName());
@@ -9,17 +9,23 @@
 package schemacrawler.utility;
 
 import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import schemacrawler.schema.Catalog;
 import us.fatehi.utility.UtilityMarker;
 
@@ -43,6 +49,18 @@ public final class SerializedCatalogUtility {
     return SerializedObjectInputStream.read(in, CATALOG_CLASS_PATTERNS);
   }
 
+  /**
+   * Reads a serialized value that is part of a catalog, such as an attribute value, allowing only
+   * the same classes as for a serialized catalog.
+   *
+   * @param in Input stream to read from
+   * @return Deserialized value
+   */
+  public static <C extends Serializable> C readCatalogValue(final InputStream in) {
+    requireNonNull(in, "No input stream provided");
+    return SerializedObjectInputStream.read(in, CATALOG_CLASS_PATTERNS);
+  }
+
   public static void saveCatalog(final Catalog catalog, final OutputStream out) {
     requireNonNull(catalog, "No catalog provided");
     requireNonNull(out, "No output stream provided");
@@ -62,4 +80,16 @@ public final class SerializedCatalogUtility {
     }
     return catalog;
   }
+
+  public static void serializeCatalog(final Catalog catalog, final Path serializedCatalogPath)
+      throws IOException {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(serializedCatalogPath, "No path provided");
+    try (final OutputStream outputFileStream =
+        new GZIPOutputStream(
+            newOutputStream(serializedCatalogPath, WRITE, CREATE, TRUNCATE_EXISTING)); ) {
+      saveCatalog(catalog, outputFileStream);
+      LOGGER.log(Level.INFO, () -> "Serialized catalog to <%s>".formatted(serializedCatalogPath));
+    }
+  }
 }
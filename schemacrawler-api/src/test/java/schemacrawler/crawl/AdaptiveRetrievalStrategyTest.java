@@ -0,0 +1,246 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.schemacrawler.InformationSchemaKey.FOREIGN_KEYS;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_COLUMNS;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.adaptive;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_over_schemas;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_over_schemas;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.newSchemaRetrievalOptions;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.RetrievalStrategyDecision;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.LoadOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.database.ConnectionInfoBuilder;
+
+@WithTestDatabase
+public class AdaptiveRetrievalStrategyTest {
+
+  @Test
+  @DisplayName("Crawl with adaptive retrieval strategies")
+  public void adaptiveCrawl(final Connection connection) throws Exception {
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder().fromOptions(newSchemaRetrievalOptions());
+    for (final SchemaInfoMetadataRetrievalStrategy retrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      schemaRetrievalOptionsBuilder.with(retrievalStrategy, adaptive);
+    }
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
+    final LoadOptionsBuilder loadOptionsBuilder =
+        LoadOptionsBuilder.builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum());
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withLoadOptions(loadOptionsBuilder.toOptions());
+
+    final Catalog catalog =
+        getCatalog(connection, schemaRetrievalOptionsBuilder.toOptions(), schemaCrawlerOptions);
+
+    final Collection<RetrievalStrategyDecision> decisions =
+        catalog.getCrawlInfo().getRetrievalStrategyDecisions();
+    assertThat(decisions, is(not(empty())));
+    for (final RetrievalStrategyDecision decision : decisions) {
+      assertThat(decision.strategy(), is(not(adaptive.name())));
+      assertThat(decision.schemaCount(), is(5));
+    }
+
+    // IMPORTANT: Adaptive retrieval should return the same information as metadata retrieval
+    IndexRetrieverTest.verifyRetrieveIndexes(catalog);
+  }
+
+  @Test
+  @DisplayName("Choose bulk retrieval for a large number of tables")
+  public void largeCatalog(final Connection connection) throws Exception {
+    final MutableCatalog catalog = newCatalog(connection, 50, 30_000);
+    final AdaptiveRetrievalStrategy adaptiveRetrievalStrategy =
+        new AdaptiveRetrievalStrategy(
+            catalog, newInformationSchemaViews(), 10, Duration.ofMillis(1), 50);
+
+    assertThat(
+        adaptiveRetrievalStrategy.get(foreignKeysRetrievalStrategy), is(data_dictionary_all));
+    assertThat(
+        adaptiveRetrievalStrategy.get(tableColumnsRetrievalStrategy), is(data_dictionary_all));
+    assertThat(adaptiveRetrievalStrategy.get(indexesRetrievalStrategy), is(metadata));
+  }
+
+  @Test
+  @DisplayName("Choose retrieval strategies from probed counts, before tables are retrieved")
+  public void probedCounts(final Connection connection) throws Exception {
+    final MutableCatalog catalog = newCatalog(connection, 0, 0);
+    catalog.addSchema(new SchemaReference("PUBLIC", "BOOKS"));
+    final int tableCount;
+    try (final ResultSet results =
+        connection.getMetaData().getTables("PUBLIC", "BOOKS", "%", null)) {
+      tableCount = countRows(results);
+    }
+    assertThat(tableCount, is(greaterThan(0)));
+
+    final AdaptiveRetrievalStrategy adaptiveRetrievalStrategy =
+        AdaptiveRetrievalStrategy.probe(
+            connection, catalog, newInformationSchemaViews(), true, true, 10);
+    adaptiveRetrievalStrategy.get(tablesRetrievalStrategy);
+    adaptiveRetrievalStrategy.get(tableColumnsRetrievalStrategy);
+
+    // No tables are in the catalog yet, so counts come from the probe
+    assertThat(catalog.getAllTables().isEmpty(), is(true));
+    final Collection<RetrievalStrategyDecision> decisions =
+        adaptiveRetrievalStrategy.getDecisions();
+    assertThat(decisions, hasSize(2));
+    for (final RetrievalStrategyDecision decision : decisions) {
+      assertThat(decision.schemaCount(), is(1));
+      assertThat(decision.objectCount(), is(tableCount));
+    }
+  }
+
+  @Test
+  @DisplayName("Fall back to catalog counts when no probed rows match crawled schemas")
+  public void probedCountsWithoutMatches(final Connection connection) throws Exception {
+    final MutableCatalog catalog = newCatalog(connection, 0, 0);
+    catalog.addSchema(new SchemaReference("PUBLIC", "BOOKS"));
+
+    // Catalog names are normalized away, so no rows match the crawled schema
+    final AdaptiveRetrievalStrategy adaptiveRetrievalStrategy =
+        AdaptiveRetrievalStrategy.probe(
+            connection, catalog, newInformationSchemaViews(), false, true, 10);
+    adaptiveRetrievalStrategy.get(tablesRetrievalStrategy);
+
+    final Collection<RetrievalStrategyDecision> decisions =
+        adaptiveRetrievalStrategy.getDecisions();
+    assertThat(decisions, hasSize(1));
+    assertThat(decisions.iterator().next().objectCount(), is(0));
+  }
+
+  @Test
+  @DisplayName("Record adaptive retrieval strategy decisions")
+  public void recordedDecisions(final Connection connection) throws Exception {
+    final MutableCatalog catalog = newCatalog(connection, 1, 30);
+    final AdaptiveRetrievalStrategy adaptiveRetrievalStrategy =
+        new AdaptiveRetrievalStrategy(
+            catalog, newInformationSchemaViews(), 10, Duration.ofMillis(1), 50);
+
+    // Decisions are made only once
+    adaptiveRetrievalStrategy.get(foreignKeysRetrievalStrategy);
+    adaptiveRetrievalStrategy.get(foreignKeysRetrievalStrategy);
+
+    final Collection<RetrievalStrategyDecision> decisions =
+        adaptiveRetrievalStrategy.getDecisions();
+    assertThat(decisions, hasSize(1));
+    final RetrievalStrategyDecision decision = decisions.iterator().next();
+    assertThat(decision.retrieval(), is("foreign-keys"));
+    assertThat(decision.strategy(), is(data_dictionary_over_schemas.name()));
+    assertThat(decision.roundTripLatency(), is(Duration.ofMillis(1)));
+    assertThat(decision.schemaCount(), is(1));
+    assertThat(decision.databaseSchemaCount(), is(50));
+    assertThat(decision.objectCount(), is(30));
+    assertThat(
+        decision.estimatedTimes().keySet(),
+        contains(metadata.name(), data_dictionary_over_schemas.name(), data_dictionary_all.name()));
+    assertThat(
+        decision.estimatedTimes().get(metadata.name()),
+        is(Duration.ofMillis(3).plusNanos(600_000)));
+
+    // Crawl information is built with a copy of the decisions, for the same run
+    final ImmutableCrawlInfo crawlInfo = catalog.getCrawlInfo();
+    assertThat(crawlInfo.getRetrievalStrategyDecisions(), is(empty()));
+    final ImmutableCrawlInfo crawlInfoWithDecisions =
+        crawlInfo.withRetrievalStrategyDecisions(decisions);
+    assertThat(crawlInfoWithDecisions.getRunId(), is(crawlInfo.getRunId()));
+    assertThat(crawlInfoWithDecisions.getRetrievalStrategyDecisions(), contains(decision));
+    adaptiveRetrievalStrategy.get(indexesRetrievalStrategy);
+    assertThat(crawlInfoWithDecisions.getRetrievalStrategyDecisions(), hasSize(1));
+  }
+
+  @Test
+  @DisplayName("Choose retrieval over schemas for a small number of tables")
+  public void smallCatalog(final Connection connection) throws Exception {
+    final MutableCatalog catalog = newCatalog(connection, 1, 30);
+    final AdaptiveRetrievalStrategy adaptiveRetrievalStrategy =
+        new AdaptiveRetrievalStrategy(
+            catalog, newInformationSchemaViews(), 10, Duration.ofMillis(1), 50);
+
+    assertThat(
+        adaptiveRetrievalStrategy.get(foreignKeysRetrievalStrategy),
+        is(data_dictionary_over_schemas));
+    assertThat(
+        adaptiveRetrievalStrategy.get(tableColumnsRetrievalStrategy), is(metadata_over_schemas));
+    assertThat(adaptiveRetrievalStrategy.get(indexesRetrievalStrategy), is(metadata));
+  }
+
+  private MutableCatalog newCatalog(
+      final Connection connection, final int schemaCount, final int tableCount)
+      throws SQLException {
+    final ConnectionInfoBuilder connectionInfoBuilder = ConnectionInfoBuilder.builder(connection);
+    final MutableDatabaseInfo databaseInfo =
+        new MutableDatabaseInfo(connectionInfoBuilder.buildDatabaseInformation());
+    final MutableJdbcDriverInfo jdbcDriverInfo =
+        new MutableJdbcDriverInfo(connectionInfoBuilder.buildJdbcDriverInformation());
+    final MutableCatalog catalog =
+        new MutableCatalog("", "adaptive_test", databaseInfo, jdbcDriverInfo);
+
+    for (int i = 0; i < schemaCount; i++) {
+      final Schema schema = catalog.addSchema(new SchemaReference("CATALOG", "SCHEMA" + i));
+      for (int j = 0; j < tableCount / schemaCount; j++) {
+        catalog.addTable(new MutableTable(schema, "TABLE" + j));
+      }
+    }
+    return catalog;
+  }
+
+  private int countRows(final ResultSet results) throws SQLException {
+    int count = 0;
+    while (results.next()) {
+      count = count + 1;
+    }
+    return count;
+  }
+
+  private InformationSchemaViews newInformationSchemaViews() {
+    return InformationSchemaViewsBuilder.builder()
+        .withSql(FOREIGN_KEYS, "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE")
+        .withSql(TABLE_COLUMNS, "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_COLUMNS")
+        .toOptions();
+  }
+}
@@ -82,7 +82,10 @@ public class EqualsTest {
 
   @Test
   public void namedObjectKey() {
-    EqualsVerifier.forClass(NamedObjectKey.class).withNonnullFields("key").verify();
+    EqualsVerifier.forClass(NamedObjectKey.class)
+        .withNonnullFields("key")
+        .withCachedHashCode("hash", "computeHashCode", new NamedObjectKey("one"))
+        .verify();
   }
 
   @Test
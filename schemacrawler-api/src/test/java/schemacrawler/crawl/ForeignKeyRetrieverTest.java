@@ -15,7 +15,10 @@ import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForSchemaInclusion;
+import static schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion.ruleForTableInclusion;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.foreignKeysRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
@@ -24,8 +27,10 @@ import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
 
 import java.io.IOException;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +47,7 @@ import schemacrawler.schemacrawler.InfoLevel;
 import schemacrawler.schemacrawler.InformationSchemaKey;
 import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptions;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
@@ -141,8 +147,81 @@ public class ForeignKeyRetrieverTest {
     verifyRetrieveForeignKeys(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve foreign keys from metadata, with a connection for each thread")
+  public void fkFromMetadata(
+      final Connection connection, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaCrawlerOptions options = baseCatalogOptions();
+    final MutableCatalog catalog = loadBaseCatalog(connection, options);
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(foreignKeysRetrievalStrategy, metadata)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connectionSource, schemaRetrievalOptions);
+
+    final ForeignKeyRetriever foreignKeyRetriever =
+        new ForeignKeyRetriever(retrieverConnection, catalog, options);
+    foreignKeyRetriever.retrieveForeignKeys(catalog.getAllTables());
+
+    verifyRetrieveForeignKeys(catalog);
+  }
+
+  @Test
+  @DisplayName(
+      "Retrieve foreign keys from metadata without exported keys, when crawling all tables")
+  public void fkFromMetadataForAllTables(
+      final Connection connection, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaCrawlerOptions options = allTablesCatalogOptions();
+    // Exported keys are skipped only if nothing limits the tables that are crawled
+    final LimitOptions limitOptions = options.limitOptions();
+    assertThat(limitOptions.isIncludeAll(ruleForSchemaInclusion), is(true));
+    assertThat(limitOptions.isIncludeAll(ruleForTableInclusion), is(true));
+    assertThat(limitOptions.tableTypes().isIncludeAll(), is(true));
+
+    final MutableCatalog metadataCatalog = (MutableCatalog) getCatalog(connection, options);
+    final SchemaRetrievalOptions metadataRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(foreignKeysRetrievalStrategy, metadata)
+            .toOptions();
+    new ForeignKeyRetriever(
+            new RetrieverConnection(connectionSource, metadataRetrievalOptions),
+            metadataCatalog,
+            options)
+        .retrieveForeignKeys(metadataCatalog.getAllTables());
+
+    // The data dictionary has all foreign keys, whichever tables are crawled
+    final MutableCatalog dataDictionaryCatalog = (MutableCatalog) getCatalog(connection, options);
+    final SchemaRetrievalOptions dataDictionaryRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(foreignKeysRetrievalStrategy, data_dictionary_all)
+            .withInformationSchemaViews(
+                InformationSchemaViewsBuilder.builder()
+                    .withSql(
+                        InformationSchemaKey.FOREIGN_KEYS,
+                        "SELECT * FROM INFORMATION_SCHEMA.SYSTEM_CROSSREFERENCE")
+                    .toOptions())
+            .toOptions();
+    new ForeignKeyRetriever(
+            new RetrieverConnection(connectionSource, dataDictionaryRetrievalOptions),
+            dataDictionaryCatalog,
+            options)
+        .retrieveForeignKeys(dataDictionaryCatalog.getAllTables());
+
+    final List<String> foreignKeys = describeForeignKeys(metadataCatalog);
+    assertThat(foreignKeys, is(not(empty())));
+    assertThat(foreignKeys, is(describeForeignKeys(dataDictionaryCatalog)));
+  }
+
   @BeforeAll
   public void loadBaseCatalog(final Connection connection) {
+    catalog = loadBaseCatalog(connection, baseCatalogOptions());
+  }
+
+  private SchemaCrawlerOptions baseCatalogOptions() {
     final LimitOptionsBuilder limitOptionsBuilder =
         LimitOptionsBuilder.builder()
             .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"));
@@ -153,11 +232,38 @@ public class ForeignKeyRetrieverTest {
                     .withInfoLevel(InfoLevel.standard)
                     .setRetrieveForeignKeys(false)
                     .toOptions());
-    final SchemaCrawlerOptions schemaCrawlerOptions =
-        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
-            .withLimitOptions(limitOptionsBuilder.toOptions())
-            .withLoadOptions(loadOptionsBuilder.toOptions());
-    catalog = (MutableCatalog) getCatalog(connection, schemaCrawlerOptions);
+    return SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+        .withLimitOptions(limitOptionsBuilder.toOptions())
+        .withLoadOptions(loadOptionsBuilder.toOptions());
+  }
+
+  private SchemaCrawlerOptions allTablesCatalogOptions() {
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder().tableTypes((String) null);
+    return baseCatalogOptions().withLimitOptions(limitOptionsBuilder.toOptions());
+  }
+
+  private List<String> describeForeignKeys(final Catalog catalog) {
+    final List<String> foreignKeys = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      for (final ForeignKey foreignKey : table.getForeignKeys()) {
+        foreignKeys.add(
+            "%s %s %s %s %s"
+                .formatted(
+                    table.getFullName(),
+                    foreignKey.getName(),
+                    foreignKey.getColumnReferences(),
+                    foreignKey.getDeleteRule(),
+                    foreignKey.getUpdateRule()));
+      }
+    }
+    Collections.sort(foreignKeys);
+    return foreignKeys;
+  }
+
+  private MutableCatalog loadBaseCatalog(
+      final Connection connection, final SchemaCrawlerOptions schemaCrawlerOptions) {
+    final MutableCatalog catalog = (MutableCatalog) getCatalog(connection, schemaCrawlerOptions);
 
     final Collection<Table> tables = catalog.getTables();
     assertThat(tables, hasSize(14));
@@ -165,5 +271,6 @@ public class ForeignKeyRetrieverTest {
       assertThat(table.getColumns(), is(not(empty())));
       assertThat(table.getForeignKeys(), is(empty()));
     }
+    return catalog;
   }
 }
@@ -62,6 +62,7 @@ public class GettersSettersTest {
     "IdentifiersBuilder",
     "JavaSqlType",
     "NamedObjectKey",
+    "RetrievalStrategyDecision",
     "TableTypes",
     "Test",
   };
@@ -15,8 +15,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static schemacrawler.schemacrawler.InformationSchemaKey.EXT_INDEXES;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_over_schemas;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.indexesRetrievalStrategy;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
@@ -203,6 +208,63 @@ public class IndexRetrieverTest {
     verifyRetrieveIndexes(catalog);
   }
 
+  @Test
+  @DisplayName("Retrieve indexes from data dictionary, over schemas")
+  public void indexesFromDataDictionaryOverSchemas(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                InformationSchemaKey.INDEXES,
+                """
+                SELECT
+                  *
+                FROM
+                  INFORMATION_SCHEMA.SYSTEM_INDEXINFO
+                WHERE
+                  TABLE_SCHEM = '${schema-name}'
+                """)
+            .toOptions();
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder();
+    schemaRetrievalOptionsBuilder
+        .with(indexesRetrievalStrategy, data_dictionary_over_schemas)
+        .withInformationSchemaViews(informationSchemaViews);
+    final SchemaRetrievalOptions schemaRetrievalOptions = schemaRetrievalOptionsBuilder.toOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connectionSource, schemaRetrievalOptions);
+
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    indexRetriever.retrieveIndexes(catalog.getAllTables());
+
+    verifyRetrieveIndexes(catalog);
+  }
+
+  @Test
+  @DisplayName("Retrieve indexes from metadata, with one connection for each batch of tables")
+  public void indexesFromMetadataInBatches(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(indexesRetrievalStrategy, metadata)
+            .toOptions();
+    final RetrieverConnection retrieverConnection =
+        spy(new RetrieverConnection(connectionSource, schemaRetrievalOptions));
+
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLoadOptions(LoadOptionsBuilder.builder().withMaxThreads(2).toOptions());
+
+    final IndexRetriever indexRetriever = new IndexRetriever(retrieverConnection, catalog, options);
+    indexRetriever.retrieveIndexes(catalog.getAllTables());
+
+    // Each of the two batches keeps one connection for all of its tables
+    verify(retrieverConnection, times(2)).getConnection(anyString());
+    verifyRetrieveIndexes(catalog);
+  }
+
   @Test
   @DisplayName("Retrieve indexes from metadata")
   public void indexesFromMetadata(
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.DayOfWeek;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,44 @@ import us.fatehi.utility.database.DatabaseUtility;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class MetadataResultSetTest {
 
+  @Test
+  @DisplayName("Retrieve unread values from results as attributes")
+  public void attributes(final Connection connection) throws Exception {
+
+    try (final Statement statement = connection.createStatement(); ) {
+
+      statement.execute("DROP TABLE IF EXISTS TABLE1");
+      statement.execute(
+          "CREATE TABLE TABLE1(COLUMN1 VARCHAR(2), COLUMN2 INTEGER, COLUMN3 INTEGER)");
+      statement.execute("INSERT INTO TABLE1(COLUMN1, COLUMN2, COLUMN3) VALUES('A', 1, 10)");
+      statement.execute("INSERT INTO TABLE1(COLUMN1, COLUMN2, COLUMN3) VALUES('B', 2, 20)");
+
+      try (final MetadataResultSet results =
+          new MetadataResultSet(
+              DatabaseUtility.executeSql(statement, "SELECT * FROM TABLE1 ORDER BY COLUMN1"),
+              "attributes")) {
+
+        assertThat(results.next(), is(true));
+        assertThat(results.getString("column1"), is("A"));
+        assertThat(results.getAttributes(), is(Map.of("COLUMN2", 1, "COLUMN3", 10)));
+
+        // Columns read in a previous row are available as attributes again
+        assertThat(results.next(), is(true));
+        assertThat(results.getInt("COLUMN2", 0), is(2));
+        assertThat(results.getInt("NOT_A_COLUMN", -1), is(-1));
+        assertThat(results.getAttributes(), is(Map.of("COLUMN1", "B", "COLUMN3", 20)));
+        assertThat(results.getInt("COLUMN3", 0), is(20));
+        assertThat(results.getString("COLUMN1"), is("B"));
+        assertThat(results.getAttributes(), is(Map.of()));
+
+        assertThat(results.next(), is(false));
+      }
+
+    } finally {
+      DatabaseUtility.executeSql(connection.createStatement(), "DROP TABLE IF EXISTS TABLE1");
+    }
+  }
+
   @Test
   @DisplayName("Retrieve bad values from results")
   public void badValues(final Connection connection) throws Exception {
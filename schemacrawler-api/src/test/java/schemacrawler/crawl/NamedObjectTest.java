@@ -9,8 +9,14 @@
 package schemacrawler.crawl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
@@ -21,6 +27,73 @@ public class NamedObjectTest {
 
   public static final TableType TABLE = new TableType("TABLE");
 
+  @Test
+  public void sortedValues() {
+    final Schema schema = new SchemaReference("CATALOG", "PUBLIC");
+    final MutableTable table1 = new MutableTable(schema, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema, "TABLE3");
+
+    final NamedObjectList<Table> tables = new NamedObjectList<>();
+    tables.add(table3);
+    tables.add(table1);
+
+    final List<Table> values = tables.values();
+    assertThat(values, contains(table1, table3));
+    assertThat(tables.values(), is(sameInstance(values)));
+
+    tables.add(table2);
+    assertThat(tables.values(), is(not(sameInstance(values))));
+    assertThat(tables.values(), contains(table1, table2, table3));
+
+    // Changes to the sort order of objects already in the list are picked up once the list is
+    // re-sorted, and reading the list does not check the order again
+    final List<Table> unsortedValues = tables.values();
+    table1.setSortIndex(2);
+    table2.setSortIndex(1);
+    assertThat(tables.values(), is(sameInstance(unsortedValues)));
+    tables.resort();
+    assertThat(tables.values(), contains(table3, table2, table1));
+
+    tables.filter(table -> !"TABLE2".equals(table.getName()));
+    assertThat(tables.values(), contains(table3, table1));
+    tables.resetFilter();
+    assertThat(tables.values(), contains(table3, table2, table1));
+
+    tables.remove(table3);
+    assertThat(tables.values(), contains(table2, table1));
+  }
+
+  @Test
+  public void schemaValues() {
+    final SchemaReference schema1 = new SchemaReference("CATALOG", "SCHEMA1");
+    final SchemaReference schema2 = new SchemaReference("CATALOG", "SCHEMA2");
+    final MutableTable table1 = new MutableTable(schema1, "TABLE1");
+    final MutableTable table2 = new MutableTable(schema2, "TABLE2");
+    final MutableTable table3 = new MutableTable(schema1, "TABLE3");
+
+    final NamedObjectList<Table> tables = new NamedObjectList<>();
+    tables.add(table3);
+    tables.add(table2);
+    tables.add(table1);
+
+    assertThat(tables.values(schema1), contains(table1, table3));
+    assertThat(tables.values(schema2), contains(table2));
+    assertThat(tables.values(new SchemaReference("CATALOG", "SCHEMA3")), is(empty()));
+
+    tables.filter(table -> !"TABLE3".equals(table.getName()));
+    assertThat(tables.values(schema1), contains(table1));
+    tables.resetFilter();
+    assertThat(tables.values(schema1), contains(table1, table3));
+
+    final NamedObjectList<SchemaReference> schemas = new NamedObjectList<>();
+    schemas.add(schema1);
+    schemas.add(schema2);
+    assertThat(schemas.lookupByFullName("CATALOG.SCHEMA2"), is(Optional.of(schema2)));
+    assertThat(schemas.lookupByFullName("CATALOG.SCHEMA3"), is(Optional.empty()));
+    assertThat(schemas.lookupByFullName(null), is(Optional.empty()));
+  }
+
   @Test
   public void tableNames() {
     final String[] schemaNames = new String[] {"DBO", "PUBLIC"};
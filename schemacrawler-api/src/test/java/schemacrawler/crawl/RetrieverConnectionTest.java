@@ -0,0 +1,96 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSources;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
+
+@WithTestDatabase
+public class RetrieverConnectionTest {
+
+  @Test
+  public void nestedRetrievalsShareMaxThreads(final Connection connection) throws Exception {
+    final int maxThreads = 2;
+    final DatabaseConnectionSource connectionSource =
+        DatabaseConnectionSources.fromConnection(connection);
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connectionSource, schemaRetrievalOptionsDefault, maxThreads);
+
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final AtomicInteger completed = new AtomicInteger();
+
+    // Outer retrievals each start their own nested task runner, as retrievers do
+    try (final TaskRunner outerTaskRunner = TaskRunners.getTaskRunner("outer", 4)) {
+      for (int i = 0; i < 4; i++) {
+        outerTaskRunner.add(
+            new TaskDefinition(
+                "outer-" + i,
+                () -> {
+                  try (final TaskRunner nestedTaskRunner = TaskRunners.getTaskRunner("nested", 4)) {
+                    for (int j = 0; j < 4; j++) {
+                      nestedTaskRunner.add(
+                          new TaskDefinition(
+                              "nested-" + j,
+                              () ->
+                                  retrieverConnection.runNestedRetrieval(
+                                      () -> {
+                                        maxRunning.accumulateAndGet(
+                                            running.incrementAndGet(), Math::max);
+                                        Thread.sleep(5);
+                                        running.decrementAndGet();
+                                        completed.incrementAndGet();
+                                      })));
+                    }
+                    nestedTaskRunner.submit();
+                  }
+                }));
+      }
+      outerTaskRunner.submit();
+    }
+
+    assertThat(completed.get(), is(16));
+    assertThat(maxRunning.get(), is(lessThanOrEqualTo(maxThreads)));
+  }
+
+  @Test
+  public void nestedRetrievalFailure(final Connection connection) throws Exception {
+    final DatabaseConnectionSource connectionSource =
+        DatabaseConnectionSources.fromConnection(connection);
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connectionSource, schemaRetrievalOptionsDefault, 1);
+
+    assertThrows(NullPointerException.class, () -> retrieverConnection.runNestedRetrieval(null));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            retrieverConnection.runNestedRetrieval(
+                () -> {
+                  throw new IllegalStateException("Failed");
+                }));
+
+    // Permit is released after a failure, so the next retrieval can run
+    final AtomicInteger completed = new AtomicInteger();
+    retrieverConnection.runNestedRetrieval(completed::incrementAndGet);
+    assertThat(completed.get(), is(1));
+  }
+}
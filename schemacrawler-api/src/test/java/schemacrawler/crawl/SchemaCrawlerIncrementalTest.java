@@ -0,0 +1,158 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.schemacrawler.InformationSchemaKey.CHANGED_TABLES;
+import static schemacrawler.test.utility.DatabaseTestUtility.newSchemaRetrievalOptions;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+import org.junit.jupiter.api.Test;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class SchemaCrawlerIncrementalTest {
+
+  private static final Schema BOOKS = new SchemaReference("PUBLIC", "BOOKS");
+
+  @Test
+  public void incrementalCrawl(final DatabaseConnectionSource connectionSource) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        withChangedTablesQuery(
+            "SELECT 'PUBLIC' AS TABLE_CAT, 'BOOKS' AS TABLE_SCHEM, 'AUTHORS' AS TABLE_NAME "
+                + "FROM (VALUES(0)) WHERE '${crawl-timestamp}' <> ''");
+
+    final Catalog previousCatalog = crawl(connectionSource, schemaRetrievalOptions, null);
+    final Table previousAuthors = lookupTable(previousCatalog, "AUTHORS");
+    final Table previousBookAuthors = lookupTable(previousCatalog, "BOOKAUTHORS");
+    final int previousTableCount = previousCatalog.getTables().size();
+    final int previousForeignKeyCount = previousBookAuthors.getForeignKeys().size();
+
+    final Catalog catalog = crawl(connectionSource, schemaRetrievalOptions, previousCatalog);
+
+    assertThat(catalog.getTables(), hasSize(previousTableCount));
+    assertThat(catalog.getTables(BOOKS), hasSize(11));
+
+    // Changed tables are retrieved again, and unchanged tables are reused
+    final Table authors = lookupTable(catalog, "AUTHORS");
+    final Table bookAuthors = lookupTable(catalog, "BOOKAUTHORS");
+    assertThat(authors, is(not(sameInstance(previousAuthors))));
+    assertThat(bookAuthors, is(sameInstance(previousBookAuthors)));
+
+    // Foreign keys from unchanged tables are linked to the retrieved tables
+    assertThat(bookAuthors.getForeignKeys(), hasSize(previousForeignKeyCount));
+    final ForeignKey foreignKey = bookAuthors.lookupForeignKey("Z_FK_AUTHOR").orElseThrow();
+    assertThat(foreignKey.getPrimaryKeyTable(), is(sameInstance(authors)));
+    assertThat(authors.getExportedForeignKeys(), hasItem(foreignKey));
+    final Column authorId = bookAuthors.lookupColumn("AUTHORID").orElseThrow();
+    assertThat(authorId.getReferencedColumn().getParent(), is(sameInstance(authors)));
+  }
+
+  @Test
+  public void incrementalCrawlIncludeAll(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        withChangedTablesQuery(
+            "SELECT 'PUBLIC' AS TABLE_CAT, 'BOOKS' AS TABLE_SCHEM, 'AUTHORS' AS TABLE_NAME "
+                + "FROM (VALUES(0)) WHERE '${crawl-timestamp}' <> ''");
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel.withLimitOptions(
+            LimitOptionsBuilder.builder()
+                .fromOptions(schemaCrawlerOptionsWithMaximumSchemaInfoLevel.limitOptions())
+                .tableTypes((String) null)
+                .toOptions());
+    assertThat(schemaCrawlerOptions.limitOptions().tableTypes().isIncludeAll(), is(true));
+
+    final Catalog previousCatalog =
+        crawl(connectionSource, schemaRetrievalOptions, schemaCrawlerOptions, null);
+    final Table previousBookAuthors = lookupTable(previousCatalog, "BOOKAUTHORS");
+    final int previousForeignKeyCount = previousBookAuthors.getForeignKeys().size();
+
+    final Catalog catalog =
+        crawl(connectionSource, schemaRetrievalOptions, schemaCrawlerOptions, previousCatalog);
+
+    // Foreign keys from unchanged tables are restored, even though all tables are included
+    final Table authors = lookupTable(catalog, "AUTHORS");
+    final Table bookAuthors = lookupTable(catalog, "BOOKAUTHORS");
+    assertThat(bookAuthors, is(sameInstance(previousBookAuthors)));
+    assertThat(bookAuthors.getForeignKeys(), hasSize(previousForeignKeyCount));
+    final ForeignKey foreignKey = bookAuthors.lookupForeignKey("Z_FK_AUTHOR").orElseThrow();
+    assertThat(foreignKey.getPrimaryKeyTable(), is(sameInstance(authors)));
+    assertThat(authors.getExportedForeignKeys(), hasItem(foreignKey));
+  }
+
+  @Test
+  public void noChangedTablesQuery(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = newSchemaRetrievalOptions();
+
+    final Catalog previousCatalog = crawl(connectionSource, schemaRetrievalOptions, null);
+    final Table previousBookAuthors = lookupTable(previousCatalog, "BOOKAUTHORS");
+
+    // All tables are retrieved again
+    final Catalog catalog = crawl(connectionSource, schemaRetrievalOptions, previousCatalog);
+    assertThat(catalog.getTables(BOOKS), hasSize(11));
+    assertThat(lookupTable(catalog, "BOOKAUTHORS"), is(not(sameInstance(previousBookAuthors))));
+  }
+
+  private Catalog crawl(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final Catalog previousCatalog) {
+    return crawl(
+        connectionSource,
+        schemaRetrievalOptions,
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+        previousCatalog);
+  }
+
+  private Catalog crawl(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Catalog previousCatalog) {
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(connectionSource, schemaRetrievalOptions, schemaCrawlerOptions);
+    return schemaCrawler.crawl(previousCatalog);
+  }
+
+  private Table lookupTable(final Catalog catalog, final String tableName) {
+    return catalog.lookupTable(BOOKS, tableName).orElseThrow();
+  }
+
+  private SchemaRetrievalOptions withChangedTablesQuery(final String changedTablesSql)
+      throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions = newSchemaRetrievalOptions();
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder(schemaRetrievalOptions.getInformationSchemaViews())
+            .withSql(CHANGED_TABLES, changedTablesSql)
+            .toOptions();
+    return SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+        .withInformationSchemaViews(informationSchemaViews)
+        .toOptions();
+  }
+}
@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
@@ -30,8 +31,12 @@ import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -501,6 +506,35 @@ public class TableColumnRetrieverTest {
     }
   }
 
+  @Test
+  @DisplayName("Column names and attribute values are pooled")
+  public void pooledColumnNames(final DatabaseConnectionSource connectionSource) throws Exception {
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions();
+    final RetrieverConnection retrieverConnection =
+        new RetrieverConnection(connectionSource, schemaRetrievalOptions);
+    final SchemaCrawlerOptions options = SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final TableColumnRetriever tableColumnRetriever =
+        new TableColumnRetriever(retrieverConnection, catalog, options);
+    tableColumnRetriever.retrieveTableColumns(catalog.getAllTables(), new IncludeAll());
+
+    final List<Column> idColumns = new ArrayList<>();
+    for (final Table table : catalog.getTables()) {
+      table.lookupColumn("ID").ifPresent(idColumns::add);
+    }
+    assertThat(idColumns.size() > 1, is(true));
+    final Map<Object, Object> isNullableValues = new HashMap<>();
+    final String idColumnName = idColumns.get(0).getName();
+    for (final Column column : idColumns) {
+      assertThat(column.getName(), is(sameInstance(idColumnName)));
+      final Object isNullable = column.getAttribute("IS_NULLABLE");
+      isNullableValues.putIfAbsent(isNullable, isNullable);
+      assertThat(isNullable, is(sameInstance(isNullableValues.get(isNullable))));
+    }
+    assertThat(retrieverConnection.getNamePool().size() > 0, is(true));
+  }
+
   @Test
   @DisplayName("Retrieve table columns from data dictionary")
   public void tableColumnsFromDataDictionary(final DatabaseConnectionSource connectionSource)
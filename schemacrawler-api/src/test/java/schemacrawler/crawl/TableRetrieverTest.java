@@ -12,6 +12,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.data_dictionary_all;
 import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tablesRetrievalStrategy;
@@ -118,6 +119,38 @@ public class TableRetrieverTest extends AbstractRetrieverTest {
     assertThat("Table with empty name should not be added", foundEmptyNameTable, is(false));
   }
 
+  @Test
+  @DisplayName("Table names and remarks are pooled")
+  public void pooledTableNames(final DatabaseConnectionSource connectionSource) throws Exception {
+    final RetrieverConnection retrieverConnection =
+        createRetrieverConnection(
+            connectionSource,
+            InformationSchemaKey.TABLES,
+            """
+            SELECT
+              'PUBLIC' AS TABLE_CAT,
+              SCHEMA_NAME AS TABLE_SCHEM,
+              'SAME_NAME' AS TABLE_NAME,
+              'TABLE' AS TABLE_TYPE,
+              'Same remarks' AS REMARKS
+            FROM
+              (VALUES('BOOKS'), ('PUBLISHER SALES')) AS SCHEMAS(SCHEMA_NAME)
+            """,
+            data_dictionary_all);
+
+    final TableRetriever tableRetriever =
+        new TableRetriever(retrieverConnection, catalog, createOptions());
+    tableRetriever.retrieveTables("", TableTypes.from("TABLE", "VIEW"), new IncludeAll());
+
+    final Table[] tables = catalog.getTables().toArray(new Table[0]);
+    assertThat(tables, arrayWithSize(2));
+    final NamePool namePool = retrieverConnection.getNamePool();
+    for (final Table table : tables) {
+      assertThat(table.getName(), is(sameInstance(namePool.intern(new String("SAME_NAME")))));
+      assertThat(table.getRemarks(), is(sameInstance(namePool.intern(new String("Same remarks")))));
+    }
+  }
+
   @Test
   @DisplayName("Retrieve tables from data dictionary")
   public void tablesFromDataDictionary(
@@ -0,0 +1,267 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static schemacrawler.filter.ReducerFactory.getCatalogReducer;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.validateSchema;
+import static schemacrawler.utility.MetaDataUtility.isPartial;
+import static us.fatehi.test.utility.TestUtility.fileHeaderOf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import schemacrawler.crawl.CatalogSnapshotUtility;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.View;
+import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.utility.SerializedCatalogUtility;
+import us.fatehi.utility.IOUtility;
+
+@WithTestDatabase
+public class CatalogSnapshotTest {
+
+  private Catalog catalog;
+
+  @Test
+  public void catalogSnapshot() throws Exception {
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_catalog_snapshot", "snapshot");
+    CatalogSnapshotUtility.serializeCatalogSnapshot(catalog, testOutputFile);
+    assertThat(CatalogSnapshotUtility.isCatalogSnapshot(testOutputFile), is(true));
+    assertThat(fileHeaderOf(testOutputFile), is("5343"));
+
+    final Catalog catalogDeserialized =
+        CatalogSnapshotUtility.deserializeCatalogSnapshot(testOutputFile);
+    validateSchema(catalogDeserialized);
+    assertSameCatalog(catalogDeserialized);
+  }
+
+  @Test
+  public void catalogSnapshotIsSmallerThanJavaSerialization() {
+    final ByteArrayOutputStream snapshotOut = new ByteArrayOutputStream();
+    CatalogSnapshotUtility.saveCatalogSnapshot(catalog, snapshotOut);
+
+    final ByteArrayOutputStream serializedOut = new ByteArrayOutputStream();
+    SerializedCatalogUtility.saveCatalog(catalog, serializedOut);
+
+    assertThat(snapshotOut.size(), is(lessThan(serializedOut.size())));
+  }
+
+  @Test
+  public void corruptCatalogSnapshot() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    CatalogSnapshotUtility.saveCatalogSnapshot(catalog, out);
+    final byte[] bytes = out.toByteArray();
+
+    final byte[] truncated = new byte[bytes.length / 2];
+    System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+    assertThrows(
+        UncheckedIOException.class,
+        () -> CatalogSnapshotUtility.readCatalogSnapshot(new ByteArrayInputStream(truncated)));
+
+    final byte[] notSnapshot = "Not a catalog snapshot".getBytes();
+    assertThrows(
+        UncheckedIOException.class,
+        () -> CatalogSnapshotUtility.readCatalogSnapshot(new ByteArrayInputStream(notSnapshot)));
+  }
+
+  @Test
+  public void loadCatalogSnapshot() throws Exception {
+    final Path testOutputFile = IOUtility.createTempFilePath("sc_catalog_snapshot", "snapshot");
+    CatalogSnapshotUtility.serializeCatalogSnapshot(catalog, testOutputFile);
+
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeTables(new RegularExpressionInclusionRule(".*\\.BOOKAUTHORS"));
+    final FilterOptionsBuilder filterOptionsBuilder =
+        FilterOptionsBuilder.builder().parentTableFilterDepth(1);
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions())
+            .withFilterOptions(filterOptionsBuilder.toOptions());
+
+    final Catalog loadedCatalog =
+        CatalogSnapshotUtility.loadCatalogSnapshot(testOutputFile, schemaCrawlerOptions);
+    assertThat(loadedCatalog.getTables(), hasSize(3));
+    assertThat(loadedCatalog.getRoutines(), is(empty()));
+
+    final Schema schema = loadedCatalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    final Table books = loadedCatalog.lookupTable(schema, "BOOKS").orElse(null);
+    assertThat(books, is(notNullValue()));
+    final Table fullBooks = catalog.lookupTable(schema, "BOOKS").orElse(null);
+    assertThat(names(books.getForeignKeys()), is(names(fullBooks.getForeignKeys())));
+    for (final Table dependentTable : books.getDependentTables()) {
+      final boolean isLoaded =
+          loadedCatalog.lookupTable(schema, dependentTable.getName()).isPresent();
+      assertThat(isPartial(dependentTable), is(!isLoaded));
+    }
+
+    final Catalog fullCatalog = CatalogSnapshotUtility.deserializeCatalogSnapshot(testOutputFile);
+    getCatalogReducer(schemaCrawlerOptions).reduce(fullCatalog);
+    getCatalogReducer(schemaCrawlerOptions).reduce(loadedCatalog);
+    assertThat(names(loadedCatalog.getTables()), is(names(fullCatalog.getTables())));
+  }
+
+  @BeforeEach
+  public void loadCatalog(final Connection connection) {
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+    try {
+      catalog = getCatalog(connection, schemaCrawlerOptions);
+    } catch (final Exception e) {
+      fail("Catalog not loaded", e);
+    }
+    validateSchema(catalog);
+  }
+
+  private void assertSameCatalog(final Catalog catalogDeserialized) {
+    assertThat(catalogDeserialized.getName(), is(catalog.getName()));
+    assertThat(catalogDeserialized.getAttributes(), is(catalog.getAttributes()));
+
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    final CrawlInfo crawlInfoDeserialized = catalogDeserialized.getCrawlInfo();
+    assertThat(crawlInfoDeserialized.getRunId(), is(crawlInfo.getRunId()));
+    assertThat(
+        crawlInfoDeserialized.getCrawlTimestampInstant(), is(crawlInfo.getCrawlTimestampInstant()));
+    assertThat(crawlInfoDeserialized.getTitle(), is(crawlInfo.getTitle()));
+    assertThat(
+        crawlInfoDeserialized.getDatabaseServerFingerprint(),
+        is(crawlInfo.getDatabaseServerFingerprint()));
+    assertThat(
+        catalogDeserialized.getDatabaseInfo().toString(), is(catalog.getDatabaseInfo().toString()));
+    assertThat(
+        catalogDeserialized.getJdbcDriverInfo().toString(),
+        is(catalog.getJdbcDriverInfo().toString()));
+
+    assertThat(
+        names(catalogDeserialized.getColumnDataTypes()), is(names(catalog.getColumnDataTypes())));
+    assertThat(names(catalogDeserialized.getSchemas()), is(names(catalog.getSchemas())));
+    assertThat(names(catalogDeserialized.getTables()), is(names(catalog.getTables())));
+    assertThat(names(catalogDeserialized.getRoutines()), is(names(catalog.getRoutines())));
+
+    for (final Table table : catalog.getTables()) {
+      final Table tableDeserialized =
+          catalogDeserialized.lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertThat(tableDeserialized, is(notNullValue()));
+      assertThat(tableDeserialized instanceof View, is(table instanceof View));
+      assertThat(tableDeserialized.getTableType(), is(table.getTableType()));
+      assertThat(tableDeserialized.getAttributes(), is(table.getAttributes()));
+      assertThat(tableDeserialized.getDefinition(), is(table.getDefinition()));
+
+      assertThat(names(tableDeserialized.getColumns()), is(names(table.getColumns())));
+      for (final Column column : table.getColumns()) {
+        final Column columnDeserialized =
+            tableDeserialized.lookupColumn(column.getName()).orElse(null);
+        assertThat(columnDeserialized, is(notNullValue()));
+        assertThat(
+            columnDeserialized.getColumnDataType().getFullName(),
+            is(column.getColumnDataType().getFullName()));
+        assertThat(columnDeserialized.getSize(), is(column.getSize()));
+        assertThat(columnDeserialized.isNullable(), is(column.isNullable()));
+        assertThat(columnDeserialized.isPartOfPrimaryKey(), is(column.isPartOfPrimaryKey()));
+        assertThat(columnDeserialized.isPartOfForeignKey(), is(column.isPartOfForeignKey()));
+        assertThat(columnDeserialized.getAttributes(), is(column.getAttributes()));
+        if (column.getReferencedColumn() != null) {
+          assertThat(
+              columnDeserialized.getReferencedColumn().getFullName(),
+              is(column.getReferencedColumn().getFullName()));
+        }
+      }
+
+      assertThat(tableDeserialized.hasPrimaryKey(), is(table.hasPrimaryKey()));
+      if (table.hasPrimaryKey()) {
+        assertThat(
+            names(tableDeserialized.getPrimaryKey().getConstrainedColumns()),
+            is(names(table.getPrimaryKey().getConstrainedColumns())));
+      }
+      assertThat(names(tableDeserialized.getForeignKeys()), is(names(table.getForeignKeys())));
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        final ForeignKey foreignKeyDeserialized =
+            tableDeserialized.lookupForeignKey(foreignKey.getName()).orElse(null);
+        assertThat(foreignKeyDeserialized, is(notNullValue()));
+        assertThat(
+            foreignKeyDeserialized.getColumnReferences().toString(),
+            is(foreignKey.getColumnReferences().toString()));
+        assertThat(foreignKeyDeserialized.getUpdateRule(), is(foreignKey.getUpdateRule()));
+        assertThat(foreignKeyDeserialized.getDeleteRule(), is(foreignKey.getDeleteRule()));
+      }
+      assertThat(names(tableDeserialized.getIndexes()), is(names(table.getIndexes())));
+      for (final Index index : table.getIndexes()) {
+        final Index indexDeserialized = tableDeserialized.lookupIndex(index.getName()).orElse(null);
+        assertThat(indexDeserialized, is(notNullValue()));
+        assertThat(names(indexDeserialized.getColumns()), is(names(index.getColumns())));
+        assertThat(indexDeserialized.isUnique(), is(index.isUnique()));
+      }
+      assertThat(
+          names(tableDeserialized.getTableConstraints()), is(names(table.getTableConstraints())));
+      assertThat(names(tableDeserialized.getTriggers()), is(names(table.getTriggers())));
+      assertThat(names(tableDeserialized.getPrivileges()), is(names(table.getPrivileges())));
+      assertThat(
+          names(tableDeserialized.getReferencedTables()), is(names(table.getReferencedTables())));
+      assertThat(
+          names(tableDeserialized.getDependentTables()), is(names(table.getDependentTables())));
+      assertThat(names(tableDeserialized.getUsedByObjects()), is(names(table.getUsedByObjects())));
+      if (table instanceof final View view) {
+        assertThat(
+            names(((View) tableDeserialized).getTableUsage()), is(names(view.getTableUsage())));
+      }
+    }
+
+    final List<Routine> routines = new ArrayList<>(catalog.getRoutines());
+    final List<Routine> routinesDeserialized = new ArrayList<>(catalogDeserialized.getRoutines());
+    for (int i = 0; i < routines.size(); i++) {
+      final Routine routine = routines.get(i);
+      final Routine routineDeserialized = routinesDeserialized.get(i);
+      assertThat(routineDeserialized.getSpecificName(), is(routine.getSpecificName()));
+      assertThat(routineDeserialized.getRoutineType(), is(routine.getRoutineType()));
+      assertThat(routineDeserialized.getDefinition(), is(routine.getDefinition()));
+      assertThat(names(routineDeserialized.getParameters()), is(names(routine.getParameters())));
+      assertThat(
+          names(routineDeserialized.getReferencedObjects()),
+          is(names(routine.getReferencedObjects())));
+    }
+  }
+
+  private List<String> names(final Collection<? extends NamedObject> namedObjects) {
+    final List<String> names = new ArrayList<>();
+    for (final NamedObject namedObject : namedObjects) {
+      names.add(namedObject.getFullName());
+    }
+    return names;
+  }
+}
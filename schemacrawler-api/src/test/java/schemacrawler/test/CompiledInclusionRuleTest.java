@@ -0,0 +1,149 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static schemacrawler.inclusionrule.CompiledInclusionRule.compile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import schemacrawler.inclusionrule.CompiledInclusionRule;
+import schemacrawler.inclusionrule.ExcludeAll;
+import schemacrawler.inclusionrule.IncludeAll;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.ListExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
+import schemacrawler.inclusionrule.RegularExpressionRule;
+
+public class CompiledInclusionRuleTest {
+
+  private static final String[] NAMES = {
+    null,
+    "",
+    "  ",
+    "PUBLIC",
+    "PUBLIC.BOOKS",
+    "PUBLIC.BOOKS.AUTHORS",
+    "PUBLIC.BOOKS.AUTHORS.ID",
+    "PUBLIC.BOOKS.BOOKAUTHORS",
+    "PUBLIC.BOOKS.AUTHORS\nID",
+    "PUBLIC.BOOKS.AUTHORS\u2028ID",
+    "PUBLICXBOOKS",
+    "PUBLIC.BOOKS.\"Global Counts\"",
+    "public.books.authors",
+    "SYSTEM_LOBS",
+    "SYSTEM",
+    "A|B",
+    "A.*",
+  };
+
+  private static final String[] PATTERNS = {
+    ".*",
+    "",
+    "PUBLIC.BOOKS",
+    "PUBLIC\\.BOOKS",
+    "PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKAUTHORS",
+    "(PUBLIC\\.BOOKS\\.AUTHORS|PUBLIC\\.BOOKS\\.BOOKAUTHORS)",
+    "(?:PUBLIC\\.BOOKS\\.AUTHORS|SYSTEM)",
+    "PUBLIC\\.BOOKS\\..*",
+    "PUBLIC\\.BOOKS\\.AUTHORS.*|SYSTEM.*|PUBLIC",
+    "\\QPUBLIC.BOOKS.\"Global Counts\"\\E",
+    "\\QA|B\\E|\\QA.*\\E",
+    "\\QPUBLIC.*",
+    "\\QPUBLIC\\E.*",
+    "(PUBLIC)\\.(BOOKS)",
+    "PUBLIC\\.BOOKS\\.[A-Z]+",
+    "(?i)public\\.books\\.authors",
+    "SYSTEM(_LOBS)?",
+    "\\w+",
+  };
+
+  @Test
+  public void compiledPatterns() {
+    for (final String pattern : PATTERNS) {
+      for (final int flags : new int[] {0, Pattern.DOTALL}) {
+        final Pattern compiledPattern = Pattern.compile(pattern, flags);
+        assertSameDecisions(new RegularExpressionRule(compiledPattern, null));
+        assertSameDecisions(new RegularExpressionRule(null, compiledPattern));
+        assertSameDecisions(
+            new RegularExpressionRule(compiledPattern, Pattern.compile("SYSTEM.*", flags)));
+      }
+      assertSameDecisions(new RegularExpressionInclusionRule(pattern));
+      assertSameDecisions(new RegularExpressionExclusionRule(pattern));
+    }
+  }
+
+  @Test
+  public void compiledRules() {
+    assertThat(compile(null), is(nullValue()));
+
+    final InclusionRule includeAll = new IncludeAll();
+    assertThat(compile(includeAll), is(sameInstance(includeAll)));
+    final InclusionRule excludeAll = new ExcludeAll();
+    assertThat(compile(excludeAll), is(sameInstance(excludeAll)));
+    assertThat(compile(new RegularExpressionInclusionRule((String) null)), is(new IncludeAll()));
+
+    final InclusionRule compiledRule = compile(new RegularExpressionRule("PUBLIC.*", null));
+    assertThat(compiledRule, instanceOf(CompiledInclusionRule.class));
+    assertThat(compile(compiledRule), is(sameInstance(compiledRule)));
+
+    // Rules that cannot be compiled give the same decisions, which are remembered
+    final InclusionRule listExclusionRule = new ListExclusionRule(List.of("SYSTEM", "PUBLIC"));
+    assertSameDecisions(listExclusionRule);
+    final InclusionRule compiledListExclusionRule = compile(listExclusionRule);
+    assertThat(compiledListExclusionRule.test("SYSTEM"), is(false));
+    assertThat(compiledListExclusionRule.test("SYSTEM"), is(false));
+    assertThat(compiledListExclusionRule.test("BOOKS"), is(true));
+    assertThat(compiledListExclusionRule.toString(), is(listExclusionRule.toString()));
+  }
+
+  @Test
+  public void serialization() throws Exception {
+    final InclusionRule inclusionRule = new RegularExpressionInclusionRule("PUBLIC\\.BOOKS\\..*");
+    final InclusionRule compiledRule = compile(inclusionRule);
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(compiledRule);
+    }
+    final Object deserializedRule;
+    try (final ObjectInputStream in =
+        new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserializedRule = in.readObject();
+    }
+
+    assertThat(deserializedRule, instanceOf(RegularExpressionInclusionRule.class));
+    assertThat(deserializedRule, is(inclusionRule));
+    assertThat(deserializedRule, is(not(instanceOf(CompiledInclusionRule.class))));
+  }
+
+  private void assertSameDecisions(final InclusionRule inclusionRule) {
+    final InclusionRule compiledRule = compile(inclusionRule);
+    // Check twice, to also check remembered decisions
+    for (int i = 0; i < 2; i++) {
+      for (final String name : NAMES) {
+        assertThat(
+            "<%s> with %s".formatted(name, inclusionRule),
+            compiledRule.test(name),
+            is(inclusionRule.test(name)));
+      }
+    }
+  }
+}
@@ -11,6 +11,19 @@ import schemacrawler.schema.NamedObjectKey;
 
 public class NamedObjectKeyTest {
 
+  @Test
+  public void extendedKeys() {
+    final NamedObjectKey key = new NamedObjectKey("a", "b").with("c");
+    final NamedObjectKey keyWithNull = new NamedObjectKey(null, "b").with(null);
+
+    assertEquals(new NamedObjectKey("a", "b", "c"), key);
+    assertEquals(new NamedObjectKey("a", "b", "c").hashCode(), key.hashCode());
+    assertEquals(new NamedObjectKey(null, "b", null), keyWithNull);
+    assertEquals(new NamedObjectKey(null, "b", null).hashCode(), keyWithNull.hashCode());
+    assertEquals(new NamedObjectKey("c"), new NamedObjectKey().with("c"));
+    assertEquals(new NamedObjectKey("c").hashCode(), new NamedObjectKey().with("c").hashCode());
+  }
+
   @Test
   public void testComparable() {
     final NamedObjectKey key1 = new NamedObjectKey("a", "b");
@@ -13,6 +13,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static schemacrawler.test.utility.crawl.LightColumnDataTypeUtility.columnDataType;
 import static schemacrawler.utility.MetaDataUtility.inclusionRuleString;
@@ -33,9 +37,14 @@ import org.mockito.ArgumentCaptor;
 import schemacrawler.inclusionrule.InclusionRule;
 import schemacrawler.inclusionrule.RegularExpressionInclusionRule;
 import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.Identifiers;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.PreparedQueries;
 import schemacrawler.schemacrawler.Query;
 import schemacrawler.schemacrawler.QueryUtility;
+import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.test.utility.crawl.LightTable;
 import us.fatehi.test.utility.TestWriter;
 import us.fatehi.test.utility.extensions.ResolveTestContext;
 import us.fatehi.test.utility.extensions.TestContext;
@@ -164,6 +173,107 @@ public class QueryUtilityTest {
         testContext, cxn, query, makeLimitMap(schemaInclusionRule, tableInclusionRule));
   }
 
+  @Test
+  public void executeAgainstTablePrepared(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Table type",
+            "SELECT TABLE_NAME, TABLE_TYPE FROM INFORMATION_SCHEMA.TABLES "
+                + "WHERE TABLE_SCHEMA = ?{schemaname} AND TABLE_NAME = ?{ tablename }");
+    final SchemaReference schema = new SchemaReference("PUBLIC", "BOOKS");
+
+    final Connection connection = spy(cxn);
+    try (final PreparedQueries preparedQueries = new PreparedQueries(connection)) {
+      for (final String tableName : new String[] {"AUTHORS", "BOOKS", "AUTHORSLIST"}) {
+        final Table table = new LightTable(schema, tableName);
+        try (final ResultSet results =
+            QueryUtility.executeAgainstTable(
+                query, preparedQueries, table, false, Identifiers.STANDARD)) {
+          assertThat(results.next(), is(true));
+          assertThat(results.getString("TABLE_NAME"), is(tableName));
+          assertThat(results.next(), is(false));
+        }
+      }
+    }
+
+    // Prepared only once for all tables
+    verify(connection, times(1)).prepareStatement(anyString());
+  }
+
+  @Test
+  public void executeAgainstTablePreparedUnknownParameter(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Unknown parameter",
+            "SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = ?{columns}");
+    final Table table = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS");
+
+    try (final PreparedQueries preparedQueries = new PreparedQueries(cxn)) {
+      assertThrows(
+          SQLException.class,
+          () ->
+              QueryUtility.executeAgainstTable(
+                  query, preparedQueries, table, false, Identifiers.STANDARD));
+    }
+  }
+
+  @Test
+  public void executeForLongPrepared(final Connection cxn) throws Exception {
+    final Query bindQuery =
+        new Query(
+            "Column count",
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = ?{schemaname} AND TABLE_NAME = ?{tablename}");
+    final Query templateQuery = new Query("Row count", "SELECT COUNT(*) FROM ${table}");
+    final Table table = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS");
+
+    try (final PreparedQueries preparedQueries = new PreparedQueries(cxn)) {
+      assertThat(
+          QueryUtility.executeForLong(bindQuery, preparedQueries, table, Identifiers.STANDARD),
+          is(9L));
+      assertThat(
+          QueryUtility.executeForLong(templateQuery, preparedQueries, table, Identifiers.STANDARD),
+          is(20L));
+    }
+  }
+
+  @Test
+  public void executeForLongPreparedWithQueryTimeout(final Connection cxn) throws Exception {
+    final Query bindQuery =
+        new Query(
+            "Column count",
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = ?{schemaname} AND TABLE_NAME = ?{tablename}");
+    final Query templateQuery = new Query("Row count", "SELECT COUNT(*) FROM ${table}");
+    final Table table = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS");
+
+    try (final PreparedQueries preparedQueries = new PreparedQueries(cxn, 5)) {
+      QueryUtility.executeForLong(bindQuery, preparedQueries, table, Identifiers.STANDARD);
+      QueryUtility.executeForLong(templateQuery, preparedQueries, table, Identifiers.STANDARD);
+
+      assertThat(
+          preparedQueries.prepare(bindQuery, table, Identifiers.STANDARD).getQueryTimeout(), is(5));
+      assertThat(preparedQueries.getStatement().getQueryTimeout(), is(5));
+    }
+  }
+
+  @Test
+  public void executeForLongWithSystemProperties(final Connection cxn) throws Exception {
+    final Query query =
+        new Query(
+            "Row count", "SELECT COUNT(*) + ${schemacrawler.test.row-count-offset} FROM ${table}");
+    final Table table = new LightTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS");
+
+    System.setProperty("schemacrawler.test.row-count-offset", "100");
+    try (final PreparedQueries preparedQueries = new PreparedQueries(cxn)) {
+      assertThat(
+          QueryUtility.executeForLong(query, preparedQueries, table, Identifiers.STANDARD),
+          is(120L));
+    } finally {
+      System.clearProperty("schemacrawler.test.row-count-offset");
+    }
+  }
+
   @Test
   public void executeForScalar(final TestContext testContext, final Connection cxn)
       throws Exception {
@@ -0,0 +1,199 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.adaptive;
+import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+import static schemacrawler.test.utility.DatabaseTestUtility.schemaRetrievalOptionsDefault;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import schemacrawler.crawl.CatalogVisitor;
+import schemacrawler.crawl.StreamingSchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.PrimaryKey;
+import schemacrawler.schema.RetrievalStrategyDecision;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.schemacrawler.exceptions.ExecutionRuntimeException;
+import schemacrawler.test.utility.WithTestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class StreamingSchemaCrawlerTest {
+
+  private static class CollectingVisitor implements CatalogVisitor {
+
+    private final List<String> events = new ArrayList<>();
+    private CrawlInfo crawlInfo;
+    private final List<String> schemas = new ArrayList<>();
+    private final List<String> tables = new ArrayList<>();
+    private final List<String> columns = new ArrayList<>();
+    private final List<String> primaryKeys = new ArrayList<>();
+    private final List<String> foreignKeys = new ArrayList<>();
+    private final List<String> indexes = new ArrayList<>();
+
+    @Override
+    public void end() {
+      events.add("end");
+    }
+
+    @Override
+    public void start(final CrawlInfo crawlInfo) {
+      events.add("start");
+      this.crawlInfo = crawlInfo;
+    }
+
+    @Override
+    public void visitColumn(final Column column) {
+      columns.add(column.getFullName());
+    }
+
+    @Override
+    public void visitForeignKey(final ForeignKey foreignKey) {
+      foreignKeys.add(foreignKey.getName());
+    }
+
+    @Override
+    public void visitIndex(final Index index) {
+      indexes.add(index.getFullName());
+    }
+
+    @Override
+    public void visitPrimaryKey(final PrimaryKey primaryKey) {
+      primaryKeys.add(primaryKey.getFullName());
+    }
+
+    @Override
+    public void visitSchema(final Schema schema) {
+      schemas.add(schema.getFullName());
+    }
+
+    @Override
+    public void visitTable(final Table table) {
+      tables.add(table.getFullName());
+    }
+  }
+
+  @Test
+  public void streamingCrawl(
+      final Connection connection, final DatabaseConnectionSource connectionSource) {
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    final List<String> schemas = new ArrayList<>();
+    final List<String> tables = new ArrayList<>();
+    final List<String> columns = new ArrayList<>();
+    final List<String> primaryKeys = new ArrayList<>();
+    final List<String> foreignKeys = new ArrayList<>();
+    final List<String> indexes = new ArrayList<>();
+    for (final Schema schema : catalog.getSchemas()) {
+      schemas.add(schema.getFullName());
+    }
+    for (final Table table : catalog.getTables()) {
+      tables.add(table.getFullName());
+      for (final Column column : table.getColumns()) {
+        columns.add(column.getFullName());
+      }
+      if (table.hasPrimaryKey()) {
+        primaryKeys.add(table.getPrimaryKey().getFullName());
+      }
+      for (final ForeignKey foreignKey : table.getImportedForeignKeys()) {
+        foreignKeys.add(foreignKey.getName());
+      }
+      for (final Index index : table.getIndexes()) {
+        indexes.add(index.getFullName());
+      }
+    }
+
+    // Use a small buffer, so that the crawl has to wait for the visitor
+    final CollectingVisitor visitor = new CollectingVisitor();
+    new StreamingSchemaCrawler(
+            connectionSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            1)
+        .crawl(visitor);
+
+    assertThat(visitor.events, contains("start", "end"));
+    assertThat(visitor.schemas, containsInAnyOrder(schemas.toArray()));
+    assertThat(visitor.tables, containsInAnyOrder(tables.toArray()));
+    assertThat(visitor.columns, containsInAnyOrder(columns.toArray()));
+    assertThat(visitor.primaryKeys, containsInAnyOrder(primaryKeys.toArray()));
+    assertThat(visitor.foreignKeys, containsInAnyOrder(foreignKeys.toArray()));
+    assertThat(visitor.indexes, containsInAnyOrder(indexes.toArray()));
+  }
+
+  @Test
+  public void streamingCrawlAdaptive(final DatabaseConnectionSource connectionSource) {
+
+    final SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder =
+        SchemaRetrievalOptionsBuilder.builder().fromOptions(schemaRetrievalOptionsDefault);
+    for (final SchemaInfoMetadataRetrievalStrategy retrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      schemaRetrievalOptionsBuilder.with(retrievalStrategy, adaptive);
+    }
+
+    final CollectingVisitor visitor = new CollectingVisitor();
+    new StreamingSchemaCrawler(
+            connectionSource,
+            schemaRetrievalOptionsBuilder.toOptions(),
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            1)
+        .crawl(visitor);
+
+    assertThat(visitor.events, contains("start", "end"));
+    assertThat(visitor.tables, is(not(empty())));
+    final Collection<RetrievalStrategyDecision> decisions =
+        visitor.crawlInfo.getRetrievalStrategyDecisions();
+    assertThat(decisions, is(not(empty())));
+    for (final RetrievalStrategyDecision decision : decisions) {
+      assertThat(decision.strategy(), is(not(adaptive.name())));
+    }
+  }
+
+  @Test
+  public void streamingCrawlVisitorException(final DatabaseConnectionSource connectionSource) {
+
+    final CatalogVisitor visitor =
+        new CatalogVisitor() {
+          @Override
+          public void visitTable(final Table table) {
+            throw new ExecutionRuntimeException("Stop crawl");
+          }
+        };
+    final StreamingSchemaCrawler streamingSchemaCrawler =
+        new StreamingSchemaCrawler(
+            connectionSource,
+            schemaRetrievalOptionsDefault,
+            schemaCrawlerOptionsWithMaximumSchemaInfoLevel,
+            1);
+
+    final ExecutionRuntimeException exception =
+        assertThrows(ExecutionRuntimeException.class, () -> streamingSchemaCrawler.crawl(visitor));
+    assertThat(exception.getMessage(), is("Stop crawl"));
+  }
+}
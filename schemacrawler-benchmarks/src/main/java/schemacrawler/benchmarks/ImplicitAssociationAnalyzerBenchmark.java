@@ -0,0 +1,58 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.ermodel.associations.ImplicitAssociationAnalyzerBuilder;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Table;
+
+/** Finds implicit associations in a synthetic catalog, by matching column and table names. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImplicitAssociationAnalyzerBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tablesCount;
+
+  private List<Table> tables;
+
+  @Benchmark
+  public Collection<ColumnReference> analyzeTables() {
+    return ImplicitAssociationAnalyzerBuilder.builder(tables)
+        .withIdMatcher()
+        .withExtensionTableMatcher()
+        .build()
+        .analyzeTables();
+  }
+
+  @Setup
+  public void setUp() {
+    tables = List.copyOf(newSyntheticCatalog(tablesCount).getTables());
+  }
+}
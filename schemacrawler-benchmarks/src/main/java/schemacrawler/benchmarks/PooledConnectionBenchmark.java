@@ -0,0 +1,122 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import schemacrawler.testdb.TestDatabase;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.PooledConnectionUtility;
+
+/**
+ * Calls methods on a pooled connection to the test database, comparing the delegating pooled
+ * connection with the reflective proxy that pooled connections used to be implemented with. The
+ * methods called do not go to the database server, so that mostly the cost of delegation is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PooledConnectionBenchmark {
+
+  private static final DatabaseConnectionSource NO_OP_CONNECTION_SOURCE =
+      new DatabaseConnectionSource() {
+
+        @Override
+        public void close() {}
+
+        @Override
+        public Connection get() {
+          throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean releaseConnection(final Connection connection) {
+          return true;
+        }
+
+        @Override
+        public void setFirstConnectionInitializer(final Consumer<Connection> initializer) {}
+      };
+
+  private TestDatabase testDatabase;
+  private Connection connection;
+  private Connection delegatingConnection;
+  private Connection proxyConnection;
+
+  @Benchmark
+  public void delegatingConnectionCalls(final Blackhole blackhole) throws SQLException {
+    connectionCalls(delegatingConnection, blackhole);
+  }
+
+  @Benchmark
+  public void delegatingCreateStatement(final Blackhole blackhole) throws SQLException {
+    createStatement(delegatingConnection, blackhole);
+  }
+
+  @Benchmark
+  public void proxyConnectionCalls(final Blackhole blackhole) throws SQLException {
+    connectionCalls(proxyConnection, blackhole);
+  }
+
+  @Benchmark
+  public void proxyCreateStatement(final Blackhole blackhole) throws SQLException {
+    createStatement(proxyConnection, blackhole);
+  }
+
+  @Setup
+  public void setUp() throws SQLException {
+    testDatabase = TestDatabase.initialize();
+    connection = testDatabase.getConnection();
+    delegatingConnection =
+        PooledConnectionUtility.newPooledConnection(connection, NO_OP_CONNECTION_SOURCE);
+    proxyConnection =
+        ProxyPooledConnectionUtility.newPooledConnection(connection, NO_OP_CONNECTION_SOURCE);
+  }
+
+  @TearDown
+  public void tearDown() throws SQLException {
+    connection.close();
+    testDatabase.stop();
+  }
+
+  private void connectionCalls(final Connection connection, final Blackhole blackhole)
+      throws SQLException {
+    blackhole.consume(connection.getMetaData());
+    blackhole.consume(connection.getAutoCommit());
+    blackhole.consume(connection.getCatalog());
+    blackhole.consume(connection.getSchema());
+    blackhole.consume(connection.isReadOnly());
+  }
+
+  private void createStatement(final Connection connection, final Blackhole blackhole)
+      throws SQLException {
+    try (final Statement statement = connection.createStatement()) {
+      blackhole.consume(statement);
+    }
+  }
+}
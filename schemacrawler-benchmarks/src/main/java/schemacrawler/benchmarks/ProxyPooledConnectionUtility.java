@@ -0,0 +1,165 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Objects.requireNonNull;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.datasource.DatabaseConnectionSourceConnection;
+
+/**
+ * Reflective proxy for pooled connections, copied unchanged from the implementation that the
+ * delegating pooled connection replaced, so that benchmarks compare against what was actually used.
+ */
+final class ProxyPooledConnectionUtility {
+
+  private static final class CloseState {
+
+    private static final VarHandle CLOSED;
+
+    static {
+      try {
+        CLOSED = MethodHandles.lookup().findVarHandle(CloseState.class, "closed", boolean.class);
+      } catch (final ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    // Backing field for CLOSED VarHandle. All reads/writes go through the
+    // VarHandle to enforce explicit access modes (volatile read/write and CAS - compare and set).
+    private volatile boolean closed;
+
+    boolean isClosed() {
+      return (boolean) CLOSED.getVolatile(this);
+    }
+
+    boolean tryClose() {
+      // Atomically transition from open(false) to closed(true).
+      // Returns true only for the first caller that wins the transition.
+      // Subsequent callers see false and should treat close as already done.
+      return CLOSED.compareAndSet(this, false, true);
+    }
+  }
+
+  private static class PooledConnectionInvocationHandler implements InvocationHandler {
+
+    @FunctionalInterface
+    private interface MethodHandler {
+      Object handle(Object proxy, Object[] args) throws Exception;
+    }
+
+    private static final Set<String> CLOSED_EXEMPT_METHODS = Set.of("isClosed", "unwrap");
+
+    private final Connection connection;
+    private final DatabaseConnectionSource connectionSource;
+    private final CloseState closeState;
+    private final Map<String, MethodHandler> handlers;
+
+    PooledConnectionInvocationHandler(
+        final Connection connection, final DatabaseConnectionSource connectionSource) {
+      requireNonNull(connection, "No database connnection provided");
+      if (connection instanceof DatabaseConnectionSourceConnection) {
+        try {
+          this.connection = connection.unwrap(Connection.class);
+        } catch (final SQLException e) {
+          throw new UnsupportedOperationException("Could not unwrap proxy connection");
+        }
+      } else {
+        this.connection = connection;
+      }
+      this.connectionSource =
+          requireNonNull(connectionSource, "No database connection source provided");
+      closeState = new CloseState();
+      this.handlers = buildHandlers();
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args)
+        throws Exception {
+      final String methodName = method.getName();
+      if (!CLOSED_EXEMPT_METHODS.contains(methodName) && closeState.isClosed()) {
+        throw new SQLException("Cannot call <%s> since connection is closed".formatted(method));
+      }
+      final MethodHandler handler = handlers.get(methodName);
+      if (handler != null) {
+        return handler.handle(proxy, args);
+      }
+      return delegateToConnection(method, args);
+    }
+
+    private Map<String, MethodHandler> buildHandlers() {
+      final Map<String, MethodHandler> map = new HashMap<>();
+      map.put("close", (proxy, args) -> handleClose());
+      map.put("isClosed", (proxy, args) -> closeState.isClosed());
+      map.put("isWrapperFor", (proxy, args) -> handleIsWrapperFor(args));
+      map.put("unwrap", (proxy, args) -> connection);
+      map.put(
+          "toString",
+          (proxy, args) ->
+              "Pooled connection <%s@%d> for <%s>"
+                  .formatted(proxy.getClass().getName(), proxy.hashCode(), connection));
+      return map;
+    }
+
+    private Object handleClose() {
+      if (!closeState.tryClose()) {
+        return null;
+      }
+      connectionSource.releaseConnection(connection);
+      return null;
+    }
+
+    private Object handleIsWrapperFor(final Object[] args) {
+      final Class<?> clazz = (Class<?>) args[0];
+      return clazz.isAssignableFrom(connection.getClass());
+    }
+
+    private Object delegateToConnection(final Method method, final Object[] args) throws Exception {
+      try {
+        if (closeState.isClosed()) {
+          throw new IllegalAccessException("Connection is closed");
+        }
+        return method.invoke(connection, args);
+      } catch (final IllegalAccessException
+          | IllegalArgumentException
+          | InvocationTargetException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof final Exception exception) {
+          throw exception;
+        }
+        throw new SQLException("Could not delegate method <%s>".formatted(method), e);
+      }
+    }
+  }
+
+  static Connection newPooledConnection(
+      final Connection connection, final DatabaseConnectionSource connectionSource) {
+
+    return (Connection)
+        newProxyInstance(
+            ProxyPooledConnectionUtility.class.getClassLoader(),
+            new Class[] {Connection.class, DatabaseConnectionSourceConnection.class},
+            new PooledConnectionInvocationHandler(connection, connectionSource));
+  }
+
+  private ProxyPooledConnectionUtility() {
+    // Prevent instantiation
+  }
+}
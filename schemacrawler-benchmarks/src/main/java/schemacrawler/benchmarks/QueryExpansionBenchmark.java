@@ -0,0 +1,104 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import schemacrawler.schema.Identifiers;
+import schemacrawler.schema.Table;
+import us.fatehi.utility.CompiledTemplate;
+import us.fatehi.utility.TemplatingUtility;
+
+/**
+ * Expands a query for every table of a synthetic catalog, with the same table variables that are
+ * used for queries that are run against tables. The query is either scanned again for each table,
+ * and then expanded again with system properties, or compiled once and expanded with system
+ * properties only when variables are left.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryExpansionBenchmark {
+
+  private static final String QUERY =
+      """
+      SELECT
+        COUNT(*)
+      FROM
+        ${table}
+      WHERE
+        '${tabletype}' = 'TABLE'
+        AND '${schemaname}' IS NOT NULL
+        AND '${tablename}' IS NOT NULL
+      """;
+
+  @Param({"50000"})
+  public int tablesCount;
+
+  private CompiledTemplate compiledQuery;
+  private List<Map<String, String>> tablesVariables;
+
+  @Benchmark
+  public void expandCompiledTemplate(final Blackhole blackhole) {
+    for (final Map<String, String> tableVariables : tablesVariables) {
+      final String sql = compiledQuery.expand(tableVariables);
+      if (compiledQuery.isExpandedCompletely(tableVariables)) {
+        blackhole.consume(sql);
+      } else {
+        blackhole.consume(TemplatingUtility.expandTemplate(sql));
+      }
+    }
+  }
+
+  @Benchmark
+  public void expandTemplate(final Blackhole blackhole) {
+    for (final Map<String, String> tableVariables : tablesVariables) {
+      final String sql = TemplatingUtility.expandTemplate(QUERY, tableVariables);
+      blackhole.consume(TemplatingUtility.expandTemplate(sql));
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    compiledQuery = new CompiledTemplate(QUERY);
+
+    final Identifiers identifiers = Identifiers.STANDARD;
+    tablesVariables = new ArrayList<>(tablesCount);
+    for (final Table table : newSyntheticCatalog(tablesCount).getTables()) {
+      final Map<String, String> tableVariables = new HashMap<>();
+      tableVariables.put("schema", identifiers.quoteFullName(table.getSchema()));
+      tableVariables.put("catalogname", table.getSchema().getCatalogName());
+      tableVariables.put("schemaname", table.getSchema().getName());
+      tableVariables.put("table", identifiers.quoteFullName(table));
+      tableVariables.put("tablename", table.getName());
+      tableVariables.put("tabletype", table.getTableType().toString());
+      tablesVariables.add(tableVariables);
+    }
+  }
+}
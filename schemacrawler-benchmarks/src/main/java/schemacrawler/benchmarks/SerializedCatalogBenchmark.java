@@ -0,0 +1,62 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.schema.Catalog;
+import schemacrawler.utility.SerializedCatalogUtility;
+
+/** Serializes a synthetic catalog with Java serialization, and reads it back. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializedCatalogBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tablesCount;
+
+  private Catalog catalog;
+  private byte[] serializedCatalog;
+
+  @Benchmark
+  public Catalog readCatalog() {
+    return SerializedCatalogUtility.readCatalog(new ByteArrayInputStream(serializedCatalog));
+  }
+
+  @Benchmark
+  public byte[] saveCatalog() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    SerializedCatalogUtility.saveCatalog(catalog, out);
+    return out.toByteArray();
+  }
+
+  @Setup
+  public void setUp() {
+    catalog = newSyntheticCatalog(tablesCount);
+    serializedCatalog = saveCatalog();
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.benchmarks;
+
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import schemacrawler.filter.ReducerFactory;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CatalogReducer;
+import schemacrawler.schemacrawler.FilterOptionsBuilder;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+
+/**
+ * Reduces a synthetic catalog to ten tables, with their parent and child tables up to a depth. The
+ * catalog is reset after each reduction, so that the next reduction starts from all tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TablesReducerBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tablesCount;
+
+  @Param({"0", "1", "5"})
+  public int depth;
+
+  private Catalog catalog;
+  private CatalogReducer reducer;
+
+  @Benchmark
+  public int reduce() {
+    reducer.reduce(catalog);
+    final int reducedTablesCount = catalog.getTables().size();
+    reducer.undo(catalog);
+    return reducedTablesCount;
+  }
+
+  @Setup
+  public void setUp() {
+    catalog = newSyntheticCatalog(tablesCount);
+
+    final SchemaCrawlerOptions options =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(
+                LimitOptionsBuilder.builder()
+                    .includeTables(Pattern.compile(".*\\.T1\\d"))
+                    .toOptions())
+            .withFilterOptions(
+                FilterOptionsBuilder.builder()
+                    .parentTableFilterDepth(depth)
+                    .childTableFilterDepth(depth)
+                    .toOptions());
+    reducer = ReducerFactory.getCatalogReducer(options);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decodes rows of a synthetic result set shaped like the results of {@code
+ * DatabaseMetaData.getColumns()}, reading some columns by name and the rest as attributes, in the
+ * same way as the table column retriever. The synthetic result set does not do any work of its own,
+ * so that only the decoding is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataResultSetBenchmark {
+
+  private static final String[] COLUMN_NAMES = {
+    "TABLE_CAT",
+    "TABLE_SCHEM",
+    "TABLE_NAME",
+    "COLUMN_NAME",
+    "DATA_TYPE",
+    "TYPE_NAME",
+    "COLUMN_SIZE",
+    "BUFFER_LENGTH",
+    "DECIMAL_DIGITS",
+    "NUM_PREC_RADIX",
+    "NULLABLE",
+    "REMARKS",
+    "COLUMN_DEF",
+    "SQL_DATA_TYPE",
+    "SQL_DATETIME_SUB",
+    "CHAR_OCTET_LENGTH",
+    "ORDINAL_POSITION",
+    "IS_NULLABLE",
+    "SCOPE_CATALOG",
+    "SCOPE_SCHEMA",
+    "SCOPE_TABLE",
+    "SOURCE_DATA_TYPE",
+    "IS_AUTOINCREMENT",
+    "IS_GENERATEDCOLUMN",
+  };
+  private static final int[] COLUMN_TYPES = {
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.INTEGER,
+    Types.VARCHAR,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.INTEGER,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.VARCHAR,
+    Types.SMALLINT,
+    Types.VARCHAR,
+    Types.VARCHAR,
+  };
+
+  private static Object defaultValue(final Method method) {
+    final Class<?> returnType = method.getReturnType();
+    if (returnType == boolean.class) {
+      return false;
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    if (returnType == short.class) {
+      return (short) 0;
+    }
+    if (returnType == String.class) {
+      return "";
+    }
+    return null;
+  }
+
+  private static ResultSet newSyntheticResultSet(final int rowsCount) {
+    final Map<String, Integer> columnIndexes = new HashMap<>();
+    for (int i = 0; i < COLUMN_NAMES.length; i++) {
+      columnIndexes.put(COLUMN_NAMES[i], i + 1);
+    }
+
+    final ResultSetMetaData metaData =
+        (ResultSetMetaData)
+            Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "getColumnCount" -> COLUMN_NAMES.length;
+                      case "getColumnLabel", "getColumnName" -> COLUMN_NAMES[(int) args[0] - 1];
+                      case "getColumnType" -> COLUMN_TYPES[(int) args[0] - 1];
+                      case "getColumnTypeName" ->
+                          COLUMN_TYPES[(int) args[0] - 1] == Types.VARCHAR ? "VARCHAR" : "INTEGER";
+                      case "getTableName" -> "COLUMNS";
+                      default -> defaultValue(method);
+                    });
+
+    final int[] row = {0};
+    return (ResultSet)
+        Proxy.newProxyInstance(
+            ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class},
+            (proxy, method, args) -> {
+              final int columnIndex;
+              if (args != null && args.length > 0 && args[0] instanceof final String columnName) {
+                columnIndex = columnIndexes.getOrDefault(columnName, 0);
+              } else if (args != null
+                  && args.length > 0
+                  && args[0] instanceof final Integer index) {
+                columnIndex = index;
+              } else {
+                columnIndex = 0;
+              }
+              if (columnIndex < 1 || columnIndex > COLUMN_NAMES.length) {
+                return switch (method.getName()) {
+                  case "next" -> ++row[0] <= rowsCount;
+                  case "getMetaData" -> metaData;
+                  case "getString", "getObject", "getInt", "getShort", "getLong" ->
+                      throw new SQLException("No column <%s>".formatted(args[0]));
+                  default -> defaultValue(method);
+                };
+              }
+              final boolean isString = COLUMN_TYPES[columnIndex - 1] == Types.VARCHAR;
+              return switch (method.getName()) {
+                case "getString" -> isString ? COLUMN_NAMES[columnIndex - 1] : "1";
+                case "getObject" -> isString ? COLUMN_NAMES[columnIndex - 1] : 1;
+                case "getInt" -> 1;
+                case "getShort" -> (short) 1;
+                case "getLong" -> 1L;
+                default -> defaultValue(method);
+              };
+            });
+  }
+
+  @Param({"1000", "100000"})
+  public int rowsCount;
+
+  @Benchmark
+  public void decodeRows(final Blackhole blackhole) throws SQLException {
+    try (final MetadataResultSet results =
+        new MetadataResultSet(newSyntheticResultSet(rowsCount), "benchmark")) {
+      while (results.next()) {
+        blackhole.consume(results.getString("TABLE_CAT"));
+        blackhole.consume(results.getString("TABLE_SCHEM"));
+        blackhole.consume(results.getString("TABLE_NAME"));
+        blackhole.consume(results.getString("COLUMN_NAME"));
+        blackhole.consume(results.getInt("DATA_TYPE", 0));
+        blackhole.consume(results.getString("TYPE_NAME"));
+        blackhole.consume(results.getInt("COLUMN_SIZE", 0));
+        blackhole.consume(results.getInt("DECIMAL_DIGITS", 0));
+        blackhole.consume(results.getBoolean("NULLABLE"));
+        blackhole.consume(results.getString("REMARKS"));
+        blackhole.consume(results.getString("COLUMN_DEF"));
+        blackhole.consume(results.getInt("ORDINAL_POSITION", 0));
+        blackhole.consume(results.getString("IS_AUTOINCREMENT"));
+        blackhole.consume(results.getString("IS_GENERATEDCOLUMN"));
+        blackhole.consume(results.getAttributes());
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static java.util.Comparator.naturalOrder;
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import schemacrawler.schema.Table;
+
+/**
+ * Adds, looks up and iterates tables in a named object list. Reading the sorted values of the list
+ * is compared with copying and sorting them on every read, which is what the list did before it
+ * kept a sorted snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamedObjectListBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tablesCount;
+
+  private List<Table> tables;
+  private NamedObjectList<Table> namedObjectList;
+
+  @Benchmark
+  public NamedObjectList<Table> add() {
+    final NamedObjectList<Table> namedObjectList = new NamedObjectList<>();
+    for (final Table table : tables) {
+      namedObjectList.add(table);
+    }
+    return namedObjectList;
+  }
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole) {
+    for (final Table table : namedObjectList) {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public void lookup(final Blackhole blackhole) {
+    for (final Table table : tables) {
+      blackhole.consume(namedObjectList.lookup(table.key()));
+    }
+  }
+
+  @Benchmark
+  public List<Table> sortEveryRead() {
+    final List<Table> values = new ArrayList<>(tables);
+    values.sort(naturalOrder());
+    return values;
+  }
+
+  @Benchmark
+  public List<Table> values() {
+    return namedObjectList.values();
+  }
+
+  @Setup
+  public void setUp() {
+    final List<Table> tables = new ArrayList<>(newSyntheticCatalog(tablesCount).getTables());
+    // Shuffle tables into hash order, as they would be read from the list before sorting
+    tables.sort((table1, table2) -> Integer.compare(table1.hashCode(), table2.hashCode()));
+    this.tables = List.copyOf(tables);
+    namedObjectList = add();
+  }
+}
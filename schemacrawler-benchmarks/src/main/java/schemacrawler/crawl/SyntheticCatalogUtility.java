@@ -0,0 +1,134 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import java.sql.Types;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.DataTypeType;
+import schemacrawler.schema.TableType;
+import schemacrawler.schemacrawler.SchemaReference;
+import schemacrawler.utility.JavaSqlTypes;
+import us.fatehi.utility.UtilityMarker;
+import us.fatehi.utility.database.DatabaseInformation;
+import us.fatehi.utility.database.JdbcDriverInformation;
+import us.fatehi.utility.property.VersionNumber;
+
+/**
+ * Builds synthetic catalogs for benchmarks, without a database. Tables are named T0, T1, and so on,
+ * and are spread over ten schemas. Each table has a primary key on an ID column, with a unique
+ * index. Each table except the first has a foreign key from a PARENT_ID column to table (n - 1) /
+ * 2, so tables form a binary tree of parent-child relationships. Each table also has a column named
+ * for table n / 3, such as T2_ID, without a foreign key, which can be found as an implicit
+ * association.
+ */
+@UtilityMarker
+public final class SyntheticCatalogUtility {
+
+  private static final int SCHEMAS_COUNT = 10;
+
+  /**
+   * Builds a synthetic catalog.
+   *
+   * @param tablesCount Number of tables in the catalog
+   * @return Synthetic catalog
+   */
+  public static Catalog newSyntheticCatalog(final int tablesCount) {
+    final MutableDatabaseInfo databaseInfo =
+        new MutableDatabaseInfo(new DatabaseInformation("Synthetic", "1.0", "benchmarks"));
+    final MutableJdbcDriverInfo jdbcDriverInfo =
+        new MutableJdbcDriverInfo(
+            new JdbcDriverInformation(
+                "Synthetic",
+                "synthetic.Driver",
+                "1.0",
+                new VersionNumber(1, 0),
+                new VersionNumber(4, 2),
+                false,
+                "jdbc:synthetic"));
+    final MutableCatalog catalog =
+        new MutableCatalog("Synthetic", "synthetic", databaseInfo, jdbcDriverInfo);
+
+    final JavaSqlTypes javaSqlTypes = new JavaSqlTypes();
+    final MutableColumnDataType integerType =
+        new MutableColumnDataType(new SchemaReference(), "INTEGER", DataTypeType.system);
+    integerType.setJavaSqlType(javaSqlTypes.valueOf(Types.INTEGER));
+    catalog.addColumnDataType(integerType);
+    final MutableColumnDataType varcharType =
+        new MutableColumnDataType(new SchemaReference(), "VARCHAR", DataTypeType.system);
+    varcharType.setJavaSqlType(javaSqlTypes.valueOf(Types.VARCHAR));
+    catalog.addColumnDataType(varcharType);
+
+    final SchemaReference[] schemas = new SchemaReference[SCHEMAS_COUNT];
+    for (int i = 0; i < SCHEMAS_COUNT; i++) {
+      schemas[i] = new SchemaReference("SYNTHETIC", "SCHEMA" + i);
+      catalog.addSchema(schemas[i]);
+    }
+
+    final TableType tableType = new TableType("TABLE");
+    final MutableTable[] tables = new MutableTable[tablesCount];
+    final MutableColumn[] idColumns = new MutableColumn[tablesCount];
+    for (int i = 0; i < tablesCount; i++) {
+      final MutableTable table = new MutableTable(schemas[i % SCHEMAS_COUNT], "T" + i);
+      table.setTableType(tableType);
+
+      final MutableColumn idColumn = newColumn(table, "ID", integerType, 1);
+      newColumn(table, "NAME", varcharType, 2);
+      final MutableColumn parentIdColumn = newColumn(table, "PARENT_ID", integerType, 3);
+      newColumn(table, "T%d_ID".formatted(i / 3), integerType, 4);
+
+      final MutablePrimaryKey primaryKey = MutablePrimaryKey.newPrimaryKey(table, "PK_T" + i);
+      final MutableTableConstraintColumn pkColumn =
+          new MutableTableConstraintColumn(primaryKey, idColumn);
+      pkColumn.setKeyOrdinalPosition(1);
+      primaryKey.addColumn(pkColumn);
+      table.setPrimaryKey(primaryKey);
+      idColumn.markAsPartOfPrimaryKey();
+
+      final MutableIndex index = new MutableIndex(table, "PK_T" + i);
+      index.setUnique(true);
+      index.addColumn(new MutableIndexColumn(index, idColumn));
+      table.addIndex(index);
+      idColumn.markAsPartOfIndex();
+      idColumn.markAsPartOfUniqueIndex();
+
+      if (i > 0) {
+        final MutableTable parentTable = tables[(i - 1) / 2];
+        final MutableColumn parentPkColumn = idColumns[(i - 1) / 2];
+        final MutableForeignKey foreignKey =
+            new MutableForeignKey(
+                "FK_T" + i, new ImmutableColumnReference(1, parentIdColumn, parentPkColumn));
+        parentIdColumn.setReferencedColumn(parentPkColumn);
+        table.addForeignKey(foreignKey);
+        parentTable.addForeignKey(foreignKey);
+      }
+
+      tables[i] = table;
+      idColumns[i] = idColumn;
+      catalog.addTable(table);
+    }
+
+    return catalog;
+  }
+
+  private static MutableColumn newColumn(
+      final MutableTable table,
+      final String name,
+      final MutableColumnDataType columnDataType,
+      final int ordinalPosition) {
+    final MutableColumn column = new MutableColumn(table, name);
+    column.setColumnDataType(columnDataType);
+    column.setOrdinalPosition(ordinalPosition);
+    table.addColumn(column);
+    return column;
+  }
+
+  private SyntheticCatalogUtility() {
+    // Prevent instantiation
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.crawl;
+
+import static schemacrawler.crawl.SyntheticCatalogUtility.newSyntheticCatalog;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Sorts tables of a synthetic catalog by their foreign key dependencies. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TablesGraphBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  public int tablesCount;
+
+  private NamedObjectList<MutableTable> tables;
+
+  @Setup
+  public void setUp() {
+    tables = ((MutableCatalog) newSyntheticCatalog(tablesCount)).getAllTables();
+  }
+
+  @Benchmark
+  public void setTablesSortIndexes() {
+    final TablesGraph tablesGraph = new TablesGraph(tables);
+    tablesGraph.setTablesSortIndexes();
+  }
+}
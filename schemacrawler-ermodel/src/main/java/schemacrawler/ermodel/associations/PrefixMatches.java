@@ -153,10 +153,10 @@ final class PrefixMatches {
 
   private void mapPrefixes(final List<String> keys, final Collection<String> prefixes) {
     for (final String key : keys) {
+      final String lowerCaseKey = key.toLowerCase();
       for (final String prefix : prefixes) {
-        String matchKeyName = key.toLowerCase();
-        if (matchKeyName.startsWith(prefix)) {
-          matchKeyName = matchKeyName.substring(prefix.length());
+        if (lowerCaseKey.startsWith(prefix)) {
+          String matchKeyName = lowerCaseKey.substring(prefix.length());
           matchKeyName = Inflection.singularize(matchKeyName);
           if (!isBlank(matchKeyName)) {
             keyPrefixes.add(key, matchKeyName);
@@ -32,6 +32,7 @@ public final class CatalogLoaderRegistry extends BasePluginCommandRegistry<Catal
   private static final List<String> PROVIDER_CLASS_NAMES =
       List.of(
           "schemacrawler.loader.catalog.offline.OfflineCatalogLoaderProvider",
+          "schemacrawler.loader.catalog.cache.CatalogCacheLoaderProvider",
           "schemacrawler.loader.catalog.PrimaryCatalogLoaderProvider",
           "schemacrawler.loader.catalog.counts.TableRowCountsLoaderProvider");
 
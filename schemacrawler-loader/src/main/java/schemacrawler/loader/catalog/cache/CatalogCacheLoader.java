@@ -0,0 +1,353 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.loader.catalog.cache;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static schemacrawler.schemacrawler.InformationSchemaKey.SCHEMA_CHANGE_MARKER;
+import static schemacrawler.schemacrawler.QueryUtility.executeForScalar;
+import static us.fatehi.utility.Utility.hash;
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import schemacrawler.crawl.DatabaseServerFingerprintBuilder;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.inclusionrule.InclusionRule;
+import schemacrawler.inclusionrule.InclusionRuleWithRegularExpression;
+import schemacrawler.loader.catalog.AbstractCatalogLoader;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.DatabaseServerFingerprint;
+import schemacrawler.schemacrawler.DatabaseObjectRuleForInclusion;
+import schemacrawler.schemacrawler.GrepOptions;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.LimitOptions;
+import schemacrawler.schemacrawler.Query;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.utility.SerializedCatalogUtility;
+import us.fatehi.utility.property.BaseProductVersion;
+import us.fatehi.utility.property.PropertyName;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Loads a previously crawled catalog from an on-disk cache, or crawls the catalog and caches it.
+ * Cached catalogs are keyed by the database server fingerprint, the database user, the
+ * SchemaCrawler options, and the schema retrieval options. Catalogs are not cached when an
+ * inclusion rule in the options cannot be compared with the rules that cached catalogs were crawled
+ * with. A cached catalog is only reused if a cheap schema change marker query, such as the latest
+ * DDL timestamp from the data dictionary, returns the same value as when the catalog was cached. If
+ * there is no schema change marker query, catalogs are not cached. When the schema has changed, the
+ * stale cached catalog is used for an incremental crawl.
+ */
+final class CatalogCacheLoader extends AbstractCatalogLoader<CatalogCacheLoaderOptions> {
+
+  private static final Logger LOGGER = Logger.getLogger(CatalogCacheLoader.class.getName());
+
+  private static final String CACHE_FILE_EXTENSION = ".ser.gz";
+
+  CatalogCacheLoader(final PropertyName catalogLoaderName) {
+    super(catalogLoaderName);
+  }
+
+  @Override
+  public void execute() {
+    if (hasCatalog()) {
+      return;
+    }
+
+    final CatalogCacheLoaderOptions commandOptions = getCommandOptions();
+    if (!commandOptions.isCacheEnabled()) {
+      LOGGER.log(Level.CONFIG, "Not using the catalog cache, since this was not requested");
+      return;
+    }
+
+    final String cacheKey;
+    final String changeMarker;
+    try (final Connection connection = getConnectionSource().get()) {
+      cacheKey = cacheKey(connection);
+      changeMarker = changeMarker(connection);
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Not using the catalog cache, could not check for changes", e);
+      return;
+    }
+    if (cacheKey == null || changeMarker == null) {
+      return;
+    }
+
+    final Path cacheDirectory =
+        Paths.get(commandOptions.cacheDirectory()).toAbsolutePath().normalize();
+    final Path cachedCatalogPath =
+        cacheDirectory.resolve(
+            "%s-%s%s".formatted(cacheKey, hash(changeMarker), CACHE_FILE_EXTENSION));
+
+    final Optional<Catalog> cachedCatalog = readCachedCatalog(cachedCatalogPath);
+    if (cachedCatalog.isPresent()) {
+      LOGGER.log(Level.INFO, new StringFormat("Loaded catalog from cache <%s>", cachedCatalogPath));
+      setCatalog(cachedCatalog.get());
+      return;
+    }
+
+    LOGGER.log(Level.INFO, "Retrieving catalog, since there is no current cached catalog");
+    // A catalog cached for an earlier version of the schema allows unchanged
+    // tables to be reused
+    final Catalog previousCatalog = readPreviousCachedCatalog(cacheDirectory, cacheKey);
+    final SchemaCrawler schemaCrawler =
+        new SchemaCrawler(
+            getConnectionSource(), getSchemaRetrievalOptions(), getSchemaCrawlerOptions());
+    final Catalog catalog = schemaCrawler.crawl(previousCatalog);
+    writeCachedCatalog(catalog, cacheDirectory, cacheKey, cachedCatalogPath);
+    setCatalog(catalog);
+    // NOTE: Catalog loaders do not build ER models, so the ER model is not set here
+  }
+
+  @Override
+  public boolean usesConnection() {
+    return true;
+  }
+
+  /**
+   * Identifies what was crawled - the database server, the database user, since privileges affect
+   * what can be seen, and the options that limit and filter what is crawled.
+   */
+  private String cacheKey(final Connection connection) throws SQLException {
+    final DatabaseMetaData dbMetaData = connection.getMetaData();
+    final DatabaseServerFingerprint fingerprint =
+        DatabaseServerFingerprintBuilder.build(
+            new BaseProductVersion(
+                dbMetaData.getDatabaseProductName(), dbMetaData.getDatabaseProductVersion()),
+            trimToEmpty(dbMetaData.getURL()));
+    if (isBlank(fingerprint.fingerprint())) {
+      LOGGER.log(
+          Level.INFO, "Not using the catalog cache, since the database server is not identified");
+      return null;
+    }
+
+    final Map<String, String> canonical = new LinkedHashMap<>();
+    canonical.put("fingerprint", fingerprint.fingerprint());
+    canonical.put("user", trimToEmpty(dbMetaData.getUserName()));
+    canonical.putAll(canonicalOptions(getSchemaCrawlerOptions()));
+    if (canonical.containsValue(null)) {
+      LOGGER.log(
+          Level.INFO,
+          "Not using the catalog cache, since some inclusion rules cannot be compared with cached"
+              + " catalogs");
+      return null;
+    }
+    canonical.putAll(canonicalRetrievalOptions(getSchemaRetrievalOptions()));
+    return hash(canonical);
+  }
+
+  /**
+   * Options are converted to text explicitly, since the string form of some options, such as
+   * inclusion rules, is not stable across runs. The number of threads is left out, since it does
+   * not affect the catalog.
+   */
+  private Map<String, String> canonicalOptions(final SchemaCrawlerOptions schemaCrawlerOptions) {
+    final Map<String, String> canonical = new LinkedHashMap<>();
+    canonical.put("title", schemaCrawlerOptions.title());
+
+    final LimitOptions limitOptions = schemaCrawlerOptions.limitOptions();
+    for (final DatabaseObjectRuleForInclusion ruleForInclusion :
+        DatabaseObjectRuleForInclusion.values()) {
+      canonical.put(ruleForInclusion.getKey(), canonicalRule(limitOptions.get(ruleForInclusion)));
+    }
+    canonical.put("table-types", String.valueOf(limitOptions.tableTypes()));
+    canonical.put("table-name-pattern", trimToEmpty(limitOptions.tableNamePattern()));
+    canonical.put("routine-types", String.valueOf(limitOptions.routineTypes()));
+
+    final GrepOptions grepOptions = schemaCrawlerOptions.grepOptions();
+    canonical.put("grep-tables", canonicalRule(grepOptions.grepTableInclusionRule()));
+    canonical.put("grep-columns", canonicalRule(grepOptions.grepColumnInclusionRule()));
+    canonical.put(
+        "grep-parameters", canonicalRule(grepOptions.grepRoutineParameterInclusionRule()));
+    canonical.put("grep-definitions", canonicalRule(grepOptions.grepDefinitionInclusionRule()));
+    canonical.put("grep-invert-match", String.valueOf(grepOptions.isGrepInvertMatch()));
+
+    canonical.put("filter", String.valueOf(schemaCrawlerOptions.filterOptions()));
+    canonical.put(
+        "info-level", String.valueOf(schemaCrawlerOptions.loadOptions().schemaInfoLevel()));
+    return canonical;
+  }
+
+  /**
+   * Database specific retrieval options affect what is retrieved, and how, so catalogs crawled with
+   * different retrieval strategies or data dictionary queries are cached separately.
+   */
+  private Map<String, String> canonicalRetrievalOptions(
+      final SchemaRetrievalOptions schemaRetrievalOptions) {
+    final Map<String, String> canonical = new LinkedHashMap<>();
+    canonical.put(
+        "database-server-type",
+        schemaRetrievalOptions.getDatabaseServerType().getDatabaseSystemIdentifier());
+    canonical.put("supports-catalogs", String.valueOf(schemaRetrievalOptions.isSupportsCatalogs()));
+    canonical.put("supports-schemas", String.valueOf(schemaRetrievalOptions.isSupportsSchemas()));
+    canonical.put(
+        "identifier-quote-string", trimToEmpty(schemaRetrievalOptions.getIdentifierQuoteString()));
+
+    for (final SchemaInfoMetadataRetrievalStrategy retrievalStrategy :
+        SchemaInfoMetadataRetrievalStrategy.values()) {
+      canonical.put(
+          retrievalStrategy.name(), String.valueOf(schemaRetrievalOptions.get(retrievalStrategy)));
+    }
+
+    final InformationSchemaViews informationSchemaViews =
+        schemaRetrievalOptions.getInformationSchemaViews();
+    for (final InformationSchemaKey key : InformationSchemaKey.values()) {
+      if (informationSchemaViews.hasQuery(key)) {
+        canonical.put(key.name(), informationSchemaViews.getQuery(key).query());
+      }
+    }
+    return canonical;
+  }
+
+  /**
+   * Converts an inclusion rule to text that is the same across runs. Only rules that are fully
+   * described by their regular expressions can be converted, and null is returned for other rules.
+   */
+  private String canonicalRule(final InclusionRule inclusionRule) {
+    if (inclusionRule == null) {
+      return "";
+    }
+    if (inclusionRule instanceof final InclusionRuleWithRegularExpression expression) {
+      return "%s +/%s/ -/%s/"
+          .formatted(
+              inclusionRule.getClass().getSimpleName(),
+              expression.getInclusionPattern().pattern(),
+              expression.getExclusionPattern().pattern());
+    }
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Inclusion rule <%s> cannot be compared with cached catalogs",
+            inclusionRule.getClass().getName()));
+    return null;
+  }
+
+  /**
+   * Runs the schema change marker query, preferring the query from the command options over the
+   * query from the database plugin.
+   */
+  private String changeMarker(final Connection connection) throws SQLException {
+    final String changeMarkerSql = getCommandOptions().changeMarkerQuery();
+    final Query changeMarkerQuery;
+    if (!isBlank(changeMarkerSql)) {
+      changeMarkerQuery = new Query(SCHEMA_CHANGE_MARKER.name(), changeMarkerSql);
+    } else {
+      final InformationSchemaViews informationSchemaViews =
+          getSchemaRetrievalOptions().getInformationSchemaViews();
+      if (!informationSchemaViews.hasQuery(SCHEMA_CHANGE_MARKER)) {
+        LOGGER.log(
+            Level.INFO,
+            "Not using the catalog cache, since no query was provided to check for schema changes");
+        return null;
+      }
+      changeMarkerQuery = informationSchemaViews.getQuery(SCHEMA_CHANGE_MARKER);
+    }
+
+    return String.valueOf(executeForScalar(changeMarkerQuery, connection));
+  }
+
+  private Optional<Catalog> readCachedCatalog(final Path cachedCatalogPath) {
+    if (!Files.isRegularFile(cachedCatalogPath)) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(SerializedCatalogUtility.deserializeCatalog(cachedCatalogPath));
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.log(
+          Level.WARNING,
+          e,
+          new StringFormat("Discarding unreadable cached catalog <%s>", cachedCatalogPath));
+      deleteQuietly(cachedCatalogPath);
+      return Optional.empty();
+    }
+  }
+
+  private Catalog readPreviousCachedCatalog(final Path cacheDirectory, final String cacheKey) {
+    if (!Files.isDirectory(cacheDirectory)) {
+      return null;
+    }
+    try (final DirectoryStream<Path> previousCatalogPaths =
+        Files.newDirectoryStream(cacheDirectory, cacheKey + "-*" + CACHE_FILE_EXTENSION)) {
+      for (final Path previousCatalogPath : previousCatalogPaths) {
+        final Optional<Catalog> previousCatalog = readCachedCatalog(previousCatalogPath);
+        if (previousCatalog.isPresent()) {
+          return previousCatalog.get();
+        }
+      }
+    } catch (final IOException e) {
+      LOGGER.log(
+          Level.FINE,
+          e,
+          new StringFormat("Could not list cached catalogs in <%s>", cacheDirectory));
+    }
+    return null;
+  }
+
+  /**
+   * Writes the catalog to a temporary file first, so that concurrent runs never see a partially
+   * written cache file, and removes catalogs cached for earlier versions of the schema.
+   */
+  private void writeCachedCatalog(
+      final Catalog catalog,
+      final Path cacheDirectory,
+      final String cacheKey,
+      final Path cachedCatalogPath) {
+    Path tempCatalogPath = null;
+    try {
+      Files.createDirectories(cacheDirectory);
+      tempCatalogPath = Files.createTempFile(cacheDirectory, cacheKey, ".tmp");
+      SerializedCatalogUtility.serializeCatalog(catalog, tempCatalogPath);
+      try {
+        Files.move(tempCatalogPath, cachedCatalogPath, ATOMIC_MOVE, REPLACE_EXISTING);
+      } catch (final AtomicMoveNotSupportedException e) {
+        Files.move(tempCatalogPath, cachedCatalogPath, REPLACE_EXISTING);
+      }
+
+      try (final DirectoryStream<Path> staleCatalogPaths =
+          Files.newDirectoryStream(cacheDirectory, cacheKey + "-*" + CACHE_FILE_EXTENSION)) {
+        for (final Path staleCatalogPath : staleCatalogPaths) {
+          if (!staleCatalogPath.equals(cachedCatalogPath)) {
+            deleteQuietly(staleCatalogPath);
+          }
+        }
+      }
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.log(
+          Level.WARNING, e, new StringFormat("Could not cache catalog in <%s>", cacheDirectory));
+      if (tempCatalogPath != null) {
+        deleteQuietly(tempCatalogPath);
+      }
+    }
+  }
+
+  private void deleteQuietly(final Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOGGER.log(Level.FINE, e, new StringFormat("Could not delete <%s>", path));
+    }
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.loader.catalog.cache;
+
+import static us.fatehi.utility.Utility.isBlank;
+
+import schemacrawler.tools.command.CommandOptions;
+
+/**
+ * Options for the catalog cache.
+ *
+ * @param cacheDirectory Directory for cached catalogs, or blank if catalogs are not cached
+ * @param changeMarkerQuery SQL query that returns a value that changes whenever the schema changes,
+ *     or blank to use the query from the database plugin
+ */
+public record CatalogCacheLoaderOptions(String cacheDirectory, String changeMarkerQuery)
+    implements CommandOptions {
+
+  public boolean isCacheEnabled() {
+    return !isBlank(cacheDirectory);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.loader.catalog.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import schemacrawler.loader.catalog.AbstractCatalogLoaderProvider;
+import schemacrawler.tools.executable.commandline.PluginCommand;
+import schemacrawler.tools.options.Config;
+import us.fatehi.utility.property.PropertyName;
+
+public class CatalogCacheLoaderProvider extends AbstractCatalogLoaderProvider {
+
+  private static final PropertyName NAME =
+      new PropertyName("cacheloader", "Loader for catalogs from an on-disk cache");
+
+  private static final String OPTION_CATALOG_CACHE_DIRECTORY = "catalog-cache-directory";
+  private static final String OPTION_CATALOG_CACHE_CHECK_QUERY = "catalog-cache-check-query";
+
+  @Override
+  public PluginCommand getCommandLineCommand() {
+    final PluginCommand pluginCommand = PluginCommand.newCatalogLoaderCommand(NAME);
+    pluginCommand
+        .addOption(
+            OPTION_CATALOG_CACHE_DIRECTORY,
+            String.class,
+            "Directory for cached catalogs, which are reused if the schema has not changed",
+            "Optional, catalogs are not cached if not provided")
+        .addOption(
+            OPTION_CATALOG_CACHE_CHECK_QUERY,
+            String.class,
+            "SQL query that returns a value that changes whenever the schema changes",
+            "such as the latest DDL timestamp from the data dictionary",
+            "Optional, defaults to the query from the database plugin");
+    return pluginCommand;
+  }
+
+  @Override
+  public Collection<PropertyName> getSupportedCommands() {
+    return List.of(NAME);
+  }
+
+  @Override
+  public CatalogCacheLoader newCommand(final Config config) {
+    requireNonNull(config, "No config provided");
+
+    final CatalogCacheLoader loader = new CatalogCacheLoader(NAME);
+    final CatalogCacheLoaderOptions options = createOptionsfromConfig(config);
+    loader.configure(options);
+
+    return loader;
+  }
+
+  private CatalogCacheLoaderOptions createOptionsfromConfig(final Config config) {
+    final String cacheDirectory = config.getStringValue(OPTION_CATALOG_CACHE_DIRECTORY);
+    final String changeMarkerQuery = config.getStringValue(OPTION_CATALOG_CACHE_CHECK_QUERY);
+    return new CatalogCacheLoaderOptions(cacheDirectory, changeMarkerQuery);
+  }
+}
@@ -8,6 +8,7 @@
 
 package schemacrawler.loader.catalog.counts;
 
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.loader.catalog.AbstractCatalogLoader;
@@ -69,7 +70,21 @@ public class TableRowCountsLoader extends AbstractCatalogLoader<TableRowCountsLo
       }
       taskRunner.add(
           new TaskDefinition(
-              "retrieveTableRowCounts", () -> rowCountsRetriever.retrieveTableRowCounts()));
+              "retrieveTableRowCounts",
+              () -> {
+                final Collection<Table> tablesToCount;
+                if (commandOptions.estimateRowCounts()) {
+                  tablesToCount =
+                      rowCountsRetriever.retrieveEstimatedTableRowCounts(
+                          getSchemaRetrievalOptions().getInformationSchemaViews());
+                } else {
+                  tablesToCount = catalog.getTables();
+                }
+                rowCountsRetriever.retrieveTableRowCounts(
+                    tablesToCount,
+                    commandOptions.maxThreads(),
+                    commandOptions.queryTimeoutSeconds());
+              }));
       taskRunner.submit();
 
       final boolean noEmptyTables = commandOptions.noEmptyTables();
@@ -10,5 +10,30 @@ package schemacrawler.loader.catalog.counts;
 
 import schemacrawler.tools.command.CommandOptions;
 
-public record TableRowCountsLoaderOptions(boolean loadRowCounts, boolean noEmptyTables)
-    implements CommandOptions {}
+/**
+ * Options for loading table row counts.
+ *
+ * @param loadRowCounts Whether to load row counts for each table
+ * @param noEmptyTables Whether to remove tables that have no rows
+ * @param estimateRowCounts Whether to use estimated row counts from database statistics, and count
+ *     rows only for tables that do not have estimates
+ * @param maxThreads Number of tables to count rows for at the same time, each on its own connection
+ * @param queryTimeoutSeconds Timeout for each row count query in seconds, or 0 for no timeout
+ */
+public record TableRowCountsLoaderOptions(
+    boolean loadRowCounts,
+    boolean noEmptyTables,
+    boolean estimateRowCounts,
+    int maxThreads,
+    int queryTimeoutSeconds)
+    implements CommandOptions {
+
+  public TableRowCountsLoaderOptions(final boolean loadRowCounts, final boolean noEmptyTables) {
+    this(loadRowCounts, noEmptyTables, false, 1, 0);
+  }
+
+  public TableRowCountsLoaderOptions {
+    maxThreads = Math.max(1, maxThreads);
+    queryTimeoutSeconds = Math.max(0, queryTimeoutSeconds);
+  }
+}
@@ -12,8 +12,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.List;
-import schemacrawler.tools.executable.commandline.PluginCommand;
 import schemacrawler.loader.catalog.AbstractCatalogLoaderProvider;
+import schemacrawler.tools.executable.commandline.PluginCommand;
 import schemacrawler.tools.options.Config;
 import us.fatehi.utility.property.PropertyName;
 
@@ -24,6 +24,9 @@ public class TableRowCountsLoaderProvider extends AbstractCatalogLoaderProvider
 
   private static final String OPTION_NO_EMPTY_TABLES = "no-empty-tables";
   private static final String OPTION_LOAD_ROW_COUNTS = "load-row-counts";
+  private static final String OPTION_ESTIMATE_ROW_COUNTS = "estimate-row-counts";
+  private static final String OPTION_ROW_COUNTS_THREADS = "row-counts-threads";
+  private static final String OPTION_ROW_COUNTS_QUERY_TIMEOUT = "row-counts-query-timeout";
 
   @Override
   public PluginCommand getCommandLineCommand() {
@@ -40,7 +43,24 @@ public class TableRowCountsLoaderProvider extends AbstractCatalogLoaderProvider
             Boolean.class,
             "Includes only tables that have rows of data",
             "Requires table row counts to be loaded",
-            "Optional, default is false");
+            "Optional, default is false")
+        .addOption(
+            OPTION_ESTIMATE_ROW_COUNTS,
+            Boolean.class,
+            "Uses estimated row counts from database statistics, where available",
+            "Rows are counted only for tables that do not have estimates",
+            "Optional, defaults to false")
+        .addOption(
+            OPTION_ROW_COUNTS_THREADS,
+            Integer.class,
+            "Number of tables to count rows for at the same time, each on its own connection",
+            "Optional, defaults to 1")
+        .addOption(
+            OPTION_ROW_COUNTS_QUERY_TIMEOUT,
+            Integer.class,
+            "Timeout in seconds for counting rows in a table",
+            "The row count is not shown for tables that time out",
+            "Optional, defaults to no timeout");
     return pluginCommand;
   }
 
@@ -63,6 +83,10 @@ public class TableRowCountsLoaderProvider extends AbstractCatalogLoaderProvider
   private TableRowCountsLoaderOptions createOptionsfromConfig(final Config config) {
     final boolean loadRowCounts = config.getBooleanValue(OPTION_LOAD_ROW_COUNTS, false);
     final boolean noEmptyTables = config.getBooleanValue(OPTION_NO_EMPTY_TABLES, false);
-    return new TableRowCountsLoaderOptions(loadRowCounts, noEmptyTables);
+    final boolean estimateRowCounts = config.getBooleanValue(OPTION_ESTIMATE_ROW_COUNTS, false);
+    final int maxThreads = config.getIntegerValue(OPTION_ROW_COUNTS_THREADS, 1);
+    final int queryTimeoutSeconds = config.getIntegerValue(OPTION_ROW_COUNTS_QUERY_TIMEOUT, 0);
+    return new TableRowCountsLoaderOptions(
+        loadRowCounts, noEmptyTables, estimateRowCounts, maxThreads, queryTimeoutSeconds);
   }
 }
@@ -11,26 +11,45 @@ package schemacrawler.loader.catalog.counts;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.loader.utility.TableRowCountsUtility.TABLE_ROW_COUNT_KEY;
 import static schemacrawler.schema.IdentifierQuotingStrategy.quote_all;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
+import static schemacrawler.schemacrawler.QueryUtility.executeAgainstSchema;
 import static schemacrawler.schemacrawler.QueryUtility.executeForLong;
+import static us.fatehi.utility.Utility.isBlank;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Identifiers;
 import schemacrawler.schema.IdentifiersBuilder;
+import schemacrawler.schema.NamedObjectKey;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.PreparedQueries;
 import schemacrawler.schemacrawler.Query;
 import us.fatehi.utility.datasource.DatabaseConnectionSource;
+import us.fatehi.utility.scheduler.TaskDefinition;
+import us.fatehi.utility.scheduler.TaskRunner;
+import us.fatehi.utility.scheduler.TaskRunners;
 import us.fatehi.utility.string.StringFormat;
 
 final class TableRowCountsRetriever {
 
   private static final Logger LOGGER = Logger.getLogger(TableRowCountsRetriever.class.getName());
 
+  // Table names cannot be bind parameters, so the query is expanded for each table
+  private static final Query ROW_COUNT_QUERY =
+      new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
+
   private final DatabaseConnectionSource connectionSource;
   private final Catalog catalog;
 
@@ -41,9 +60,23 @@ final class TableRowCountsRetriever {
     this.catalog = requireNonNull(catalog, "No catalog provided");
   }
 
-  public void retrieveTableRowCounts() {
+  /**
+   * Counts rows for tables, with one connection for each thread. Each thread takes the next table
+   * from a shared queue, so that threads stay busy until all tables are counted, however long
+   * counting rows for any one table takes.
+   *
+   * @param tables Tables to count rows for
+   * @param maxThreads Number of tables to count at the same time
+   * @param queryTimeoutSeconds Timeout for each count query, or 0 for no timeout
+   */
+  public void retrieveTableRowCounts(
+      final Collection<Table> tables, final int maxThreads, final int queryTimeoutSeconds) {
+    requireNonNull(tables, "No tables provided");
+    if (tables.isEmpty()) {
+      return;
+    }
 
-    Identifiers identifiers;
+    final Identifiers identifiers;
     try (final Connection connection = connectionSource.get(); ) {
       identifiers =
           IdentifiersBuilder.builder()
@@ -57,22 +90,88 @@ final class TableRowCountsRetriever {
       return;
     }
 
-    try (final Connection connection = connectionSource.get(); ) {
-      final Query query =
-          new Query("schemacrawler.table.row_counts", "SELECT COUNT(*) FROM ${table}");
-      final List<Table> allTables = new ArrayList<>(catalog.getTables());
-      for (final Table table : allTables) {
-        try {
-          final long count = executeForLong(query, connection, table, identifiers);
-          addRowCountToTable(table, count);
-        } catch (final SQLException e) {
-          LOGGER.log(
-              Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+    // Workers take tables from a shared queue, so that a worker that gets large tables does not
+    // hold up other tables while the other workers are idle
+    final Queue<Table> tablesToCount = new ConcurrentLinkedQueue<>(tables);
+    final int workersCount = Math.max(1, Math.min(maxThreads, tables.size()));
+    if (workersCount == 1) {
+      countTableRows(tablesToCount, identifiers, queryTimeoutSeconds);
+      return;
+    }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Counting rows for %d tables on %d connections", tables.size(), workersCount));
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("countTableRows", workersCount)) {
+      for (int workerNumber = 1; workerNumber <= workersCount; workerNumber++) {
+        taskRunner.add(
+            new TaskDefinition(
+                "countTableRows-" + workerNumber,
+                () -> countTableRows(tablesToCount, identifiers, queryTimeoutSeconds)));
+      }
+      taskRunner.submit();
+      LOGGER.log(Level.INFO, taskRunner.report());
+    } catch (final Exception e) {
+      LOGGER.log(Level.WARNING, "Could not get table row counts", e);
+    }
+  }
+
+  /**
+   * Sets estimated row counts for tables from database statistics, with a single query.
+   *
+   * @param informationSchemaViews Queries from the database plugin
+   * @return Tables that did not have an estimated row count, and need to be counted
+   */
+  public Collection<Table> retrieveEstimatedTableRowCounts(
+      final InformationSchemaViews informationSchemaViews) {
+    requireNonNull(informationSchemaViews, "No information schema views provided");
+
+    final Map<NamedObjectKey, Table> tablesToCount = new LinkedHashMap<>();
+    for (final Table table : catalog.getTables()) {
+      tablesToCount.put(table.key(), table);
+    }
+
+    if (!informationSchemaViews.hasQuery(TABLE_ROW_COUNTS)) {
+      LOGGER.log(
+          Level.INFO,
+          "Counting rows for all tables, since no query was provided for estimated row counts");
+      return tablesToCount.values();
+    }
+
+    final Query query = informationSchemaViews.getQuery(TABLE_ROW_COUNTS);
+    int estimatesCount = 0;
+    try (final Connection connection = connectionSource.get();
+        final Statement statement = connection.createStatement();
+        final ResultSet results = executeAgainstSchema(query, statement, new HashMap<>()); ) {
+      while (results != null && results.next()) {
+        final String catalogName = normalizeName(results.getString("TABLE_CAT"));
+        final String schemaName = normalizeName(results.getString("TABLE_SCHEM"));
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull() || rowCount < 0) {
+          continue;
+        }
+        final Table table =
+            tablesToCount.remove(new NamedObjectKey(catalogName, schemaName, tableName));
+        if (table != null) {
+          addRowCountToTable(table, rowCount);
+          estimatesCount++;
         }
       }
     } catch (final SQLException e) {
-      LOGGER.log(Level.WARNING, "Could not get table row counts", e);
+      LOGGER.log(
+          Level.WARNING,
+          "Counting rows for all tables, since estimated row counts could not be retrieved",
+          e);
     }
+
+    LOGGER.log(
+        Level.INFO,
+        new StringFormat(
+            "Estimated row counts for %d tables, and counting rows for %d tables",
+            estimatesCount, tablesToCount.size()));
+    return tablesToCount.values();
   }
 
   private void addRowCountToTable(final Table table, final long rowCount) {
@@ -84,4 +183,34 @@ final class TableRowCountsRetriever {
       }
     }
   }
+
+  private void countTableRows(
+      final Queue<Table> tables, final Identifiers identifiers, final int queryTimeoutSeconds) {
+    try (final Connection connection = connectionSource.get();
+        final PreparedQueries preparedQueries =
+            new PreparedQueries(connection, queryTimeoutSeconds); ) {
+      while (true) {
+        final Table table = tables.poll();
+        if (table == null) {
+          break;
+        }
+        try {
+          final long count = executeForLong(ROW_COUNT_QUERY, preparedQueries, table, identifiers);
+          addRowCountToTable(table, count);
+        } catch (final SQLException e) {
+          LOGGER.log(
+              Level.WARNING, e, new StringFormat("Could not get count for table <%s>", table));
+        }
+      }
+    } catch (final SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not get table row counts", e);
+    }
+  }
+
+  private String normalizeName(final String name) {
+    if (isBlank(name)) {
+      return null;
+    }
+    return name;
+  }
 }
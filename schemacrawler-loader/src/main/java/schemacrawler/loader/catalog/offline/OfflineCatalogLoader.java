@@ -8,6 +8,8 @@
 
 package schemacrawler.loader.catalog.offline;
 
+import static schemacrawler.crawl.CatalogSnapshotUtility.isCatalogSnapshot;
+import static schemacrawler.crawl.CatalogSnapshotUtility.loadCatalogSnapshot;
 import static schemacrawler.filter.ReducerFactory.getCatalogReducer;
 
 import java.io.IOException;
@@ -59,9 +61,14 @@ final class OfflineCatalogLoader extends AbstractCatalogLoader<OfflineCatalogLoa
 
       final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
       LOGGER.log(Level.FINE, "Derserializing from path: " + offlineDatabasePath);
-      catalog = SerializedCatalogUtility.deserializeCatalog(offlineDatabasePath);
-
       final SchemaCrawlerOptions schemaCrawlerOptions = getSchemaCrawlerOptions();
+      if (isCatalogSnapshot(offlineDatabasePath)) {
+        // Only tables and routines that can pass the reducer are read from a snapshot
+        catalog = loadCatalogSnapshot(offlineDatabasePath, schemaCrawlerOptions);
+      } else {
+        catalog = SerializedCatalogUtility.deserializeCatalog(offlineDatabasePath);
+      }
+
       getCatalogReducer(schemaCrawlerOptions).reduce(catalog);
 
     } catch (final IOException e) {
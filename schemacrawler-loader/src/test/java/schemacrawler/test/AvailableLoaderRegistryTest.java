@@ -26,7 +26,8 @@ public class AvailableLoaderRegistryTest {
   public void availableCatalogLoaders() {
     assertThat(
         getRegisteredPlugins(CatalogLoaderRegistry.getRegistry()),
-        arrayContainingInAnyOrder("countsloader", "offlineloader", "primarycatalogloader"));
+        arrayContainingInAnyOrder(
+            "cacheloader", "countsloader", "offlineloader", "primarycatalogloader"));
   }
 
   @Test
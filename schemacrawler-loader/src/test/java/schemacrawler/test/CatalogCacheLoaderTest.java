@@ -0,0 +1,192 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package schemacrawler.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static schemacrawler.schemacrawler.MetadataRetrievalStrategy.metadata_over_schemas;
+import static schemacrawler.schemacrawler.SchemaInfoMetadataRetrievalStrategy.tableColumnsRetrievalStrategy;
+import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import schemacrawler.inclusionrule.ListExclusionRule;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schemacrawler.LimitOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.WithTestDatabase;
+import schemacrawler.tools.options.Config;
+import schemacrawler.tools.options.ConfigUtility;
+import us.fatehi.utility.datasource.DatabaseConnectionSource;
+
+@WithTestDatabase
+public class CatalogCacheLoaderTest {
+
+  private static final String CHANGE_MARKER_QUERY =
+      "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES";
+
+  @Test
+  public void cacheDisabled(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-check-query", CHANGE_MARKER_QUERY);
+
+    validateCatalog(crawl(connectionSource, config));
+    assertThat(cachedCatalogs(cacheDirectory), is(empty()));
+  }
+
+  @Test
+  public void cachedCatalog(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-directory", cacheDirectory.toString());
+    config.put("catalog-cache-check-query", CHANGE_MARKER_QUERY);
+
+    validateCatalog(crawl(connectionSource, config));
+    final List<Path> cachedCatalogs = cachedCatalogs(cacheDirectory);
+    assertThat(cachedCatalogs, hasSize(1));
+    final Path cachedCatalog = cachedCatalogs.get(0);
+    final long cachedCatalogModified = Files.getLastModifiedTime(cachedCatalog).toMillis();
+
+    // Second crawl is loaded from the cache, without writing it again
+    validateCatalog(crawl(connectionSource, config));
+    assertThat(cachedCatalogs(cacheDirectory), is(cachedCatalogs));
+    assertThat(Files.getLastModifiedTime(cachedCatalog).toMillis(), is(cachedCatalogModified));
+  }
+
+  @Test
+  public void changedSchema(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-directory", cacheDirectory.toString());
+    config.put("catalog-cache-check-query", "SELECT 1 FROM (VALUES(0))");
+
+    validateCatalog(crawl(connectionSource, config));
+    final List<Path> cachedCatalogs = cachedCatalogs(cacheDirectory);
+    assertThat(cachedCatalogs, hasSize(1));
+
+    // A different schema change marker replaces the stale cached catalog
+    config.put("catalog-cache-check-query", "SELECT 2 FROM (VALUES(0))");
+    validateCatalog(crawl(connectionSource, config));
+    final List<Path> recachedCatalogs = cachedCatalogs(cacheDirectory);
+    assertThat(recachedCatalogs, hasSize(1));
+    assertThat(recachedCatalogs, is(not(cachedCatalogs)));
+  }
+
+  @Test
+  public void differentRetrievalOptions(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-directory", cacheDirectory.toString());
+    config.put("catalog-cache-check-query", CHANGE_MARKER_QUERY);
+
+    validateCatalog(crawl(connectionSource, config));
+    final List<Path> cachedCatalogs = cachedCatalogs(cacheDirectory);
+    assertThat(cachedCatalogs, hasSize(1));
+
+    // A different retrieval strategy is cached separately
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .with(tableColumnsRetrievalStrategy, metadata_over_schemas)
+            .toOptions();
+    validateCatalog(
+        crawl(
+            connectionSource,
+            schemaRetrievalOptions,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+            config));
+    final List<Path> recachedCatalogs = cachedCatalogs(cacheDirectory);
+    assertThat(recachedCatalogs, hasSize(2));
+    assertThat(recachedCatalogs.containsAll(cachedCatalogs), is(true));
+  }
+
+  @Test
+  public void inclusionRuleWithoutRegularExpression(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-directory", cacheDirectory.toString());
+    config.put("catalog-cache-check-query", CHANGE_MARKER_QUERY);
+
+    // Rules that are not described by regular expressions cannot be compared across runs
+    final LimitOptionsBuilder limitOptionsBuilder =
+        LimitOptionsBuilder.builder()
+            .includeSchemas(new ListExclusionRule(List.of("PUBLIC.PUBLISHER SALES")));
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions()
+            .withLimitOptions(limitOptionsBuilder.toOptions());
+
+    validateCatalog(
+        crawl(
+            connectionSource,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            config));
+    assertThat(cachedCatalogs(cacheDirectory), is(empty()));
+  }
+
+  @Test
+  public void noChangeMarkerQuery(
+      @TempDir final Path cacheDirectory, final DatabaseConnectionSource connectionSource)
+      throws Exception {
+    final Config config = ConfigUtility.newConfig();
+    config.put("catalog-cache-directory", cacheDirectory.toString());
+
+    validateCatalog(crawl(connectionSource, config));
+    assertThat(cachedCatalogs(cacheDirectory), is(empty()));
+  }
+
+  private List<Path> cachedCatalogs(final Path cacheDirectory) throws IOException {
+    try (final Stream<Path> paths = Files.list(cacheDirectory)) {
+      return paths.sorted().toList();
+    }
+  }
+
+  private Catalog crawl(final DatabaseConnectionSource connectionSource, final Config config) {
+    return crawl(
+        connectionSource,
+        SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+        config);
+  }
+
+  private Catalog crawl(
+      final DatabaseConnectionSource connectionSource,
+      final SchemaRetrievalOptions schemaRetrievalOptions,
+      final SchemaCrawlerOptions schemaCrawlerOptions,
+      final Config config) {
+    return getCatalog(connectionSource, schemaRetrievalOptions, schemaCrawlerOptions, config);
+  }
+
+  private void validateCatalog(final Catalog catalog) {
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+    assertThat("Could not find any schemas", catalog.getSchemas(), not(empty()));
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat("Unexpected number of tables in the schema", catalog.getTables(schema), hasSize(11));
+  }
+}
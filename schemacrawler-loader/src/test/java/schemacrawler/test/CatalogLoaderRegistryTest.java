@@ -27,7 +27,7 @@ import us.fatehi.utility.property.PropertyName;
 
 public class CatalogLoaderRegistryTest {
 
-  private static final int NUM_LOADERS = 3;
+  private static final int NUM_LOADERS = 4;
 
   @Test
   public void chainedLoaders() {
@@ -46,7 +46,7 @@ public class CatalogLoaderRegistryTest {
     assertThat(String.valueOf(commandLineCommands), commandLineCommands.size(), is(greaterThan(0)));
     final List<String> names =
         commandLineCommands.stream().map(PluginCommand::getName).collect(toList());
-    assertThat(names, containsInAnyOrder("loader:countsloader"));
+    assertThat(names, containsInAnyOrder("loader:cacheloader", "loader:countsloader"));
   }
 
   @Test
@@ -55,7 +55,7 @@ public class CatalogLoaderRegistryTest {
         CatalogLoaderRegistry.getRegistry().getHelpCommands();
     assertThat(String.valueOf(helpCommands), helpCommands.size(), is(greaterThan(0)));
     final List<String> names = helpCommands.stream().map(PluginCommand::getName).collect(toList());
-    assertThat(names, containsInAnyOrder("loader:countsloader"));
+    assertThat(names, containsInAnyOrder("loader:cacheloader", "loader:countsloader"));
   }
 
   @Test
@@ -71,6 +71,8 @@ public class CatalogLoaderRegistryTest {
     assertThat(supportedLoaders, hasSize(NUM_LOADERS));
     final List<String> names =
         supportedLoaders.stream().map(PropertyName::getName).collect(toList());
-    assertThat(names, containsInAnyOrder("countsloader", "offlineloader", "primarycatalogloader"));
+    assertThat(
+        names,
+        containsInAnyOrder("cacheloader", "countsloader", "offlineloader", "primarycatalogloader"));
   }
 }
@@ -12,13 +12,14 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import org.junit.jupiter.api.Test;
-import schemacrawler.tools.executable.commandline.PluginCommand;
 import schemacrawler.loader.catalog.CatalogLoaderProvider;
+import schemacrawler.loader.catalog.cache.CatalogCacheLoaderProvider;
 import schemacrawler.loader.catalog.counts.TableRowCountsLoaderProvider;
 import schemacrawler.loader.catalog.offline.OfflineCatalogLoaderProvider;
 import schemacrawler.loader.ermodel.ERModelLoaderProvider;
 import schemacrawler.loader.ermodel.attributes.AttributesLoaderProvider;
 import schemacrawler.loader.ermodel.implicitassociations.ImplicitAssociationsLoaderProvider;
+import schemacrawler.tools.executable.commandline.PluginCommand;
 
 public class LoaderPluginCommandTest {
 
@@ -30,7 +31,19 @@ public class LoaderPluginCommandTest {
         """
         PluginCommand[name='countsloader', options=[\
         PluginCommandOption[name='load-row-counts', valueClass=java.lang.Boolean], \
-        PluginCommandOption[name='no-empty-tables', valueClass=java.lang.Boolean]\
+        PluginCommandOption[name='no-empty-tables', valueClass=java.lang.Boolean], \
+        PluginCommandOption[name='estimate-row-counts', valueClass=java.lang.Boolean], \
+        PluginCommandOption[name='row-counts-threads', valueClass=java.lang.Integer], \
+        PluginCommandOption[name='row-counts-query-timeout', valueClass=java.lang.Integer]\
+        ]]\
+        """);
+
+    catalogLoaderPluginCommandLine(
+        new CatalogCacheLoaderProvider(),
+        """
+        PluginCommand[name='cacheloader', options=[\
+        PluginCommandOption[name='catalog-cache-directory', valueClass=java.lang.String], \
+        PluginCommandOption[name='catalog-cache-check-query', valueClass=java.lang.String]\
         ]]\
         """);
 
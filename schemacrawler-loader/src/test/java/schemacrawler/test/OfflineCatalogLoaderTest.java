@@ -18,7 +18,10 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static schemacrawler.crawl.CatalogSnapshotUtility.isCatalogSnapshot;
+import static schemacrawler.crawl.CatalogSnapshotUtility.serializeCatalogSnapshot;
 import static schemacrawler.tools.utility.SchemaCrawlerUtility.getCatalog;
+import static schemacrawler.utility.SerializedCatalogUtility.deserializeCatalog;
 import static us.fatehi.test.utility.TestUtility.failTestSetup;
 import static us.fatehi.utility.IOUtility.isFileReadable;
 
@@ -31,6 +34,8 @@ import java.sql.SQLException;
 import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import schemacrawler.loader.catalog.CatalogLoader;
+import schemacrawler.loader.catalog.offline.OfflineCatalogLoaderProvider;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
@@ -40,8 +45,6 @@ import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
 import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.WithTestDatabase;
-import schemacrawler.loader.catalog.CatalogLoader;
-import schemacrawler.loader.catalog.offline.OfflineCatalogLoaderProvider;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import schemacrawler.tools.offline.jdbc.OfflineConnectionUtility;
 import schemacrawler.tools.options.ConfigUtility;
@@ -90,6 +93,29 @@ public class OfflineCatalogLoaderTest {
     validateCatalog(catalog);
   }
 
+  @Test
+  public void getOfflineCatalogFromSnapshot() throws Exception {
+    final Path catalogSnapshotFile = IOUtility.createTempFilePath("schemacrawler", "snapshot");
+    serializeCatalogSnapshot(deserializeCatalog(serializedCatalogFile), catalogSnapshotFile);
+    assertThat(isCatalogSnapshot(catalogSnapshotFile), is(true));
+
+    final OfflineConnection offlineConnection =
+        OfflineConnectionUtility.newOfflineConnection(catalogSnapshotFile);
+    final DatabaseConnectionSource connectionSource =
+        DatabaseConnectionSources.fromConnection(offlineConnection);
+
+    final SchemaCrawlerOptions schemaCrawlerOptions =
+        SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions();
+
+    final Catalog catalog =
+        getCatalog(
+            connectionSource,
+            SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions(),
+            schemaCrawlerOptions,
+            ConfigUtility.newConfig());
+    validateCatalog(catalog);
+  }
+
   @BeforeEach
   public void serializeCatalog(final DatabaseConnectionSource connectionSource) {
     try {
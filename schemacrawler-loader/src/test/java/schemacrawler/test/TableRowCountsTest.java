@@ -10,9 +10,12 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
+import static schemacrawler.loader.utility.TableRowCountsUtility.getRowCount;
 import static schemacrawler.loader.utility.TableRowCountsUtility.getRowCountMessage;
 import static schemacrawler.loader.utility.TableRowCountsUtility.hasRowCount;
+import static schemacrawler.schemacrawler.InformationSchemaKey.TABLE_ROW_COUNTS;
 import static us.fatehi.test.utility.extensions.FileHasContent.classpathResource;
 import static us.fatehi.test.utility.extensions.FileHasContent.hasSameContentAs;
 import static us.fatehi.test.utility.extensions.FileHasContent.outputOf;
@@ -23,12 +26,16 @@ import schemacrawler.inclusionrule.RegularExpressionExclusionRule;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.LimitOptionsBuilder;
 import schemacrawler.schemacrawler.LoadOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaReference;
 import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.WithTestDatabase;
 import schemacrawler.tools.options.Config;
@@ -44,6 +51,49 @@ import us.fatehi.utility.datasource.DatabaseConnectionSource;
 @ResolveTestContext
 public class TableRowCountsTest {
 
+  @Test
+  public void estimatedRowCounts(final DatabaseConnectionSource connectionSource) throws Exception {
+
+    final InformationSchemaViews informationSchemaViews =
+        InformationSchemaViewsBuilder.builder()
+            .withSql(
+                TABLE_ROW_COUNTS,
+                """
+                SELECT
+                  TABLE_CATALOG AS TABLE_CAT,
+                  TABLE_SCHEMA AS TABLE_SCHEM,
+                  TABLE_NAME,
+                  1000 AS ROW_COUNT
+                FROM
+                  INFORMATION_SCHEMA.TABLES
+                WHERE
+                  TABLE_NAME = 'AUTHORS'
+                """)
+            .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        SchemaRetrievalOptionsBuilder.builder()
+            .withInformationSchemaViews(informationSchemaViews)
+            .toOptions();
+
+    final Config additionalConfig = ConfigUtility.newConfig();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("estimate-row-counts", true);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource,
+            schemaRetrievalOptions,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+            additionalConfig);
+
+    final Table authors =
+        catalog.lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS").get();
+    assertThat(getRowCount(authors), is(1000L));
+    // Rows are counted for tables without estimates
+    final Table books = catalog.lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "BOOKS").get();
+    assertThat(getRowCount(books), is(20L));
+  }
+
   @Test
   public void noEmptyTables(
       final TestContext testContext, final DatabaseConnectionSource connectionSource)
@@ -121,4 +171,33 @@ public class TableRowCountsTest {
     assertThat(
         outputOf(testout), hasSameContentAs(classpathResource(testContext.testMethodFullName())));
   }
+
+  @Test
+  public void rowCountsConcurrent(final DatabaseConnectionSource connectionSource)
+      throws Exception {
+
+    final SchemaRetrievalOptions schemaRetrievalOptions =
+        DatabaseTestUtility.newSchemaRetrievalOptions();
+
+    final Config additionalConfig = ConfigUtility.newConfig();
+    additionalConfig.put("load-row-counts", true);
+    additionalConfig.put("row-counts-threads", 4);
+    additionalConfig.put("row-counts-query-timeout", 30);
+
+    final Catalog catalog =
+        SchemaCrawlerUtility.getCatalog(
+            connectionSource,
+            schemaRetrievalOptions,
+            SchemaCrawlerOptionsBuilder.newSchemaCrawlerOptions(),
+            additionalConfig);
+
+    final Table[] tables = catalog.getTables().toArray(new Table[0]);
+    assertThat(tables, arrayWithSize(greaterThan(1)));
+    for (final Table table : tables) {
+      assertThat(
+          "Table <%s> should have row counts".formatted(table), hasRowCount(table), is(true));
+    }
+    final Table books = catalog.lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "BOOKS").get();
+    assertThat(getRowCount(books), is(20L));
+  }
 }
@@ -0,0 +1,143 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility;
+
+import static us.fatehi.utility.Utility.isBlank;
+import static us.fatehi.utility.Utility.trimToEmpty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Template that is split into literal text and variables once, so that it can be expanded many
+ * times without scanning the template again. Variables in the template are in the form of
+ * ${variable}, and are expanded in the same way as {@link TemplatingUtility#expandTemplate(String,
+ * Map)}.
+ */
+public final class CompiledTemplate {
+
+  private static final String DELIMITER_END = "}";
+  private static final String DELIMITER_START = "${";
+
+  private final String template;
+  // Literal text before each variable, and after the last variable
+  private final String[] literals;
+  private final String[] variables;
+  // Variables as they appear in the template, for variables that have no value
+  private final String[] placeholders;
+
+  public CompiledTemplate(final String template) {
+    this.template = template;
+
+    final List<String> literals = new ArrayList<>();
+    final List<String> variables = new ArrayList<>();
+    final List<String> placeholders = new ArrayList<>();
+    if (!isBlank(template)) {
+      int currentPosition = 0;
+      while (true) {
+        final int start = template.indexOf(DELIMITER_START, currentPosition);
+        final int end = start < 0 ? -1 : template.indexOf(DELIMITER_END, start);
+        if (end < 0) {
+          // No more variables, since there is no end brace after the last start
+          break;
+        }
+        literals.add(template.substring(currentPosition, start));
+        variables.add(trimToEmpty(template.substring(start + DELIMITER_START.length(), end)));
+        placeholders.add(template.substring(start, end + DELIMITER_END.length()));
+        currentPosition = end + DELIMITER_END.length();
+      }
+      literals.add(template.substring(currentPosition));
+    }
+
+    this.literals = literals.toArray(new String[0]);
+    this.variables = variables.toArray(new String[0]);
+    this.placeholders = placeholders.toArray(new String[0]);
+  }
+
+  /**
+   * Expands the template using variable values in the provided map. Variables that have no value
+   * are left as they are.
+   *
+   * @param variablesMap Variables and values.
+   * @return Expanded template
+   */
+  public String expand(final Map<String, ? extends Object> variablesMap) {
+    if (variables.length == 0 || variablesMap == null) {
+      return template;
+    }
+
+    final StringBuilder buffer = new StringBuilder(template.length() * 2);
+    for (int i = 0; i < variables.length; i++) {
+      buffer.append(literals[i]);
+      final Object value = variablesMap.get(variables[i]);
+      if (value != null) {
+        buffer.append(value);
+      } else {
+        // Do not substitute
+        buffer.append(placeholders[i]);
+      }
+    }
+    buffer.append(literals[variables.length]);
+    return buffer.toString();
+  }
+
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Gets the variables in the template, in the order they first appear.
+   *
+   * @return Variables in the template
+   */
+  public Set<String> getVariables() {
+    return new LinkedHashSet<>(List.of(variables));
+  }
+
+  /**
+   * Checks whether the template has any variables to expand.
+   *
+   * @return True if the template has variables
+   */
+  public boolean hasVariables() {
+    return variables.length > 0;
+  }
+
+  /**
+   * Checks whether expanding the template with the provided map leaves nothing for another
+   * expansion to do. This is the case when every variable has a value, and no value looks like it
+   * has a variable of its own.
+   *
+   * @param variablesMap Variables and values.
+   * @return True if the expanded template has no variables
+   */
+  public boolean isExpandedCompletely(final Map<String, ? extends Object> variablesMap) {
+    if (variables.length == 0) {
+      return true;
+    }
+    if (variablesMap == null) {
+      return false;
+    }
+    for (final String variable : variables) {
+      final Object value = variablesMap.get(variable);
+      if (value == null || String.valueOf(value).contains(DELIMITER_START)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
@@ -10,6 +10,9 @@ package us.fatehi.utility;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -22,12 +25,18 @@ import java.util.regex.Pattern;
  */
 public class Inflection {
 
+  private static final int MAX_REMEMBERED_WORDS = 100_000;
+
   private static final List<Inflection> plural = new ArrayList<>();
 
   private static final List<Inflection> singular = new ArrayList<>();
 
   private static final List<String> uncountable = new ArrayList<>();
 
+  private static final Map<String, String> pluralWords = new ConcurrentHashMap<>();
+
+  private static final Map<String, String> singularWords = new ConcurrentHashMap<>();
+
   static {
     // plural is "singular to plural form"
     // singular is "plural to singular form"
@@ -118,16 +127,7 @@ public class Inflection {
    * @return The pluralized word
    */
   public static String pluralize(final String word) {
-    if (Inflection.isUncountable(word)) {
-      return word;
-    }
-
-    for (final Inflection inflection : plural) {
-      if (inflection.match(word)) {
-        return inflection.replace(word);
-      }
-    }
-    return word;
+    return inflect(word, plural, pluralWords);
   }
 
   /**
@@ -137,19 +137,42 @@ public class Inflection {
    * @return The singularized word
    */
   public static String singularize(final String word) {
-    if (Inflection.isUncountable(word)) {
-      return word;
+    return inflect(word, singular, singularWords);
+  }
+
+  /**
+   * Applies the first matching inflection rule to a word. Results are remembered, since the same
+   * words are inflected many times, for example for each prefix of each table name.
+   *
+   * @param word The word
+   * @param inflections Inflection rules, in order of precedence
+   * @param inflectedWords Remembered results for the inflection rules
+   * @return The inflected word
+   */
+  private static String inflect(
+      final String word,
+      final List<Inflection> inflections,
+      final Map<String, String> inflectedWords) {
+    final String rememberedWord = inflectedWords.get(word);
+    if (rememberedWord != null) {
+      return rememberedWord;
     }
 
-    for (final Inflection inflection : singular) {
-      // System.out.println(word + " matches " + inflection.pattern +
-      // "? (ignore case: " + inflection.ignoreCase + ")");
-      if (inflection.match(word)) {
-        // System.out.println("match!");
-        return inflection.replace(word);
+    String inflectedWord = word;
+    if (!Inflection.isUncountable(word)) {
+      for (final Inflection inflection : inflections) {
+        final Matcher matcher = inflection.pattern.matcher(word);
+        if (matcher.find()) {
+          inflectedWord = matcher.replaceAll(inflection.replacement);
+          break;
+        }
       }
     }
-    return word;
+
+    if (inflectedWords.size() < MAX_REMEMBERED_WORDS) {
+      inflectedWords.put(word, inflectedWord);
+    }
+    return inflectedWord;
   }
 
   private static void irregular(final String s, final String p) {
@@ -169,12 +192,10 @@ public class Inflection {
     uncountable.add(word);
   }
 
-  private final String pattern;
+  private final Pattern pattern;
 
   private final String replacement;
 
-  private final boolean ignoreCase;
-
   public Inflection(final String pattern) {
     this(pattern, null, true);
   }
@@ -184,9 +205,9 @@ public class Inflection {
   }
 
   public Inflection(final String pattern, final String replacement, final boolean ignoreCase) {
-    this.pattern = pattern;
+    // Compile once, since rules are tried against every word that is inflected
+    this.pattern = Pattern.compile(pattern, ignoreCase ? Pattern.CASE_INSENSITIVE : 0);
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
   }
 
   /**
@@ -196,11 +217,7 @@ public class Inflection {
    * @return True if it matches the inflection pattern
    */
   public boolean match(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -210,10 +227,6 @@ public class Inflection {
    * @return The result
    */
   public String replace(final String word) {
-    int flags = 0;
-    if (ignoreCase) {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
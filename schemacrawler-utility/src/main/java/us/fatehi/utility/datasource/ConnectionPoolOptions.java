@@ -0,0 +1,69 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.datasource;
+
+import static java.util.Objects.requireNonNull;
+import static us.fatehi.utility.scheduler.TaskRunner.MAX_THREADS;
+import static us.fatehi.utility.scheduler.TaskRunner.MIN_THREADS;
+
+import java.time.Duration;
+
+/**
+ * Options for a pool of database connections.
+ *
+ * @param maxPoolSize Maximum number of open connections, whether in use or idle
+ * @param acquireTimeout Maximum time to wait for a connection when all connections are in use
+ * @param validationInterval Interval between checks of idle connections in the background, or zero
+ *     to not check idle connections
+ * @param leakDetectionThreshold Time that a connection can be in use before it is reported as a
+ *     possible leak, or zero to not report leaks
+ */
+public record ConnectionPoolOptions(
+    int maxPoolSize,
+    Duration acquireTimeout,
+    Duration validationInterval,
+    Duration leakDetectionThreshold) {
+
+  /**
+   * Default options, sized for the default, and largest, maximum number of threads in the load
+   * options. Connections are only opened as they are needed.
+   */
+  public static final ConnectionPoolOptions DEFAULT = forMaxThreads(MAX_THREADS);
+
+  /**
+   * Options for a pool that serves a crawl with the maximum number of threads from the load
+   * options. Each retrieval thread can hold a connection, and nested retrievals for all threads
+   * share a single limit of the same maximum number of threads, so the pool allows twice as many
+   * connections as threads.
+   *
+   * @param maxThreads Maximum number of threads for the crawl
+   * @return Connection pool options
+   */
+  public static ConnectionPoolOptions forMaxThreads(final int maxThreads) {
+    return new ConnectionPoolOptions(
+        2 * Math.max(maxThreads, MIN_THREADS),
+        Duration.ofMinutes(2),
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(10));
+  }
+
+  public ConnectionPoolOptions {
+    if (maxPoolSize < 1) {
+      throw new IllegalArgumentException("Maximum pool size needs to be at least 1");
+    }
+    requireNonNull(acquireTimeout, "No acquire timeout provided");
+    requireNonNull(validationInterval, "No validation interval provided");
+    requireNonNull(leakDetectionThreshold, "No leak detection threshold provided");
+    if (acquireTimeout.isNegative()
+        || validationInterval.isNegative()
+        || leakDetectionThreshold.isNegative()) {
+      throw new IllegalArgumentException("Connection pool timeouts cannot be negative");
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.datasource;
+
+/**
+ * Snapshot of the counters for a pool of database connections.
+ *
+ * @param maxPoolSize Maximum number of open connections
+ * @param activeConnections Number of connections in use
+ * @param idleConnections Number of open connections that are not in use
+ * @param creations Number of connections opened
+ * @param waits Number of requests that had to wait for a connection
+ * @param timeouts Number of requests that timed out waiting for a connection
+ * @param evictions Number of idle connections closed since they were no longer valid
+ * @param leaks Number of connections that were in use for longer than the leak detection threshold,
+ *     or were still in use when the pool was closed
+ */
+public record ConnectionPoolStatistics(
+    int maxPoolSize,
+    int activeConnections,
+    int idleConnections,
+    long creations,
+    long waits,
+    long timeouts,
+    long evictions,
+    long leaks) {}
@@ -50,6 +50,7 @@ public class DatabaseConnectionSourceBuilder implements Builder<DatabaseConnecti
   private Integer providedPort;
   private Map<String, String> providedUrlx;
   private Set<String> additionalDriverProperties;
+  private ConnectionPoolOptions connectionPoolOptions;
 
   private DatabaseConnectionSourceBuilder(final String connectionUrlTemplate) {
     this.connectionUrlTemplate = connectionUrlTemplate;
@@ -58,6 +59,7 @@ public class DatabaseConnectionSourceBuilder implements Builder<DatabaseConnecti
     userCredentials = new MultiUseUserCredentials();
     connectionInitializer = connection -> {};
     additionalDriverProperties = Set.of();
+    connectionPoolOptions = ConnectionPoolOptions.DEFAULT;
   }
 
   @Override
@@ -66,11 +68,19 @@ public class DatabaseConnectionSourceBuilder implements Builder<DatabaseConnecti
     final Map<String, String> connectionUrlx = toUrlx();
     final DatabaseConnectionSource connectionSource =
         DatabaseConnectionSources.newDatabaseConnectionSource(
-            connectionUrl, additionalDriverProperties, connectionUrlx, userCredentials);
+            connectionUrl,
+            additionalDriverProperties,
+            connectionUrlx,
+            userCredentials,
+            connectionPoolOptions);
     connectionSource.setFirstConnectionInitializer(connectionInitializer);
     return connectionSource;
   }
 
+  public ConnectionPoolOptions getConnectionPoolOptions() {
+    return connectionPoolOptions;
+  }
+
   public String getConnectionUrlTemplate() {
     return connectionUrlTemplate;
   }
@@ -99,6 +109,16 @@ public class DatabaseConnectionSourceBuilder implements Builder<DatabaseConnecti
     return this;
   }
 
+  public DatabaseConnectionSourceBuilder withConnectionPoolOptions(
+      final ConnectionPoolOptions connectionPoolOptions) {
+    if (connectionPoolOptions == null) {
+      this.connectionPoolOptions = ConnectionPoolOptions.DEFAULT;
+    } else {
+      this.connectionPoolOptions = connectionPoolOptions;
+    }
+    return this;
+  }
+
   public DatabaseConnectionSourceBuilder withDatabase(final String database) {
     providedDatabase = database;
     return this;
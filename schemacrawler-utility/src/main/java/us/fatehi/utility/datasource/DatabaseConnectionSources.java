@@ -33,6 +33,20 @@ public class DatabaseConnectionSources {
       final Set<String> additionalDriverProperties,
       final Map<String, String> connectionProperties,
       final UserCredentials userCredentials) {
+    return newDatabaseConnectionSource(
+        connectionUrl,
+        additionalDriverProperties,
+        connectionProperties,
+        userCredentials,
+        ConnectionPoolOptions.DEFAULT);
+  }
+
+  public static DatabaseConnectionSource newDatabaseConnectionSource(
+      final String connectionUrl,
+      final Set<String> additionalDriverProperties,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final ConnectionPoolOptions poolOptions) {
 
     final boolean isSingleThreaded =
         new SystemPropertiesConfig().getBooleanValue("SC_SINGLE_THREADED");
@@ -43,7 +57,11 @@ public class DatabaseConnectionSources {
     }
     LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
     return new SimpleDatabaseConnectionSource(
-        connectionUrl, additionalDriverProperties, connectionProperties, userCredentials);
+        connectionUrl,
+        additionalDriverProperties,
+        connectionProperties,
+        userCredentials,
+        poolOptions);
   }
 
   public static DatabaseConnectionSource newDatabaseConnectionSource(
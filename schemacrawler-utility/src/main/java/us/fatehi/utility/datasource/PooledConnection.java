@@ -0,0 +1,542 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.datasource;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.ShardingKey;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Connection handed out by a connection source, which delegates to a physical connection. Closing
+ * it returns the physical connection to the connection source, after which every method other than
+ * isClosed and unwrap fails. Statements created from the connection, and result sets from its
+ * database metadata, are tracked, and any that were not closed are closed when the connection is
+ * returned.
+ */
+final class PooledConnection implements DatabaseConnectionSourceConnection {
+
+  private static final Logger LOGGER = Logger.getLogger(PooledConnection.class.getName());
+
+  private final Connection connection;
+  private final DatabaseConnectionSource connectionSource;
+  private final CloseState closeState;
+  // Statements, and result sets from database metadata
+  private final List<AutoCloseable> openResources;
+
+  PooledConnection(final Connection connection, final DatabaseConnectionSource connectionSource) {
+    requireNonNull(connection, "No database connnection provided");
+    if (connection instanceof DatabaseConnectionSourceConnection) {
+      try {
+        this.connection = connection.unwrap(Connection.class);
+      } catch (final SQLException e) {
+        throw new UnsupportedOperationException("Could not unwrap pooled connection");
+      }
+    } else {
+      this.connection = connection;
+    }
+    this.connectionSource =
+        requireNonNull(connectionSource, "No database connection source provided");
+    closeState = new CloseState();
+    openResources = new ArrayList<>();
+  }
+
+  @Override
+  public void abort(final Executor executor) throws SQLException {
+    checkOpen("abort");
+    connection.abort(executor);
+  }
+
+  @Override
+  public void beginRequest() throws SQLException {
+    checkOpen("beginRequest");
+    connection.beginRequest();
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    checkOpen("clearWarnings");
+    connection.clearWarnings();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    checkOpen("close");
+    if (!closeState.tryClose()) {
+      return;
+    }
+    try {
+      closeLeakedResources();
+    } finally {
+      connectionSource.releaseConnection(connection);
+    }
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    checkOpen("commit");
+    connection.commit();
+  }
+
+  @Override
+  public Array createArrayOf(final String typeName, final Object[] elements) throws SQLException {
+    checkOpen("createArrayOf");
+    return connection.createArrayOf(typeName, elements);
+  }
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    checkOpen("createBlob");
+    return connection.createBlob();
+  }
+
+  @Override
+  public Clob createClob() throws SQLException {
+    checkOpen("createClob");
+    return connection.createClob();
+  }
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    checkOpen("createNClob");
+    return connection.createNClob();
+  }
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    checkOpen("createSQLXML");
+    return connection.createSQLXML();
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException {
+    checkOpen("createStatement");
+    return track(connection.createStatement());
+  }
+
+  @Override
+  public Statement createStatement(final int resultSetType, final int resultSetConcurrency)
+      throws SQLException {
+    checkOpen("createStatement");
+    return track(connection.createStatement(resultSetType, resultSetConcurrency));
+  }
+
+  @Override
+  public Statement createStatement(
+      final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability)
+      throws SQLException {
+    checkOpen("createStatement");
+    return track(
+        connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public Struct createStruct(final String typeName, final Object[] attributes) throws SQLException {
+    checkOpen("createStruct");
+    return connection.createStruct(typeName, attributes);
+  }
+
+  @Override
+  public void endRequest() throws SQLException {
+    checkOpen("endRequest");
+    connection.endRequest();
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    checkOpen("getAutoCommit");
+    return connection.getAutoCommit();
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    checkOpen("getCatalog");
+    return connection.getCatalog();
+  }
+
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    checkOpen("getClientInfo");
+    return connection.getClientInfo();
+  }
+
+  @Override
+  public String getClientInfo(final String name) throws SQLException {
+    checkOpen("getClientInfo");
+    return connection.getClientInfo(name);
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    checkOpen("getHoldability");
+    return connection.getHoldability();
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    checkOpen("getMetaData");
+    return new PooledDatabaseMetaData(connection.getMetaData(), this);
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    checkOpen("getNetworkTimeout");
+    return connection.getNetworkTimeout();
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    checkOpen("getSchema");
+    return connection.getSchema();
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    checkOpen("getTransactionIsolation");
+    return connection.getTransactionIsolation();
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    checkOpen("getTypeMap");
+    return connection.getTypeMap();
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    checkOpen("getWarnings");
+    return connection.getWarnings();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return closeState.isClosed();
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    checkOpen("isReadOnly");
+    return connection.isReadOnly();
+  }
+
+  @Override
+  public boolean isValid(final int timeout) throws SQLException {
+    checkOpen("isValid");
+    return connection.isValid(timeout);
+  }
+
+  @Override
+  public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+    checkOpen("isWrapperFor");
+    return iface.isAssignableFrom(connection.getClass());
+  }
+
+  @Override
+  public String nativeSQL(final String sql) throws SQLException {
+    checkOpen("nativeSQL");
+    return connection.nativeSQL(sql);
+  }
+
+  @Override
+  public CallableStatement prepareCall(final String sql) throws SQLException {
+    checkOpen("prepareCall");
+    return track(connection.prepareCall(sql));
+  }
+
+  @Override
+  public CallableStatement prepareCall(
+      final String sql, final int resultSetType, final int resultSetConcurrency)
+      throws SQLException {
+    checkOpen("prepareCall");
+    return track(connection.prepareCall(sql, resultSetType, resultSetConcurrency));
+  }
+
+  @Override
+  public CallableStatement prepareCall(
+      final String sql,
+      final int resultSetType,
+      final int resultSetConcurrency,
+      final int resultSetHoldability)
+      throws SQLException {
+    checkOpen("prepareCall");
+    return track(
+        connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(final String sql) throws SQLException {
+    checkOpen("prepareStatement");
+    return track(connection.prepareStatement(sql));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(final String sql, final int autoGeneratedKeys)
+      throws SQLException {
+    checkOpen("prepareStatement");
+    return track(connection.prepareStatement(sql, autoGeneratedKeys));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(
+      final String sql, final int resultSetType, final int resultSetConcurrency)
+      throws SQLException {
+    checkOpen("prepareStatement");
+    return track(connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(
+      final String sql,
+      final int resultSetType,
+      final int resultSetConcurrency,
+      final int resultSetHoldability)
+      throws SQLException {
+    checkOpen("prepareStatement");
+    return track(
+        connection.prepareStatement(
+            sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(final String sql, final int[] columnIndexes)
+      throws SQLException {
+    checkOpen("prepareStatement");
+    return track(connection.prepareStatement(sql, columnIndexes));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(final String sql, final String[] columnNames)
+      throws SQLException {
+    checkOpen("prepareStatement");
+    return track(connection.prepareStatement(sql, columnNames));
+  }
+
+  @Override
+  public void releaseSavepoint(final Savepoint savepoint) throws SQLException {
+    checkOpen("releaseSavepoint");
+    connection.releaseSavepoint(savepoint);
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    checkOpen("rollback");
+    connection.rollback();
+  }
+
+  @Override
+  public void rollback(final Savepoint savepoint) throws SQLException {
+    checkOpen("rollback");
+    connection.rollback(savepoint);
+  }
+
+  @Override
+  public void setAutoCommit(final boolean autoCommit) throws SQLException {
+    checkOpen("setAutoCommit");
+    connection.setAutoCommit(autoCommit);
+  }
+
+  @Override
+  public void setCatalog(final String catalog) throws SQLException {
+    checkOpen("setCatalog");
+    connection.setCatalog(catalog);
+  }
+
+  @Override
+  public void setClientInfo(final Properties properties) throws SQLClientInfoException {
+    if (closeState.isClosed()) {
+      throw new SQLClientInfoException(
+          "Cannot call <setClientInfo> since connection is closed", Map.of());
+    }
+    connection.setClientInfo(properties);
+  }
+
+  @Override
+  public void setClientInfo(final String name, final String value) throws SQLClientInfoException {
+    if (closeState.isClosed()) {
+      throw new SQLClientInfoException(
+          "Cannot call <setClientInfo> since connection is closed", Map.of());
+    }
+    connection.setClientInfo(name, value);
+  }
+
+  @Override
+  public void setHoldability(final int holdability) throws SQLException {
+    checkOpen("setHoldability");
+    connection.setHoldability(holdability);
+  }
+
+  @Override
+  public void setNetworkTimeout(final Executor executor, final int milliseconds)
+      throws SQLException {
+    checkOpen("setNetworkTimeout");
+    connection.setNetworkTimeout(executor, milliseconds);
+  }
+
+  @Override
+  public void setReadOnly(final boolean readOnly) throws SQLException {
+    checkOpen("setReadOnly");
+    connection.setReadOnly(readOnly);
+  }
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    checkOpen("setSavepoint");
+    return connection.setSavepoint();
+  }
+
+  @Override
+  public Savepoint setSavepoint(final String name) throws SQLException {
+    checkOpen("setSavepoint");
+    return connection.setSavepoint(name);
+  }
+
+  @Override
+  public void setSchema(final String schema) throws SQLException {
+    checkOpen("setSchema");
+    connection.setSchema(schema);
+  }
+
+  @Override
+  public void setShardingKey(final ShardingKey shardingKey) throws SQLException {
+    checkOpen("setShardingKey");
+    connection.setShardingKey(shardingKey);
+  }
+
+  @Override
+  public void setShardingKey(final ShardingKey shardingKey, final ShardingKey superShardingKey)
+      throws SQLException {
+    checkOpen("setShardingKey");
+    connection.setShardingKey(shardingKey, superShardingKey);
+  }
+
+  @Override
+  public boolean setShardingKeyIfValid(final ShardingKey shardingKey, final int timeout)
+      throws SQLException {
+    checkOpen("setShardingKeyIfValid");
+    return connection.setShardingKeyIfValid(shardingKey, timeout);
+  }
+
+  @Override
+  public boolean setShardingKeyIfValid(
+      final ShardingKey shardingKey, final ShardingKey superShardingKey, final int timeout)
+      throws SQLException {
+    checkOpen("setShardingKeyIfValid");
+    return connection.setShardingKeyIfValid(shardingKey, superShardingKey, timeout);
+  }
+
+  @Override
+  public void setTransactionIsolation(final int level) throws SQLException {
+    checkOpen("setTransactionIsolation");
+    connection.setTransactionIsolation(level);
+  }
+
+  @Override
+  public void setTypeMap(final Map<String, Class<?>> map) throws SQLException {
+    checkOpen("setTypeMap");
+    connection.setTypeMap(map);
+  }
+
+  @Override
+  public String toString() {
+    return "Pooled connection <%s@%d> for <%s>"
+        .formatted(getClass().getName(), hashCode(), connection);
+  }
+
+  /** Returns the physical connection, whatever the requested interface. */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T unwrap(final Class<T> iface) {
+    return (T) connection;
+  }
+
+  void checkOpen(final String methodName) throws SQLException {
+    if (closeState.isClosed()) {
+      throw new SQLException("Cannot call <%s> since connection is closed".formatted(methodName));
+    }
+  }
+
+  /**
+   * Keeps track of statements and result sets handed out, without wrapping them, so that callers
+   * and drivers still see the classes from the driver. Closed statements and result sets are
+   * dropped whenever a new one is tracked, so that only ones that are still open are tracked.
+   */
+  <R extends AutoCloseable> R track(final R resource) {
+    if (resource != null) {
+      synchronized (openResources) {
+        openResources.removeIf(this::isClosed);
+        openResources.add(resource);
+      }
+    }
+    return resource;
+  }
+
+  private void closeLeakedResources() {
+    final List<AutoCloseable> leakedResources;
+    synchronized (openResources) {
+      leakedResources = new ArrayList<>(openResources);
+      openResources.clear();
+    }
+
+    int leaksCount = 0;
+    for (final AutoCloseable resource : leakedResources) {
+      try {
+        if (!isClosed(resource)) {
+          leaksCount++;
+          resource.close();
+        }
+      } catch (final Exception e) {
+        LOGGER.log(Level.FINE, "Cannot close statement or result set", e);
+      }
+    }
+    if (leaksCount > 0) {
+      LOGGER.log(
+          Level.WARNING,
+          new StringFormat(
+              "Closed <%d> statements or result sets that were left open on connection <%s>",
+              leaksCount, connection));
+    }
+  }
+
+  private boolean isClosed(final AutoCloseable resource) {
+    try {
+      if (resource instanceof final Statement statement) {
+        return statement.isClosed();
+      }
+      if (resource instanceof final ResultSet resultSet) {
+        return resultSet.isClosed();
+      }
+      return false;
+    } catch (final SQLException e) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,1197 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.datasource;
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.RowIdLifetime;
+import java.sql.SQLException;
+
+/**
+ * Database metadata handed out by a pooled connection, which delegates to the metadata of the
+ * physical connection. Result sets are tracked by the pooled connection, and any that were not
+ * closed are closed when the connection is returned. The connection for the metadata is the pooled
+ * connection, so that it cannot be used to get around returning the physical connection.
+ */
+final class PooledDatabaseMetaData implements DatabaseMetaData {
+
+  private final DatabaseMetaData metaData;
+  private final PooledConnection connection;
+
+  PooledDatabaseMetaData(final DatabaseMetaData metaData, final PooledConnection connection) {
+    this.metaData = requireNonNull(metaData, "No database metadata provided");
+    this.connection = requireNonNull(connection, "No pooled connection provided");
+  }
+
+  @Override
+  public boolean allProceduresAreCallable() throws SQLException {
+    connection.checkOpen("allProceduresAreCallable");
+    return metaData.allProceduresAreCallable();
+  }
+
+  @Override
+  public boolean allTablesAreSelectable() throws SQLException {
+    connection.checkOpen("allTablesAreSelectable");
+    return metaData.allTablesAreSelectable();
+  }
+
+  @Override
+  public boolean autoCommitFailureClosesAllResultSets() throws SQLException {
+    connection.checkOpen("autoCommitFailureClosesAllResultSets");
+    return metaData.autoCommitFailureClosesAllResultSets();
+  }
+
+  @Override
+  public boolean dataDefinitionCausesTransactionCommit() throws SQLException {
+    connection.checkOpen("dataDefinitionCausesTransactionCommit");
+    return metaData.dataDefinitionCausesTransactionCommit();
+  }
+
+  @Override
+  public boolean dataDefinitionIgnoredInTransactions() throws SQLException {
+    connection.checkOpen("dataDefinitionIgnoredInTransactions");
+    return metaData.dataDefinitionIgnoredInTransactions();
+  }
+
+  @Override
+  public boolean deletesAreDetected(final int type) throws SQLException {
+    connection.checkOpen("deletesAreDetected");
+    return metaData.deletesAreDetected(type);
+  }
+
+  @Override
+  public boolean doesMaxRowSizeIncludeBlobs() throws SQLException {
+    connection.checkOpen("doesMaxRowSizeIncludeBlobs");
+    return metaData.doesMaxRowSizeIncludeBlobs();
+  }
+
+  @Override
+  public boolean generatedKeyAlwaysReturned() throws SQLException {
+    connection.checkOpen("generatedKeyAlwaysReturned");
+    return metaData.generatedKeyAlwaysReturned();
+  }
+
+  @Override
+  public ResultSet getAttributes(
+      final String catalog,
+      final String schemaPattern,
+      final String typeNamePattern,
+      final String attributeNamePattern)
+      throws SQLException {
+    connection.checkOpen("getAttributes");
+    return connection.track(
+        metaData.getAttributes(catalog, schemaPattern, typeNamePattern, attributeNamePattern));
+  }
+
+  @Override
+  public ResultSet getBestRowIdentifier(
+      final String catalog,
+      final String schema,
+      final String table,
+      final int scope,
+      final boolean nullable)
+      throws SQLException {
+    connection.checkOpen("getBestRowIdentifier");
+    return connection.track(metaData.getBestRowIdentifier(catalog, schema, table, scope, nullable));
+  }
+
+  @Override
+  public String getCatalogSeparator() throws SQLException {
+    connection.checkOpen("getCatalogSeparator");
+    return metaData.getCatalogSeparator();
+  }
+
+  @Override
+  public String getCatalogTerm() throws SQLException {
+    connection.checkOpen("getCatalogTerm");
+    return metaData.getCatalogTerm();
+  }
+
+  @Override
+  public ResultSet getCatalogs() throws SQLException {
+    connection.checkOpen("getCatalogs");
+    return connection.track(metaData.getCatalogs());
+  }
+
+  @Override
+  public ResultSet getClientInfoProperties() throws SQLException {
+    connection.checkOpen("getClientInfoProperties");
+    return connection.track(metaData.getClientInfoProperties());
+  }
+
+  @Override
+  public ResultSet getColumnPrivileges(
+      final String catalog, final String schema, final String table, final String columnNamePattern)
+      throws SQLException {
+    connection.checkOpen("getColumnPrivileges");
+    return connection.track(
+        metaData.getColumnPrivileges(catalog, schema, table, columnNamePattern));
+  }
+
+  @Override
+  public ResultSet getColumns(
+      final String catalog,
+      final String schemaPattern,
+      final String tableNamePattern,
+      final String columnNamePattern)
+      throws SQLException {
+    connection.checkOpen("getColumns");
+    return connection.track(
+        metaData.getColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    connection.checkOpen("getConnection");
+    return connection;
+  }
+
+  @Override
+  public ResultSet getCrossReference(
+      final String parentCatalog,
+      final String parentSchema,
+      final String parentTable,
+      final String foreignCatalog,
+      final String foreignSchema,
+      final String foreignTable)
+      throws SQLException {
+    connection.checkOpen("getCrossReference");
+    return connection.track(
+        metaData.getCrossReference(
+            parentCatalog, parentSchema, parentTable, foreignCatalog, foreignSchema, foreignTable));
+  }
+
+  @Override
+  public int getDatabaseMajorVersion() throws SQLException {
+    connection.checkOpen("getDatabaseMajorVersion");
+    return metaData.getDatabaseMajorVersion();
+  }
+
+  @Override
+  public int getDatabaseMinorVersion() throws SQLException {
+    connection.checkOpen("getDatabaseMinorVersion");
+    return metaData.getDatabaseMinorVersion();
+  }
+
+  @Override
+  public String getDatabaseProductName() throws SQLException {
+    connection.checkOpen("getDatabaseProductName");
+    return metaData.getDatabaseProductName();
+  }
+
+  @Override
+  public String getDatabaseProductVersion() throws SQLException {
+    connection.checkOpen("getDatabaseProductVersion");
+    return metaData.getDatabaseProductVersion();
+  }
+
+  @Override
+  public int getDefaultTransactionIsolation() throws SQLException {
+    connection.checkOpen("getDefaultTransactionIsolation");
+    return metaData.getDefaultTransactionIsolation();
+  }
+
+  @Override
+  public int getDriverMajorVersion() {
+    return metaData.getDriverMajorVersion();
+  }
+
+  @Override
+  public int getDriverMinorVersion() {
+    return metaData.getDriverMinorVersion();
+  }
+
+  @Override
+  public String getDriverName() throws SQLException {
+    connection.checkOpen("getDriverName");
+    return metaData.getDriverName();
+  }
+
+  @Override
+  public String getDriverVersion() throws SQLException {
+    connection.checkOpen("getDriverVersion");
+    return metaData.getDriverVersion();
+  }
+
+  @Override
+  public ResultSet getExportedKeys(final String catalog, final String schema, final String table)
+      throws SQLException {
+    connection.checkOpen("getExportedKeys");
+    return connection.track(metaData.getExportedKeys(catalog, schema, table));
+  }
+
+  @Override
+  public String getExtraNameCharacters() throws SQLException {
+    connection.checkOpen("getExtraNameCharacters");
+    return metaData.getExtraNameCharacters();
+  }
+
+  @Override
+  public ResultSet getFunctionColumns(
+      final String catalog,
+      final String schemaPattern,
+      final String functionNamePattern,
+      final String columnNamePattern)
+      throws SQLException {
+    connection.checkOpen("getFunctionColumns");
+    return connection.track(
+        metaData.getFunctionColumns(
+            catalog, schemaPattern, functionNamePattern, columnNamePattern));
+  }
+
+  @Override
+  public ResultSet getFunctions(
+      final String catalog, final String schemaPattern, final String functionNamePattern)
+      throws SQLException {
+    connection.checkOpen("getFunctions");
+    return connection.track(metaData.getFunctions(catalog, schemaPattern, functionNamePattern));
+  }
+
+  @Override
+  public String getIdentifierQuoteString() throws SQLException {
+    connection.checkOpen("getIdentifierQuoteString");
+    return metaData.getIdentifierQuoteString();
+  }
+
+  @Override
+  public ResultSet getImportedKeys(final String catalog, final String schema, final String table)
+      throws SQLException {
+    connection.checkOpen("getImportedKeys");
+    return connection.track(metaData.getImportedKeys(catalog, schema, table));
+  }
+
+  @Override
+  public ResultSet getIndexInfo(
+      final String catalog,
+      final String schema,
+      final String table,
+      final boolean unique,
+      final boolean approximate)
+      throws SQLException {
+    connection.checkOpen("getIndexInfo");
+    return connection.track(metaData.getIndexInfo(catalog, schema, table, unique, approximate));
+  }
+
+  @Override
+  public int getJDBCMajorVersion() throws SQLException {
+    connection.checkOpen("getJDBCMajorVersion");
+    return metaData.getJDBCMajorVersion();
+  }
+
+  @Override
+  public int getJDBCMinorVersion() throws SQLException {
+    connection.checkOpen("getJDBCMinorVersion");
+    return metaData.getJDBCMinorVersion();
+  }
+
+  @Override
+  public int getMaxBinaryLiteralLength() throws SQLException {
+    connection.checkOpen("getMaxBinaryLiteralLength");
+    return metaData.getMaxBinaryLiteralLength();
+  }
+
+  @Override
+  public int getMaxCatalogNameLength() throws SQLException {
+    connection.checkOpen("getMaxCatalogNameLength");
+    return metaData.getMaxCatalogNameLength();
+  }
+
+  @Override
+  public int getMaxCharLiteralLength() throws SQLException {
+    connection.checkOpen("getMaxCharLiteralLength");
+    return metaData.getMaxCharLiteralLength();
+  }
+
+  @Override
+  public int getMaxColumnNameLength() throws SQLException {
+    connection.checkOpen("getMaxColumnNameLength");
+    return metaData.getMaxColumnNameLength();
+  }
+
+  @Override
+  public int getMaxColumnsInGroupBy() throws SQLException {
+    connection.checkOpen("getMaxColumnsInGroupBy");
+    return metaData.getMaxColumnsInGroupBy();
+  }
+
+  @Override
+  public int getMaxColumnsInIndex() throws SQLException {
+    connection.checkOpen("getMaxColumnsInIndex");
+    return metaData.getMaxColumnsInIndex();
+  }
+
+  @Override
+  public int getMaxColumnsInOrderBy() throws SQLException {
+    connection.checkOpen("getMaxColumnsInOrderBy");
+    return metaData.getMaxColumnsInOrderBy();
+  }
+
+  @Override
+  public int getMaxColumnsInSelect() throws SQLException {
+    connection.checkOpen("getMaxColumnsInSelect");
+    return metaData.getMaxColumnsInSelect();
+  }
+
+  @Override
+  public int getMaxColumnsInTable() throws SQLException {
+    connection.checkOpen("getMaxColumnsInTable");
+    return metaData.getMaxColumnsInTable();
+  }
+
+  @Override
+  public int getMaxConnections() throws SQLException {
+    connection.checkOpen("getMaxConnections");
+    return metaData.getMaxConnections();
+  }
+
+  @Override
+  public int getMaxCursorNameLength() throws SQLException {
+    connection.checkOpen("getMaxCursorNameLength");
+    return metaData.getMaxCursorNameLength();
+  }
+
+  @Override
+  public int getMaxIndexLength() throws SQLException {
+    connection.checkOpen("getMaxIndexLength");
+    return metaData.getMaxIndexLength();
+  }
+
+  @Override
+  public long getMaxLogicalLobSize() throws SQLException {
+    connection.checkOpen("getMaxLogicalLobSize");
+    return metaData.getMaxLogicalLobSize();
+  }
+
+  @Override
+  public int getMaxProcedureNameLength() throws SQLException {
+    connection.checkOpen("getMaxProcedureNameLength");
+    return metaData.getMaxProcedureNameLength();
+  }
+
+  @Override
+  public int getMaxRowSize() throws SQLException {
+    connection.checkOpen("getMaxRowSize");
+    return metaData.getMaxRowSize();
+  }
+
+  @Override
+  public int getMaxSchemaNameLength() throws SQLException {
+    connection.checkOpen("getMaxSchemaNameLength");
+    return metaData.getMaxSchemaNameLength();
+  }
+
+  @Override
+  public int getMaxStatementLength() throws SQLException {
+    connection.checkOpen("getMaxStatementLength");
+    return metaData.getMaxStatementLength();
+  }
+
+  @Override
+  public int getMaxStatements() throws SQLException {
+    connection.checkOpen("getMaxStatements");
+    return metaData.getMaxStatements();
+  }
+
+  @Override
+  public int getMaxTableNameLength() throws SQLException {
+    connection.checkOpen("getMaxTableNameLength");
+    return metaData.getMaxTableNameLength();
+  }
+
+  @Override
+  public int getMaxTablesInSelect() throws SQLException {
+    connection.checkOpen("getMaxTablesInSelect");
+    return metaData.getMaxTablesInSelect();
+  }
+
+  @Override
+  public int getMaxUserNameLength() throws SQLException {
+    connection.checkOpen("getMaxUserNameLength");
+    return metaData.getMaxUserNameLength();
+  }
+
+  @Override
+  public String getNumericFunctions() throws SQLException {
+    connection.checkOpen("getNumericFunctions");
+    return metaData.getNumericFunctions();
+  }
+
+  @Override
+  public ResultSet getPrimaryKeys(final String catalog, final String schema, final String table)
+      throws SQLException {
+    connection.checkOpen("getPrimaryKeys");
+    return connection.track(metaData.getPrimaryKeys(catalog, schema, table));
+  }
+
+  @Override
+  public ResultSet getProcedureColumns(
+      final String catalog,
+      final String schemaPattern,
+      final String procedureNamePattern,
+      final String columnNamePattern)
+      throws SQLException {
+    connection.checkOpen("getProcedureColumns");
+    return connection.track(
+        metaData.getProcedureColumns(
+            catalog, schemaPattern, procedureNamePattern, columnNamePattern));
+  }
+
+  @Override
+  public String getProcedureTerm() throws SQLException {
+    connection.checkOpen("getProcedureTerm");
+    return metaData.getProcedureTerm();
+  }
+
+  @Override
+  public ResultSet getProcedures(
+      final String catalog, final String schemaPattern, final String procedureNamePattern)
+      throws SQLException {
+    connection.checkOpen("getProcedures");
+    return connection.track(metaData.getProcedures(catalog, schemaPattern, procedureNamePattern));
+  }
+
+  @Override
+  public ResultSet getPseudoColumns(
+      final String catalog,
+      final String schemaPattern,
+      final String tableNamePattern,
+      final String columnNamePattern)
+      throws SQLException {
+    connection.checkOpen("getPseudoColumns");
+    return connection.track(
+        metaData.getPseudoColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+  }
+
+  @Override
+  public int getResultSetHoldability() throws SQLException {
+    connection.checkOpen("getResultSetHoldability");
+    return metaData.getResultSetHoldability();
+  }
+
+  @Override
+  public RowIdLifetime getRowIdLifetime() throws SQLException {
+    connection.checkOpen("getRowIdLifetime");
+    return metaData.getRowIdLifetime();
+  }
+
+  @Override
+  public String getSQLKeywords() throws SQLException {
+    connection.checkOpen("getSQLKeywords");
+    return metaData.getSQLKeywords();
+  }
+
+  @Override
+  public int getSQLStateType() throws SQLException {
+    connection.checkOpen("getSQLStateType");
+    return metaData.getSQLStateType();
+  }
+
+  @Override
+  public String getSchemaTerm() throws SQLException {
+    connection.checkOpen("getSchemaTerm");
+    return metaData.getSchemaTerm();
+  }
+
+  @Override
+  public ResultSet getSchemas() throws SQLException {
+    connection.checkOpen("getSchemas");
+    return connection.track(metaData.getSchemas());
+  }
+
+  @Override
+  public ResultSet getSchemas(final String catalog, final String schemaPattern)
+      throws SQLException {
+    connection.checkOpen("getSchemas");
+    return connection.track(metaData.getSchemas(catalog, schemaPattern));
+  }
+
+  @Override
+  public String getSearchStringEscape() throws SQLException {
+    connection.checkOpen("getSearchStringEscape");
+    return metaData.getSearchStringEscape();
+  }
+
+  @Override
+  public String getStringFunctions() throws SQLException {
+    connection.checkOpen("getStringFunctions");
+    return metaData.getStringFunctions();
+  }
+
+  @Override
+  public ResultSet getSuperTables(
+      final String catalog, final String schemaPattern, final String tableNamePattern)
+      throws SQLException {
+    connection.checkOpen("getSuperTables");
+    return connection.track(metaData.getSuperTables(catalog, schemaPattern, tableNamePattern));
+  }
+
+  @Override
+  public ResultSet getSuperTypes(
+      final String catalog, final String schemaPattern, final String typeNamePattern)
+      throws SQLException {
+    connection.checkOpen("getSuperTypes");
+    return connection.track(metaData.getSuperTypes(catalog, schemaPattern, typeNamePattern));
+  }
+
+  @Override
+  public String getSystemFunctions() throws SQLException {
+    connection.checkOpen("getSystemFunctions");
+    return metaData.getSystemFunctions();
+  }
+
+  @Override
+  public ResultSet getTablePrivileges(
+      final String catalog, final String schemaPattern, final String tableNamePattern)
+      throws SQLException {
+    connection.checkOpen("getTablePrivileges");
+    return connection.track(metaData.getTablePrivileges(catalog, schemaPattern, tableNamePattern));
+  }
+
+  @Override
+  public ResultSet getTableTypes() throws SQLException {
+    connection.checkOpen("getTableTypes");
+    return connection.track(metaData.getTableTypes());
+  }
+
+  @Override
+  public ResultSet getTables(
+      final String catalog,
+      final String schemaPattern,
+      final String tableNamePattern,
+      final String[] types)
+      throws SQLException {
+    connection.checkOpen("getTables");
+    return connection.track(metaData.getTables(catalog, schemaPattern, tableNamePattern, types));
+  }
+
+  @Override
+  public String getTimeDateFunctions() throws SQLException {
+    connection.checkOpen("getTimeDateFunctions");
+    return metaData.getTimeDateFunctions();
+  }
+
+  @Override
+  public ResultSet getTypeInfo() throws SQLException {
+    connection.checkOpen("getTypeInfo");
+    return connection.track(metaData.getTypeInfo());
+  }
+
+  @Override
+  public ResultSet getUDTs(
+      final String catalog,
+      final String schemaPattern,
+      final String typeNamePattern,
+      final int[] types)
+      throws SQLException {
+    connection.checkOpen("getUDTs");
+    return connection.track(metaData.getUDTs(catalog, schemaPattern, typeNamePattern, types));
+  }
+
+  @Override
+  public String getURL() throws SQLException {
+    connection.checkOpen("getURL");
+    return metaData.getURL();
+  }
+
+  @Override
+  public String getUserName() throws SQLException {
+    connection.checkOpen("getUserName");
+    return metaData.getUserName();
+  }
+
+  @Override
+  public ResultSet getVersionColumns(final String catalog, final String schema, final String table)
+      throws SQLException {
+    connection.checkOpen("getVersionColumns");
+    return connection.track(metaData.getVersionColumns(catalog, schema, table));
+  }
+
+  @Override
+  public boolean insertsAreDetected(final int type) throws SQLException {
+    connection.checkOpen("insertsAreDetected");
+    return metaData.insertsAreDetected(type);
+  }
+
+  @Override
+  public boolean isCatalogAtStart() throws SQLException {
+    connection.checkOpen("isCatalogAtStart");
+    return metaData.isCatalogAtStart();
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    connection.checkOpen("isReadOnly");
+    return metaData.isReadOnly();
+  }
+
+  @Override
+  public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+    connection.checkOpen("isWrapperFor");
+    return iface.isInstance(metaData) || metaData.isWrapperFor(iface);
+  }
+
+  @Override
+  public boolean locatorsUpdateCopy() throws SQLException {
+    connection.checkOpen("locatorsUpdateCopy");
+    return metaData.locatorsUpdateCopy();
+  }
+
+  @Override
+  public boolean nullPlusNonNullIsNull() throws SQLException {
+    connection.checkOpen("nullPlusNonNullIsNull");
+    return metaData.nullPlusNonNullIsNull();
+  }
+
+  @Override
+  public boolean nullsAreSortedAtEnd() throws SQLException {
+    connection.checkOpen("nullsAreSortedAtEnd");
+    return metaData.nullsAreSortedAtEnd();
+  }
+
+  @Override
+  public boolean nullsAreSortedAtStart() throws SQLException {
+    connection.checkOpen("nullsAreSortedAtStart");
+    return metaData.nullsAreSortedAtStart();
+  }
+
+  @Override
+  public boolean nullsAreSortedHigh() throws SQLException {
+    connection.checkOpen("nullsAreSortedHigh");
+    return metaData.nullsAreSortedHigh();
+  }
+
+  @Override
+  public boolean nullsAreSortedLow() throws SQLException {
+    connection.checkOpen("nullsAreSortedLow");
+    return metaData.nullsAreSortedLow();
+  }
+
+  @Override
+  public boolean othersDeletesAreVisible(final int type) throws SQLException {
+    connection.checkOpen("othersDeletesAreVisible");
+    return metaData.othersDeletesAreVisible(type);
+  }
+
+  @Override
+  public boolean othersInsertsAreVisible(final int type) throws SQLException {
+    connection.checkOpen("othersInsertsAreVisible");
+    return metaData.othersInsertsAreVisible(type);
+  }
+
+  @Override
+  public boolean othersUpdatesAreVisible(final int type) throws SQLException {
+    connection.checkOpen("othersUpdatesAreVisible");
+    return metaData.othersUpdatesAreVisible(type);
+  }
+
+  @Override
+  public boolean ownDeletesAreVisible(final int type) throws SQLException {
+    connection.checkOpen("ownDeletesAreVisible");
+    return metaData.ownDeletesAreVisible(type);
+  }
+
+  @Override
+  public boolean ownInsertsAreVisible(final int type) throws SQLException {
+    connection.checkOpen("ownInsertsAreVisible");
+    return metaData.ownInsertsAreVisible(type);
+  }
+
+  @Override
+  public boolean ownUpdatesAreVisible(final int type) throws SQLException {
+    connection.checkOpen("ownUpdatesAreVisible");
+    return metaData.ownUpdatesAreVisible(type);
+  }
+
+  @Override
+  public boolean storesLowerCaseIdentifiers() throws SQLException {
+    connection.checkOpen("storesLowerCaseIdentifiers");
+    return metaData.storesLowerCaseIdentifiers();
+  }
+
+  @Override
+  public boolean storesLowerCaseQuotedIdentifiers() throws SQLException {
+    connection.checkOpen("storesLowerCaseQuotedIdentifiers");
+    return metaData.storesLowerCaseQuotedIdentifiers();
+  }
+
+  @Override
+  public boolean storesMixedCaseIdentifiers() throws SQLException {
+    connection.checkOpen("storesMixedCaseIdentifiers");
+    return metaData.storesMixedCaseIdentifiers();
+  }
+
+  @Override
+  public boolean storesMixedCaseQuotedIdentifiers() throws SQLException {
+    connection.checkOpen("storesMixedCaseQuotedIdentifiers");
+    return metaData.storesMixedCaseQuotedIdentifiers();
+  }
+
+  @Override
+  public boolean storesUpperCaseIdentifiers() throws SQLException {
+    connection.checkOpen("storesUpperCaseIdentifiers");
+    return metaData.storesUpperCaseIdentifiers();
+  }
+
+  @Override
+  public boolean storesUpperCaseQuotedIdentifiers() throws SQLException {
+    connection.checkOpen("storesUpperCaseQuotedIdentifiers");
+    return metaData.storesUpperCaseQuotedIdentifiers();
+  }
+
+  @Override
+  public boolean supportsANSI92EntryLevelSQL() throws SQLException {
+    connection.checkOpen("supportsANSI92EntryLevelSQL");
+    return metaData.supportsANSI92EntryLevelSQL();
+  }
+
+  @Override
+  public boolean supportsANSI92FullSQL() throws SQLException {
+    connection.checkOpen("supportsANSI92FullSQL");
+    return metaData.supportsANSI92FullSQL();
+  }
+
+  @Override
+  public boolean supportsANSI92IntermediateSQL() throws SQLException {
+    connection.checkOpen("supportsANSI92IntermediateSQL");
+    return metaData.supportsANSI92IntermediateSQL();
+  }
+
+  @Override
+  public boolean supportsAlterTableWithAddColumn() throws SQLException {
+    connection.checkOpen("supportsAlterTableWithAddColumn");
+    return metaData.supportsAlterTableWithAddColumn();
+  }
+
+  @Override
+  public boolean supportsAlterTableWithDropColumn() throws SQLException {
+    connection.checkOpen("supportsAlterTableWithDropColumn");
+    return metaData.supportsAlterTableWithDropColumn();
+  }
+
+  @Override
+  public boolean supportsBatchUpdates() throws SQLException {
+    connection.checkOpen("supportsBatchUpdates");
+    return metaData.supportsBatchUpdates();
+  }
+
+  @Override
+  public boolean supportsCatalogsInDataManipulation() throws SQLException {
+    connection.checkOpen("supportsCatalogsInDataManipulation");
+    return metaData.supportsCatalogsInDataManipulation();
+  }
+
+  @Override
+  public boolean supportsCatalogsInIndexDefinitions() throws SQLException {
+    connection.checkOpen("supportsCatalogsInIndexDefinitions");
+    return metaData.supportsCatalogsInIndexDefinitions();
+  }
+
+  @Override
+  public boolean supportsCatalogsInPrivilegeDefinitions() throws SQLException {
+    connection.checkOpen("supportsCatalogsInPrivilegeDefinitions");
+    return metaData.supportsCatalogsInPrivilegeDefinitions();
+  }
+
+  @Override
+  public boolean supportsCatalogsInProcedureCalls() throws SQLException {
+    connection.checkOpen("supportsCatalogsInProcedureCalls");
+    return metaData.supportsCatalogsInProcedureCalls();
+  }
+
+  @Override
+  public boolean supportsCatalogsInTableDefinitions() throws SQLException {
+    connection.checkOpen("supportsCatalogsInTableDefinitions");
+    return metaData.supportsCatalogsInTableDefinitions();
+  }
+
+  @Override
+  public boolean supportsColumnAliasing() throws SQLException {
+    connection.checkOpen("supportsColumnAliasing");
+    return metaData.supportsColumnAliasing();
+  }
+
+  @Override
+  public boolean supportsConvert() throws SQLException {
+    connection.checkOpen("supportsConvert");
+    return metaData.supportsConvert();
+  }
+
+  @Override
+  public boolean supportsConvert(final int fromType, final int toType) throws SQLException {
+    connection.checkOpen("supportsConvert");
+    return metaData.supportsConvert(fromType, toType);
+  }
+
+  @Override
+  public boolean supportsCoreSQLGrammar() throws SQLException {
+    connection.checkOpen("supportsCoreSQLGrammar");
+    return metaData.supportsCoreSQLGrammar();
+  }
+
+  @Override
+  public boolean supportsCorrelatedSubqueries() throws SQLException {
+    connection.checkOpen("supportsCorrelatedSubqueries");
+    return metaData.supportsCorrelatedSubqueries();
+  }
+
+  @Override
+  public boolean supportsDataDefinitionAndDataManipulationTransactions() throws SQLException {
+    connection.checkOpen("supportsDataDefinitionAndDataManipulationTransactions");
+    return metaData.supportsDataDefinitionAndDataManipulationTransactions();
+  }
+
+  @Override
+  public boolean supportsDataManipulationTransactionsOnly() throws SQLException {
+    connection.checkOpen("supportsDataManipulationTransactionsOnly");
+    return metaData.supportsDataManipulationTransactionsOnly();
+  }
+
+  @Override
+  public boolean supportsDifferentTableCorrelationNames() throws SQLException {
+    connection.checkOpen("supportsDifferentTableCorrelationNames");
+    return metaData.supportsDifferentTableCorrelationNames();
+  }
+
+  @Override
+  public boolean supportsExpressionsInOrderBy() throws SQLException {
+    connection.checkOpen("supportsExpressionsInOrderBy");
+    return metaData.supportsExpressionsInOrderBy();
+  }
+
+  @Override
+  public boolean supportsExtendedSQLGrammar() throws SQLException {
+    connection.checkOpen("supportsExtendedSQLGrammar");
+    return metaData.supportsExtendedSQLGrammar();
+  }
+
+  @Override
+  public boolean supportsFullOuterJoins() throws SQLException {
+    connection.checkOpen("supportsFullOuterJoins");
+    return metaData.supportsFullOuterJoins();
+  }
+
+  @Override
+  public boolean supportsGetGeneratedKeys() throws SQLException {
+    connection.checkOpen("supportsGetGeneratedKeys");
+    return metaData.supportsGetGeneratedKeys();
+  }
+
+  @Override
+  public boolean supportsGroupBy() throws SQLException {
+    connection.checkOpen("supportsGroupBy");
+    return metaData.supportsGroupBy();
+  }
+
+  @Override
+  public boolean supportsGroupByBeyondSelect() throws SQLException {
+    connection.checkOpen("supportsGroupByBeyondSelect");
+    return metaData.supportsGroupByBeyondSelect();
+  }
+
+  @Override
+  public boolean supportsGroupByUnrelated() throws SQLException {
+    connection.checkOpen("supportsGroupByUnrelated");
+    return metaData.supportsGroupByUnrelated();
+  }
+
+  @Override
+  public boolean supportsIntegrityEnhancementFacility() throws SQLException {
+    connection.checkOpen("supportsIntegrityEnhancementFacility");
+    return metaData.supportsIntegrityEnhancementFacility();
+  }
+
+  @Override
+  public boolean supportsLikeEscapeClause() throws SQLException {
+    connection.checkOpen("supportsLikeEscapeClause");
+    return metaData.supportsLikeEscapeClause();
+  }
+
+  @Override
+  public boolean supportsLimitedOuterJoins() throws SQLException {
+    connection.checkOpen("supportsLimitedOuterJoins");
+    return metaData.supportsLimitedOuterJoins();
+  }
+
+  @Override
+  public boolean supportsMinimumSQLGrammar() throws SQLException {
+    connection.checkOpen("supportsMinimumSQLGrammar");
+    return metaData.supportsMinimumSQLGrammar();
+  }
+
+  @Override
+  public boolean supportsMixedCaseIdentifiers() throws SQLException {
+    connection.checkOpen("supportsMixedCaseIdentifiers");
+    return metaData.supportsMixedCaseIdentifiers();
+  }
+
+  @Override
+  public boolean supportsMixedCaseQuotedIdentifiers() throws SQLException {
+    connection.checkOpen("supportsMixedCaseQuotedIdentifiers");
+    return metaData.supportsMixedCaseQuotedIdentifiers();
+  }
+
+  @Override
+  public boolean supportsMultipleOpenResults() throws SQLException {
+    connection.checkOpen("supportsMultipleOpenResults");
+    return metaData.supportsMultipleOpenResults();
+  }
+
+  @Override
+  public boolean supportsMultipleResultSets() throws SQLException {
+    connection.checkOpen("supportsMultipleResultSets");
+    return metaData.supportsMultipleResultSets();
+  }
+
+  @Override
+  public boolean supportsMultipleTransactions() throws SQLException {
+    connection.checkOpen("supportsMultipleTransactions");
+    return metaData.supportsMultipleTransactions();
+  }
+
+  @Override
+  public boolean supportsNamedParameters() throws SQLException {
+    connection.checkOpen("supportsNamedParameters");
+    return metaData.supportsNamedParameters();
+  }
+
+  @Override
+  public boolean supportsNonNullableColumns() throws SQLException {
+    connection.checkOpen("supportsNonNullableColumns");
+    return metaData.supportsNonNullableColumns();
+  }
+
+  @Override
+  public boolean supportsOpenCursorsAcrossCommit() throws SQLException {
+    connection.checkOpen("supportsOpenCursorsAcrossCommit");
+    return metaData.supportsOpenCursorsAcrossCommit();
+  }
+
+  @Override
+  public boolean supportsOpenCursorsAcrossRollback() throws SQLException {
+    connection.checkOpen("supportsOpenCursorsAcrossRollback");
+    return metaData.supportsOpenCursorsAcrossRollback();
+  }
+
+  @Override
+  public boolean supportsOpenStatementsAcrossCommit() throws SQLException {
+    connection.checkOpen("supportsOpenStatementsAcrossCommit");
+    return metaData.supportsOpenStatementsAcrossCommit();
+  }
+
+  @Override
+  public boolean supportsOpenStatementsAcrossRollback() throws SQLException {
+    connection.checkOpen("supportsOpenStatementsAcrossRollback");
+    return metaData.supportsOpenStatementsAcrossRollback();
+  }
+
+  @Override
+  public boolean supportsOrderByUnrelated() throws SQLException {
+    connection.checkOpen("supportsOrderByUnrelated");
+    return metaData.supportsOrderByUnrelated();
+  }
+
+  @Override
+  public boolean supportsOuterJoins() throws SQLException {
+    connection.checkOpen("supportsOuterJoins");
+    return metaData.supportsOuterJoins();
+  }
+
+  @Override
+  public boolean supportsPositionedDelete() throws SQLException {
+    connection.checkOpen("supportsPositionedDelete");
+    return metaData.supportsPositionedDelete();
+  }
+
+  @Override
+  public boolean supportsPositionedUpdate() throws SQLException {
+    connection.checkOpen("supportsPositionedUpdate");
+    return metaData.supportsPositionedUpdate();
+  }
+
+  @Override
+  public boolean supportsRefCursors() throws SQLException {
+    connection.checkOpen("supportsRefCursors");
+    return metaData.supportsRefCursors();
+  }
+
+  @Override
+  public boolean supportsResultSetConcurrency(final int type, final int concurrency)
+      throws SQLException {
+    connection.checkOpen("supportsResultSetConcurrency");
+    return metaData.supportsResultSetConcurrency(type, concurrency);
+  }
+
+  @Override
+  public boolean supportsResultSetHoldability(final int holdability) throws SQLException {
+    connection.checkOpen("supportsResultSetHoldability");
+    return metaData.supportsResultSetHoldability(holdability);
+  }
+
+  @Override
+  public boolean supportsResultSetType(final int type) throws SQLException {
+    connection.checkOpen("supportsResultSetType");
+    return metaData.supportsResultSetType(type);
+  }
+
+  @Override
+  public boolean supportsSavepoints() throws SQLException {
+    connection.checkOpen("supportsSavepoints");
+    return metaData.supportsSavepoints();
+  }
+
+  @Override
+  public boolean supportsSchemasInDataManipulation() throws SQLException {
+    connection.checkOpen("supportsSchemasInDataManipulation");
+    return metaData.supportsSchemasInDataManipulation();
+  }
+
+  @Override
+  public boolean supportsSchemasInIndexDefinitions() throws SQLException {
+    connection.checkOpen("supportsSchemasInIndexDefinitions");
+    return metaData.supportsSchemasInIndexDefinitions();
+  }
+
+  @Override
+  public boolean supportsSchemasInPrivilegeDefinitions() throws SQLException {
+    connection.checkOpen("supportsSchemasInPrivilegeDefinitions");
+    return metaData.supportsSchemasInPrivilegeDefinitions();
+  }
+
+  @Override
+  public boolean supportsSchemasInProcedureCalls() throws SQLException {
+    connection.checkOpen("supportsSchemasInProcedureCalls");
+    return metaData.supportsSchemasInProcedureCalls();
+  }
+
+  @Override
+  public boolean supportsSchemasInTableDefinitions() throws SQLException {
+    connection.checkOpen("supportsSchemasInTableDefinitions");
+    return metaData.supportsSchemasInTableDefinitions();
+  }
+
+  @Override
+  public boolean supportsSelectForUpdate() throws SQLException {
+    connection.checkOpen("supportsSelectForUpdate");
+    return metaData.supportsSelectForUpdate();
+  }
+
+  @Override
+  public boolean supportsSharding() throws SQLException {
+    connection.checkOpen("supportsSharding");
+    return metaData.supportsSharding();
+  }
+
+  @Override
+  public boolean supportsStatementPooling() throws SQLException {
+    connection.checkOpen("supportsStatementPooling");
+    return metaData.supportsStatementPooling();
+  }
+
+  @Override
+  public boolean supportsStoredFunctionsUsingCallSyntax() throws SQLException {
+    connection.checkOpen("supportsStoredFunctionsUsingCallSyntax");
+    return metaData.supportsStoredFunctionsUsingCallSyntax();
+  }
+
+  @Override
+  public boolean supportsStoredProcedures() throws SQLException {
+    connection.checkOpen("supportsStoredProcedures");
+    return metaData.supportsStoredProcedures();
+  }
+
+  @Override
+  public boolean supportsSubqueriesInComparisons() throws SQLException {
+    connection.checkOpen("supportsSubqueriesInComparisons");
+    return metaData.supportsSubqueriesInComparisons();
+  }
+
+  @Override
+  public boolean supportsSubqueriesInExists() throws SQLException {
+    connection.checkOpen("supportsSubqueriesInExists");
+    return metaData.supportsSubqueriesInExists();
+  }
+
+  @Override
+  public boolean supportsSubqueriesInIns() throws SQLException {
+    connection.checkOpen("supportsSubqueriesInIns");
+    return metaData.supportsSubqueriesInIns();
+  }
+
+  @Override
+  public boolean supportsSubqueriesInQuantifieds() throws SQLException {
+    connection.checkOpen("supportsSubqueriesInQuantifieds");
+    return metaData.supportsSubqueriesInQuantifieds();
+  }
+
+  @Override
+  public boolean supportsTableCorrelationNames() throws SQLException {
+    connection.checkOpen("supportsTableCorrelationNames");
+    return metaData.supportsTableCorrelationNames();
+  }
+
+  @Override
+  public boolean supportsTransactionIsolationLevel(final int level) throws SQLException {
+    connection.checkOpen("supportsTransactionIsolationLevel");
+    return metaData.supportsTransactionIsolationLevel(level);
+  }
+
+  @Override
+  public boolean supportsTransactions() throws SQLException {
+    connection.checkOpen("supportsTransactions");
+    return metaData.supportsTransactions();
+  }
+
+  @Override
+  public boolean supportsUnion() throws SQLException {
+    connection.checkOpen("supportsUnion");
+    return metaData.supportsUnion();
+  }
+
+  @Override
+  public boolean supportsUnionAll() throws SQLException {
+    connection.checkOpen("supportsUnionAll");
+    return metaData.supportsUnionAll();
+  }
+
+  @Override
+  public String toString() {
+    return "Pooled database metadata <%s@%d> for <%s>"
+        .formatted(getClass().getName(), hashCode(), metaData);
+  }
+
+  /** Returns the metadata of the physical connection, or an object that it wraps. */
+  @Override
+  public <T> T unwrap(final Class<T> iface) throws SQLException {
+    if (iface.isInstance(metaData)) {
+      return iface.cast(metaData);
+    }
+    return metaData.unwrap(iface);
+  }
+
+  @Override
+  public boolean updatesAreDetected(final int type) throws SQLException {
+    connection.checkOpen("updatesAreDetected");
+    return metaData.updatesAreDetected(type);
+  }
+
+  @Override
+  public boolean usesLocalFilePerTable() throws SQLException {
+    connection.checkOpen("usesLocalFilePerTable");
+    return metaData.usesLocalFilePerTable();
+  }
+
+  @Override
+  public boolean usesLocalFiles() throws SQLException {
+    connection.checkOpen("usesLocalFiles");
+    return metaData.usesLocalFiles();
+  }
+}
@@ -20,21 +20,85 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import us.fatehi.utility.SQLRuntimeException;
 import us.fatehi.utility.database.DatabaseUtility;
 import us.fatehi.utility.string.StringFormat;
 
+/**
+ * Bounded pool of database connections. Checking connections in and out does not take a lock.
+ * Permits bound the number of open connections, idle connections are kept in a concurrent deque,
+ * and connections in use are tracked in a concurrent map. Idle connections are validated in the
+ * background, and connections that are in use for too long are reported as possible leaks.
+ */
 final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSource {
 
+  private static final class Checkout {
+    private final Connection connection;
+    private final long checkoutTime;
+    private final String threadName;
+    // Read when the connection is returned, on a different thread from the leak check
+    private volatile boolean leakReported;
+
+    Checkout(final Connection connection) {
+      this.connection = connection;
+      checkoutTime = System.nanoTime();
+      threadName = Thread.currentThread().getName();
+    }
+  }
+
+  /**
+   * Compares connections by identity, since drivers or proxies may not implement equals and
+   * hashCode for connections.
+   */
+  private record ConnectionKey(Connection connection) {
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof final ConnectionKey other && connection == other.connection;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(connection);
+    }
+  }
+
+  private static final class Validator {
+    // Shared by all connection pools, and does not prevent the JVM from exiting
+    private static final ScheduledExecutorService SCHEDULER =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              final Thread thread = new Thread(runnable, "schemacrawler-connection-pool");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
   private static final Logger LOGGER =
       Logger.getLogger(SimpleDatabaseConnectionSource.class.getName());
 
   private final String connectionUrl;
   private final Properties jdbcConnectionProperties;
-  private final Deque<Connection> connectionPool;
-  private final Deque<Connection> usedConnections;
+  private final ConnectionPoolOptions poolOptions;
+  private final Semaphore permits;
+  private final Deque<ConnectionKey> idleConnections;
+  private final Map<ConnectionKey, Checkout> usedConnections;
+  private final LongAdder creations;
+  private final LongAdder waits;
+  private final LongAdder timeouts;
+  private final LongAdder evictions;
+  private final LongAdder leaks;
+  private final ScheduledFuture<?> validation;
   private volatile boolean isClosed;
 
   SimpleDatabaseConnectionSource(
@@ -42,9 +106,24 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
       final Set<String> additionalDriverProperties,
       final Map<String, String> connectionProperties,
       final UserCredentials userCredentials) {
+    this(
+        connectionUrl,
+        additionalDriverProperties,
+        connectionProperties,
+        userCredentials,
+        ConnectionPoolOptions.DEFAULT);
+  }
+
+  SimpleDatabaseConnectionSource(
+      final String connectionUrl,
+      final Set<String> additionalDriverProperties,
+      final Map<String, String> connectionProperties,
+      final UserCredentials userCredentials,
+      final ConnectionPoolOptions poolOptions) {
 
     this.connectionUrl = requireNotBlank(connectionUrl, "No database connection URL provided");
     requireNonNull(userCredentials, "No user credentials provided");
+    this.poolOptions = requireNonNull(poolOptions, "No connection pool options provided");
 
     final String user = userCredentials.user();
     final String password = userCredentials.password();
@@ -59,11 +138,29 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
         createConnectionProperties(
             connectionUrl, additionalDriverProperties, connectionProperties, user, password);
 
-    connectionPool = new LinkedBlockingDeque<>();
-    usedConnections = new LinkedBlockingDeque<>();
+    permits = new Semaphore(poolOptions.maxPoolSize(), true);
+    idleConnections = new ConcurrentLinkedDeque<>();
+    usedConnections = new ConcurrentHashMap<>();
+    creations = new LongAdder();
+    waits = new LongAdder();
+    timeouts = new LongAdder();
+    evictions = new LongAdder();
+    leaks = new LongAdder();
 
     // Explicitly set closed flag
     isClosed = false;
+
+    final long validationInterval = poolOptions.validationInterval().toMillis();
+    if (validationInterval > 0) {
+      validation =
+          Validator.SCHEDULER.scheduleWithFixedDelay(
+              this::validateConnections,
+              validationInterval,
+              validationInterval,
+              TimeUnit.MILLISECONDS);
+    } else {
+      validation = null;
+    }
   }
 
   @Override
@@ -73,9 +170,19 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
       LOGGER.log(Level.INFO, "Database connection source is already closed");
       return;
     }
+    isClosed = true;
 
-    final List<Connection> connections = new ArrayList<>(connectionPool);
-    connections.addAll(usedConnections);
+    if (validation != null) {
+      validation.cancel(false);
+    }
+
+    final List<Connection> connections = new ArrayList<>();
+    for (final ConnectionKey idleConnection : idleConnections) {
+      connections.add(idleConnection.connection());
+    }
+    for (final Checkout checkout : usedConnections.values()) {
+      connections.add(checkout.connection);
+    }
 
     for (final Connection connection : connections) {
       try {
@@ -87,60 +194,229 @@ final class SimpleDatabaseConnectionSource extends AbstractDatabaseConnectionSou
     }
 
     if (!usedConnections.isEmpty()) {
+      for (final Checkout checkout : usedConnections.values()) {
+        if (!checkout.leakReported) {
+          leaks.increment();
+        }
+      }
       LOGGER.log(Level.SEVERE, "Abnormal termination - not all database connections are closed");
     }
 
-    connectionPool.clear();
+    idleConnections.clear();
     usedConnections.clear();
 
-    isClosed = true;
+    LOGGER.log(Level.INFO, new StringFormat("Closed connection pool %s", getStatistics()));
   }
 
   @Override
-  public synchronized Connection get() {
+  public Connection get() {
     if (isClosed) {
       throw new IllegalStateException("Database connection source is already closed");
     }
 
-    // Create a connection if needed
-    if (connectionPool.isEmpty()) {
-      final Connection connection = getConnection(connectionUrl, jdbcConnectionProperties);
-      connectionPool.add(connection);
-    }
+    acquirePermit();
+    try {
+      // Idle connections may have been dropped by the server since they were returned, so evict
+      // any that fail validation, and try the next one, or a new connection
+      while (true) {
+        final ConnectionKey idleConnection = idleConnections.pollFirst();
+        if (idleConnection == null) {
+          final Connection connection = getConnection(connectionUrl, jdbcConnectionProperties);
+          creations.increment();
+          return checkOut(connection);
+        }
 
-    // Mark connection as in-use
-    final Connection connection = connectionPool.removeFirst();
-    usedConnections.add(connection);
+        final Connection connection = idleConnection.connection();
+        try {
+          return checkOut(connection);
+        } catch (final SQLRuntimeException e) {
+          evictions.increment();
+          LOGGER.log(
+              Level.WARNING,
+              new StringFormat("Evicting idle connection <%s> - %s", connection, e.getMessage()));
+        }
+      }
+    } catch (final RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
 
-    // (Connection is checked during the initialization process)
-    initializeConnection(connection);
-    return PooledConnectionUtility.newPooledConnection(connection, this);
+  /**
+   * Gets the current counters for the connection pool.
+   *
+   * @return Connection pool statistics
+   */
+  public ConnectionPoolStatistics getStatistics() {
+    return new ConnectionPoolStatistics(
+        poolOptions.maxPoolSize(),
+        usedConnections.size(),
+        idleConnections.size(),
+        creations.sum(),
+        waits.sum(),
+        timeouts.sum(),
+        evictions.sum(),
+        leaks.sum());
   }
 
   @Override
-  public synchronized boolean releaseConnection(final Connection connection) {
+  public boolean releaseConnection(final Connection connection) {
     if (isClosed) {
       throw new IllegalStateException("Database connection source is already closed");
     }
 
-    final boolean removed = usedConnections.remove(connection);
+    // Pooled connections return the underlying connection when they are closed, so a pooled
+    // connection itself is never in use
+    if (connection == null || connection instanceof DatabaseConnectionSourceConnection) {
+      return false;
+    }
+    final ConnectionKey connectionKey = new ConnectionKey(connection);
+    if (usedConnections.remove(connectionKey) == null) {
+      return false;
+    }
 
-    try {
-      final Connection unwrappedConnection = connection.unwrap(Connection.class);
-      DatabaseUtility.checkConnection(unwrappedConnection);
-    } catch (final SQLException e) {
+    // Connections are validated when they are checked out again, and in the background, so only
+    // do a cheap check here
+    if (isOpen(connection)) {
+      idleConnections.offerFirst(connectionKey);
+    } else {
       LOGGER.log(
           Level.WARNING,
-          "Cannot check connection before returning to the pool - " + e.getMessage());
-      LOGGER.log(Level.FINE, "Cannot check connection before returning to the pool - ", e);
-      // Do not add an invalid connection back to the pool
-      return removed;
+          new StringFormat("Not returning closed connection <%s> to the pool", connection));
     }
+    permits.release();
 
-    if (removed) {
-      connectionPool.add(connection);
+    if (isClosed && idleConnections.remove(connectionKey)) {
+      // Pool was closed while the connection was being returned
+      closeQuietly(connection);
     }
 
-    return removed;
+    return true;
+  }
+
+  /**
+   * Checks idle connections one at a time, holding a permit while a connection is being checked so
+   * that the pool never has more open connections than the maximum.
+   */
+  synchronized void validateConnections() {
+    if (isClosed) {
+      return;
+    }
+
+    for (final ConnectionKey idleConnection : new ArrayList<>(idleConnections)) {
+      if (isClosed || !permits.tryAcquire()) {
+        // Pool is busy, so try again later
+        break;
+      }
+      try {
+        if (!idleConnections.remove(idleConnection)) {
+          // Connection was checked out in the meantime
+          continue;
+        }
+        final Connection connection = idleConnection.connection();
+        try {
+          DatabaseUtility.checkConnection(connection);
+          idleConnections.offerLast(idleConnection);
+        } catch (final SQLException e) {
+          evictions.increment();
+          LOGGER.log(
+              Level.WARNING,
+              new StringFormat("Evicting idle connection <%s> - %s", connection, e.getMessage()));
+          closeQuietly(connection);
+        }
+      } finally {
+        permits.release();
+      }
+    }
+
+    reportLeaks();
+  }
+
+  private void acquirePermit() {
+    if (permits.tryAcquire()) {
+      return;
+    }
+
+    waits.increment();
+    LOGGER.log(
+        Level.FINE,
+        new StringFormat(
+            "Waiting for a database connection, since all <%d> are in use",
+            poolOptions.maxPoolSize()));
+    final boolean acquired;
+    try {
+      acquired = permits.tryAcquire(poolOptions.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLRuntimeException("Interrupted while waiting for a database connection", e);
+    }
+    if (!acquired) {
+      timeouts.increment();
+      throw new SQLRuntimeException(
+          "Timed out after <%s> waiting for a database connection, with all <%d> in use"
+              .formatted(poolOptions.acquireTimeout(), poolOptions.maxPoolSize()));
+    }
+  }
+
+  /**
+   * Marks a connection as in use, and validates and initializes it. The connection is closed if it
+   * cannot be used.
+   *
+   * @param connection Connection to check out
+   * @return Pooled connection, which returns the connection to the pool when it is closed
+   */
+  private Connection checkOut(final Connection connection) {
+    try {
+      // Mark connection as in-use
+      usedConnections.put(new ConnectionKey(connection), new Checkout(connection));
+      if (isClosed) {
+        throw new IllegalStateException("Database connection source is already closed");
+      }
+
+      // (Connection is checked during the initialization process)
+      initializeConnection(connection);
+      return PooledConnectionUtility.newPooledConnection(connection, this);
+    } catch (final RuntimeException e) {
+      usedConnections.remove(new ConnectionKey(connection));
+      closeQuietly(connection);
+      throw e;
+    }
+  }
+
+  private void closeQuietly(final Connection connection) {
+    try {
+      connection.close();
+    } catch (final Exception e) {
+      LOGGER.log(Level.FINE, "Cannot close connection", e);
+    }
+  }
+
+  private boolean isOpen(final Connection connection) {
+    try {
+      return !connection.isClosed();
+    } catch (final SQLException e) {
+      LOGGER.log(Level.FINE, "Cannot check if connection is closed", e);
+      return false;
+    }
+  }
+
+  private void reportLeaks() {
+    final long threshold = poolOptions.leakDetectionThreshold().toNanos();
+    if (threshold <= 0) {
+      return;
+    }
+    final long now = System.nanoTime();
+    for (final Checkout checkout : usedConnections.values()) {
+      if (!checkout.leakReported && now - checkout.checkoutTime > threshold) {
+        checkout.leakReported = true;
+        leaks.increment();
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Possible connection leak - connection <%s> was checked out by thread <%s> more"
+                    + " than <%s> ago",
+                checkout.connection, checkout.threadName, poolOptions.leakDetectionThreshold()));
+      }
+    }
   }
 }
@@ -8,22 +8,33 @@
 
 package us.fatehi.utility.graph;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * Simple directed graph. Outgoing edges are kept in adjacency lists, and incoming edges are counted
+ * for each vertex, so that graph algorithms do not need to scan all the edges in the graph for each
+ * vertex. Vertices and edges are returned in the order that they were added.
+ */
 public class DirectedGraph<T extends Comparable<? super T>> {
 
   private final Set<DirectedEdge<T>> edges;
+  private final Map<Vertex<T>, Integer> inDegrees;
   private final String name;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
   private final Map<T, Vertex<T>> verticesMap;
 
   public DirectedGraph(final String name) {
     this.name = name;
     verticesMap = new LinkedHashMap<>();
     edges = new LinkedHashSet<>();
+    outgoingEdges = new HashMap<>();
+    inDegrees = new HashMap<>();
   }
 
   /**
@@ -36,7 +47,13 @@ public class DirectedGraph<T extends Comparable<? super T>> {
    */
   public void addEdge(final T from, final T to) {
     if (!from.equals(to)) {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final Vertex<T> vertexFrom = addVertex(from);
+      final Vertex<T> vertexTo = addVertex(to);
+      final DirectedEdge<T> edge = new DirectedEdge<>(vertexFrom, vertexTo);
+      if (edges.add(edge)) {
+        outgoingEdges.get(vertexFrom).add(edge);
+        inDegrees.merge(vertexTo, 1, Integer::sum);
+      }
     }
   }
 
@@ -53,6 +70,8 @@ public class DirectedGraph<T extends Comparable<? super T>> {
     } else {
       vertex = new Vertex<>(value);
       verticesMap.put(value, vertex);
+      outgoingEdges.put(vertex, new LinkedHashSet<>());
+      inDegrees.put(vertex, 0);
     }
     return vertex;
   }
@@ -69,15 +88,7 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   }
 
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom) {
-    Objects.requireNonNull(vertexFrom, "No vertex provided");
-
-    final Set<DirectedEdge<T>> outgoingEdges = new LinkedHashSet<>();
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.getFrom().equals(vertexFrom)) {
-        outgoingEdges.add(edge);
-      }
-    }
-    return outgoingEdges;
+    return new LinkedHashSet<>(outgoingEdges(vertexFrom));
   }
 
   @Override
@@ -104,4 +115,30 @@ public class DirectedGraph<T extends Comparable<? super T>> {
   public Set<Vertex<T>> vertexSet() {
     return new LinkedHashSet<>(verticesMap.values());
   }
+
+  /**
+   * Counts edges that end at a vertex.
+   *
+   * @param vertex Vertex in the graph
+   * @return Number of incoming edges
+   */
+  int inDegree(final Vertex<T> vertex) {
+    Objects.requireNonNull(vertex, "No vertex provided");
+    return inDegrees.getOrDefault(vertex, 0);
+  }
+
+  /**
+   * Gets edges that start at a vertex, in the order that they were added, without copying them.
+   *
+   * @param vertexFrom Vertex in the graph
+   * @return Outgoing edges, which cannot be modified
+   */
+  Set<DirectedEdge<T>> outgoingEdges(final Vertex<T> vertexFrom) {
+    Objects.requireNonNull(vertexFrom, "No vertex provided");
+    final Set<DirectedEdge<T>> vertexOutgoingEdges = outgoingEdges.get(vertexFrom);
+    if (vertexOutgoingEdges == null) {
+      return Collections.emptySet();
+    }
+    return Collections.unmodifiableSet(vertexOutgoingEdges);
+  }
 }
@@ -8,7 +8,10 @@
 
 package us.fatehi.utility.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>> {
@@ -30,6 +33,8 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
     }
   }
 
+  private static record Visit<T>(Vertex<T> vertex, Iterator<DirectedEdge<T>> edges) {}
+
   private static final String ATTRIBUTE_TRAVERSAL_STATE = "traversalstate";
 
   private final DirectedGraph<T> graph;
@@ -64,23 +69,29 @@ public class SimpleCycleDetector<T extends Comparable<? super T>> {
   }
 
   private boolean visitForCyles(final Vertex<T> vertex) {
+    // Depth-first search with an explicit stack, so that long chains of edges do not overflow the
+    // call stack
+    final Deque<Visit<T>> stack = new ArrayDeque<>();
     vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+    stack.push(new Visit<>(vertex, graph.outgoingEdges(vertex).iterator()));
 
-    for (final DirectedEdge<T> edge : graph.edgeSet()) {
-      if (edge.isFrom(vertex)) {
-        final Vertex<T> to = edge.getTo();
+    while (!stack.isEmpty()) {
+      final Visit<T> visit = stack.peek();
+      if (visit.edges().hasNext()) {
+        final Vertex<T> to = visit.edges().next().getTo();
         if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress) {
           to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
           return true;
-        } else if ((to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-            && visitForCyles(to)) {
-          return true;
+        } else if (to.getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted) {
+          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
+          stack.push(new Visit<>(to, graph.outgoingEdges(to).iterator()));
         }
+      } else {
+        visit.vertex().putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
+        stack.pop();
       }
     }
 
-    vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.complete);
-
     return false;
   }
 }
@@ -8,14 +8,21 @@
 
 package us.fatehi.utility.graph;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.Comparator.naturalOrder;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Sorts the vertices of a directed acyclic graph, level by level. Each level has the vertices that
+ * have no incoming edges from vertices that are left, in natural sort order. Runs in linear time,
+ * apart from sorting each level.
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>> {
 
   private final DirectedGraph<T> graph;
@@ -32,41 +39,55 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     final Collection<Vertex<T>> vertices = graph.vertexSet();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
+    // Count incoming edges for each vertex, and find the nodes at the first level
+    final Map<Vertex<T>, Integer> positions = new HashMap<>(collectionSize);
+    final Map<Vertex<T>, Integer> inDegrees = new HashMap<>(collectionSize);
+    List<Vertex<T>> verticesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex : vertices) {
+      positions.put(vertex, positions.size());
+      final int inDegree = graph.inDegree(vertex);
+      inDegrees.put(vertex, inDegree);
+      if (inDegree == 0) {
+        verticesAtLevel.add(vertex);
+      }
+    }
+
     final List<T> sortedValues = new ArrayList<>(collectionSize);
 
-    while (!vertices.isEmpty()) {
+    while (!verticesAtLevel.isEmpty()) {
 
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
+      final List<T> nodesAtLevel = new ArrayList<>(verticesAtLevel.size());
 
       // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator.hasNext(); ) {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges)) {
+      for (final Vertex<T> vertex : verticesAtLevel) {
+        if (graph.outgoingEdges(vertex).isEmpty()) {
           nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
         }
       }
 
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex : vertices) {
-        if (isStartNode(vertex, edges)) {
-          startNodes.add(vertex);
+      final List<Vertex<T>> verticesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex : verticesAtLevel) {
+        final Collection<DirectedEdge<T>> outgoingEdges = graph.outgoingEdges(vertex);
+        if (outgoingEdges.isEmpty()) {
+          continue;
         }
-      }
-
-      for (final Vertex<T> vertex : startNodes) {
         // Save the vertex value
         nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        // Remove all out edges, and find nodes that are left with no incoming edges
+        for (final DirectedEdge<T> edge : outgoingEdges) {
+          final Vertex<T> to = edge.getTo();
+          if (inDegrees.merge(to, -1, Integer::sum) == 0) {
+            verticesAtNextLevel.add(to);
+          }
+        }
       }
 
       nodesAtLevel.sort(naturalOrder());
       sortedValues.addAll(nodesAtLevel);
+
+      // Visit nodes at the next level in the order that they were added to the graph
+      verticesAtNextLevel.sort(comparingInt(positions::get));
+      verticesAtLevel = verticesAtNextLevel;
     }
 
     return sortedValues;
@@ -76,32 +97,4 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>> {
     final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
     return cycleDetector.containsCycle();
   }
-
-  private void dropOutEdges(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator.hasNext(); ) {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex)) {
-        iterator.remove();
-      }
-    }
-  }
-
-  private boolean isStartNode(final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex)) {
-        return false;
-      }
-    }
-    return true;
-  }
-
-  private boolean isUnattachedNode(
-      final Vertex<T> vertex, final Collection<DirectedEdge<T>> edges) {
-    for (final DirectedEdge<T> edge : edges) {
-      if (edge.isTo(vertex) || edge.isFrom(vertex)) {
-        return false;
-      }
-    }
-    return true;
-  }
 }
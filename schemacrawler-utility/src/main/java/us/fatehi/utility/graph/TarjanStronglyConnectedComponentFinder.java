@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Implementation of <a href=
@@ -29,6 +30,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
   private static final String ATTRIBUTE_LOWLINK = "lowlink";
   private final DirectedGraph<T> graph;
   private final Deque<Vertex<T>> stack;
+  private final Set<Vertex<T>> onStack;
   private final Collection<List<T>> stronglyConnectedComponents;
 
   public TarjanStronglyConnectedComponentFinder(final DirectedGraph<T> graph) {
@@ -36,6 +38,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
 
     stronglyConnectedComponents = new HashSet<>();
     stack = new ArrayDeque<>();
+    onStack = new HashSet<>();
   }
 
   /**
@@ -56,8 +59,9 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
     vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
     vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
     stack.push(vertexFrom);
+    onStack.add(vertexFrom);
 
-    for (final DirectedEdge<T> edge : graph.getOutgoingEdges(vertexFrom)) {
+    for (final DirectedEdge<T> edge : graph.outgoingEdges(vertexFrom)) {
       final Vertex<T> vertexTo = edge.getTo();
       if (!vertexTo.hasAttribute(ATTRIBUTE_INDEX)) {
         // Successor vertex has not yet been visited; recurse on it
@@ -67,7 +71,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
             Math.min(
                 vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
                 vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
-      } else if (stack.contains(vertexTo)) {
+      } else if (onStack.contains(vertexTo)) {
         // Successor vertex is on stack, hence in the current SCC
         vertexFrom.putAttribute(
             ATTRIBUTE_LOWLINK,
@@ -82,6 +86,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
       Vertex<T> sccVertex;
       do {
         sccVertex = stack.pop();
+        onStack.remove(sccVertex);
         scc.addFirst(sccVertex.getValue());
       } while (!vertexFrom.equals(sccVertex));
       if (scc.size() > 1) {
@@ -0,0 +1,152 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.scheduler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs tasks on an executor service, starting each task as soon as all of its prerequisites have
+ * completed.
+ */
+abstract class AbstractExecutorTaskRunner extends AbstractTaskRunner {
+
+  private static final Logger LOGGER = Logger.getLogger(AbstractExecutorTaskRunner.class.getName());
+
+  private final ExecutorService executorService;
+
+  AbstractExecutorTaskRunner(final String id, final ExecutorService executorService) {
+    super(id);
+    this.executorService = requireNonNull(executorService, "No executor service provided");
+  }
+
+  @Override
+  public final boolean isStopped() {
+    return executorService.isShutdown();
+  }
+
+  @Override
+  public final void stop() {
+    try {
+      executorService.shutdown();
+      if (!executorService.awaitTermination(1, TimeUnit.HOURS)) {
+        executorService.shutdownNow();
+      }
+    } catch (final InterruptedException ex) {
+      executorService.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Each task is started as soon as all of its prerequisites have completed, rather than waiting
+   * for every other task in the batch.
+   */
+  @Override
+  final Collection<TimedTaskResult> runTimed(final TaskGraph taskGraph) throws Exception {
+    final Map<String, TimedTaskResult> completedTasks = new ConcurrentHashMap<>();
+    final Map<String, CompletableFuture<?>> futuresByName = new HashMap<>();
+    final List<TimedTask> timedTasks = new ArrayList<>();
+    final List<CompletableFuture<TimedTaskResult>> futureResults = new ArrayList<>();
+
+    // Task definitions are ordered so that prerequisites are scheduled first
+    for (final TaskDefinition taskDefinition : taskGraph.getTaskDefinitions()) {
+      final CompletableFuture<?>[] prerequisiteFutures =
+          taskDefinition.getPrerequisites().stream()
+              .map(futuresByName::get)
+              .filter(Objects::nonNull)
+              .toArray(CompletableFuture<?>[]::new);
+
+      final TimedTask timedTask = new TimedTask(taskDefinition, clock);
+      final CompletableFuture<TimedTaskResult> futureResult =
+          CompletableFuture.allOf(prerequisiteFutures)
+              .thenApplyAsync(
+                  ignored -> {
+                    if (!taskGraph.canRun(taskDefinition, completedTasks)) {
+                      LOGGER.log(
+                          Level.WARNING,
+                          new StringFormat(
+                              "Not running task <%s>, since a prerequisite did not complete",
+                              taskDefinition.getTaskName()));
+                      return null;
+                    }
+                    final TimedTaskResult timedTaskResult = run(timedTask);
+                    completedTasks.put(timedTaskResult.getTaskName(), timedTaskResult);
+                    return timedTaskResult;
+                  },
+                  executorService);
+
+      futuresByName.merge(
+          taskDefinition.getTaskName(),
+          futureResult,
+          (existingFuture, newFuture) -> CompletableFuture.allOf(existingFuture, newFuture));
+      timedTasks.add(timedTask);
+      futureResults.add(futureResult);
+    }
+
+    try {
+      CompletableFuture.allOf(futureResults.toArray(new CompletableFuture<?>[0]))
+          .get(1, TimeUnit.HOURS);
+    } catch (final TimeoutException e) {
+      LOGGER.log(Level.WARNING, "Timed out waiting for tasks to complete");
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception exception) {
+        throw exception;
+      }
+      throw new RunnerException(cause);
+    }
+
+    final List<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < futureResults.size(); i++) {
+      final CompletableFuture<TimedTaskResult> futureResult = futureResults.get(i);
+      if (!futureResult.isDone()) {
+        futureResult.cancel(true);
+        final TimedTask cancelledTask = timedTasks.get(i);
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Task <%s> was cancelled, possibly due to timeout", cancelledTask.getTaskName()));
+        continue;
+      }
+      final TimedTaskResult timedTaskResult = futureResult.get();
+      if (timedTaskResult != null) {
+        runTaskResults.add(timedTaskResult);
+      }
+    }
+
+    return runTaskResults;
+  }
+
+  /**
+   * Runs a single task on a thread from the executor service.
+   *
+   * @param timedTask Task to run
+   * @return Result of running the task
+   */
+  TimedTaskResult run(final TimedTask timedTask) {
+    return timedTask.call();
+  }
+}
@@ -37,6 +37,7 @@ abstract class AbstractTaskRunner implements TaskRunner {
   protected final Clock clock;
   private final Queue<TaskDefinition> taskDefinitions;
   private final Queue<TimedTaskResult> taskResults;
+  private final Queue<TimedTaskResult> criticalPath;
 
   AbstractTaskRunner(final String id) {
     this(id, Clock.systemUTC());
@@ -48,6 +49,7 @@ abstract class AbstractTaskRunner implements TaskRunner {
 
     taskDefinitions = new LinkedBlockingDeque<>();
     taskResults = new LinkedBlockingDeque<>();
+    criticalPath = new LinkedBlockingDeque<>();
   }
 
   @Override
@@ -116,7 +118,28 @@ abstract class AbstractTaskRunner implements TaskRunner {
                 .formatted(calculatePercentage.apply(task.getDuration(), totalDuration), task));
       }
 
+      // Tasks on the critical path are the ones holding up the run,
+      // since batches run one after another
+      Duration criticalPathDuration = Duration.ofNanos(0);
+      for (final TimedTaskResult task : criticalPath) {
+        criticalPathDuration = criticalPathDuration.plus(task.getDuration());
+      }
+
+      final LocalTime criticalPathDurationLocal =
+          LocalTime.ofNanoOfDay(criticalPathDuration.toNanos());
+      buffer.append(
+          "Critical path for <%s> - %s hours%n"
+              .formatted(id, criticalPathDurationLocal.format(df)));
+
+      for (final TimedTaskResult task : criticalPath) {
+        buffer.append(
+            "-%5.1f%% - %s%n"
+                .formatted(
+                    calculatePercentage.apply(task.getDuration(), criticalPathDuration), task));
+      }
+
       taskResults.clear();
+      criticalPath.clear();
 
       return buffer.toString();
     };
@@ -133,17 +156,23 @@ abstract class AbstractTaskRunner implements TaskRunner {
       throw new IllegalStateException("Task runner is stopped");
     }
 
-    // Run tasks
+    // Run tasks, in an order that respects prerequisites
     final Collection<TimedTaskResult> runTaskResults;
     requireNonNull(taskDefinitions, "Tasks not provided");
-    if (taskDefinitions.isEmpty()) {
+    final TaskGraph taskGraph;
+    try {
+      taskGraph = new TaskGraph(taskDefinitions);
+    } finally {
+      taskDefinitions.clear();
+    }
+    if (taskGraph.isEmpty()) {
       runTaskResults = List.of();
     } else {
-      runTaskResults = runTimed(taskDefinitions);
+      runTaskResults = runTimed(taskGraph);
     }
 
     taskResults.addAll(runTaskResults);
-    taskDefinitions.clear();
+    criticalPath.addAll(taskGraph.criticalPath(runTaskResults));
 
     // Stop, report and throw on an exception
     boolean hasException = false;
@@ -166,6 +195,12 @@ abstract class AbstractTaskRunner implements TaskRunner {
     }
   }
 
-  abstract Collection<TimedTaskResult> runTimed(final Collection<TaskDefinition> taskDefinitions)
-      throws Exception;
+  /**
+   * Runs tasks, starting each task only after all of its prerequisites have completed. Tasks with a
+   * prerequisite that failed are not run.
+   *
+   * @param taskGraph Tasks to run, with their prerequisites
+   * @return Results for tasks that were run
+   */
+  abstract Collection<TimedTaskResult> runTimed(final TaskGraph taskGraph) throws Exception;
 }
@@ -9,10 +9,17 @@
 package us.fatehi.utility.scheduler;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
 
 final class MainThreadTaskRunner extends AbstractTaskRunner {
 
+  private static final Logger LOGGER = Logger.getLogger(MainThreadTaskRunner.class.getName());
+
   MainThreadTaskRunner(final String id) {
     super(id);
   }
@@ -28,11 +35,20 @@ final class MainThreadTaskRunner extends AbstractTaskRunner {
   }
 
   @Override
-  Collection<TimedTaskResult> runTimed(final Collection<TaskDefinition> taskDefinitions)
-      throws Exception {
+  Collection<TimedTaskResult> runTimed(final TaskGraph taskGraph) throws Exception {
     final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
-    for (final TaskDefinition taskDefinition : taskDefinitions) {
+    final Map<String, TimedTaskResult> completedTasks = new HashMap<>();
+    for (final TaskDefinition taskDefinition : taskGraph.getTaskDefinitions()) {
+      if (!taskGraph.canRun(taskDefinition, completedTasks)) {
+        LOGGER.log(
+            Level.WARNING,
+            new StringFormat(
+                "Not running task <%s>, since a prerequisite did not complete",
+                taskDefinition.getTaskName()));
+        continue;
+      }
       final TimedTaskResult taskResult = new TimedTask(taskDefinition, clock).call();
+      completedTasks.put(taskResult.getTaskName(), taskResult);
       runTaskResults.add(taskResult);
     }
     return runTaskResults;
@@ -8,10 +8,14 @@
 
 package us.fatehi.utility.scheduler;
 
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static us.fatehi.utility.Utility.requireNotBlank;
 import static us.fatehi.utility.Utility.toSnakeCase;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import us.fatehi.utility.string.StringFormat;
@@ -31,17 +35,62 @@ public final class TaskDefinition {
 
   private final String taskName;
   private final TaskRunnable task;
+  private final Set<String> prerequisites;
 
   public TaskDefinition(final String taskName) {
-    this.taskName = toSnakeCase(requireNotBlank(taskName, "Task name not provided"));
-    this.task = () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName));
+    this(taskName, Set.of());
+  }
+
+  /**
+   * Task definition for a task that is not run, but still completes so that tasks that depend on it
+   * can start.
+   *
+   * @param taskName Task name
+   * @param prerequisites Names of tasks that need to complete before this task can start
+   */
+  public TaskDefinition(final String taskName, final Collection<String> prerequisites) {
+    this(
+        taskName,
+        () -> LOGGER.log(Level.INFO, new StringFormat("Not running task <%s>", taskName)),
+        prerequisites);
   }
 
   public TaskDefinition(final String taskName, final TaskRunnable task) {
+    this(taskName, task, Set.of());
+  }
+
+  /**
+   * Task definition that should only be run once all named prerequisite tasks have completed.
+   * Prerequisites that are not submitted in the same batch are considered to be already complete.
+   *
+   * @param taskName Task name
+   * @param task Task to run
+   * @param prerequisites Names of tasks that need to complete before this task can start
+   */
+  public TaskDefinition(
+      final String taskName, final TaskRunnable task, final Collection<String> prerequisites) {
     requireNotBlank(taskName, "Task name not provided");
+    requireNonNull(prerequisites, "Prerequisites not provided");
 
     this.taskName = toSnakeCase(taskName);
     this.task = requireNonNull(task, "Task not provided");
+
+    final Set<String> prerequisiteNames = new LinkedHashSet<>();
+    for (final String prerequisite : prerequisites) {
+      requireNotBlank(prerequisite, "Prerequisite task name not provided");
+      prerequisiteNames.add(toSnakeCase(prerequisite));
+    }
+    prerequisiteNames.remove(this.taskName);
+    this.prerequisites = unmodifiableSet(prerequisiteNames);
+  }
+
+  /**
+   * Names of tasks that need to complete before this task can start.
+   *
+   * @return Prerequisite task names
+   */
+  public Set<String> getPrerequisites() {
+    return prerequisites;
   }
 
   public TaskRunnable getTask() {
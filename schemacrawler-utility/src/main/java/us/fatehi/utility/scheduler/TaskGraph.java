@@ -0,0 +1,169 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.scheduler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph for a batch of task definitions. Task definitions are ordered so that every task
+ * comes after its prerequisites, while otherwise keeping the order in which tasks were added.
+ * Prerequisites that are not part of the batch are considered to be already complete.
+ */
+final class TaskGraph {
+
+  private final List<TaskDefinition> taskDefinitions;
+  private final Set<String> taskNames;
+
+  TaskGraph(final Collection<TaskDefinition> taskDefinitions) {
+    requireNonNull(taskDefinitions, "Tasks not provided");
+
+    taskNames = new HashSet<>();
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      taskNames.add(taskDefinition.getTaskName());
+    }
+
+    this.taskDefinitions = sortByPrerequisites(taskDefinitions);
+  }
+
+  /**
+   * Checks if all prerequisites of a task in this batch have completed without an exception.
+   *
+   * @param taskDefinition Task to check
+   * @param completedTasks Results of completed tasks, by task name
+   * @return True if the task can be run
+   */
+  boolean canRun(
+      final TaskDefinition taskDefinition, final Map<String, TimedTaskResult> completedTasks) {
+    for (final String prerequisite : taskDefinition.getPrerequisites()) {
+      if (!taskNames.contains(prerequisite)) {
+        continue;
+      }
+      final TimedTaskResult prerequisiteResult = completedTasks.get(prerequisite);
+      if (prerequisiteResult == null || prerequisiteResult.hasException()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the chain of dependent tasks with the longest total run time, which bounds the elapsed
+   * time of the batch no matter how many threads are available.
+   *
+   * @param taskResults Results of running the tasks in this batch
+   * @return Task results on the critical path, in run order
+   */
+  List<TimedTaskResult> criticalPath(final Collection<TimedTaskResult> taskResults) {
+    requireNonNull(taskResults, "Task results not provided");
+
+    final Map<String, TimedTaskResult> resultsByName = new HashMap<>();
+    for (final TimedTaskResult taskResult : taskResults) {
+      resultsByName.put(taskResult.getTaskName(), taskResult);
+    }
+
+    final Map<String, Duration> pathDurations = new HashMap<>();
+    final Map<String, String> pathPredecessors = new HashMap<>();
+    String pathEnd = null;
+    for (final TaskDefinition taskDefinition : taskDefinitions) {
+      final String taskName = taskDefinition.getTaskName();
+      final TimedTaskResult taskResult = resultsByName.get(taskName);
+      if (taskResult == null) {
+        continue;
+      }
+
+      String predecessor = null;
+      Duration predecessorDuration = Duration.ZERO;
+      for (final String prerequisite : taskDefinition.getPrerequisites()) {
+        final Duration prerequisiteDuration = pathDurations.get(prerequisite);
+        if (prerequisiteDuration != null
+            && (predecessor == null || prerequisiteDuration.compareTo(predecessorDuration) > 0)) {
+          predecessor = prerequisite;
+          predecessorDuration = prerequisiteDuration;
+        }
+      }
+
+      final Duration pathDuration = predecessorDuration.plus(taskResult.getDuration());
+      pathDurations.put(taskName, pathDuration);
+      pathPredecessors.put(taskName, predecessor);
+      if (pathEnd == null || pathDuration.compareTo(pathDurations.get(pathEnd)) > 0) {
+        pathEnd = taskName;
+      }
+    }
+
+    final LinkedList<TimedTaskResult> criticalPath = new LinkedList<>();
+    for (String taskName = pathEnd; taskName != null; taskName = pathPredecessors.get(taskName)) {
+      criticalPath.addFirst(resultsByName.get(taskName));
+    }
+    return criticalPath;
+  }
+
+  /**
+   * Task definitions in an order where every task comes after its prerequisites.
+   *
+   * @return Ordered task definitions
+   */
+  List<TaskDefinition> getTaskDefinitions() {
+    return taskDefinitions;
+  }
+
+  boolean isEmpty() {
+    return taskDefinitions.isEmpty();
+  }
+
+  private List<TaskDefinition> sortByPrerequisites(
+      final Collection<TaskDefinition> unsortedTaskDefinitions) {
+
+    final Map<String, Integer> pendingCounts = new HashMap<>();
+    for (final TaskDefinition taskDefinition : unsortedTaskDefinitions) {
+      pendingCounts.merge(taskDefinition.getTaskName(), 1, Integer::sum);
+    }
+
+    final List<TaskDefinition> remaining = new LinkedList<>(unsortedTaskDefinitions);
+    final List<TaskDefinition> sortedTaskDefinitions = new ArrayList<>(remaining.size());
+    while (!remaining.isEmpty()) {
+      TaskDefinition nextTaskDefinition = null;
+      for (final TaskDefinition taskDefinition : remaining) {
+        if (hasPendingPrerequisites(taskDefinition, pendingCounts)) {
+          continue;
+        }
+        nextTaskDefinition = taskDefinition;
+        break;
+      }
+      if (nextTaskDefinition == null) {
+        throw new IllegalStateException("Tasks have cyclic prerequisites, %s".formatted(remaining));
+      }
+
+      remaining.remove(nextTaskDefinition);
+      sortedTaskDefinitions.add(nextTaskDefinition);
+      pendingCounts.merge(nextTaskDefinition.getTaskName(), -1, Integer::sum);
+    }
+
+    return sortedTaskDefinitions;
+  }
+
+  private boolean hasPendingPrerequisites(
+      final TaskDefinition taskDefinition, final Map<String, Integer> pendingCounts) {
+    for (final String prerequisite : taskDefinition.getPrerequisites()) {
+      if (pendingCounts.getOrDefault(prerequisite, 0) > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -15,6 +15,7 @@ public interface TaskRunner extends AutoCloseable {
 
   int MIN_THREADS = 1;
   int MAX_THREADS = 10;
+  int MAX_CONCURRENT_TASKS = 500;
 
   /** Add a task definition to the list of tasks to run. */
   void add(TaskDefinition taskDefinition) throws Exception;
@@ -16,13 +16,28 @@ public class TaskRunners {
 
   private static final Logger LOGGER = Logger.getLogger(TaskRunners.class.getName());
 
+  /**
+   * Gets a task runner. Tasks are run on the main thread if the "SC_SINGLE_THREADED" system
+   * property is set, and on virtual threads if the "SC_VIRTUAL_THREADS" system property is set.
+   * Otherwise, tasks are run on a thread pool.
+   *
+   * @param id Task runner id
+   * @param maxThreadsSuggested Suggested maximum number of threads, or with virtual threads, the
+   *     maximum number of tasks that can run at the same time
+   * @return Task runner
+   */
   public static TaskRunner getTaskRunner(final String id, final int maxThreadsSuggested) {
-    final boolean isSingleThreaded =
-        new SystemPropertiesConfig().getBooleanValue("SC_SINGLE_THREADED");
+    final SystemPropertiesConfig systemPropertiesConfig = new SystemPropertiesConfig();
+    final boolean isSingleThreaded = systemPropertiesConfig.getBooleanValue("SC_SINGLE_THREADED");
     if (isSingleThreaded) {
       LOGGER.log(Level.CONFIG, "Loading database schema in the main thread");
       return new MainThreadTaskRunner(id);
     }
+    final boolean isVirtualThreaded = systemPropertiesConfig.getBooleanValue("SC_VIRTUAL_THREADS");
+    if (isVirtualThreaded) {
+      LOGGER.log(Level.CONFIG, "Loading database schema using virtual threads");
+      return new VirtualThreadTaskRunner(id, maxThreadsSuggested);
+    }
     LOGGER.log(Level.CONFIG, "Loading database schema using multiple threads");
     return new MultiThreadedTaskRunner(id, maxThreadsSuggested);
   }
@@ -55,6 +55,10 @@ final class TimedTaskResult implements Serializable {
     return exception;
   }
 
+  public String getTaskName() {
+    return taskName;
+  }
+
   public boolean hasException() {
     return exception != null;
   }
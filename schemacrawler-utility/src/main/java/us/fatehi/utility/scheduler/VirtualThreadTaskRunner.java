@@ -0,0 +1,81 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.scheduler;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import us.fatehi.utility.string.StringFormat;
+
+/**
+ * Runs each task on its own virtual thread, and limits the number of tasks that are running at the
+ * same time with a semaphore rather than with the size of a thread pool. Tasks that are waiting for
+ * a permit do not hold on to an operating system thread. On Java runtimes without virtual threads,
+ * a fixed thread pool the size of the concurrency limit is used instead.
+ */
+final class VirtualThreadTaskRunner extends AbstractExecutorTaskRunner {
+
+  private static final Logger LOGGER = Logger.getLogger(VirtualThreadTaskRunner.class.getName());
+
+  private static int maxConcurrentTasks(final int maxConcurrentTasksSuggested) {
+    return Math.min(Math.max(maxConcurrentTasksSuggested, MIN_THREADS), MAX_CONCURRENT_TASKS);
+  }
+
+  private static ExecutorService newVirtualThreadPerTaskExecutor(
+      final String id, final int maxConcurrentTasks) {
+    try {
+      // Virtual threads are available from Java 21 onwards
+      final Method newVirtualThreadPerTaskExecutor =
+          Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      final ExecutorService executorService =
+          (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+      LOGGER.log(
+          Level.INFO,
+          new StringFormat(
+              "Started virtual thread executor for <%s> with <%d> concurrent tasks",
+              id, maxConcurrentTasks));
+      return executorService;
+    } catch (final ReflectiveOperationException e) {
+      LOGGER.log(
+          Level.CONFIG,
+          new StringFormat(
+              "Virtual threads are not available, so using a thread pool for <%s> with <%d>"
+                  + " threads",
+              id, maxConcurrentTasks));
+      return Executors.newFixedThreadPool(maxConcurrentTasks);
+    }
+  }
+
+  private final Semaphore permits;
+
+  VirtualThreadTaskRunner(final String id, final int maxConcurrentTasksSuggested) {
+    super(id, newVirtualThreadPerTaskExecutor(id, maxConcurrentTasks(maxConcurrentTasksSuggested)));
+    permits = new Semaphore(maxConcurrentTasks(maxConcurrentTasksSuggested), true);
+  }
+
+  /** Waits for a permit before running the task, so that time waiting is not counted. */
+  @Override
+  TimedTaskResult run(final TimedTask timedTask) {
+    try {
+      permits.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new TimedTaskResult(timedTask.getTaskName(), Duration.ZERO, e);
+    }
+    try {
+      return timedTask.call();
+    } finally {
+      permits.release();
+    }
+  }
+}
@@ -14,10 +14,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static us.fatehi.utility.scheduler.TaskRunner.MAX_THREADS;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Set;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,11 +29,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import us.fatehi.test.utility.DataSourceTestUtility;
+import us.fatehi.utility.SQLRuntimeException;
 
 @TestInstance(Lifecycle.PER_CLASS)
 public class SimpleDatabaseConnectionSourceTest {
 
   private DatabaseConnectionSource connectionSource;
+  private String connectionUrl;
+  private String userName;
 
   @Test
   public void badConstructorArgs() throws Exception {
@@ -41,6 +48,54 @@ public class SimpleDatabaseConnectionSourceTest {
                 "<bad-url>", Set.of(), null, new MultiUseUserCredentials("user", "!")));
   }
 
+  @Test
+  public void boundedPool() throws Exception {
+
+    final SimpleDatabaseConnectionSource pool =
+        newPool(new ConnectionPoolOptions(2, Duration.ofMillis(100), Duration.ZERO, Duration.ZERO));
+
+    final Connection connection1 = pool.get();
+    final Connection connection2 = pool.get();
+    assertThrows(SQLRuntimeException.class, () -> pool.get());
+
+    connection1.close();
+    final Connection connection3 = pool.get();
+    assertThat(connection3.unwrap(Connection.class), is(connection1.unwrap(Connection.class)));
+
+    final ConnectionPoolStatistics statistics = pool.getStatistics();
+    assertThat(statistics.maxPoolSize(), is(2));
+    assertThat(statistics.activeConnections(), is(2));
+    assertThat(statistics.idleConnections(), is(0));
+    assertThat(statistics.creations(), is(2L));
+    assertThat(statistics.waits(), is(1L));
+    assertThat(statistics.timeouts(), is(1L));
+
+    connection2.close();
+    connection3.close();
+    assertThat(pool.getStatistics().idleConnections(), is(2));
+
+    pool.close();
+    assertThat(pool.getStatistics().leaks(), is(0L));
+  }
+
+  @Test
+  public void connectionLeaks() throws Exception {
+
+    final SimpleDatabaseConnectionSource pool =
+        newPool(
+            new ConnectionPoolOptions(
+                2, Duration.ofSeconds(1), Duration.ZERO, Duration.ofNanos(1)));
+
+    pool.get();
+    Thread.sleep(1);
+    pool.validateConnections();
+    assertThat(pool.getStatistics().leaks(), is(1L));
+    // Leaks are only reported once
+    pool.validateConnections();
+    pool.close();
+    assertThat(pool.getStatistics().leaks(), is(1L));
+  }
+
   @Test
   public void connectionTests() throws Exception {
 
@@ -64,14 +119,116 @@ public class SimpleDatabaseConnectionSourceTest {
     assertThat(unwrappedConnection.isClosed(), is(true));
   }
 
+  @Test
+  public void connectionValidation() throws Exception {
+
+    final SimpleDatabaseConnectionSource pool =
+        newPool(new ConnectionPoolOptions(2, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO));
+
+    final Connection connection1 = pool.get();
+    final Connection connection2 = pool.get();
+    final Connection unwrappedConnection = connection1.unwrap(Connection.class);
+    connection1.close();
+    connection2.close();
+    assertThat(pool.getStatistics().idleConnections(), is(2));
+
+    // Invalidate an idle connection, without the pool knowing about it
+    unwrappedConnection.close();
+    pool.validateConnections();
+
+    final ConnectionPoolStatistics statistics = pool.getStatistics();
+    assertThat(statistics.idleConnections(), is(1));
+    assertThat(statistics.evictions(), is(1L));
+
+    final Connection connection3 = pool.get();
+    assertThat(connection3.unwrap(Connection.class), is(not(unwrappedConnection)));
+    connection3.close();
+
+    pool.close();
+  }
+
+  @Test
+  public void connectionValidationOnCheckout() throws Exception {
+
+    final SimpleDatabaseConnectionSource pool =
+        newPool(new ConnectionPoolOptions(2, Duration.ofSeconds(1), Duration.ZERO, Duration.ZERO));
+
+    final Connection connection1 = pool.get();
+    final Connection connection2 = pool.get();
+    final Connection unwrappedConnection1 = connection1.unwrap(Connection.class);
+    final Connection unwrappedConnection2 = connection2.unwrap(Connection.class);
+    connection1.close();
+    connection2.close();
+    assertThat(pool.getStatistics().creations(), is(2L));
+
+    // Drop the most recently returned idle connection, without the pool knowing about it
+    unwrappedConnection2.close();
+
+    // The dropped connection is evicted, and the next idle connection is used
+    final Connection connection3 = pool.get();
+    assertThat(connection3.unwrap(Connection.class), is(unwrappedConnection1));
+    ConnectionPoolStatistics statistics = pool.getStatistics();
+    assertThat(statistics.evictions(), is(1L));
+    assertThat(statistics.creations(), is(2L));
+    assertThat(statistics.idleConnections(), is(0));
+
+    // With no idle connections left, drop the connection in use, and return it
+    unwrappedConnection1.close();
+    connection3.close();
+    statistics = pool.getStatistics();
+    assertThat(statistics.activeConnections(), is(0));
+    assertThat(statistics.idleConnections(), is(0));
+
+    // Drop an idle connection, which is then replaced by a new connection
+    final Connection connection4 = pool.get();
+    final Connection unwrappedConnection4 = connection4.unwrap(Connection.class);
+    connection4.close();
+    unwrappedConnection4.close();
+    final Connection connection5 = pool.get();
+    assertThat(connection5.unwrap(Connection.class), is(not(unwrappedConnection4)));
+    assertThat(connection5.isValid(1), is(true));
+    connection5.close();
+
+    statistics = pool.getStatistics();
+    assertThat(statistics.evictions(), is(2L));
+    assertThat(statistics.creations(), is(4L));
+    assertThat(statistics.activeConnections(), is(0));
+    assertThat(statistics.idleConnections(), is(1));
+
+    pool.close();
+  }
+
+  @Test
+  public void defaultPoolForNestedTasks() throws Exception {
+
+    // Each task thread can hold a connection, and nested tasks share one limit of threads
+    final int connectionCount = 2 * MAX_THREADS;
+    assertThat(ConnectionPoolOptions.DEFAULT.maxPoolSize(), is(connectionCount));
+    assertThat(ConnectionPoolOptions.forMaxThreads(1).maxPoolSize(), is(2));
+    assertThat(ConnectionPoolOptions.forMaxThreads(0).maxPoolSize(), is(2));
+
+    final SimpleDatabaseConnectionSource pool = newPool(ConnectionPoolOptions.DEFAULT);
+    final List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < connectionCount; i++) {
+      connections.add(pool.get());
+    }
+    assertThat(pool.getStatistics().timeouts(), is(0L));
+    for (final Connection connection : connections) {
+      connection.close();
+    }
+    assertThat(pool.getStatistics().idleConnections(), is(connectionCount));
+
+    pool.close();
+  }
+
   @BeforeEach
   public void createDatabase() throws Exception {
 
     final DataSource db = DataSourceTestUtility.newEmbeddedDatabase("/testdb.sql");
     final Connection wrappedConnection = db.getConnection();
     final DatabaseMetaData metaData = wrappedConnection.getMetaData();
-    final String connectionUrl = metaData.getURL();
-    final String userName = metaData.getUserName();
+    connectionUrl = metaData.getURL();
+    userName = metaData.getUserName();
     final String password = "";
     connectionSource =
         new SimpleDatabaseConnectionSource(
@@ -80,4 +237,13 @@ public class SimpleDatabaseConnectionSourceTest {
             new HashMap<>(),
             new MultiUseUserCredentials(userName, password));
   }
+
+  private SimpleDatabaseConnectionSource newPool(final ConnectionPoolOptions poolOptions) {
+    return new SimpleDatabaseConnectionSource(
+        connectionUrl,
+        Set.of(),
+        new HashMap<>(),
+        new MultiUseUserCredentials(userName, ""),
+        poolOptions);
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class TaskGraphTest {
+
+  @Test
+  public void canRun() {
+    final TaskDefinition taskA = new TaskDefinition("a");
+    final TaskDefinition taskB = new TaskDefinition("b", Set.of("a", "not_in_batch"));
+    final TaskGraph taskGraph = new TaskGraph(List.of(taskA, taskB));
+
+    final Map<String, TimedTaskResult> completedTasks = new HashMap<>();
+    assertThat(taskGraph.canRun(taskA, completedTasks), is(true));
+    assertThat(taskGraph.canRun(taskB, completedTasks), is(false));
+
+    completedTasks.put("a", new TimedTaskResult("a", Duration.ZERO, new Exception("Failed")));
+    assertThat(taskGraph.canRun(taskB, completedTasks), is(false));
+
+    completedTasks.put("a", new TimedTaskResult("a", Duration.ZERO, null));
+    assertThat(taskGraph.canRun(taskB, completedTasks), is(true));
+  }
+
+  @Test
+  public void criticalPath() {
+    final TaskGraph taskGraph =
+        new TaskGraph(
+            List.of(
+                new TaskDefinition("columns"),
+                new TaskDefinition("indexes", Set.of("columns")),
+                new TaskDefinition("foreign_keys", Set.of("columns")),
+                new TaskDefinition("sort", Set.of("indexes", "foreign_keys")),
+                new TaskDefinition("triggers")));
+
+    final List<TimedTaskResult> taskResults = new ArrayList<>();
+    taskResults.add(new TimedTaskResult("columns", Duration.ofSeconds(2), null));
+    taskResults.add(new TimedTaskResult("indexes", Duration.ofSeconds(1), null));
+    taskResults.add(new TimedTaskResult("foreign_keys", Duration.ofSeconds(5), null));
+    taskResults.add(new TimedTaskResult("sort", Duration.ofSeconds(1), null));
+    taskResults.add(new TimedTaskResult("triggers", Duration.ofSeconds(7), null));
+
+    final List<String> criticalPath = new ArrayList<>();
+    for (final TimedTaskResult taskResult : taskGraph.criticalPath(taskResults)) {
+      criticalPath.add(taskResult.getTaskName());
+    }
+    assertThat(criticalPath, contains("columns", "foreign_keys", "sort"));
+
+    assertThat(taskGraph.criticalPath(Collections.emptyList()), is(empty()));
+  }
+
+  @Test
+  public void cyclicPrerequisites() {
+    final List<TaskDefinition> taskDefinitions =
+        List.of(
+            new TaskDefinition("a", Set.of("c")),
+            new TaskDefinition("b", Set.of("a")),
+            new TaskDefinition("c", Set.of("b")));
+
+    final IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> new TaskGraph(taskDefinitions));
+    assertThat(exception.getMessage(), containsString("cyclic prerequisites"));
+  }
+
+  @Test
+  public void sortByPrerequisites() {
+    final TaskGraph taskGraph =
+        new TaskGraph(
+            List.of(
+                new TaskDefinition("sort", Set.of("indexes", "foreignKeys")),
+                new TaskDefinition("indexes", Set.of("columns")),
+                new TaskDefinition("triggers"),
+                new TaskDefinition("foreignKeys", Set.of("columns")),
+                new TaskDefinition("columns", Set.of("tables"))));
+
+    final List<String> taskNames = new ArrayList<>();
+    for (final TaskDefinition taskDefinition : taskGraph.getTaskDefinitions()) {
+      taskNames.add(taskDefinition.getTaskName());
+    }
+    assertThat(taskNames, contains("triggers", "columns", "indexes", "foreign_keys", "sort"));
+  }
+}
@@ -10,11 +10,15 @@ package us.fatehi.utility.scheduler;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
@@ -67,6 +71,56 @@ public class TaskRunnerTest {
     }
   }
 
+  @Test
+  public void prerequisites() throws Exception {
+
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("test_prerequisites", 4)) {
+
+      final List<String> runOrder = new CopyOnWriteArrayList<>();
+      taskRunner.add(
+          new TaskDefinition(
+              "sort", () -> runOrder.add("sort"), Set.of("indexes", "foreign_keys")));
+      taskRunner.add(
+          new TaskDefinition(
+              "indexes",
+              () -> {
+                Thread.sleep(50);
+                runOrder.add("indexes");
+              },
+              Set.of("columns")));
+      taskRunner.add(
+          new TaskDefinition(
+              "foreign_keys", () -> runOrder.add("foreign_keys"), Set.of("columns")));
+      taskRunner.add(new TaskDefinition("columns", () -> runOrder.add("columns")));
+      taskRunner.submit();
+
+      assertThat(runOrder, contains("columns", "foreign_keys", "indexes", "sort"));
+    }
+  }
+
+  @Test
+  public void prerequisiteFailed() throws Exception {
+
+    try (final TaskRunner taskRunner = TaskRunners.getTaskRunner("test_prerequisites", 4)) {
+
+      final List<String> runOrder = new CopyOnWriteArrayList<>();
+      taskRunner.add(
+          new TaskDefinition(
+              "columns",
+              () -> {
+                throw new RuntimeException("Failed task");
+              }));
+      taskRunner.add(
+          new TaskDefinition("indexes", () -> runOrder.add("indexes"), Set.of("columns")));
+      taskRunner.add(new TaskDefinition("triggers", () -> runOrder.add("triggers")));
+
+      final RuntimeException runtimeException =
+          assertThrows(RuntimeException.class, () -> taskRunner.submit());
+      assertThat(runtimeException.getMessage(), is("Failed task"));
+      assertThat(runOrder, contains("triggers"));
+    }
+  }
+
   @Test
   public void report() throws Exception {
 
@@ -83,6 +137,8 @@ public class TaskRunnerTest {
           report.get().replaceAll("\\R", ""),
           is(
               "Total time taken for <test_id> - 00:00:00.000 hours"
+                  + "-  0.0% - 00:00:00.000 - <task_1>"
+                  + "Critical path for <test_id> - 00:00:00.000 hours"
                   + "-  0.0% - 00:00:00.000 - <task_1>"));
     }
   }
@@ -36,8 +36,8 @@ public final class TestTaskRunner extends AbstractTaskRunner {
   }
 
   @Override
-  Collection<TimedTaskResult> runTimed(final Collection<TaskDefinition> taskDefinitions)
-      throws Exception {
+  Collection<TimedTaskResult> runTimed(final TaskGraph taskGraph) throws Exception {
+    final Collection<TaskDefinition> taskDefinitions = taskGraph.getTaskDefinitions();
     size = taskDefinitions.size();
 
     final Collection<TimedTaskResult> runTaskResults = new CopyOnWriteArrayList<>();
@@ -0,0 +1,76 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.scheduler;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadTaskRunnerTest {
+
+  @BeforeEach
+  public void setUp() {
+    System.setProperty("SC_VIRTUAL_THREADS", "true");
+  }
+
+  @AfterEach
+  public void tearDown() {
+    System.clearProperty("SC_VIRTUAL_THREADS");
+  }
+
+  @Test
+  public void getTaskRunnerReturnsVirtualThreaded() throws Exception {
+    try (final TaskRunner runner = TaskRunners.getTaskRunner("test-virtual", 4)) {
+      assertThat(runner, is(not(nullValue())));
+      assertThat(runner, instanceOf(VirtualThreadTaskRunner.class));
+    }
+  }
+
+  @Test
+  public void virtualThreadRunnerLimitsConcurrentTasks() throws Exception {
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final AtomicInteger completed = new AtomicInteger();
+
+    try (final TaskRunner runner = TaskRunners.getTaskRunner("test-virtual-limit", 2)) {
+      for (int i = 0; i < 20; i++) {
+        runner.add(
+            new TaskDefinition(
+                "task" + i,
+                () -> {
+                  maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                  Thread.sleep(5);
+                  running.decrementAndGet();
+                  completed.incrementAndGet();
+                }));
+      }
+      runner.submit();
+    }
+
+    assertThat(completed.get(), is(20));
+    assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+  }
+
+  @Test
+  public void virtualThreadRunnerStop() throws Exception {
+    try (final TaskRunner runner = TaskRunners.getTaskRunner("test-virtual-stop", 4)) {
+      assertThat(runner.isStopped(), is(false));
+      runner.stop();
+      assertThat(runner.isStopped(), is(true));
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * SchemaCrawler
+ * http://www.schemacrawler.com
+ * Copyright (c) 2000-2026, Sualeh Fatehi <sualeh@hotmail.com>.
+ * All rights reserved.
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package us.fatehi.utility.test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.jupiter.api.Test;
+import us.fatehi.utility.Inflection;
+
+public class InflectionTest {
+
+  @Test
+  public void inflection() {
+    final Inflection inflection = new Inflection("(bu)s$", "$1ses");
+    assertThat(inflection.match("BUS"), is(true));
+    assertThat(inflection.match("car"), is(false));
+    assertThat(inflection.replace("bus"), is("buses"));
+
+    final Inflection caseSensitiveInflection = new Inflection("(bu)s$", "$1ses", false);
+    assertThat(caseSensitiveInflection.match("BUS"), is(false));
+  }
+
+  @Test
+  public void pluralize() {
+    final String[][] words = {
+      {"book", "books"},
+      {"category", "categories"},
+      {"status", "statuses"},
+      {"index", "indices"},
+      {"person", "people"},
+      {"equipment", "equipment"},
+    };
+    for (int i = 0; i < 2; i++) {
+      for (final String[] word : words) {
+        assertThat(Inflection.pluralize(word[0]), is(word[1]));
+      }
+    }
+  }
+
+  @Test
+  public void singularize() {
+    final String[][] words = {
+      {"books", "book"},
+      {"categories", "category"},
+      {"statuses", "status"},
+      {"indices", "index"},
+      {"people", "person"},
+      {"Addresses", "Address"},
+      {"series", "series"},
+      {"author", "author"},
+    };
+    // Check twice, to also check remembered words
+    for (int i = 0; i < 2; i++) {
+      for (final String[] word : words) {
+        assertThat(Inflection.singularize(word[0]), is(word[1]));
+      }
+    }
+  }
+}
@@ -23,7 +23,11 @@ import static org.mockito.Mockito.verify;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -62,6 +66,49 @@ public class PooledConnectionTest {
     }
   }
 
+  @Test
+  public void leakedStatements() throws Exception {
+    final Connection pooledConnection =
+        PooledConnectionUtility.newPooledConnection(connection, connectionSource);
+
+    final Statement closedStatement = pooledConnection.createStatement();
+    closedStatement.close();
+    final Statement leakedStatement = pooledConnection.createStatement();
+    final PreparedStatement leakedPreparedStatement =
+        pooledConnection.prepareStatement("SELECT * FROM INFORMATION_SCHEMA.TABLES");
+    assertThat(leakedStatement.getClass().getName(), startsWith("org.hsqldb"));
+
+    pooledConnection.close();
+    assertThat(leakedStatement.isClosed(), is(true));
+    assertThat(leakedPreparedStatement.isClosed(), is(true));
+    // Physical connection is returned to the connection source, and not closed
+    assertThat(connection.isClosed(), is(false));
+    verify(connectionSource, times(1)).releaseConnection(connection);
+  }
+
+  @Test
+  public void leakedMetaDataResultSets() throws Exception {
+    final Connection pooledConnection =
+        PooledConnectionUtility.newPooledConnection(connection, connectionSource);
+
+    final DatabaseMetaData metaData = pooledConnection.getMetaData();
+    assertThat(metaData.getConnection() == pooledConnection, is(true));
+    assertThat(
+        metaData.unwrap(DatabaseMetaData.class).getClass().getName(), startsWith("org.hsqldb"));
+    final ResultSet closedResultSet = metaData.getTableTypes();
+    closedResultSet.close();
+    final ResultSet leakedResultSet = metaData.getTables(null, null, "%", null);
+    assertThat(leakedResultSet.getClass().getName(), startsWith("org.hsqldb"));
+
+    pooledConnection.close();
+    assertThat(leakedResultSet.isClosed(), is(true));
+    // Metadata cannot be used after the connection is returned
+    assertThrows(SQLException.class, () -> metaData.getTables(null, null, "%", null));
+    assertThrows(SQLException.class, metaData::getConnection);
+    assertThat(connection.isClosed(), is(false));
+    verify(connectionSource, times(1)).releaseConnection(connection);
+  }
+
   @Test
   public void setSavepoint() throws SQLException {
     final Connection pooledConnection =
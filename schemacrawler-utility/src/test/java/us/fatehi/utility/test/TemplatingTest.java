@@ -10,6 +10,7 @@ package us.fatehi.utility.test;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -18,10 +19,78 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import us.fatehi.utility.CompiledTemplate;
 import us.fatehi.utility.TemplatingUtility;
 
 public class TemplatingTest {
 
+  @Test
+  public void compiledTemplate() throws Exception {
+    final Map<String, String> values = new HashMap<>();
+    values.put("one", "one.value");
+    values.put("another", "two.value");
+    values.put("unusual", "10");
+    values.put("good", "good.value");
+    values.put("split-name", "split-name value");
+
+    final String[] templates = {
+      "",
+      "No variables",
+      "${ one } ${another } ${ unusual} ${good}",
+      "${ one } variable",
+      "Has ${ one } variable, and ${ another } variable",
+      "Has $${ unusual } variable",
+      "Has ${ unusual } } variable",
+      "Has ${\t unusual \t\n} variable",
+      "Has ${ bad variable",
+      "Has ${ good } and ${ bad variable",
+      "Has ${ bad and ${ good } variable",
+      "Has bad } variable",
+      "Has ${ undefined } variable",
+      "Has ${ split-name } variable",
+      "${}${one}${}",
+    };
+    for (final String template : templates) {
+      final CompiledTemplate compiledTemplate = new CompiledTemplate(template);
+      assertThat(
+          "Incorrect template expansion for " + template,
+          compiledTemplate.expand(values),
+          is(TemplatingUtility.expandTemplate(template, values)));
+      assertThat(compiledTemplate.expand(null), is(template));
+    }
+  }
+
+  @Test
+  public void compiledTemplateVariables() throws Exception {
+    final Map<String, String> values = new HashMap<>();
+    values.put("one", "one.value");
+    values.put("nested", "${ two }");
+
+    CompiledTemplate compiledTemplate;
+
+    compiledTemplate = new CompiledTemplate("No variables");
+    assertThat(compiledTemplate.hasVariables(), is(false));
+    assertThat(compiledTemplate.getVariables(), is(empty()));
+    assertThat(compiledTemplate.isExpandedCompletely(null), is(true));
+
+    compiledTemplate = new CompiledTemplate("Has ${ bad variable");
+    assertThat(compiledTemplate.hasVariables(), is(false));
+
+    compiledTemplate = new CompiledTemplate("${ one } and ${ one }");
+    assertThat(compiledTemplate.hasVariables(), is(true));
+    assertThat(compiledTemplate.getVariables(), contains("one"));
+    assertThat(compiledTemplate.isExpandedCompletely(values), is(true));
+    assertThat(compiledTemplate.isExpandedCompletely(null), is(false));
+
+    compiledTemplate = new CompiledTemplate("${ two } and ${ one }");
+    assertThat(compiledTemplate.getVariables(), contains("two", "one"));
+    assertThat(compiledTemplate.isExpandedCompletely(values), is(false));
+
+    compiledTemplate = new CompiledTemplate("${ nested } and ${ one }");
+    assertThat(compiledTemplate.isExpandedCompletely(values), is(false));
+    assertThat(compiledTemplate.expand(values), is("${ two } and one.value"));
+  }
+
   @Test
   public void expandTemplate() throws Exception {
     final Map<String, String> values = new HashMap<>();
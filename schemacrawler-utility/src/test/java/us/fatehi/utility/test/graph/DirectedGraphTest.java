@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 import us.fatehi.utility.graph.DirectedEdge;
@@ -36,6 +37,25 @@ public class DirectedGraphTest extends GraphTestBase {
     EqualsVerifier.forClass(DirectedEdge.class).verify();
   }
 
+  @Test
+  public void largeGraph() throws Exception {
+    // A long chain, with a binary tree of shortcuts
+    final int verticesCount = 20_000;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int i = 1; i < verticesCount; i++) {
+      graph.addEdge(i - 1, i);
+      graph.addEdge((i - 1) / 2, i);
+    }
+
+    assertThat(graph.getOutgoingEdges(graph.addVertex(1)).size(), is(3));
+    assertThat(containsCycleSimple(graph), is(false));
+
+    assertThat(topologicalSort(graph), is(IntStream.range(0, verticesCount).boxed().toList()));
+
+    graph.addEdge(verticesCount - 1, 0);
+    assertThat(containsCycleSimple(graph), is(true));
+  }
+
   @Test
   public void noCycles() throws Exception {
     final DirectedGraph<String> graph = makeGraph();